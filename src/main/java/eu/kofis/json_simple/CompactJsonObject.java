@@ -0,0 +1,720 @@
+/* Copyright 2016-2017 Clifton Labs
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. */
+package eu.kofis.json_simple;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/** CompactJsonObject is a non-thread safe data format for string to data mappings that offers the same convenience
+ * methods as a JsonObject while using far less memory for the small objects most JSON is made of. Its keys and values
+ * are kept in two parallel arrays that are searched one key after another, which is as fast as hashing for a handful
+ * of keys. Once it holds more than {@value #HASHING_THRESHOLD} keys its entries move into a LinkedHashMap, so large
+ * objects don't degrade. Either way the entries keep the order they were put in.
+ * @see JsonObject
+ * @see CompactJsonObject#FACTORY
+ * @since 4.2.0 */
+public class CompactJsonObject extends AbstractMap<String, Object> implements Jsonable, Serializable{
+	/** Deserializes JSON objects into CompactJsonObjects and JSON arrays into JsonArrays, trimming each of them to its
+	 * size once it is finished.
+	 * @see Jsoner#deserialize(java.io.Reader, JsonContainerFactory) */
+	public static final JsonContainerFactory	FACTORY				= new Containers();
+	/** How many keys are kept in the arrays before the entries move into a LinkedHashMap. */
+	public static final int						HASHING_THRESHOLD	= 8;
+	/** The serialization version this class is compatible with. This value doesn't need to be incremented if and only
+	 * if the only changes to occur were updating comments, updating javadocs, adding new fields to the class, changing
+	 * the fields from static to non-static, or changing the fields from transient to non transient. All other changes
+	 * require this number be incremented. */
+	private static final long					serialVersionUID	= 1L;
+	@SuppressWarnings("javadoc")
+	private static final String[]				NO_KEYS				= new String[0];
+	@SuppressWarnings("javadoc")
+	private static final Object[]				NO_VALUES			= new Object[0];
+
+	/** Holds every entry once there are too many keys to search one after another, null until then. */
+	private LinkedHashMap<String, Object>		hashed;
+	/** The keys while there are few enough of them, only the first size elements are used. */
+	private String[]							keys;
+	/** Counts structural changes so iterators can fail fast. */
+	private transient int						modifications;
+	/** How many of the array elements are used. */
+	private int									size;
+	/** The values while there are few enough of them, each at the same index as its key. */
+	private Object[]							values;
+
+	/** Instantiates an empty CompactJsonObject. */
+	public CompactJsonObject(){
+		this.keys = CompactJsonObject.NO_KEYS;
+		this.values = CompactJsonObject.NO_VALUES;
+	}
+
+	/** Instantiate a new CompactJsonObject by accepting a map's entries, which could lead to de/serialization issues of
+	 * the resulting CompactJsonObject since the entry values aren't validated as JSON values.
+	 * @param map represents the mappings to produce the CompactJsonObject with. */
+	public CompactJsonObject(final Map<String, ?> map){
+		this();
+		this.putAll(map);
+	}
+
+	@Override
+	public void clear(){
+		this.hashed = null;
+		this.keys = CompactJsonObject.NO_KEYS;
+		this.values = CompactJsonObject.NO_VALUES;
+		this.size = 0;
+		this.modifications++;
+	}
+
+	@Override
+	public boolean containsKey(final Object key){
+		if(this.hashed != null){
+			return this.hashed.containsKey(key);
+		}
+		return this.indexOf(key) >= 0;
+	}
+
+	@Override
+	public Set<Map.Entry<String, Object>> entrySet(){
+		return new EntrySet();
+	}
+
+	@Override
+	public Object get(final Object key){
+		if(this.hashed != null){
+			return this.hashed.get(key);
+		}
+		final int index = this.indexOf(key);
+		return index < 0 ? null : this.values[index];
+	}
+
+	/** Searches the keys one after another, which beats hashing for the few keys the arrays hold.
+	 * @param key represents the key to find.
+	 * @return the index of the key in the arrays, or -1 if it isn't there. */
+	private int indexOf(final Object key){
+		final String[] searched = this.keys;
+		if(key == null){
+			for(int i = 0; i < this.size; i++){
+				if(searched[i] == null){
+					return i;
+				}
+			}
+		}else{
+			/* Keys lexed from the same text are rarely the same instance, but checking first is nearly free. */
+			for(int i = 0; i < this.size; i++){
+				if((key == searched[i]) || key.equals(searched[i])){
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public Object put(final String key, final Object value){
+		if(this.hashed != null){
+			return this.hashed.put(key, value);
+		}
+		final int index = this.indexOf(key);
+		if(index >= 0){
+			final Object previous = this.values[index];
+			this.values[index] = value;
+			return previous;
+		}
+		if(this.size == CompactJsonObject.HASHING_THRESHOLD){
+			/* Too many keys to search one after another, so hashing takes over. */
+			this.hashed = new LinkedHashMap<String, Object>();
+			for(int i = 0; i < this.size; i++){
+				this.hashed.put(this.keys[i], this.values[i]);
+			}
+			this.keys = CompactJsonObject.NO_KEYS;
+			this.values = CompactJsonObject.NO_VALUES;
+			this.size = 0;
+			this.modifications++;
+			return this.hashed.put(key, value);
+		}
+		if(this.size == this.keys.length){
+			final int capacity = Math.min(CompactJsonObject.HASHING_THRESHOLD, Math.max(4, this.size * 2));
+			final String[] grownKeys = new String[capacity];
+			final Object[] grownValues = new Object[capacity];
+			System.arraycopy(this.keys, 0, grownKeys, 0, this.size);
+			System.arraycopy(this.values, 0, grownValues, 0, this.size);
+			this.keys = grownKeys;
+			this.values = grownValues;
+		}
+		this.keys[this.size] = key;
+		this.values[this.size] = value;
+		this.size++;
+		this.modifications++;
+		return null;
+	}
+
+	@Override
+	public Object remove(final Object key){
+		if(this.hashed != null){
+			return this.hashed.remove(key);
+		}
+		final int index = this.indexOf(key);
+		if(index < 0){
+			return null;
+		}
+		final Object previous = this.values[index];
+		this.removeAt(index);
+		return previous;
+	}
+
+	/** Removes the entry at the index and closes the gap so the remaining entries keep their order.
+	 * @param index represents where the entry is in the arrays. */
+	private void removeAt(final int index){
+		final int moved = this.size - index - 1;
+		if(moved > 0){
+			System.arraycopy(this.keys, index + 1, this.keys, index, moved);
+			System.arraycopy(this.values, index + 1, this.values, index, moved);
+		}
+		this.size--;
+		this.keys[this.size] = null;
+		this.values[this.size] = null;
+		this.modifications++;
+	}
+
+	@Override
+	public int size(){
+		if(this.hashed != null){
+			return this.hashed.size();
+		}
+		return this.size;
+	}
+
+	/** Shrinks the arrays to the amount of keys they hold, which is worthwhile once the CompactJsonObject isn't
+	 * expected to grow anymore. A CompactJsonObject that moved its entries into a LinkedHashMap is left alone. */
+	public void trimToSize(){
+		if((this.hashed == null) && (this.size < this.keys.length)){
+			final String[] trimmedKeys = this.size == 0 ? CompactJsonObject.NO_KEYS : new String[this.size];
+			final Object[] trimmedValues = this.size == 0 ? CompactJsonObject.NO_VALUES : new Object[this.size];
+			System.arraycopy(this.keys, 0, trimmedKeys, 0, this.size);
+			System.arraycopy(this.values, 0, trimmedValues, 0, this.size);
+			this.keys = trimmedKeys;
+			this.values = trimmedValues;
+		}
+	}
+
+	/** A convenience method that assumes there is a BigDecimal, Number, or String at the given key. If a Number is
+	 * there its Number#toString() is used to construct a new BigDecimal(String). If a String is there it is used to
+	 * construct a new BigDecimal(String).
+	 * @param key representing where the value ought to be paired with.
+	 * @return a BigDecimal representing the value paired with the key.
+	 * @throws ClassCastException if the value didn't match the assumed return type.
+	 * @throws NumberFormatException if a String isn't a valid representation of a BigDecimal or if the Number
+	 *         represents the double or float Infinity or NaN.
+	 * @see BigDecimal
+	 * @see Number#toString()
+	 * @see JsonKey */
+	public BigDecimal getBigDecimal(final JsonKey key){
+		return ValueConverter.toBigDecimal(this.get(key.getKey()));
+	}
+
+	/** A convenience method that assumes there is a BigDecimal, Number, or String at the given key. If a Number is
+	 * there its Number#toString() is used to construct a new BigDecimal(String). If a String is there it is used to
+	 * construct a new BigDecimal(String).
+	 * @param key representing where the value ought to be paired with.
+	 * @return a BigDecimal representing the value paired with the key or JsonKey#getValue() if the key isn't present.
+	 * @throws ClassCastException if the value didn't match the assumed return type.
+	 * @throws NumberFormatException if a String isn't a valid representation of a BigDecimal or if the Number
+	 *         represents the double or float Infinity or NaN.
+	 * @see BigDecimal
+	 * @see Number#toString()
+	 * @see JsonKey */
+	public BigDecimal getBigDecimalOrDefault(final JsonKey key){
+		return ValueConverter.toBigDecimal(this.getOrDefault(key.getKey(), key.getValue()));
+	}
+
+	/** A convenience method that assumes there is a Boolean or String value at the given key.
+	 * @param key representing where the value ought to be paired with.
+	 * @return a Boolean representing the value paired with the key.
+	 * @throws ClassCastException if the value didn't match the assumed return type.
+	 * @see JsonKey */
+	public Boolean getBoolean(final JsonKey key){
+		return ValueConverter.toBoolean(this.get(key.getKey()));
+	}
+
+	/** A convenience method that assumes there is a Boolean or String value at the given key.
+	 * @param key representing where the value ought to be paired with.
+	 * @return a Boolean representing the value paired with the key or JsonKey#getValue() if the key isn't present.
+	 * @throws ClassCastException if the value didn't match the assumed return type.
+	 * @see JsonKey */
+	public Boolean getBooleanOrDefault(final JsonKey key){
+		return ValueConverter.toBoolean(this.getOrDefault(key.getKey(), key.getValue()));
+	}
+
+	/** A convenience method that assumes there is a Number or String value at the given key.
+	 * @param key representing where the value ought to be paired with.
+	 * @return a Byte representing the value paired with the key (which may involve rounding or truncation).
+	 * @throws ClassCastException if the value didn't match the assumed return type.
+	 * @throws NumberFormatException if a String isn't a valid representation of a BigDecimal or if the Number
+	 *         represents the double or float Infinity or NaN.
+	 * @see Number#byteValue()
+	 * @see JsonKey */
+	public Byte getByte(final JsonKey key){
+		return ValueConverter.toByte(this.get(key.getKey()));
+	}
+
+	/** A convenience method that assumes there is a Number or String value at the given key.
+	 * @param key representing where the value ought to be paired with.
+	 * @return a Byte representing the value paired with the key or JsonKey#getValue() if the key isn't present (which
+	 *         may involve rounding or truncation).
+	 * @throws ClassCastException if the value didn't match the assumed return type.
+	 * @throws NumberFormatException if a String isn't a valid representation of a BigDecimal or if the Number
+	 *         represents the double or float Infinity or NaN.
+	 * @see Number#byteValue()
+	 * @see JsonKey */
+	public Byte getByteOrDefault(final JsonKey key){
+		return ValueConverter.toByte(this.getOrDefault(key.getKey(), key.getValue()));
+	}
+
+	/** A convenience method that assumes there is a Collection at the given key.
+	 * @param <T> the kind of collection to expect at the key. Note unless manually added, collection values will be
+	 *        whatever list the deserialization created.
+	 * @param key representing where the value ought to be paired with.
+	 * @return a Collection representing the value paired with the key.
+	 * @throws ClassCastException if the value didn't match the assumed return type.
+	 * @see JsonKey */
+	@SuppressWarnings("unchecked")
+	public <T extends Collection<?>> T getCollection(final JsonKey key){
+		/* The unchecked warning is suppressed because there is no way of guaranteeing at compile time the cast will
+		 * work. */
+		return (T)this.get(key.getKey());
+	}
+
+	/** A convenience method that assumes there is a Collection at the given key.
+	 * @param <T> the kind of collection to expect at the key. Note unless manually added, collection values will be
+	 *        whatever list the deserialization created.
+	 * @param key representing where the value ought to be paired with.
+	 * @return a Collection representing the value paired with the key or JsonKey#getValue() if the key isn't present..
+	 * @throws ClassCastException if the value didn't match the assumed return type.
+	 * @see JsonKey */
+	@SuppressWarnings("unchecked")
+	public <T extends Collection<?>> T getCollectionOrDefault(final JsonKey key){
+		/* The unchecked warning is suppressed because there is no way of guaranteeing at compile time the cast will
+		 * work. */
+		return (T)this.getOrDefault(key.getKey(), key.getValue());
+	}
+
+	/** A convenience method that assumes there is a Number or String value at the given key.
+	 * @param key representing where the value ought to be paired with.
+	 * @return a Double representing the value paired with the key (which may involve rounding or truncation).
+	 * @throws ClassCastException if the value didn't match the assumed return type.
+	 * @throws NumberFormatException if a String isn't a valid representation of a BigDecimal or if the Number
+	 *         represents the double or float Infinity or NaN.
+	 * @see Number#doubleValue()
+	 * @see JsonKey */
+	public Double getDouble(final JsonKey key){
+		return ValueConverter.toDouble(this.get(key.getKey()));
+	}
+
+	/** A convenience method that assumes there is a Number or String value at the given key.
+	 * @param key representing where the value ought to be paired with.
+	 * @return a Double representing the value paired with the key or JsonKey#getValue() if the key isn't present (which
+	 *         may involve rounding or truncation).
+	 * @throws ClassCastException if the value didn't match the assumed return type.
+	 * @throws NumberFormatException if a String isn't a valid representation of a BigDecimal or if the Number
+	 *         represents the double or float Infinity or NaN.
+	 * @see Number#doubleValue()
+	 * @see JsonKey */
+	public Double getDoubleOrDefault(final JsonKey key){
+		return ValueConverter.toDouble(this.getOrDefault(key.getKey(), key.getValue()));
+	}
+
+	/** A convenience method that assumes there is a Number or String value at the given key.
+	 * @param key representing where the value ought to be paired with.
+	 * @return a Float representing the value paired with the key (which may involve rounding or truncation).
+	 * @throws ClassCastException if the value didn't match the assumed return type.
+	 * @throws NumberFormatException if a String isn't a valid representation of a BigDecimal or if the Number
+	 *         represents the double or float Infinity or NaN.
+	 * @see Number#floatValue()
+	 * @see JsonKey */
+	public Float getFloat(final JsonKey key){
+		return ValueConverter.toFloat(this.get(key.getKey()));
+	}
+
+	/** A convenience method that assumes there is a Number or String value at the given key.
+	 * @param key representing where the value ought to be paired with.
+	 * @return a Float representing the value paired with the key or JsonKey#getValue() if the key isn't present (which
+	 *         may involve rounding or truncation).
+	 * @throws ClassCastException if the value didn't match the assumed return type.
+	 * @throws NumberFormatException if a String isn't a valid representation of a BigDecimal or if the Number
+	 *         represents the double or float Infinity or NaN.
+	 * @see Number#floatValue()
+	 * @see JsonKey */
+	public Float getFloatOrDefault(final JsonKey key){
+		return ValueConverter.toFloat(this.getOrDefault(key.getKey(), key.getValue()));
+	}
+
+	/** A convenience method that assumes there is a Number or String value at the given key.
+	 * @param key representing where the value ought to be paired with.
+	 * @return an Integer representing the value paired with the key (which may involve rounding or truncation).
+	 * @throws ClassCastException if the value didn't match the assumed return type.
+	 * @throws NumberFormatException if a String isn't a valid representation of a BigDecimal or if the Number
+	 *         represents the double or float Infinity or NaN.
+	 * @see Number#intValue()
+	 * @see JsonKey */
+	public Integer getInteger(final JsonKey key){
+		return ValueConverter.toInteger(this.get(key.getKey()));
+	}
+
+	/** A convenience method that assumes there is a Number or String value at the given key.
+	 * @param key representing where the value ought to be paired with.
+	 * @return an Integer representing the value paired with the key or JsonKey#getValue() if the key isn't present
+	 *         (which may involve rounding or truncation).
+	 * @throws ClassCastException if the value didn't match the assumed return type.
+	 * @throws NumberFormatException if a String isn't a valid representation of a BigDecimal or if the Number
+	 *         represents the double or float Infinity or NaN.
+	 * @see Number#intValue()
+	 * @see JsonKey */
+	public Integer getIntegerOrDefault(final JsonKey key){
+		return ValueConverter.toInteger(this.getOrDefault(key.getKey(), key.getValue()));
+	}
+
+	/** A convenience method that assumes there is a Number or String value at the given key.
+	 * @param key representing where the value ought to be paired with.
+	 * @return a Long representing the value paired with the key (which may involve rounding or truncation).
+	 * @throws ClassCastException if the value didn't match the assumed return type.
+	 * @throws NumberFormatException if a String isn't a valid representation of a BigDecimal or if the Number
+	 *         represents the double or float Infinity or NaN.
+	 * @see Number#longValue()
+	 * @see JsonKey */
+	public Long getLong(final JsonKey key){
+		return ValueConverter.toLong(this.get(key.getKey()));
+	}
+
+	/** A convenience method that assumes there is a Number or String value at the given key.
+	 * @param key representing where the value ought to be paired with.
+	 * @return a Long representing the value paired with the key or JsonKey#getValue() if the key isn't present (which
+	 *         may involve rounding or truncation).
+	 * @throws ClassCastException if the value didn't match the assumed return type.
+	 * @throws NumberFormatException if a String isn't a valid representation of a BigDecimal or if the Number
+	 *         represents the double or float Infinity or NaN.
+	 * @see Number#longValue()
+	 * @see JsonKey */
+	public Long getLongOrDefault(final JsonKey key){
+		return ValueConverter.toLong(this.getOrDefault(key.getKey(), key.getValue()));
+	}
+
+	/** A convenience method that assumes there is a Map at the given key.
+	 * @param <T> the kind of map to expect at the key. Note unless manually added, Map values will be
+	 *        whatever map the deserialization created.
+	 * @param key representing where the value ought to be paired with.
+	 * @return a Map representing the value paired with the key.
+	 * @throws ClassCastException if the value didn't match the assumed return type.
+	 * @see JsonKey */
+	@SuppressWarnings("unchecked")
+	public <T extends Map<?, ?>> T getMap(final JsonKey key){
+		/* The unchecked warning is suppressed because there is no way of guaranteeing at compile time the cast will
+		 * work. */
+		return (T)this.get(key.getKey());
+	}
+
+	/** A convenience method that assumes there is a Map at the given key.
+	 * @param <T> the kind of map to expect at the key. Note unless manually added, Map values will be
+	 *        whatever map the deserialization created.
+	 * @param key representing where the value ought to be paired with.
+	 * @return a Map representing the value paired with the key or JsonKey#getValue() if the key isn't present.
+	 * @throws ClassCastException if the value didn't match the assumed return type.
+	 * @see JsonKey */
+	@SuppressWarnings("unchecked")
+	public <T extends Map<?, ?>> T getMapOrDefault(final JsonKey key){
+		/* The unchecked warning is suppressed because there is no way of guaranteeing at compile time the cast will
+		 * work. */
+		return (T)this.getOrDefault(key.getKey(), key.getValue());
+	}
+
+	/** A convenience method that assumes there is a Number or String value at the given key.
+	 * @param key representing where the value ought to be paired with.
+	 * @return a Short representing the value paired with the key (which may involve rounding or truncation).
+	 * @throws ClassCastException if the value didn't match the assumed return type.
+	 * @throws NumberFormatException if a String isn't a valid representation of a BigDecimal or if the Number
+	 *         represents the double or float Infinity or NaN.
+	 * @see Number#shortValue()
+	 * @see JsonKey */
+	public Short getShort(final JsonKey key){
+		return ValueConverter.toShort(this.get(key.getKey()));
+	}
+
+	/** A convenience method that assumes there is a Number or String value at the given key.
+	 * @param key representing where the value ought to be paired with.
+	 * @return a Short representing the value paired with the key or JsonKey#getValue() if the key isn't present (which
+	 *         may involve rounding or truncation).
+	 * @throws ClassCastException if the value didn't match the assumed return type.
+	 * @throws NumberFormatException if a String isn't a valid representation of a BigDecimal or if the Number
+	 *         represents the double or float Infinity or NaN.
+	 * @see Number#shortValue()
+	 * @see JsonKey */
+	public Short getShortOrDefault(final JsonKey key){
+		return ValueConverter.toShort(this.getOrDefault(key.getKey(), key.getValue()));
+	}
+
+	/** A convenience method that assumes there is a Boolean, Number, or String value at the given key.
+	 * @param key representing where the value ought to be paired with.
+	 * @return a String representing the value paired with the key.
+	 * @throws ClassCastException if the value didn't match the assumed return type.
+	 * @see JsonKey */
+	public String getString(final JsonKey key){
+		return ValueConverter.toString(this.get(key.getKey()));
+	}
+
+	/** A convenience method that assumes there is a Boolean, Number, or String value at the given key.
+	 * @param key representing where the value ought to be paired with.
+	 * @return a String representing the value paired with the key or JsonKey#getValue() if the key isn't present.
+	 * @throws ClassCastException if the value didn't match the assumed return type.
+	 * @see JsonKey */
+	public String getStringOrDefault(final JsonKey key){
+		return ValueConverter.toString(this.getOrDefault(key.getKey(), key.getValue()));
+	}
+
+	/** Convenience method that calls put for the given key and value.
+	 * @param key represents the JsonKey used for the value's association in the map.
+	 * @param value represents the key's association in the map.
+	 * @see Map#put(Object, Object) */
+	public void put(final JsonKey key, final Object value){
+		this.put(key.getKey(), value);
+	}
+
+	/** Calls putAll for the given map, but returns the CompactJsonObject for chaining calls.
+	 * @param map represents the map to be copied into the CompactJsonObject.
+	 * @return the CompactJsonObject to allow chaining calls.
+	 * @see Map#putAll(Map) */
+	public CompactJsonObject putAllChain(final Map<String, Object> map){
+		this.putAll(map);
+		return this;
+	}
+
+	/** Convenience method that calls put for the given key and value, but returns the CompactJsonObject for chaining
+	 * calls.
+	 * @param key represents the JsonKey used for the value's association in the map.
+	 * @param value represents the key's association in the map.
+	 * @return the CompactJsonObject to allow chaining calls.
+	 * @see Map#put(Object, Object) */
+	public CompactJsonObject putChain(final JsonKey key, final Object value){
+		this.put(key.getKey(), value);
+		return this;
+	}
+
+	/** Calls put for the given key and value, but returns the CompactJsonObject for chaining calls.
+	 * @param key represents the value's association in the map.
+	 * @param value represents the key's association in the map.
+	 * @return the CompactJsonObject to allow chaining calls.
+	 * @see Map#put(Object, Object) */
+	public CompactJsonObject putChain(final String key, final Object value){
+		this.put(key, value);
+		return this;
+	}
+
+	/** Convenience method that calls remove for the given key.
+	 * @param key represents the value's association in the map.
+	 * @return an object representing the removed value or null if there wasn't one.
+	 * @see Map#remove(Object) */
+	public Object remove(final JsonKey key){
+		return this.remove(key.getKey());
+	}
+
+	/** Convenience method that calls remove for the given key and value.
+	 * @param key represents the value's association in the map.
+	 * @param value represents the expected value at the given key.
+	 * @return a boolean, which is true if the value was removed. It is false otherwise.
+	 * @see Map#remove(Object, Object) */
+	public boolean remove(final JsonKey key, final Object value){
+		return this.remove(key.getKey(), value);
+	}
+
+	/** Ensures the given keys are present.
+	 * @param keys represents the keys that must be present.
+	 * @throws NoSuchElementException if any of the given keys are missing. */
+	public void requireKeys(final JsonKey... keys){
+		ValueConverter.requireKeys(this, "CompactJsonObject", keys);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.json.simple.Jsonable#asJsonString() */
+	@Override
+	public String toJson(){
+		final TextWriter writable = TextWriter.reusing();
+		try{
+			this.toJson(writable);
+		}catch(final IOException caught){
+			/* See eu.kofis.json_simple.TextWriter. */
+		}
+		return writable.release();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.json.simple.Jsonable#toJsonString(java.io.Writer) */
+	@Override
+	public void toJson(final Writer writable) throws IOException{
+		/* Writes the map in JSON object format. */
+		boolean isFirstEntry = true;
+		final Iterator<Map.Entry<String, Object>> entries = this.entrySet().iterator();
+		writable.write('{');
+		while(entries.hasNext()){
+			if(isFirstEntry){
+				isFirstEntry = false;
+			}else{
+				writable.write(',');
+			}
+			final Map.Entry<String, Object> entry = entries.next();
+			Jsoner.serialize(entry.getKey(), writable);
+			writable.write(':');
+			Jsoner.serialize(entry.getValue(), writable);
+		}
+		writable.write('}');
+	}
+
+	/** Creates the containers of CompactJsonObject#FACTORY. */
+	private static final class Containers implements JsonContainerFactory{
+		@Override
+		public List<Object> createArray(){
+			return new JsonArray();
+		}
+
+		@Override
+		public Map<String, Object> createObject(){
+			return new CompactJsonObject();
+		}
+
+		@Override
+		public void finishArray(final List<Object> array, final int elements){
+			((JsonArray)array).trimToSize();
+		}
+
+		@Override
+		public void finishObject(final Map<String, Object> object, final int entries){
+			((CompactJsonObject)object).trimToSize();
+		}
+	}
+
+	/** Views an entry of the arrays, writing its value through to them. */
+	private final class Entry implements Map.Entry<String, Object>{
+		@SuppressWarnings("javadoc")
+		private final int index;
+
+		/** @param index represents where the entry is in the arrays. */
+		Entry(final int index){
+			this.index = index;
+		}
+
+		@Override
+		public boolean equals(final Object other){
+			if(!(other instanceof Map.Entry)){
+				return false;
+			}
+			final Map.Entry<?, ?> entry = (Map.Entry<?, ?>)other;
+			return (this.getKey() == null ? entry.getKey() == null : this.getKey().equals(entry.getKey())) && (this.getValue() == null ? entry.getValue() == null : this.getValue().equals(entry.getValue()));
+		}
+
+		@Override
+		public String getKey(){
+			return CompactJsonObject.this.keys[this.index];
+		}
+
+		@Override
+		public Object getValue(){
+			return CompactJsonObject.this.values[this.index];
+		}
+
+		@Override
+		public int hashCode(){
+			return (this.getKey() == null ? 0 : this.getKey().hashCode()) ^ (this.getValue() == null ? 0 : this.getValue().hashCode());
+		}
+
+		@Override
+		public Object setValue(final Object value){
+			final Object previous = CompactJsonObject.this.values[this.index];
+			CompactJsonObject.this.values[this.index] = value;
+			return previous;
+		}
+
+		@Override
+		public String toString(){
+			return this.getKey() + "=" + this.getValue();
+		}
+	}
+
+	/** Iterates over the entries of the arrays in the order they were put in. */
+	private final class EntryIterator implements Iterator<Map.Entry<String, Object>>{
+		@SuppressWarnings("javadoc")
+		private int	expectedModifications	= CompactJsonObject.this.modifications;
+		/** The index of the entry that next() returns. */
+		private int	next;
+		/** The index of the entry next() last returned, or -1 if it can't be removed. */
+		private int	last					= -1;
+
+		@Override
+		public boolean hasNext(){
+			return this.next < CompactJsonObject.this.size;
+		}
+
+		@Override
+		public Map.Entry<String, Object> next(){
+			if(this.expectedModifications != CompactJsonObject.this.modifications){
+				throw new ConcurrentModificationException();
+			}
+			if(this.next >= CompactJsonObject.this.size){
+				throw new NoSuchElementException();
+			}
+			this.last = this.next++;
+			return new Entry(this.last);
+		}
+
+		@Override
+		public void remove(){
+			if(this.last < 0){
+				throw new IllegalStateException();
+			}
+			if(this.expectedModifications != CompactJsonObject.this.modifications){
+				throw new ConcurrentModificationException();
+			}
+			CompactJsonObject.this.removeAt(this.last);
+			this.next = this.last;
+			this.last = -1;
+			this.expectedModifications = CompactJsonObject.this.modifications;
+		}
+	}
+
+	/** Views the entries as a set, of the arrays or of the LinkedHashMap depending on where they are each time it is
+	 * used, since the entries can move into the LinkedHashMap while the view is held. */
+	private final class EntrySet extends AbstractSet<Map.Entry<String, Object>>{
+		@Override
+		public void clear(){
+			CompactJsonObject.this.clear();
+		}
+
+		@Override
+		public Iterator<Map.Entry<String, Object>> iterator(){
+			if(CompactJsonObject.this.hashed != null){
+				return CompactJsonObject.this.hashed.entrySet().iterator();
+			}
+			return new EntryIterator();
+		}
+
+		@Override
+		public int size(){
+			return CompactJsonObject.this.size();
+		}
+	}
+}
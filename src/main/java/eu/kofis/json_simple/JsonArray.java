@@ -11,18 +11,27 @@
 package eu.kofis.json_simple;
 
 import java.io.IOException;
-import java.io.StringWriter;
 import java.io.Writer;
+import java.lang.ref.Reference;
 import java.math.BigDecimal;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /** JsonArray is a common non-thread safe data format for a collection of data. The contents of a JsonArray are only
  * validated as JSON values on serialization. Meaning all values added to a JsonArray must be recognized by the Jsoner
  * for it to be a true 'JsonArray', so it is really a JsonableArrayList that will serialize to a JsonArray if all of
  * its contents are valid JSON.
+ * <p>
+ * A JsonArray can keep the JSON text it serialized to, see JsonArray#setSerializationCached(boolean), which is written
+ * again as is until it or a JsonObject or JsonArray within it changes.
  * @see Jsoner
  * @since 2.0.0 */
 public class JsonArray extends ArrayList<Object> implements Jsonable{
@@ -30,7 +39,17 @@ public class JsonArray extends ArrayList<Object> implements Jsonable{
 	 * if the only changes to occur were updating comments, updating javadocs, adding new fields to the class, changing
 	 * the fields from static to non-static, or changing the fields from transient to non transient. All other changes
 	 * require this number be incremented. */
-	private static final long serialVersionUID = 1L;
+	private static final long							serialVersionUID	= 1L;
+
+	/** The forms whose text includes the JsonArray's, which a change to it makes out of date, or null if there aren't
+	 * any. */
+	private transient List<Reference<SerializedForm>>	dependents;
+	/** Whether the serialized form is kept between serializations. */
+	private transient boolean							serializationCached;
+	/** The JSON text kept from the last serialization, or null if there isn't any. */
+	private transient SerializedForm					serializedForm;
+	/** Where the JsonArray was deserialized from, or null if it wasn't or it changed since. */
+	private transient SourceSpan						sourceSpan;
 
 	/** Instantiates an empty JsonArray. */
 	public JsonArray(){
@@ -43,6 +62,30 @@ public class JsonArray extends ArrayList<Object> implements Jsonable{
 		super(collection);
 	}
 
+	@Override
+	public boolean add(final Object element){
+		this.changed();
+		return super.add(element);
+	}
+
+	@Override
+	public void add(final int index, final Object element){
+		this.changed();
+		super.add(index, element);
+	}
+
+	@Override
+	public boolean addAll(final Collection<? extends Object> collection){
+		this.changed();
+		return super.addAll(collection);
+	}
+
+	@Override
+	public boolean addAll(final int index, final Collection<? extends Object> collection){
+		this.changed();
+		return super.addAll(index, collection);
+	}
+
 	/** Calls add for the given collection of elements, but returns the JsonArray for chaining calls.
 	 * @param collection represents the items to be appended to the JsonArray.
 	 * @return the JsonArray to allow chaining calls.
@@ -85,6 +128,13 @@ public class JsonArray extends ArrayList<Object> implements Jsonable{
 		return this;
 	}
 
+	/** Remembers that a form's text includes the JsonArray's, so a change to it makes the form out of date. It is
+	 * synchronized since a parallel serialization can serialize a JsonArray that two of its ranges share at once.
+	 * @param form represents the form the JsonArray's text is going into. */
+	synchronized void addDependent(final SerializedForm form){
+		this.dependents = SerializedForm.addDependent(this.dependents, form);
+	}
+
 	/** A convenience method that assumes every element of the JsonArray is castable to T before adding it to a
 	 * collection of Ts.
 	 * @param <T> represents the type that all of the elements of the JsonArray should be cast to and the type the
@@ -100,6 +150,45 @@ public class JsonArray extends ArrayList<Object> implements Jsonable{
 		}
 	}
 
+	/** Discards the source text and the kept text, which no longer represent the elements. */
+	private void changed(){
+		this.discardSourceSpan();
+		this.discardSerializedForm();
+	}
+
+	@Override
+	public void clear(){
+		this.changed();
+		super.clear();
+	}
+
+	/** Copies the elements like ArrayList#clone() does, but the copy doesn't share the serialized form.
+	 * @return a shallow copy of the JsonArray. */
+	@Override
+	public Object clone(){
+		final JsonArray returnable = (JsonArray)super.clone();
+		returnable.dependents = null;
+		returnable.serializedForm = null;
+		returnable.sourceSpan = null;
+		return returnable;
+	}
+
+	/** Marks the kept text of the JsonArray and of the containers whose text includes it out of date. */
+	void discardSerializedForm(){
+		if((this.serializedForm != null) || (this.dependents != null)){
+			SerializedForm.discard(this);
+		}
+	}
+
+	/** Discards the source text of the JsonArray and of the containers it was deserialized in. */
+	void discardSourceSpan(){
+		if(this.sourceSpan != null){
+			final SourceSpan discarded = this.sourceSpan;
+			this.sourceSpan = null;
+			discarded.discardParents();
+		}
+	}
+
 	/** A convenience method that assumes there is a BigDecimal, Number, or String at the given index. If a Number or
 	 * String is there it is used to construct a new BigDecimal.
 	 * @param index representing where the value is expected to be at.
@@ -265,6 +354,11 @@ public class JsonArray extends ArrayList<Object> implements Jsonable{
 		return (T)this.get(index);
 	}
 
+	/** @return the JSON text kept from the last serialization, or null if there isn't any. */
+	SerializedForm getSerializedForm(){
+		return this.serializedForm;
+	}
+
 	/** A convenience method that assumes there is a Number or String value at the given index.
 	 * @param index represents where the value is expected to be at.
 	 * @return the value at the index provided cast to a short.
@@ -285,6 +379,11 @@ public class JsonArray extends ArrayList<Object> implements Jsonable{
 		return ((Number)returnable).shortValue();
 	}
 
+	/** @return where the JsonArray was deserialized from, or null if it wasn't or it changed since. */
+	SourceSpan getSourceSpan(){
+		return this.sourceSpan;
+	}
+
 	/** A convenience method that assumes there is a Boolean, Number, or String value at the given index.
 	 * @param index represents where the value is expected to be at.
 	 * @return the value at the index provided cast to a String.
@@ -300,23 +399,145 @@ public class JsonArray extends ArrayList<Object> implements Jsonable{
 		return (String)returnable;
 	}
 
+	/** @return whether the JsonArray keeps the JSON text it serialized to.
+	 * @see JsonArray#setSerializationCached(boolean)
+	 * @since 4.2.0 */
+	public boolean isSerializationCached(){
+		return this.serializationCached;
+	}
+
+	/** @return whether the JsonArray still has the JSON text it was deserialized from, which is copied as is when it is
+	 *         serialized.
+	 * @see Jsoner#deserializeRetainingSource(String)
+	 * @since 4.2.0 */
+	public boolean isSourceRetained(){
+		return this.sourceSpan != null;
+	}
+
+	@Override
+	public Object remove(final int index){
+		this.changed();
+		return super.remove(index);
+	}
+
+	@Override
+	public boolean remove(final Object element){
+		this.changed();
+		return super.remove(element);
+	}
+
+	@Override
+	public boolean removeAll(final Collection<?> collection){
+		this.changed();
+		return super.removeAll(collection);
+	}
+
+	@Override
+	public boolean removeIf(final Predicate<? super Object> filter){
+		this.changed();
+		return super.removeIf(filter);
+	}
+
+	@Override
+	protected void removeRange(final int fromIndex, final int toIndex){
+		this.changed();
+		super.removeRange(fromIndex, toIndex);
+	}
+
+	@Override
+	public void replaceAll(final UnaryOperator<Object> operator){
+		this.changed();
+		super.replaceAll(operator);
+	}
+
+	@Override
+	public boolean retainAll(final Collection<?> collection){
+		this.changed();
+		return super.retainAll(collection);
+	}
+
+	@Override
+	public Object set(final int index, final Object element){
+		this.changed();
+		return super.set(index, element);
+	}
+
+	/** Sets whether the JsonArray keeps the JSON text it serializes to, so serializing it again is a single write of
+	 * that text until it or a JsonObject or JsonArray within it changes. Serializing the container it is in keeps using
+	 * the text too. Text that went through other maps, collections, arrays, Jsonables, or values with a registered
+	 * serializer isn't kept, since their changes can't be noticed.
+	 * @param cached represents whether the text is kept, when it is false the kept text is discarded.
+	 * @see JsonObject#setSerializationCached(boolean)
+	 * @since 4.2.0 */
+	public void setSerializationCached(final boolean cached){
+		this.serializationCached = cached;
+		if(!cached){
+			this.setSerializedForm(null);
+		}
+	}
+
+	/** @param serializedForm represents the JSON text to keep until the next serialization that finds it out of date. */
+	void setSerializedForm(final SerializedForm serializedForm){
+		if(this.serializedForm != null){
+			this.serializedForm.release();
+		}
+		this.serializedForm = serializedForm;
+	}
+
+	/** @param sourceSpan represents where the JsonArray was deserialized from. */
+	void setSourceSpan(final SourceSpan sourceSpan){
+		this.sourceSpan = sourceSpan;
+	}
+
+	@Override
+	public void sort(final Comparator<? super Object> comparator){
+		this.changed();
+		super.sort(comparator);
+	}
+
+	/** Views a range of the elements like ArrayList#subList(int, int) does, and elements replaced through the view
+	 * count as changes to the JsonArray.
+	 * @param fromIndex represents the first index of the range.
+	 * @param toIndex represents the index after the last index of the range.
+	 * @return the range of elements as a list. */
+	@Override
+	public List<Object> subList(final int fromIndex, final int toIndex){
+		return new TrackedList(super.subList(fromIndex, toIndex));
+	}
+
+	/** @return the forms whose text includes the JsonArray's, or null if there aren't any, which it no longer
+	 *         remembers. */
+	List<Reference<SerializedForm>> takeDependents(){
+		final List<Reference<SerializedForm>> returnable = this.dependents;
+		this.dependents = null;
+		return returnable;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.json.simple.Jsonable#asJsonString() */
 	@Override
 	public String toJson(){
-		final StringWriter writable = new StringWriter();
+		final TextWriter writable = TextWriter.reusing();
 		try{
 			this.toJson(writable);
 		}catch(final IOException caught){
-			/* See java.io.StringWriter. */
+			/* See eu.kofis.json_simple.TextWriter. */
 		}
-		return writable.toString();
+		return writable.release();
 	}
 
 	/* (non-Javadoc)
 	 * @see org.json.simple.Jsonable#toJsonString(java.io.Writer) */
 	@Override
 	public void toJson(final Writer writable) throws IOException{
+		if(this.sourceSpan != null){
+			this.sourceSpan.write(writable);
+			return;
+		}
+		if(this.serializationCached){
+			Jsoner.serializeCached(this, writable);
+			return;
+		}
 		boolean isFirstElement = true;
 		final Iterator<Object> elements = this.iterator();
 		writable.write('[');
@@ -326,8 +547,49 @@ public class JsonArray extends ArrayList<Object> implements Jsonable{
 			}else{
 				writable.write(',');
 			}
-			writable.write(Jsoner.serialize(elements.next()));
+			Jsoner.serialize(elements.next(), writable);
 		}
 		writable.write(']');
 	}
+
+	/** Views a range of the elements, counting a change when one is replaced through it. ArrayList's own view writes
+	 * replaced elements straight into its array, the rest of its changes already go through the JsonArray. */
+	private final class TrackedList extends AbstractList<Object> implements RandomAccess{
+		@SuppressWarnings("javadoc")
+		private final List<Object> range;
+
+		/** @param range represents ArrayList's view of the range. */
+		TrackedList(final List<Object> range){
+			this.range = range;
+		}
+
+		@Override
+		public void add(final int index, final Object element){
+			this.range.add(index, element);
+			this.modCount++;
+		}
+
+		@Override
+		public Object get(final int index){
+			return this.range.get(index);
+		}
+
+		@Override
+		public Object remove(final int index){
+			final Object returnable = this.range.remove(index);
+			this.modCount++;
+			return returnable;
+		}
+
+		@Override
+		public Object set(final int index, final Object element){
+			JsonArray.this.changed();
+			return this.range.set(index, element);
+		}
+
+		@Override
+		public int size(){
+			return this.range.size();
+		}
+	}
 }
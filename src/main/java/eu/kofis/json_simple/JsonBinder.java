@@ -0,0 +1,62 @@
+/* Copyright 2016-2017 Clifton Labs
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. */
+package eu.kofis.json_simple;
+
+import java.math.BigDecimal;
+
+/** JsonBinders fill domain objects straight from the keys of a JSON object as they are lexed, instead of copying
+ * values out of a JsonObject that was deserialized first. The keys are the constants of the same JsonKey enum a
+ * JsonObject's getters would be given, so implementations usually switch on the key. Keys that aren't one of the
+ * enum's constants are skipped without building their values. Binders that keep numbers as primitives can ask for
+ * the numbers of a key as a long or double through JsonBinder#bindsPrimitives(Enum), so no BigDecimal is built for
+ * them.
+ * @param <T> the class of the objects the binder fills.
+ * @param <K> the JsonKey enum whose constants name the keys the binder fills from.
+ * @see Jsoner#deserialize(java.io.Reader, Class, JsonBinder)
+ * @since 4.2.0 */
+public interface JsonBinder<T, K extends Enum<K> & JsonKey>{
+	/** Fills the value of a key into the object, each time the key is found in the JSON object.
+	 * @param bindable represents the object being filled.
+	 * @param key represents the key the value was found at.
+	 * @param value represents a boolean, null, BigDecimal, String, JsonArray, or JsonObject as it was deserialized. */
+	public void bind(T bindable, K key, Object value);
+
+	/** Fills a number that isn't whole or doesn't fit in a long into the object, for keys the binder asked to be given
+	 * primitives. Unless overridden it is handed to JsonBinder#bind(Object, Enum, Object) as a BigDecimal.
+	 * @param bindable represents the object being filled.
+	 * @param key represents the key the number was found at.
+	 * @param value represents the number as the closest double to it. */
+	public default void bindDouble(final T bindable, final K key, final double value){
+		this.bind(bindable, key, BigDecimal.valueOf(value));
+	}
+
+	/** Fills a whole number that fits in a long into the object, for keys the binder asked to be given primitives.
+	 * Unless overridden it is handed to JsonBinder#bind(Object, Enum, Object) as a BigDecimal.
+	 * @param bindable represents the object being filled.
+	 * @param key represents the key the number was found at.
+	 * @param value represents the number. */
+	public default void bindLong(final T bindable, final K key, final long value){
+		this.bind(bindable, key, BigDecimal.valueOf(value));
+	}
+
+	/** Asked before the value of a key is lexed, so a number at the key is lexed straight into a long or double and
+	 * handed to JsonBinder#bindLong(Object, Enum, long) or JsonBinder#bindDouble(Object, Enum, double) instead of
+	 * being built as a BigDecimal. Numbers nested in an array or object at the key are still built as BigDecimals.
+	 * @param key represents the key whose value is about to be lexed.
+	 * @return whether a number at the key is handed over as a primitive, false unless overridden. */
+	public default boolean bindsPrimitives(final K key){
+		return false;
+	}
+
+	/** Called once the start of the JSON object is found, before any of its keys are bound.
+	 * @return the object the JSON object's values are filled into. */
+	public T create();
+}
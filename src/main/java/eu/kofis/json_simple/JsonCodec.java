@@ -0,0 +1,836 @@
+/* Copyright 2016-2017 Clifton Labs
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. */
+package eu.kofis.json_simple;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** JsonCodecs serialize plain old java objects as JSON objects and deserialize them back, without writing a Jsonable
+ * implementation for each class or going through a JsonObject. Each of a class's fields, including inherited ones,
+ * that isn't static or transient becomes the key of the same name. The fields are found once per class and their
+ * accessors are cached, so serialization writes the fields directly and deserialization sets them directly from the
+ * tokens as they are lexed. Fields hold:
+ * booleans, chars, numbers, and their wrappers, written as JSON booleans, strings, and numbers.
+ * Strings and enums, written as JSON strings, enums by their names.
+ * Other classes that have a no argument constructor, written by their own JsonCodec.
+ * Anything else Jsoner#serialize(Object, Writer) writes, read back as the JsonArray, JsonObject, BigDecimal, String,
+ * or Boolean the JSON holds. Arrays of the above are filled from JSON arrays.
+ * Objects and the JSON values in them are read and written from stacks kept in arrays instead of recursively, so
+ * deeply nested JSON fails with a JsonException instead of overflowing the thread's stack, and an object that contains
+ * itself fails to serialize instead of serializing forever.
+ * A JsonCodec is also a JsonSerializer, so registering one with Jsoner#registerSerializer(Class, JsonSerializer) lets
+ * Jsoner serialize instances of its class wherever they appear.
+ * @param <T> the class of the objects the codec serializes and deserializes.
+ * @see JsonCodec#forClass(Class)
+ * @since 4.2.0 */
+public final class JsonCodec<T> implements JsonSerializer<T>{
+	/** How a field's value is written. */
+	private static enum Kinds{
+		@SuppressWarnings("javadoc")
+		BOOLEAN,
+		@SuppressWarnings("javadoc")
+		CHARACTER,
+		@SuppressWarnings("javadoc")
+		DOUBLE,
+		@SuppressWarnings("javadoc")
+		ENUM,
+		@SuppressWarnings("javadoc")
+		FLOAT,
+		/** Whatever Jsoner#serialize(Object, Writer) writes. */
+		OBJECT,
+		/** A class with a JsonCodec of its own. */
+		POJO,
+		@SuppressWarnings("javadoc")
+		STRING,
+		/** A byte, int, long, short, or one of their wrappers. */
+		WHOLE_NUMBER;
+	}
+
+	/** Reads and writes one field of the objects a codec handles. */
+	private static final class Accessor{
+		/** The field being read and written. */
+		private final Field		field;
+		/** The field's key already escaped, quoted, and followed by a colon. */
+		private final char[]	key;
+		/** How the field's value is written. */
+		private final Kinds		kind;
+
+		@SuppressWarnings("javadoc")
+		private Accessor(final Field field){
+			this.field = field;
+			this.kind = JsonCodec.kindOf(field.getType());
+			this.key = ("\"" + Jsoner.escape(field.getName()) + "\":").toCharArray();
+		}
+	}
+
+	/** The codecs that have been created, so each class's fields are only found once. Each codec is kept with its class
+	 * so it doesn't keep the class's loader from being unloaded. */
+	private static final ClassValue<JsonCodec<?>>					CODECS			= new ClassValue<JsonCodec<?>>(){
+		@Override
+		protected JsonCodec<?> computeValue(final Class<?> type){
+			return JsonCodec.create(type);
+		}
+	};
+	/** The constants of each JsonKey enum that has been bound by their keys, so each enum's keys are only found once.
+	 * They are kept with the enum's class so they don't keep its loader from being unloaded. */
+	private static final ClassValue<Map<String, ?>>					KEYS			= new ClassValue<Map<String, ?>>(){
+		@Override
+		protected Map<String, ?> computeValue(final Class<?> type){
+			final Map<String, Object> constants = new HashMap<String, Object>();
+			for(final Object constant : type.getEnumConstants()){
+				final String key = ((JsonKey)constant).getKey();
+				if(constants.put(key, constant) != null){
+					throw new IllegalArgumentException("The key " + key + " is used by more than one constant of " + type.getName() + ".");
+				}
+			}
+			return constants;
+		}
+	};
+	/** A lexer each thread reuses between deserializations, since a lexer's buffer costs more to allocate than it takes
+	 * to lex a typical object. It is empty while the thread's lexer is in use. */
+	private static final ThreadLocal<Yylex>							LEXERS			= new ThreadLocal<Yylex>();
+	/** How deep objects nest while serializing before they are tracked, since shallower ones can't be cycling yet. */
+	private static final int										TRACKED_DEPTH	= 64;
+
+	/** The accessors for each field, in the order the fields are written. */
+	private final Accessor[]										accessors;
+	/** The accessors for each field by its key. */
+	private final Map<String, Accessor>								accessorsByKey;
+	/** Instantiates the objects being deserialized. */
+	private final Constructor<T>									constructor;
+	/** The class of the objects the codec serializes and deserializes. */
+	private final Class<T>											type;
+
+	/** Finds the fields of the class and prepares their accessors.
+	 * @param type represents the class of the objects the codec serializes and deserializes.
+	 * @throws IllegalArgumentException if the class can't be instantiated without arguments. */
+	private JsonCodec(final Class<T> type){
+		if(type.isInterface() || type.isArray() || type.isPrimitive() || Modifier.isAbstract(type.getModifiers())){
+			throw new IllegalArgumentException("A JsonCodec can't instantiate " + type.getName() + ", it must be a concrete class.");
+		}
+		try{
+			this.constructor = type.getDeclaredConstructor();
+		}catch(final NoSuchMethodException caught){
+			throw new IllegalArgumentException("A JsonCodec can't instantiate " + type.getName() + ", it must have a constructor without arguments.", caught);
+		}
+		this.constructor.setAccessible(true);
+		final List<Class<?>> lineage = new ArrayList<Class<?>>();
+		for(Class<?> ancestor = type; (ancestor != null) && (ancestor != Object.class); ancestor = ancestor.getSuperclass()){
+			lineage.add(0, ancestor);
+		}
+		/* Inherited fields are written first, and a subclass's field hides an inherited field with the same name. */
+		final Map<String, Accessor> accessorsByKey = new HashMap<String, Accessor>();
+		final List<Accessor> accessors = new ArrayList<Accessor>();
+		for(final Class<?> declaring : lineage){
+			for(final Field field : declaring.getDeclaredFields()){
+				final int modifiers = field.getModifiers();
+				if(Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()){
+					continue;
+				}
+				field.setAccessible(true);
+				final Accessor accessor = new Accessor(field);
+				final Accessor hidden = accessorsByKey.put(field.getName(), accessor);
+				if(hidden != null){
+					accessors.remove(hidden);
+				}
+				accessors.add(accessor);
+			}
+		}
+		this.accessors = accessors.toArray(new Accessor[accessors.size()]);
+		this.accessorsByKey = accessorsByKey;
+		this.type = type;
+	}
+
+	/** Deserializes a JSON object by handing the value of each key to the binder as soon as it is lexed.
+	 * @param <T> the class of the objects the binder fills.
+	 * @param <K> the JsonKey enum whose constants name the keys the binder fills from.
+	 * @param readable represents a JSON object, or null.
+	 * @param keys represents the JsonKey enum whose constants name the keys the binder fills from.
+	 * @param binder represents how the values are filled into the object.
+	 * @return the object the binder created and filled, or null if the JSON was null.
+	 * @throws JsonException if the readable isn't a JSON object.
+	 * @see Jsoner#deserialize(Reader, Class, JsonBinder) */
+	static <T, K extends Enum<K> & JsonKey> T bind(final Reader readable, final Class<K> keys, final JsonBinder<T, K> binder) throws JsonException{
+		final Map<String, K> constants = JsonCodec.keysOf(keys);
+		final Yylex lexer = JsonCodec.borrowLexer(readable, JsonLimits.NONE);
+		try{
+			Yytoken token = JsonCodec.lexNextToken(lexer);
+			if(Yytoken.Types.DATUM.equals(token.getType()) && (token.getValue() == null)){
+				JsonCodec.readEnd(lexer);
+				return null;
+			}else if(!Yytoken.Types.LEFT_BRACE.equals(token.getType())){
+				throw new JsonException(lexer.getPosition(), JsonException.Problems.UNEXPECTED_TOKEN, token);
+			}
+			final T returnable = binder.create();
+			token = JsonCodec.lexNextToken(lexer);
+			if(!Yytoken.Types.RIGHT_BRACE.equals(token.getType())){
+				while(true){
+					final K key = constants.get(JsonCodec.readKey(lexer, token));
+					if(key == null){
+						JsonCodec.skipValue(lexer, JsonCodec.lexNextToken(lexer), JsonLimits.NONE, 1);
+					}else if(binder.bindsPrimitives(key)){
+						/* Only the value's first token is lexed into a primitive, numbers nested in it are read as usual. */
+						lexer.setPrimitive(true);
+						token = JsonCodec.lexNextToken(lexer);
+						lexer.setPrimitive(false);
+						if(token == Yytoken.LONG_DATUM){
+							binder.bindLong(returnable, key, lexer.getLexedLong());
+						}else if(token == Yytoken.DOUBLE_DATUM){
+							binder.bindDouble(returnable, key, lexer.getLexedDouble());
+						}else{
+							binder.bind(returnable, key, JsonCodec.readValue(lexer, token, true, JsonLimits.NONE, 1));
+						}
+					}else{
+						binder.bind(returnable, key, JsonCodec.readValue(lexer, JsonCodec.lexNextToken(lexer), true, JsonLimits.NONE, 1));
+					}
+					token = JsonCodec.lexNextToken(lexer);
+					if(Yytoken.Types.RIGHT_BRACE.equals(token.getType())){
+						break;
+					}else if(!Yytoken.Types.COMMA.equals(token.getType())){
+						throw new JsonException(lexer.getPosition(), JsonException.Problems.UNEXPECTED_TOKEN, token);
+					}
+					token = JsonCodec.lexNextToken(lexer);
+				}
+			}
+			JsonCodec.readEnd(lexer);
+			return returnable;
+		}finally{
+			JsonCodec.returnLexer(lexer);
+		}
+	}
+
+	/** Takes the thread's lexer for a deserialization, which must give it back with JsonCodec#returnLexer(Yylex) once it
+	 * is done.
+	 * @param readable represents the JSON being deserialized.
+	 * @param limits represents the longest strings and numbers the lexer lexes.
+	 * @return a lexer ready to lex the readable. */
+	private static Yylex borrowLexer(final Reader readable, final JsonLimits limits){
+		Yylex lexer = JsonCodec.LEXERS.get();
+		if(lexer == null){
+			/* The thread hasn't deserialized yet, or its lexer is in use by a deserialization further up the stack. */
+			lexer = new Yylex(readable);
+		}else{
+			JsonCodec.LEXERS.remove();
+			lexer.yyreset(readable);
+		}
+		lexer.setLimits(limits);
+		return lexer;
+	}
+
+	/** Converts a deserialized value to what a field or array element of the type holds.
+	 * @param value represents a JsonArray, JsonObject, BigDecimal, String, Boolean, or null.
+	 * @param type represents the class of the field or array element.
+	 * @param lexer represents where the value was lexed, to report where it didn't fit.
+	 * @param token represents the token that began the value, to report it if it didn't fit.
+	 * @return the value as the type holds it.
+	 * @throws JsonException if the value can't be held by the type. */
+	private static Object convert(final Object value, final Class<?> type, final Yylex lexer, final Yytoken token) throws JsonException{
+		if(value == null){
+			if(type.isPrimitive()){
+				throw new JsonException(lexer.getPosition(), JsonException.Problems.UNEXPECTED_TOKEN, token);
+			}
+			return null;
+		}
+		if((type == boolean.class) || (type == Boolean.class)){
+			if(value instanceof Boolean){
+				return value;
+			}
+		}else if((type == char.class) || (type == Character.class)){
+			if((value instanceof String) && (((String)value).length() == 1)){
+				return Character.valueOf(((String)value).charAt(0));
+			}
+		}else if(type.isEnum()){
+			if(value instanceof String){
+				for(final Object constant : type.getEnumConstants()){
+					if(((Enum<?>)constant).name().equals(value)){
+						return constant;
+					}
+				}
+			}
+		}else if(value instanceof BigDecimal){
+			/* Whole numbers must fit exactly, a fraction or a value out of the type's range fails instead of being
+			 * truncated or wrapped around. */
+			final BigDecimal number = (BigDecimal)value;
+			try{
+				if((type == int.class) || (type == Integer.class)){
+					return Integer.valueOf(number.intValueExact());
+				}else if((type == long.class) || (type == Long.class)){
+					return Long.valueOf(number.longValueExact());
+				}else if((type == double.class) || (type == Double.class)){
+					final double converted = number.doubleValue();
+					if(!Double.isInfinite(converted)){
+						return Double.valueOf(converted);
+					}
+				}else if((type == float.class) || (type == Float.class)){
+					final float converted = number.floatValue();
+					if(!Float.isInfinite(converted)){
+						return Float.valueOf(converted);
+					}
+				}else if((type == short.class) || (type == Short.class)){
+					return Short.valueOf(number.shortValueExact());
+				}else if((type == byte.class) || (type == Byte.class)){
+					return Byte.valueOf(number.byteValueExact());
+				}else if(type == BigInteger.class){
+					return number.toBigIntegerExact();
+				}
+			}catch(final ArithmeticException caught){
+				throw new JsonException(lexer.getPosition(), JsonException.Problems.UNEXPECTED_TOKEN, token);
+			}
+		}else if(type.isArray() && (value instanceof List)){
+			final List<?> elements = (List<?>)value;
+			final Object array = Array.newInstance(type.getComponentType(), elements.size());
+			for(int i = 0; i < elements.size(); i++){
+				Array.set(array, i, JsonCodec.convert(elements.get(i), type.getComponentType(), lexer, token));
+			}
+			return array;
+		}
+		if(type.isInstance(value)){
+			return value;
+		}
+		throw new JsonException(lexer.getPosition(), JsonException.Problems.UNEXPECTED_TOKEN, token);
+	}
+
+	/** @param <T> the class of the objects the codec serializes and deserializes.
+	 * @param type represents the class of the objects the codec serializes and deserializes.
+	 * @return a new codec for the class.
+	 * @throws IllegalArgumentException if the class can't be instantiated without arguments. */
+	private static <T> JsonCodec<T> create(final Class<T> type){
+		return new JsonCodec<T>(type);
+	}
+
+	/** Deserializes a JSON object into a new instance of the codec's class. Keys that don't name one of its fields
+	 * are skipped, and fields without a key keep the value the constructor gave them.
+	 * @param readable represents a JSON object, or null.
+	 * @return a new instance of the codec's class with the values of the JSON object, or null if the JSON was null.
+	 * @throws JsonException if the readable isn't a JSON object or one of its values can't be held by its field. */
+	public T deserialize(final Reader readable) throws JsonException{
+		return this.deserialize(readable, JsonLimits.NONE);
+	}
+
+	/** Deserializes a JSON object like JsonCodec#deserialize(Reader), failing as soon as the JSON text exceeds one of
+	 * the limits instead of deserializing text of any size. Use it for text from a source that isn't trusted.
+	 * @param readable represents a JSON object, or null.
+	 * @param limits represents how much JSON text is deserialized before it fails.
+	 * @return a new instance of the codec's class with the values of the JSON object, or null if the JSON was null.
+	 * @throws JsonException if the readable isn't a JSON object, one of its values can't be held by its field, or it
+	 *         exceeds one of the limits in which case the problem is LIMIT_EXCEEDED.
+	 * @see JsonLimits */
+	public T deserialize(final Reader readable, final JsonLimits limits) throws JsonException{
+		/* The stream is only wrapped when its length is limited, so unlimited deserialization reads it directly. */
+		final LimitedReader limited = limits.getMaxInputChars() == Long.MAX_VALUE ? null : new LimitedReader(readable, limits.getMaxInputChars());
+		final Yylex lexer = JsonCodec.borrowLexer(limited == null ? readable : limited, limits);
+		try{
+			final Yytoken first = JsonCodec.lexNextToken(lexer);
+			final T returnable;
+			if(Yytoken.Types.DATUM.equals(first.getType()) && (first.getValue() == null)){
+				returnable = null;
+			}else{
+				returnable = this.read(lexer, first, limits);
+			}
+			JsonCodec.readEnd(lexer);
+			return returnable;
+		}catch(final JsonException caught){
+			if((limited != null) && limited.isExceeded()){
+				/* The text was cut off at the limit, which is the problem whatever was made of it. */
+				throw new JsonException((int)Math.min(limited.getMaxChars(), Integer.MAX_VALUE), JsonException.Problems.LIMIT_EXCEEDED, "chars of input (" + limited.getMaxChars() + ")");
+			}
+			throw caught;
+		}finally{
+			JsonCodec.returnLexer(lexer);
+		}
+	}
+
+	/** A convenience method that assumes a StringReader.
+	 * @param deserializable represents a JSON object, or null.
+	 * @return a new instance of the codec's class with the values of the JSON object, or null if the JSON was null.
+	 * @throws JsonException if the deserializable isn't a JSON object or one of its values can't be held by its field.
+	 * @see JsonCodec#deserialize(Reader) */
+	public T deserialize(final String deserializable) throws JsonException{
+		return this.deserialize(new StringReader(deserializable));
+	}
+
+	/** @param lexer represents where the limit was exceeded.
+	 * @param limit represents what was limited.
+	 * @param max represents how much of it the limit allows.
+	 * @return the JsonException that explains which limit was exceeded. */
+	private static JsonException exceeded(final Yylex lexer, final String limit, final int max){
+		return new JsonException(lexer.getPosition(), JsonException.Problems.LIMIT_EXCEEDED, limit + " (" + max + ")");
+	}
+
+	/** Provides the codec for a class, creating it the first time the class is asked for.
+	 * @param <T> the class of the objects the codec serializes and deserializes.
+	 * @param type represents the class of the objects the codec serializes and deserializes.
+	 * @return the codec for the class.
+	 * @throws IllegalArgumentException if the class can't be instantiated without arguments. */
+	@SuppressWarnings("unchecked")
+	public static <T> JsonCodec<T> forClass(final Class<T> type){
+		return (JsonCodec<T>)JsonCodec.CODECS.get(type);
+	}
+
+	/** @return the class of the objects the codec serializes and deserializes. */
+	public Class<T> getType(){
+		return this.type;
+	}
+
+	/** @param lexer represents where the object is being deserialized, to report where it couldn't be instantiated.
+	 * @return a new instance of the codec's class.
+	 * @throws JsonException if the constructor fails. */
+	private T instantiate(final Yylex lexer) throws JsonException{
+		try{
+			return this.constructor.newInstance();
+		}catch(final InstantiationException caught){
+			throw new JsonException(lexer.getPosition(), JsonException.Problems.UNEXPECTED_EXCEPTION, caught);
+		}catch(final IllegalAccessException caught){
+			throw new JsonException(lexer.getPosition(), JsonException.Problems.UNEXPECTED_EXCEPTION, caught);
+		}catch(final InvocationTargetException caught){
+			throw new JsonException(lexer.getPosition(), JsonException.Problems.UNEXPECTED_EXCEPTION, caught.getCause());
+		}
+	}
+
+	/** @param <K> the JsonKey enum whose constants are being looked up.
+	 * @param keys represents the JsonKey enum whose constants are being looked up.
+	 * @return the enum's constants by their keys.
+	 * @throws IllegalArgumentException if two of the enum's constants have the same key. */
+	@SuppressWarnings("unchecked")
+	private static <K extends Enum<K> & JsonKey> Map<String, K> keysOf(final Class<K> keys){
+		return (Map<String, K>)JsonCodec.KEYS.get(keys);
+	}
+
+	/** @param type represents the class of a field.
+	 * @return how values of the field are written. */
+	private static Kinds kindOf(final Class<?> type){
+		if((type == boolean.class) || (type == Boolean.class)){
+			return Kinds.BOOLEAN;
+		}else if((type == char.class) || (type == Character.class)){
+			return Kinds.CHARACTER;
+		}else if((type == double.class) || (type == Double.class)){
+			return Kinds.DOUBLE;
+		}else if((type == float.class) || (type == Float.class)){
+			return Kinds.FLOAT;
+		}else if((type == int.class) || (type == Integer.class) || (type == long.class) || (type == Long.class) || (type == short.class) || (type == Short.class) || (type == byte.class) || (type == Byte.class)){
+			return Kinds.WHOLE_NUMBER;
+		}else if(type == String.class){
+			return Kinds.STRING;
+		}else if(type.isEnum()){
+			return Kinds.ENUM;
+		}else if(type.isInterface() || type.isArray() || Modifier.isAbstract(type.getModifiers()) || type.getName().startsWith("java.") || Jsonable.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type) || Collection.class.isAssignableFrom(type)){
+			return Kinds.OBJECT;
+		}
+		return Kinds.POJO;
+	}
+
+	/** @param lexer represents the lexer of the JSON being deserialized.
+	 * @return the next token, or an END token if there isn't one.
+	 * @throws JsonException if the lexer can't lex the next token. */
+	private static Yytoken lexNextToken(final Yylex lexer) throws JsonException{
+		final Yytoken returnable;
+		try{
+			returnable = lexer.yylex();
+		}catch(final IOException caught){
+			throw new JsonException(-1, JsonException.Problems.UNEXPECTED_EXCEPTION, caught);
+		}
+		if(returnable == null){
+			return new Yytoken(Yytoken.Types.END, null);
+		}
+		return returnable;
+	}
+
+	/** Deserializes the JSON object that begins with the token into a new instance of the codec's class. The objects
+	 * of fields that have a JsonCodec of their own are read from a stack of the objects being filled instead of
+	 * recursively.
+	 * @param lexer represents the lexer of the JSON being deserialized.
+	 * @param first represents the token that begins the object.
+	 * @param limits represents how deep the JSON can nest and how many entries each object and array can hold.
+	 * @return a new instance of the codec's class with the values of the JSON object.
+	 * @throws JsonException if the tokens aren't a JSON object, one of its values can't be held by its field, or they
+	 *         exceed one of the limits. */
+	private T read(final Yylex lexer, final Yytoken first, final JsonLimits limits) throws JsonException{
+		final int maxDepth = limits.getMaxDepth();
+		final int maxEntries = limits.getMaxEntries();
+		JsonCodec<?>[] codecs = new JsonCodec<?>[8];
+		Object[] instances = new Object[8];
+		int[] entries = new int[8];
+		/* The field of each object that the object nested in it is being read for. */
+		Accessor[] pending = new Accessor[8];
+		int depth = 0;
+		JsonCodec<?> codec = this;
+		Yytoken token = first;
+		while(true){
+			/* The token begins an object of the codec's class. */
+			if(!Yytoken.Types.LEFT_BRACE.equals(token.getType())){
+				throw new JsonException(lexer.getPosition(), JsonException.Problems.UNEXPECTED_TOKEN, token);
+			}
+			if(depth >= maxDepth){
+				throw JsonCodec.exceeded(lexer, "nesting depth", maxDepth);
+			}
+			if(depth == codecs.length){
+				codecs = Arrays.copyOf(codecs, depth * 2);
+				instances = Arrays.copyOf(instances, depth * 2);
+				entries = Arrays.copyOf(entries, depth * 2);
+				pending = Arrays.copyOf(pending, depth * 2);
+			}
+			codecs[depth] = codec;
+			instances[depth] = codec.instantiate(lexer);
+			entries[depth] = 0;
+			depth++;
+			token = JsonCodec.lexNextToken(lexer);
+			boolean closed = Yytoken.Types.RIGHT_BRACE.equals(token.getType());
+			/* Reads the entries of the innermost object until one of them begins an object of its own. */
+			while(true){
+				final int level = depth - 1;
+				if(closed){
+					final Object finished = instances[level];
+					codecs[level] = null;
+					instances[level] = null;
+					depth = level;
+					if(depth == 0){
+						return this.type.cast(finished);
+					}
+					JsonCodec.set(pending[depth - 1], instances[depth - 1], finished, lexer);
+					pending[depth - 1] = null;
+				}else{
+					if(++entries[level] > maxEntries){
+						throw JsonCodec.exceeded(lexer, "entries in an array or object", maxEntries);
+					}
+					final Accessor accessor = codecs[level].accessorsByKey.get(JsonCodec.readKey(lexer, token));
+					token = JsonCodec.lexNextToken(lexer);
+					if(accessor == null){
+						JsonCodec.skipValue(lexer, token, limits, depth);
+					}else if((accessor.kind == Kinds.POJO) && Yytoken.Types.LEFT_BRACE.equals(token.getType())){
+						pending[level] = accessor;
+						codec = JsonCodec.forClass(accessor.field.getType());
+						break;
+					}else{
+						JsonCodec.set(accessor, instances[level], JsonCodec.convert(JsonCodec.readValue(lexer, token, true, limits, depth), accessor.field.getType(), lexer, token), lexer);
+					}
+				}
+				token = JsonCodec.lexNextToken(lexer);
+				if(Yytoken.Types.RIGHT_BRACE.equals(token.getType())){
+					closed = true;
+				}else if(Yytoken.Types.COMMA.equals(token.getType())){
+					token = JsonCodec.lexNextToken(lexer);
+					closed = false;
+				}else{
+					throw new JsonException(lexer.getPosition(), JsonException.Problems.UNEXPECTED_TOKEN, token);
+				}
+			}
+		}
+	}
+
+	/** Ensures nothing follows the JSON value that was deserialized.
+	 * @param lexer represents the lexer of the JSON being deserialized.
+	 * @throws JsonException if there is another token. */
+	private static void readEnd(final Yylex lexer) throws JsonException{
+		final Yytoken last = JsonCodec.lexNextToken(lexer);
+		if(!Yytoken.Types.END.equals(last.getType())){
+			throw new JsonException(lexer.getPosition(), JsonException.Problems.UNEXPECTED_TOKEN, last);
+		}
+	}
+
+	/** Reads an object's key and the colon that follows it.
+	 * @param lexer represents the lexer of the JSON being deserialized.
+	 * @param first represents the token that ought to be the key.
+	 * @return the key.
+	 * @throws JsonException if the tokens aren't a key followed by a colon. */
+	private static String readKey(final Yylex lexer, final Yytoken first) throws JsonException{
+		if(!Yytoken.Types.DATUM.equals(first.getType()) || !(first.getValue() instanceof String)){
+			throw new JsonException(lexer.getPosition(), JsonException.Problems.UNEXPECTED_TOKEN, first);
+		}
+		final Yytoken colon = JsonCodec.lexNextToken(lexer);
+		if(!Yytoken.Types.COLON.equals(colon.getType())){
+			throw new JsonException(lexer.getPosition(), JsonException.Problems.UNEXPECTED_TOKEN, colon);
+		}
+		return (String)first.getValue();
+	}
+
+	/** Deserializes the JSON value that begins with the token the way Jsoner#deserialize(Reader) would. Arrays and
+	 * objects are read from a stack of the ones that are open instead of recursively.
+	 * @param lexer represents the lexer of the JSON being deserialized.
+	 * @param first represents the token that begins the value.
+	 * @param keeping represents whether the value is kept, when it isn't the tokens are only checked.
+	 * @param limits represents how deep the JSON can nest and how many entries each object and array can hold.
+	 * @param depth represents how many objects the value is already in.
+	 * @return a JsonArray, JsonObject, BigDecimal, String, Boolean, or null. Null if the value isn't kept.
+	 * @throws JsonException if the tokens aren't a JSON value or exceed one of the limits. */
+	private static Object readValue(final Yylex lexer, final Yytoken first, final boolean keeping, final JsonLimits limits, final int depth) throws JsonException{
+		if(Yytoken.Types.DATUM.equals(first.getType())){
+			return keeping ? first.getValue() : null;
+		}
+		final int maxDepth = limits.getMaxDepth();
+		final int maxEntries = limits.getMaxEntries();
+		/* The open arrays and objects, which are null when the value isn't kept. */
+		Object[] containers = new Object[8];
+		int[] entries = new int[8];
+		String[] keys = new String[8];
+		boolean[] objects = new boolean[8];
+		int level = 0;
+		Yytoken token = first;
+		while(true){
+			/* The token begins a value of the innermost open array or object, or the value itself. */
+			Object value;
+			final boolean object = Yytoken.Types.LEFT_BRACE.equals(token.getType());
+			if(Yytoken.Types.DATUM.equals(token.getType())){
+				value = keeping ? token.getValue() : null;
+			}else if(object || Yytoken.Types.LEFT_SQUARE.equals(token.getType())){
+				if((depth + level) >= maxDepth){
+					throw JsonCodec.exceeded(lexer, "nesting depth", maxDepth);
+				}
+				if(level == containers.length){
+					containers = Arrays.copyOf(containers, level * 2);
+					entries = Arrays.copyOf(entries, level * 2);
+					keys = Arrays.copyOf(keys, level * 2);
+					objects = Arrays.copyOf(objects, level * 2);
+				}
+				containers[level] = keeping ? (object ? new JsonObject() : new JsonArray()) : null;
+				entries[level] = 0;
+				objects[level] = object;
+				token = JsonCodec.lexNextToken(lexer);
+				if(!(object ? Yytoken.Types.RIGHT_BRACE : Yytoken.Types.RIGHT_SQUARE).equals(token.getType())){
+					if(object){
+						keys[level] = JsonCodec.readKey(lexer, token);
+						token = JsonCodec.lexNextToken(lexer);
+					}
+					level++;
+					continue;
+				}
+				value = containers[level];
+				containers[level] = null;
+			}else{
+				throw new JsonException(lexer.getPosition(), JsonException.Problems.UNEXPECTED_TOKEN, token);
+			}
+			/* The value is finished, so it goes in the innermost open array or object, which may be finished too. */
+			while(true){
+				if(level == 0){
+					return value;
+				}
+				final int innermost = level - 1;
+				if(++entries[innermost] > maxEntries){
+					throw JsonCodec.exceeded(lexer, "entries in an array or object", maxEntries);
+				}
+				if(keeping){
+					if(objects[innermost]){
+						((JsonObject)containers[innermost]).put(keys[innermost], value);
+					}else{
+						((JsonArray)containers[innermost]).add(value);
+					}
+				}
+				token = JsonCodec.lexNextToken(lexer);
+				if(Yytoken.Types.COMMA.equals(token.getType())){
+					token = JsonCodec.lexNextToken(lexer);
+					if(objects[innermost]){
+						keys[innermost] = JsonCodec.readKey(lexer, token);
+						token = JsonCodec.lexNextToken(lexer);
+					}
+					break;
+				}else if(!(objects[innermost] ? Yytoken.Types.RIGHT_BRACE : Yytoken.Types.RIGHT_SQUARE).equals(token.getType())){
+					throw new JsonException(lexer.getPosition(), JsonException.Problems.UNEXPECTED_TOKEN, token);
+				}
+				level = innermost;
+				value = containers[level];
+				containers[level] = null;
+			}
+		}
+	}
+
+	/** Gives the thread's lexer back once a deserialization is done with it, unless lexing grew its buffers, since the
+	 * thread would hold on to them for as long as it lives.
+	 * @param lexer represents the lexer JsonCodec#borrowLexer(Reader, JsonLimits) took. */
+	private static void returnLexer(final Yylex lexer){
+		if(lexer.release()){
+			JsonCodec.LEXERS.set(lexer);
+		}
+	}
+
+	/** A convenience method that serializes to a String.
+	 * @param serializable represents the object to serialize, or null.
+	 * @return the JSON object that holds the object's fields, or null if the object was null.
+	 * @throws IllegalArgumentException if one of the object's fields isn't serializable in JSON.
+	 * @see JsonCodec#serialize(Object, Writer) */
+	public String serialize(final T serializable){
+		final TextWriter writable = TextWriter.reusing();
+		try{
+			this.serialize(serializable, writable);
+		}catch(final IOException caught){
+			/* See eu.kofis.json_simple.TextWriter. */
+		}
+		return writable.release();
+	}
+
+	/** Serializes the object as a JSON object that holds each of its fields.
+	 * @param serializable represents the object to serialize, or null.
+	 * @param writable represents where the JSON text is written to.
+	 * @throws IOException if the writable encounters an I/O problem.
+	 * @throws IllegalArgumentException if one of the object's fields isn't serializable in JSON. */
+	@Override
+	public void serialize(final T serializable, final Writer writable) throws IOException{
+		if(serializable == null){
+			writable.write("null");
+			return;
+		}
+		this.write(serializable, writable);
+	}
+
+	/** Sets a field of an object that is being deserialized.
+	 * @param accessor represents the field being set.
+	 * @param instance represents the object whose field is set.
+	 * @param value represents what the field is set to.
+	 * @param lexer represents where the object is being deserialized, to report where the field couldn't be set.
+	 * @throws JsonException if the field can't be set. */
+	private static void set(final Accessor accessor, final Object instance, final Object value, final Yylex lexer) throws JsonException{
+		try{
+			accessor.field.set(instance, value);
+		}catch(final IllegalAccessException caught){
+			throw new JsonException(lexer.getPosition(), JsonException.Problems.UNEXPECTED_EXCEPTION, caught);
+		}
+	}
+
+	/** Checks the JSON value that begins with the token without building it, for keys nobody reads. The lexer
+	 * validates instead of lexing meanwhile, so strings and numbers aren't built either.
+	 * @param lexer represents the lexer of the JSON being deserialized.
+	 * @param first represents the token that begins the value.
+	 * @param limits represents how deep the JSON can nest and how many entries each object and array can hold.
+	 * @param depth represents how many objects the value is already in.
+	 * @throws JsonException if the tokens aren't a JSON value or exceed one of the limits. */
+	private static void skipValue(final Yylex lexer, final Yytoken first, final JsonLimits limits, final int depth) throws JsonException{
+		lexer.setValidating(true);
+		try{
+			JsonCodec.readValue(lexer, first, false, limits, depth);
+		}finally{
+			lexer.setValidating(false);
+		}
+	}
+
+	/** Writes the object's fields as a JSON object. The objects of fields that have a JsonCodec of their own are
+	 * written from a stack of the objects being written instead of recursively, and once the stack is deep the objects
+	 * on it are tracked by identity so an object that contains itself fails instead of being written forever.
+	 * @param serializable represents the object to serialize.
+	 * @param writable represents where the JSON text is written to.
+	 * @throws IOException if the writable encounters an I/O problem.
+	 * @throws IllegalArgumentException if one of the object's fields isn't serializable in JSON, or it contains
+	 *         itself. */
+	private void write(final Object serializable, final Writer writable) throws IOException{
+		final char[] buffer = new char[NumberWriter.MAX_DOUBLE_CHARS];
+		JsonCodec<?>[] codecs = new JsonCodec<?>[8];
+		Object[] instances = new Object[8];
+		/* The index of the next field of each object to write. */
+		int[] fields = new int[8];
+		IdentityHashMap<Object, Object> tracked = null;
+		codecs[0] = this;
+		instances[0] = serializable;
+		int depth = 1;
+		writable.write('{');
+		while(depth > 0){
+			final int level = depth - 1;
+			final JsonCodec<?> codec = codecs[level];
+			final int field = fields[level];
+			if(field == codec.accessors.length){
+				writable.write('}');
+				if(tracked != null){
+					tracked.remove(instances[level]);
+				}
+				codecs[level] = null;
+				instances[level] = null;
+				fields[level] = 0;
+				depth = level;
+				continue;
+			}
+			fields[level] = field + 1;
+			final Accessor accessor = codec.accessors[field];
+			if(field > 0){
+				writable.write(',');
+			}
+			writable.write(accessor.key);
+			final Object value;
+			try{
+				value = accessor.field.get(instances[level]);
+			}catch(final IllegalAccessException caught){
+				/* The field was made accessible when the codec was created. */
+				throw new IllegalStateException(caught);
+			}
+			if(value == null){
+				writable.write("null");
+			}else if(accessor.kind == Kinds.POJO){
+				if(depth >= JsonCodec.TRACKED_DEPTH){
+					if(tracked == null){
+						tracked = new IdentityHashMap<Object, Object>();
+					}
+					if(tracked.put(value, value) != null){
+						throw new IllegalArgumentException("Encountered a: " + value.getClass().getName() + " that contains itself and isn't JSON serializable.");
+					}
+				}
+				if(depth == codecs.length){
+					codecs = Arrays.copyOf(codecs, depth * 2);
+					instances = Arrays.copyOf(instances, depth * 2);
+					fields = Arrays.copyOf(fields, depth * 2);
+				}
+				codecs[depth] = JsonCodec.forClass(value.getClass());
+				instances[depth] = value;
+				depth++;
+				writable.write('{');
+			}else{
+				JsonCodec.writeValue(accessor.kind, value, writable, buffer);
+			}
+		}
+	}
+
+	/** Writes the value of a field that doesn't have a JsonCodec of its own.
+	 * @param kind represents how the value is written.
+	 * @param value represents the value to write.
+	 * @param writable represents where the JSON text is written to.
+	 * @param buffer represents where numbers are formatted before being written.
+	 * @throws IOException if the writable encounters an I/O problem. */
+	private static void writeValue(final Kinds kind, final Object value, final Writer writable, final char[] buffer) throws IOException{
+		switch(kind){
+			case BOOLEAN:
+				writable.write(((Boolean)value).booleanValue() ? "true" : "false");
+				break;
+			case CHARACTER:
+			case STRING:
+				writable.write('"');
+				writable.write(Jsoner.escape(value.toString()));
+				writable.write('"');
+				break;
+			case DOUBLE:
+				writable.write(buffer, 0, Jsoner.writeDouble(buffer, 0, ((Double)value).doubleValue()));
+				break;
+			case ENUM:
+				writable.write('"');
+				writable.write(Jsoner.escape(((Enum<?>)value).name()));
+				writable.write('"');
+				break;
+			case FLOAT:
+				writable.write(buffer, 0, Jsoner.writeFloat(buffer, 0, ((Float)value).floatValue()));
+				break;
+			case WHOLE_NUMBER:
+				writable.write(buffer, 0, NumberWriter.writeLong(buffer, 0, ((Number)value).longValue()));
+				break;
+			default:
+				Jsoner.serialize(value, writable);
+				break;
+		}
+	}
+}
@@ -0,0 +1,39 @@
+/* Copyright 2016 Clifton Labs
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. */
+package eu.kofis.json_simple;
+
+import java.util.List;
+import java.util.Map;
+
+/** JsonContainerFactories decide which Map and List implementations represent JSON objects and arrays during
+ * deserialization. By default Jsoner uses a JsonObject and a JsonArray, a factory can instead hand out maps that
+ * preserve order, more compact maps and lists, or pooled instances. Every container is finished once the parse reaches
+ * its end, which lets implementations trim or freeze it in place since it has already been added to its parent.
+ * @see Jsoner#deserialize(java.io.Reader, JsonContainerFactory)
+ * @since 4.2.0 */
+public interface JsonContainerFactory{
+	/** @return an empty list that will hold the elements of a JSON array. */
+	public List<Object> createArray();
+
+	/** @return an empty map that will hold the entries of a JSON object. */
+	public Map<String, Object> createObject();
+
+	/** Called once the parse reaches the end of an array this factory created.
+	 * @param array represents the list that holds every element of the JSON array.
+	 * @param elements represents how many elements the JSON array had. */
+	public void finishArray(List<Object> array, int elements);
+
+	/** Called once the parse reaches the end of an object this factory created.
+	 * @param object represents the map that holds every entry of the JSON object.
+	 * @param entries represents how many entries the map holds, which is fewer than the JSON object had if any of its
+	 *        keys repeat. */
+	public void finishObject(Map<String, Object> object, int entries);
+}
@@ -0,0 +1,307 @@
+/* Copyright 2016-2017 Clifton Labs
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. */
+package eu.kofis.json_simple;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/** JsonDoubleArray is a non-thread safe data format for a collection of numbers that keeps them in a double[] instead
+ * of boxing each of them, which is a fraction of the memory a JsonArray takes for the long numeric series JSON often
+ * carries. Doubles, Floats, and BigDecimals a double holds exactly are kept as their double value and are boxed into a
+ * Double only when they are read through get(int). Once anything else is added, including a whole number like an
+ * Integer or a Long or a BigDecimal a double would round, the elements fall back to being kept as objects, and the
+ * ones added from then on are kept exactly as they were added.
+ * @see JsonArray
+ * @see JsonDoubleArray#FACTORY
+ * @since 4.2.0 */
+public class JsonDoubleArray extends AbstractList<Object> implements Jsonable, RandomAccess, Serializable{
+	/** Deserializes JSON arrays into JsonDoubleArrays and JSON objects into JsonObjects, trimming each array to its
+	 * size once it is finished. The numbers of an array are read back as Doubles while a double holds each of them
+	 * exactly, and an array with a number a double would round keeps its numbers as the BigDecimals they were
+	 * deserialized as.
+	 * @see Jsoner#deserialize(java.io.Reader, JsonContainerFactory) */
+	public static final JsonContainerFactory	FACTORY				= new Containers();
+	/** The serialization version this class is compatible with. This value doesn't need to be incremented if and only
+	 * if the only changes to occur were updating comments, updating javadocs, adding new fields to the class, changing
+	 * the fields from static to non-static, or changing the fields from transient to non transient. All other changes
+	 * require this number be incremented. */
+	private static final long					serialVersionUID	= 1L;
+	@SuppressWarnings("javadoc")
+	private static final double[]				NO_DOUBLES			= new double[0];
+
+	/** The elements while all of them are numbers, null once they fall back to objects. Only the first size elements
+	 * are used. */
+	private double[]							doubles;
+	/** The elements once they fall back to objects, null until then. Only the first size elements are used. */
+	private Object[]							objects;
+	/** How many of the array elements are used. */
+	private int									size;
+
+	/** Instantiates an empty JsonDoubleArray. */
+	public JsonDoubleArray(){
+		this.doubles = JsonDoubleArray.NO_DOUBLES;
+	}
+
+	/** Instantiate a new JsonDoubleArray with the elements of a collection.
+	 * @param collection represents the elements to produce the JsonDoubleArray with. */
+	public JsonDoubleArray(final Collection<?> collection){
+		this();
+		this.addAll(collection);
+	}
+
+	/** Instantiate a new JsonDoubleArray holding a copy of the values.
+	 * @param values represents the elements to produce the JsonDoubleArray with. */
+	public JsonDoubleArray(final double[] values){
+		this.doubles = values.clone();
+		this.size = values.length;
+	}
+
+	@Override
+	public void add(final int index, final Object element){
+		if((index < 0) || (index > this.size)){
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+		}
+		if((this.doubles != null) && !JsonDoubleArray.isDouble(element)){
+			this.inflate();
+		}
+		if(this.doubles != null){
+			if(this.size == this.doubles.length){
+				final double[] grown = new double[JsonDoubleArray.grow(this.size)];
+				System.arraycopy(this.doubles, 0, grown, 0, this.size);
+				this.doubles = grown;
+			}
+			System.arraycopy(this.doubles, index, this.doubles, index + 1, this.size - index);
+			this.doubles[index] = ((Number)element).doubleValue();
+		}else{
+			if(this.size == this.objects.length){
+				final Object[] grown = new Object[JsonDoubleArray.grow(this.size)];
+				System.arraycopy(this.objects, 0, grown, 0, this.size);
+				this.objects = grown;
+			}
+			System.arraycopy(this.objects, index, this.objects, index + 1, this.size - index);
+			this.objects[index] = element;
+		}
+		this.size++;
+		this.modCount++;
+	}
+
+	/** Calls add for the given element, but returns the JsonDoubleArray for chaining calls.
+	 * @param element represents the item to be appended to the JsonDoubleArray.
+	 * @return the JsonDoubleArray to allow chaining calls.
+	 * @see List#add(Object) */
+	public JsonDoubleArray addChain(final Object element){
+		this.add(element);
+		return this;
+	}
+
+	/** @param index represents an index that must hold an element.
+	 * @throws IndexOutOfBoundsException if the index is outside of the range of element indexes. */
+	private void checkIndex(final int index){
+		if((index < 0) || (index >= this.size)){
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+		}
+	}
+
+	@Override
+	public void clear(){
+		this.doubles = JsonDoubleArray.NO_DOUBLES;
+		this.objects = null;
+		this.size = 0;
+		this.modCount++;
+	}
+
+	@Override
+	public Object get(final int index){
+		this.checkIndex(index);
+		if(this.doubles != null){
+			return Double.valueOf(this.doubles[index]);
+		}
+		return this.objects[index];
+	}
+
+	/** Reads an element without boxing it while the elements are kept as doubles.
+	 * @param index representing where the value is expected to be at.
+	 * @return the double value of the element at the index.
+	 * @throws ClassCastException if the element at the index isn't a Number.
+	 * @throws IndexOutOfBoundsException if the index is outside of the range of element indexes in the
+	 *         JsonDoubleArray.
+	 * @throws NullPointerException if the element at the index is null. */
+	public double getDoubleValue(final int index){
+		this.checkIndex(index);
+		if(this.doubles != null){
+			return this.doubles[index];
+		}
+		return ((Number)this.objects[index]).doubleValue();
+	}
+
+	/** @param size represents how many elements the storage holds.
+	 * @return how many elements the storage should have room for once it grows. */
+	private static int grow(final int size){
+		return size < 4 ? 4 : size + (size >> 1);
+	}
+
+	/** Makes the elements fall back to objects, boxing the doubles already held. */
+	private void inflate(){
+		this.objects = new Object[Math.max(this.doubles.length, 1)];
+		for(int i = 0; i < this.size; i++){
+			this.objects[i] = Double.valueOf(this.doubles[i]);
+		}
+		this.doubles = null;
+	}
+
+	/** @param element represents a value being added.
+	 * @return true if the element can be kept as a double without changing its value. */
+	private static boolean isDouble(final Object element){
+		if((element instanceof Double) || (element instanceof Float)){
+			return true;
+		}
+		if(element instanceof BigDecimal){
+			/* Numbers a double would round or make infinite are kept as they are instead of silently changing. */
+			final double value = ((BigDecimal)element).doubleValue();
+			return !Double.isInfinite(value) && (BigDecimal.valueOf(value).compareTo((BigDecimal)element) == 0);
+		}
+		/* Whole numbers would be read back as Doubles, which neither serialize nor compare equal the way they did. */
+		return false;
+	}
+
+	/** Tells whether the elements are still kept as doubles, which is the case until something that isn't a Double,
+	 * a Float, or a BigDecimal a double holds exactly is added.
+	 * @return true if the elements are kept as doubles, false if they fell back to objects. */
+	public boolean isPrimitive(){
+		return this.doubles != null;
+	}
+
+	@Override
+	public Object remove(final int index){
+		final Object removed = this.get(index);
+		final int moved = this.size - index - 1;
+		if(this.doubles != null){
+			System.arraycopy(this.doubles, index + 1, this.doubles, index, moved);
+		}else{
+			System.arraycopy(this.objects, index + 1, this.objects, index, moved);
+			this.objects[this.size - 1] = null;
+		}
+		this.size--;
+		this.modCount++;
+		return removed;
+	}
+
+	@Override
+	public Object set(final int index, final Object element){
+		final Object replaced = this.get(index);
+		if((this.doubles != null) && !JsonDoubleArray.isDouble(element)){
+			this.inflate();
+		}
+		if(this.doubles != null){
+			this.doubles[index] = ((Number)element).doubleValue();
+		}else{
+			this.objects[index] = element;
+		}
+		return replaced;
+	}
+
+	@Override
+	public int size(){
+		return this.size;
+	}
+
+	/** Copies the elements into a new array.
+	 * @return the double value of every element.
+	 * @throws ClassCastException if an element isn't a Number.
+	 * @throws NullPointerException if an element is null. */
+	public double[] toDoubleArray(){
+		final double[] copy = new double[this.size];
+		if(this.doubles != null){
+			System.arraycopy(this.doubles, 0, copy, 0, this.size);
+		}else{
+			for(int i = 0; i < this.size; i++){
+				copy[i] = ((Number)this.objects[i]).doubleValue();
+			}
+		}
+		return copy;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.json.simple.Jsonable#asJsonString() */
+	@Override
+	public String toJson(){
+		final TextWriter writable = TextWriter.reusing();
+		try{
+			this.toJson(writable);
+		}catch(final IOException caught){
+			/* See eu.kofis.json_simple.TextWriter. */
+		}
+		return writable.release();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.json.simple.Jsonable#toJsonString(java.io.Writer) */
+	@Override
+	public void toJson(final Writer writable) throws IOException{
+		if(this.doubles != null){
+			Jsoner.serializeArray(this.doubles, this.size, writable);
+			return;
+		}
+		writable.write('[');
+		for(int i = 0; i < this.size; i++){
+			if(i > 0){
+				writable.write(',');
+			}
+			Jsoner.serialize(this.objects[i], writable);
+		}
+		writable.write(']');
+	}
+
+	/** Shrinks the storage to the number of elements, for arrays that are done growing. */
+	public void trimToSize(){
+		if(this.doubles != null){
+			if(this.size < this.doubles.length){
+				final double[] trimmed = this.size == 0 ? JsonDoubleArray.NO_DOUBLES : new double[this.size];
+				System.arraycopy(this.doubles, 0, trimmed, 0, this.size);
+				this.doubles = trimmed;
+			}
+		}else if(this.size < this.objects.length){
+			final Object[] trimmed = new Object[this.size];
+			System.arraycopy(this.objects, 0, trimmed, 0, this.size);
+			this.objects = trimmed;
+		}
+	}
+
+	/** Creates the containers for JsonDoubleArray#FACTORY. */
+	private static final class Containers implements JsonContainerFactory{
+		@Override
+		public List<Object> createArray(){
+			return new JsonDoubleArray();
+		}
+
+		@Override
+		public Map<String, Object> createObject(){
+			return new JsonObject();
+		}
+
+		@Override
+		public void finishArray(final List<Object> array, final int elements){
+			((JsonDoubleArray)array).trimToSize();
+		}
+
+		@Override
+		public void finishObject(final Map<String, Object> object, final int entries){
+			/* JsonObjects are left as they are. */
+		}
+	}
+}
@@ -19,6 +19,10 @@ public class JsonException extends Exception{
 		DISALLOWED_TOKEN,
 		/** @since 2.3.0 to consolidate exceptions that occur during deserialization. */
 		IOEXCEPTION,
+		/** The JSON text exceeded one of the JsonLimits it was deserialized with.
+		 * @see JsonLimits
+		 * @since 4.2.0 */
+		LIMIT_EXCEEDED,
 		@SuppressWarnings("javadoc")
 		UNEXPECTED_CHARACTER,
 		@SuppressWarnings("javadoc")
@@ -30,20 +34,56 @@ public class JsonException extends Exception{
 	@SuppressWarnings("javadoc")
 	private static final long	serialVersionUID	= 1L;
 	@SuppressWarnings("javadoc")
+	private final int			column;
+	@SuppressWarnings("javadoc")
+	private final int			line;
+	@SuppressWarnings("javadoc")
 	private final int			position;
 	@SuppressWarnings("javadoc")
 	private final Problems		problemType;
 	@SuppressWarnings("javadoc")
 	private final Object		unexpectedObject;
+	/** Whether the stack trace is captured, it is only read after the Throwable constructor has run. */
+	private final boolean		writableStackTrace;
 
 	/** Instantiates a JsonException without assumptions.
 	 * @param position where the exception occurred.
 	 * @param problemType how the exception occurred.
 	 * @param unexpectedObject what caused the exception. */
 	public JsonException(final int position, final Problems problemType, final Object unexpectedObject){
+		this(position, problemType, unexpectedObject, true);
+	}
+
+	/** Instantiates a JsonException that may skip capturing its stack trace. The position and problem type explain
+	 * where and how the problem occurred in the JSON text, so the stack trace is often not worth its cost when invalid
+	 * JSON is expected.
+	 * @param position where the exception occurred.
+	 * @param problemType how the exception occurred.
+	 * @param unexpectedObject what caused the exception.
+	 * @param writableStackTrace whether the stack trace should be captured.
+	 * @since 4.2.0 */
+	public JsonException(final int position, final Problems problemType, final Object unexpectedObject, final boolean writableStackTrace){
+		this(position, -1, -1, problemType, unexpectedObject, writableStackTrace);
+	}
+
+	/** Instantiates a JsonException that also knows the line and column of its position.
+	 * @param position where the exception occurred.
+	 * @param line which line the position is on, or -1 if it isn't known.
+	 * @param column which column of the line the position is on, or -1 if it isn't known.
+	 * @param problemType how the exception occurred.
+	 * @param unexpectedObject what caused the exception.
+	 * @param writableStackTrace whether the stack trace should be captured. */
+	JsonException(final int position, final int line, final int column, final Problems problemType, final Object unexpectedObject, final boolean writableStackTrace){
 		this.position = position;
+		this.line = line;
+		this.column = column;
 		this.problemType = problemType;
 		this.unexpectedObject = unexpectedObject;
+		this.writableStackTrace = writableStackTrace;
+		if(writableStackTrace){
+			/* The Throwable constructor skipped it since the flag wasn't set yet. */
+			this.fillInStackTrace();
+		}
 		if(Problems.IOEXCEPTION.equals(problemType) || Problems.UNEXPECTED_EXCEPTION.equals(problemType)){
 			if(unexpectedObject instanceof Throwable){
 				this.initCause((Throwable)unexpectedObject);
@@ -51,21 +91,42 @@ public class JsonException extends Exception{
 		}
 	}
 
+	@Override
+	public synchronized Throwable fillInStackTrace(){
+		if(this.writableStackTrace){
+			return super.fillInStackTrace();
+		}
+		return this;
+	}
+
+	/** The message is only built when it is asked for, so creating a JsonException doesn't pay for it.
+	 * @return a description of the problem and how to recover from it. */
 	@Override
 	public String getMessage(){
 		final StringBuilder sb = new StringBuilder();
 		switch(this.problemType){
 			case DISALLOWED_TOKEN:
-				sb.append("The disallowed token (").append(this.unexpectedObject).append(") was found at position ").append(this.position).append(". If this is in error, try again with a deserialization method in Jsoner that allows the token instead. Otherwise, fix the parsable string and try again.");
+				sb.append("The disallowed token (").append(this.unexpectedObject).append(") was found at position ").append(this.position);
+				this.appendLineAndColumn(sb);
+				sb.append(". If this is in error, try again with a deserialization method in Jsoner that allows the token instead. Otherwise, fix the parsable string and try again.");
 				break;
 			case IOEXCEPTION:
 				sb.append("An IOException was encountered, ensure the reader is properly instantiated, isn't closed, or that it is ready before trying again.\n").append(this.unexpectedObject);
 				break;
+			case LIMIT_EXCEEDED:
+				sb.append("The limit on the ").append(this.unexpectedObject).append(" was exceeded at position ").append(this.position);
+				this.appendLineAndColumn(sb);
+				sb.append(". If the JSON text is trusted, try again with higher JsonLimits. Otherwise, reject it.");
+				break;
 			case UNEXPECTED_CHARACTER:
-				sb.append("The unexpected character (").append(this.unexpectedObject).append(") was found at position ").append(this.position).append(". Fix the parsable string and try again.");
+				sb.append("The unexpected character (").append(this.unexpectedObject).append(") was found at position ").append(this.position);
+				this.appendLineAndColumn(sb);
+				sb.append(". Fix the parsable string and try again.");
 				break;
 			case UNEXPECTED_TOKEN:
-				sb.append("The unexpected token ").append(this.unexpectedObject).append(" was found at position ").append(this.position).append(". Fix the parsable string and try again.");
+				sb.append("The unexpected token ").append(this.unexpectedObject).append(" was found at position ").append(this.position);
+				this.appendLineAndColumn(sb);
+				sb.append(". Fix the parsable string and try again.");
 				break;
 			case UNEXPECTED_EXCEPTION:
 				sb.append("Please report this to the library's maintainer. The unexpected exception that should be addressed before trying again occurred at position ").append(this.position).append(":\n").append(this.unexpectedObject);
@@ -77,6 +138,31 @@ public class JsonException extends Exception{
 		return sb.toString();
 	}
 
+	/** Describes the line and column of the position when they are known.
+	 * @param sb where the description is appended to. */
+	private void appendLineAndColumn(final StringBuilder sb){
+		if(this.line > 0){
+			sb.append(" (line ").append(this.line).append(", column ").append(this.column).append(")");
+		}
+	}
+
+	/** Helps debug the location of a problem in text with multiple lines.
+	 * @return the column, starting at 1, of the line the error type occurred at or -1 if it isn't known.
+	 * @see JsonException#getLine()
+	 * @since 4.2.0 */
+	public int getColumn(){
+		return this.column;
+	}
+
+	/** Helps debug the location of a problem in text with multiple lines. It is only known when the JSON text was
+	 * deserialized from a String, since it is recomputed from the text after the problem occurs instead of being
+	 * tracked while deserializing.
+	 * @return the line, starting at 1, the error type occurred at or -1 if it isn't known.
+	 * @since 4.2.0 */
+	public int getLine(){
+		return this.line;
+	}
+
 	/** Helps debug the location of a problem.
 	 * @return an index of the string character the error type occurred at. */
 	public int getPosition(){
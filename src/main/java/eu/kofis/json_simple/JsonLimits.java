@@ -0,0 +1,115 @@
+/* Copyright 2016-2017 Clifton Labs
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. */
+package eu.kofis.json_simple;
+
+/** JsonLimits bounds how much JSON text deserialization accepts, so text from an untrusted source can't make it
+ * recurse, allocate, or read without end. The lexer reads strings and numbers a few hundred chars at a time and checks
+ * their length after each run, so it reads at most its buffer past a string or number that is too long, even one it only
+ * validates or skips, and the parser checks how deep arrays and objects nest and how many values each of them holds as
+ * it builds them. Deserialization fails with a LIMIT_EXCEEDED problem as soon as a limit is exceeded. A JsonLimits is immutable, each of the with methods returns a copy with one limit changed.
+ * @see Jsoner#deserialize(java.io.Reader, JsonLimits)
+ * @see JsonException.Problems#LIMIT_EXCEEDED
+ * @since 4.2.0 */
+public final class JsonLimits{
+	/** Doesn't limit deserialization at all, which is how the methods without a JsonLimits deserialize. */
+	public static final JsonLimits	NONE	= new JsonLimits(Integer.MAX_VALUE, Integer.MAX_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+	@SuppressWarnings("javadoc")
+	private final int				maxDepth;
+	@SuppressWarnings("javadoc")
+	private final int				maxEntries;
+	@SuppressWarnings("javadoc")
+	private final long				maxInputChars;
+	@SuppressWarnings("javadoc")
+	private final int				maxNumberChars;
+	@SuppressWarnings("javadoc")
+	private final int				maxStringChars;
+
+	@SuppressWarnings("javadoc")
+	private JsonLimits(final int maxDepth, final int maxEntries, final long maxInputChars, final int maxNumberChars, final int maxStringChars){
+		this.maxDepth = maxDepth;
+		this.maxEntries = maxEntries;
+		this.maxInputChars = maxInputChars;
+		this.maxNumberChars = maxNumberChars;
+		this.maxStringChars = maxStringChars;
+	}
+
+	/** @param limit represents the value a limit is set to.
+	 * @return the limit.
+	 * @throws IllegalArgumentException if the limit is negative. */
+	private static long checked(final long limit){
+		if(limit < 0){
+			throw new IllegalArgumentException("A limit can't be negative, but it was " + limit + ".");
+		}
+		return limit;
+	}
+
+	/** @return how deep arrays and objects can nest, where the outermost one is at a depth of 1. */
+	public int getMaxDepth(){
+		return this.maxDepth;
+	}
+
+	/** @return how many elements an array or entries an object can hold. */
+	public int getMaxEntries(){
+		return this.maxEntries;
+	}
+
+	/** @return how many chars of JSON text are read before deserialization fails. */
+	public long getMaxInputChars(){
+		return this.maxInputChars;
+	}
+
+	/** @return how many chars a number can be written with, its sign, decimal point, and exponent included. */
+	public int getMaxNumberChars(){
+		return this.maxNumberChars;
+	}
+
+	/** @return how many chars a string can be once its escapes are unescaped. */
+	public int getMaxStringChars(){
+		return this.maxStringChars;
+	}
+
+	/** @param maxDepth represents how deep arrays and objects can nest, where the outermost one is at a depth of 1.
+	 * @return a JsonLimits like this one except for its maximum depth.
+	 * @throws IllegalArgumentException if the maxDepth is negative. */
+	public JsonLimits withMaxDepth(final int maxDepth){
+		return new JsonLimits((int)JsonLimits.checked(maxDepth), this.maxEntries, this.maxInputChars, this.maxNumberChars, this.maxStringChars);
+	}
+
+	/** @param maxEntries represents how many elements an array or entries an object can hold.
+	 * @return a JsonLimits like this one except for its maximum entries.
+	 * @throws IllegalArgumentException if the maxEntries is negative. */
+	public JsonLimits withMaxEntries(final int maxEntries){
+		return new JsonLimits(this.maxDepth, (int)JsonLimits.checked(maxEntries), this.maxInputChars, this.maxNumberChars, this.maxStringChars);
+	}
+
+	/** @param maxInputChars represents how many chars of JSON text are read before deserialization fails.
+	 * @return a JsonLimits like this one except for its maximum input.
+	 * @throws IllegalArgumentException if the maxInputChars is negative. */
+	public JsonLimits withMaxInputChars(final long maxInputChars){
+		return new JsonLimits(this.maxDepth, this.maxEntries, JsonLimits.checked(maxInputChars), this.maxNumberChars, this.maxStringChars);
+	}
+
+	/** @param maxNumberChars represents how many chars a number can be written with, its sign, decimal point, and
+	 *        exponent included.
+	 * @return a JsonLimits like this one except for its maximum number length.
+	 * @throws IllegalArgumentException if the maxNumberChars is negative. */
+	public JsonLimits withMaxNumberChars(final int maxNumberChars){
+		return new JsonLimits(this.maxDepth, this.maxEntries, this.maxInputChars, (int)JsonLimits.checked(maxNumberChars), this.maxStringChars);
+	}
+
+	/** @param maxStringChars represents how many chars a string can be once its escapes are unescaped.
+	 * @return a JsonLimits like this one except for its maximum string length.
+	 * @throws IllegalArgumentException if the maxStringChars is negative. */
+	public JsonLimits withMaxStringChars(final int maxStringChars){
+		return new JsonLimits(this.maxDepth, this.maxEntries, this.maxInputChars, this.maxNumberChars, (int)JsonLimits.checked(maxStringChars));
+	}
+}
@@ -0,0 +1,318 @@
+/* Copyright 2016-2017 Clifton Labs
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. */
+package eu.kofis.json_simple;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/** JsonLongArray is a non-thread safe data format for a collection of whole numbers that keeps them in a long[]
+ * instead of boxing each of them, which is a fraction of the memory a JsonArray takes for the identifiers, timestamps,
+ * and counters JSON often carries. Every whole Number that fits in a long is kept as its long value and is boxed into
+ * a Long only when it is read through get(int). Once anything else is added the elements fall back to being kept as
+ * objects, so a JsonLongArray accepts the same values a JsonArray does without losing any precision.
+ * @see JsonArray
+ * @see JsonLongArray#FACTORY
+ * @since 4.2.0 */
+public class JsonLongArray extends AbstractList<Object> implements Jsonable, RandomAccess, Serializable{
+	/** Deserializes JSON arrays into JsonLongArrays and JSON objects into JsonObjects, trimming each array to its
+	 * size once it is finished. Once an array meets a fraction or a number beyond a long, the whole numbers before it
+	 * are kept as Longs and the rest as the BigDecimals they were lexed as, so no precision is lost.
+	 * @see Jsoner#deserialize(java.io.Reader, JsonContainerFactory) */
+	public static final JsonContainerFactory	FACTORY				= new Containers();
+	/** The serialization version this class is compatible with. This value doesn't need to be incremented if and only
+	 * if the only changes to occur were updating comments, updating javadocs, adding new fields to the class, changing
+	 * the fields from static to non-static, or changing the fields from transient to non transient. All other changes
+	 * require this number be incremented. */
+	private static final long					serialVersionUID	= 1L;
+	@SuppressWarnings("javadoc")
+	private static final BigDecimal				MAX					= BigDecimal.valueOf(Long.MAX_VALUE);
+	@SuppressWarnings("javadoc")
+	private static final BigDecimal				MIN					= BigDecimal.valueOf(Long.MIN_VALUE);
+	@SuppressWarnings("javadoc")
+	private static final long[]					NO_LONGS			= new long[0];
+
+	/** The elements while all of them are whole numbers, null once they fall back to objects. Only the first size
+	 * elements are used. */
+	private long[]								longs;
+	/** The elements once they fall back to objects, null until then. Only the first size elements are used. */
+	private Object[]							objects;
+	/** How many of the array elements are used. */
+	private int									size;
+
+	/** Instantiates an empty JsonLongArray. */
+	public JsonLongArray(){
+		this.longs = JsonLongArray.NO_LONGS;
+	}
+
+	/** Instantiate a new JsonLongArray with the elements of a collection.
+	 * @param collection represents the elements to produce the JsonLongArray with. */
+	public JsonLongArray(final Collection<?> collection){
+		this();
+		this.addAll(collection);
+	}
+
+	/** Instantiate a new JsonLongArray holding a copy of the values.
+	 * @param values represents the elements to produce the JsonLongArray with. */
+	public JsonLongArray(final long[] values){
+		this.longs = values.clone();
+		this.size = values.length;
+	}
+
+	@Override
+	public void add(final int index, final Object element){
+		if((index < 0) || (index > this.size)){
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+		}
+		if((this.longs != null) && !JsonLongArray.isLong(element)){
+			this.inflate();
+		}
+		if(this.longs != null){
+			if(this.size == this.longs.length){
+				final long[] grown = new long[JsonLongArray.grow(this.size)];
+				System.arraycopy(this.longs, 0, grown, 0, this.size);
+				this.longs = grown;
+			}
+			System.arraycopy(this.longs, index, this.longs, index + 1, this.size - index);
+			this.longs[index] = ((Number)element).longValue();
+		}else{
+			if(this.size == this.objects.length){
+				final Object[] grown = new Object[JsonLongArray.grow(this.size)];
+				System.arraycopy(this.objects, 0, grown, 0, this.size);
+				this.objects = grown;
+			}
+			System.arraycopy(this.objects, index, this.objects, index + 1, this.size - index);
+			this.objects[index] = element;
+		}
+		this.size++;
+		this.modCount++;
+	}
+
+	/** Calls add for the given element, but returns the JsonLongArray for chaining calls.
+	 * @param element represents the item to be appended to the JsonLongArray.
+	 * @return the JsonLongArray to allow chaining calls.
+	 * @see List#add(Object) */
+	public JsonLongArray addChain(final Object element){
+		this.add(element);
+		return this;
+	}
+
+	/** @param index represents an index that must hold an element.
+	 * @throws IndexOutOfBoundsException if the index is outside of the range of element indexes. */
+	private void checkIndex(final int index){
+		if((index < 0) || (index >= this.size)){
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+		}
+	}
+
+	@Override
+	public void clear(){
+		this.longs = JsonLongArray.NO_LONGS;
+		this.objects = null;
+		this.size = 0;
+		this.modCount++;
+	}
+
+	@Override
+	public Object get(final int index){
+		this.checkIndex(index);
+		if(this.longs != null){
+			return Long.valueOf(this.longs[index]);
+		}
+		return this.objects[index];
+	}
+
+	/** Reads an element without boxing it while the elements are kept as longs.
+	 * @param index representing where the value is expected to be at.
+	 * @return the long value of the element at the index.
+	 * @throws ClassCastException if the element at the index isn't a Number.
+	 * @throws IndexOutOfBoundsException if the index is outside of the range of element indexes in the
+	 *         JsonLongArray.
+	 * @throws NullPointerException if the element at the index is null. */
+	public long getLongValue(final int index){
+		this.checkIndex(index);
+		if(this.longs != null){
+			return this.longs[index];
+		}
+		return ((Number)this.objects[index]).longValue();
+	}
+
+	/** @param size represents how many elements the storage holds.
+	 * @return how many elements the storage should have room for once it grows. */
+	private static int grow(final int size){
+		return size < 4 ? 4 : size + (size >> 1);
+	}
+
+	/** Makes the elements fall back to objects, boxing the longs already held. */
+	private void inflate(){
+		this.objects = new Object[Math.max(this.longs.length, 1)];
+		for(int i = 0; i < this.size; i++){
+			this.objects[i] = Long.valueOf(this.longs[i]);
+		}
+		this.longs = null;
+	}
+
+	/** @param element represents a value being added.
+	 * @return true if the element is a whole number that a long holds exactly. */
+	private static boolean isLong(final Object element){
+		if((element instanceof Long) || (element instanceof Integer) || (element instanceof Short) || (element instanceof Byte)){
+			return true;
+		}
+		if(element instanceof BigInteger){
+			return ((BigInteger)element).bitLength() < 64;
+		}
+		if(element instanceof BigDecimal){
+			final BigDecimal number = (BigDecimal)element;
+			/* Lexed numbers without a fraction or exponent have no scale and nearly always fit in 18 digits. */
+			if((number.scale() == 0) && (number.precision() <= 18)){
+				return true;
+			}
+			if((number.signum() != 0) && (number.stripTrailingZeros().scale() > 0)){
+				return false;
+			}
+			return (number.compareTo(JsonLongArray.MIN) >= 0) && (number.compareTo(JsonLongArray.MAX) <= 0);
+		}
+		return false;
+	}
+
+	/** Tells whether the elements are still kept as longs, which is the case until something that isn't a whole
+	 * number within a long's range is added.
+	 * @return true if the elements are kept as longs, false if they fell back to objects. */
+	public boolean isPrimitive(){
+		return this.longs != null;
+	}
+
+	@Override
+	public Object remove(final int index){
+		final Object removed = this.get(index);
+		final int moved = this.size - index - 1;
+		if(this.longs != null){
+			System.arraycopy(this.longs, index + 1, this.longs, index, moved);
+		}else{
+			System.arraycopy(this.objects, index + 1, this.objects, index, moved);
+			this.objects[this.size - 1] = null;
+		}
+		this.size--;
+		this.modCount++;
+		return removed;
+	}
+
+	@Override
+	public Object set(final int index, final Object element){
+		final Object replaced = this.get(index);
+		if((this.longs != null) && !JsonLongArray.isLong(element)){
+			this.inflate();
+		}
+		if(this.longs != null){
+			this.longs[index] = ((Number)element).longValue();
+		}else{
+			this.objects[index] = element;
+		}
+		return replaced;
+	}
+
+	@Override
+	public int size(){
+		return this.size;
+	}
+
+	/** Copies the elements into a new array.
+	 * @return the long value of every element.
+	 * @throws ClassCastException if an element isn't a Number.
+	 * @throws NullPointerException if an element is null. */
+	public long[] toLongArray(){
+		final long[] copy = new long[this.size];
+		if(this.longs != null){
+			System.arraycopy(this.longs, 0, copy, 0, this.size);
+		}else{
+			for(int i = 0; i < this.size; i++){
+				copy[i] = ((Number)this.objects[i]).longValue();
+			}
+		}
+		return copy;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.json.simple.Jsonable#asJsonString() */
+	@Override
+	public String toJson(){
+		final TextWriter writable = TextWriter.reusing();
+		try{
+			this.toJson(writable);
+		}catch(final IOException caught){
+			/* See eu.kofis.json_simple.TextWriter. */
+		}
+		return writable.release();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.json.simple.Jsonable#toJsonString(java.io.Writer) */
+	@Override
+	public void toJson(final Writer writable) throws IOException{
+		if(this.longs != null){
+			Jsoner.serializeArray(this.longs, this.size, writable);
+			return;
+		}
+		writable.write('[');
+		for(int i = 0; i < this.size; i++){
+			if(i > 0){
+				writable.write(',');
+			}
+			Jsoner.serialize(this.objects[i], writable);
+		}
+		writable.write(']');
+	}
+
+	/** Shrinks the storage to the number of elements, for arrays that are done growing. */
+	public void trimToSize(){
+		if(this.longs != null){
+			if(this.size < this.longs.length){
+				final long[] trimmed = this.size == 0 ? JsonLongArray.NO_LONGS : new long[this.size];
+				System.arraycopy(this.longs, 0, trimmed, 0, this.size);
+				this.longs = trimmed;
+			}
+		}else if(this.size < this.objects.length){
+			final Object[] trimmed = new Object[this.size];
+			System.arraycopy(this.objects, 0, trimmed, 0, this.size);
+			this.objects = trimmed;
+		}
+	}
+
+	/** Creates the containers for JsonLongArray#FACTORY. */
+	private static final class Containers implements JsonContainerFactory{
+		@Override
+		public List<Object> createArray(){
+			return new JsonLongArray();
+		}
+
+		@Override
+		public Map<String, Object> createObject(){
+			return new JsonObject();
+		}
+
+		@Override
+		public void finishArray(final List<Object> array, final int elements){
+			((JsonLongArray)array).trimToSize();
+		}
+
+		@Override
+		public void finishObject(final Map<String, Object> object, final int entries){
+			/* JsonObjects are left as they are. */
+		}
+	}
+}
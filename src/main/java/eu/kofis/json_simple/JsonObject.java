@@ -11,21 +11,28 @@
 package eu.kofis.json_simple;
 
 import java.io.IOException;
-import java.io.StringWriter;
 import java.io.Writer;
+import java.lang.ref.Reference;
 import java.math.BigDecimal;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /** JsonObject is a common non-thread safe data format for string to data mappings. The contents of a JsonObject are
  * only validated as JSON values on serialization. Meaning all values added to a JsonObject must be recognized by the
  * Jsoner for it to be a true 'JsonObject', so it is really a JsonableHashMap that will serialize to a JsonObject if all
  * of its contents are valid JSON.
+ * <p>
+ * A JsonObject can keep the JSON text it serialized to, see JsonObject#setSerializationCached(boolean), which is
+ * written again as is until it or a JsonObject or JsonArray within it changes.
  * @see Jsoner
  * @since 2.0.0 */
 public class JsonObject extends HashMap<String, Object> implements Jsonable{
@@ -33,7 +40,23 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 	 * if the only changes to occur were updating comments, updating javadocs, adding new fields to the class, changing
 	 * the fields from static to non-static, or changing the fields from transient to non transient. All other changes
 	 * require this number be incremented. */
-	private static final long serialVersionUID = 2L;
+	private static final long							serialVersionUID	= 2L;
+
+	/** The forms whose text includes the JsonObject's, which a change to it makes out of date, or null if there aren't
+	 * any. */
+	private transient List<Reference<SerializedForm>>	dependents;
+	/** Whether the serialized form is kept between serializations. */
+	private transient boolean							serializationCached;
+	/** The JSON text kept from the last serialization, or null if there isn't any. */
+	private transient SerializedForm					serializedForm;
+	/** Where the JsonObject was deserialized from, or null if it wasn't or it changed since. */
+	private transient SourceSpan						sourceSpan;
+	/** The entries as a set that counts the changes made through it, null until it is first asked for. */
+	private transient Set<Map.Entry<String, Object>>	trackedEntries;
+	/** The keys as a set that counts the changes made through it, null until it is first asked for. */
+	private transient Set<String>						trackedKeys;
+	/** The values as a collection that counts the changes made through it, null until it is first asked for. */
+	private transient Collection<Object>				trackedValues;
 
 	/** Instantiates an empty JsonObject. */
 	public JsonObject(){
@@ -47,6 +70,86 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 		super(map);
 	}
 
+	/** Remembers that a form's text includes the JsonObject's, so a change to it makes the form out of date. It is
+	 * synchronized since a parallel serialization can serialize a JsonObject that two of its ranges share at once.
+	 * @param form represents the form the JsonObject's text is going into. */
+	synchronized void addDependent(final SerializedForm form){
+		this.dependents = SerializedForm.addDependent(this.dependents, form);
+	}
+
+	/** Discards the source text and the kept text, which no longer represent the mappings. */
+	private void changed(){
+		this.discardSourceSpan();
+		this.discardSerializedForm();
+	}
+
+	@Override
+	public void clear(){
+		this.changed();
+		super.clear();
+	}
+
+	/** Copies the mappings like HashMap#clone() does, but the copy doesn't share the serialized form or the views.
+	 * @return a shallow copy of the JsonObject. */
+	@Override
+	public Object clone(){
+		final JsonObject returnable = (JsonObject)super.clone();
+		returnable.dependents = null;
+		returnable.serializedForm = null;
+		returnable.sourceSpan = null;
+		returnable.trackedEntries = null;
+		returnable.trackedKeys = null;
+		returnable.trackedValues = null;
+		return returnable;
+	}
+
+	@Override
+	public Object compute(final String key, final BiFunction<? super String, ? super Object, ? extends Object> remappingFunction){
+		this.changed();
+		return super.compute(key, remappingFunction);
+	}
+
+	@Override
+	public Object computeIfAbsent(final String key, final Function<? super String, ? extends Object> mappingFunction){
+		this.changed();
+		return super.computeIfAbsent(key, mappingFunction);
+	}
+
+	@Override
+	public Object computeIfPresent(final String key, final BiFunction<? super String, ? super Object, ? extends Object> remappingFunction){
+		this.changed();
+		return super.computeIfPresent(key, remappingFunction);
+	}
+
+	/** Marks the kept text of the JsonObject and of the containers whose text includes it out of date. */
+	void discardSerializedForm(){
+		if((this.serializedForm != null) || (this.dependents != null)){
+			SerializedForm.discard(this);
+		}
+	}
+
+	/** Discards the source text of the JsonObject and of the containers it was deserialized in. */
+	void discardSourceSpan(){
+		if(this.sourceSpan != null){
+			final SourceSpan discarded = this.sourceSpan;
+			this.sourceSpan = null;
+			discarded.discardParents();
+		}
+	}
+
+	/** Views the mappings like HashMap#entrySet() does, and changes made through the view or its entries count as
+	 * changes to the JsonObject. Its entries are only wrapped to count their changes while something keeps text that
+	 * the JsonObject serialized to or was deserialized from, so iterating a JsonObject whose text nothing keeps
+	 * doesn't allocate anything for each entry. An entry handed out before then doesn't count its changes.
+	 * @return the mappings as a set. */
+	@Override
+	public Set<Map.Entry<String, Object>> entrySet(){
+		if(this.trackedEntries == null){
+			this.trackedEntries = new TrackedEntries();
+		}
+		return this.trackedEntries;
+	}
+
 	/** A convenience method that assumes there is a BigDecimal, Number, or String at the given key. If a Number is
 	 * there its Number#toString() is used to construct a new BigDecimal(String). If a String is there it is used to
 	 * construct a new BigDecimal(String).
@@ -60,17 +163,7 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 	 * @see JsonKey
 	 * @since 2.3.0 to utilize JsonKey */
 	public BigDecimal getBigDecimal(final JsonKey key){
-		Object returnable = this.get(key.getKey());
-		if(returnable instanceof BigDecimal){
-			/* Success there was a BigDecimal or it defaulted. */
-		}else if(returnable instanceof Number){
-			/* A number can be used to construct a BigDecimal */
-			returnable = new BigDecimal(returnable.toString());
-		}else if(returnable instanceof String){
-			/* A number can be used to construct a BigDecimal */
-			returnable = new BigDecimal((String)returnable);
-		}
-		return (BigDecimal)returnable;
+		return ValueConverter.toBigDecimal(this.get(key.getKey()));
 	}
 
 	/** A convenience method that assumes there is a BigDecimal, Number, or String at the given key. If a Number is
@@ -86,22 +179,7 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 	 * @see JsonKey
 	 * @since 2.3.0 to utilize JsonKey */
 	public BigDecimal getBigDecimalOrDefault(final JsonKey key){
-		Object returnable;
-		if(this.containsKey(key.getKey())){
-			returnable = this.get(key.getKey());
-		}else{
-			returnable = key.getValue();
-		}
-		if(returnable instanceof BigDecimal){
-			/* Success there was a BigDecimal or it defaulted. */
-		}else if(returnable instanceof Number){
-			/* A number can be used to construct a BigDecimal */
-			returnable = new BigDecimal(returnable.toString());
-		}else if(returnable instanceof String){
-			/* A String can be used to construct a BigDecimal */
-			returnable = new BigDecimal((String)returnable);
-		}
-		return (BigDecimal)returnable;
+		return ValueConverter.toBigDecimal(this.getOrDefault(key.getKey(), key.getValue()));
 	}
 
 	/** A convenience method that assumes there is a Boolean or String value at the given key.
@@ -111,11 +189,7 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 	 * @see JsonKey
 	 * @since 2.3.0 to utilize JsonKey */
 	public Boolean getBoolean(final JsonKey key){
-		Object returnable = this.get(key.getKey());
-		if(returnable instanceof String){
-			returnable = Boolean.valueOf((String)returnable);
-		}
-		return (Boolean)returnable;
+		return ValueConverter.toBoolean(this.get(key.getKey()));
 	}
 
 	/** A convenience method that assumes there is a Boolean or String value at the given key.
@@ -125,16 +199,7 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 	 * @see JsonKey
 	 * @since 2.3.0 to utilize JsonKey */
 	public Boolean getBooleanOrDefault(final JsonKey key){
-		Object returnable;
-		if(this.containsKey(key.getKey())){
-			returnable = this.get(key.getKey());
-		}else{
-			returnable = key.getValue();
-		}
-		if(returnable instanceof String){
-			returnable = Boolean.valueOf((String)returnable);
-		}
-		return (Boolean)returnable;
+		return ValueConverter.toBoolean(this.getOrDefault(key.getKey(), key.getValue()));
 	}
 
 	/** A convenience method that assumes there is a Number or String value at the given key.
@@ -147,15 +212,7 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 	 * @see JsonKey
 	 * @since 2.3.0 to utilize JsonKey */
 	public Byte getByte(final JsonKey key){
-		Object returnable = this.get(key.getKey());
-		if(returnable == null){
-			return null;
-		}
-		if(returnable instanceof String){
-			/* A String can be used to construct a BigDecimal. */
-			returnable = new BigDecimal((String)returnable);
-		}
-		return ((Number)returnable).byteValue();
+		return ValueConverter.toByte(this.get(key.getKey()));
 	}
 
 	/** A convenience method that assumes there is a Number or String value at the given key.
@@ -169,20 +226,7 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 	 * @see JsonKey
 	 * @since 2.3.0 to utilize JsonKey */
 	public Byte getByteOrDefault(final JsonKey key){
-		Object returnable;
-		if(this.containsKey(key.getKey())){
-			returnable = this.get(key.getKey());
-		}else{
-			returnable = key.getValue();
-		}
-		if(returnable == null){
-			return null;
-		}
-		if(returnable instanceof String){
-			/* A String can be used to construct a BigDecimal. */
-			returnable = new BigDecimal((String)returnable);
-		}
-		return ((Number)returnable).byteValue();
+		return ValueConverter.toByte(this.getOrDefault(key.getKey(), key.getValue()));
 	}
 
 	/** A convenience method that assumes there is a Collection at the given key.
@@ -212,13 +256,7 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 	public <T extends Collection<?>> T getCollectionOrDefault(final JsonKey key){
 		/* The unchecked warning is suppressed because there is no way of guaranteeing at compile time the cast will
 		 * work. */
-		Object returnable;
-		if(this.containsKey(key.getKey())){
-			returnable = this.get(key.getKey());
-		}else{
-			returnable = key.getValue();
-		}
-		return (T)returnable;
+		return (T)this.getOrDefault(key.getKey(), key.getValue());
 	}
 
 	/** A convenience method that assumes there is a Number or String value at the given key.
@@ -231,15 +269,7 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 	 * @see JsonKey
 	 * @since 2.3.0 to utilize JsonKey */
 	public Double getDouble(final JsonKey key){
-		Object returnable = this.get(key.getKey());
-		if(returnable == null){
-			return null;
-		}
-		if(returnable instanceof String){
-			/* A String can be used to construct a BigDecimal. */
-			returnable = new BigDecimal((String)returnable);
-		}
-		return ((Number)returnable).doubleValue();
+		return ValueConverter.toDouble(this.get(key.getKey()));
 	}
 
 	/** A convenience method that assumes there is a Number or String value at the given key.
@@ -253,20 +283,7 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 	 * @see JsonKey
 	 * @since 2.3.0 to utilize JsonKey */
 	public Double getDoubleOrDefault(final JsonKey key){
-		Object returnable;
-		if(this.containsKey(key.getKey())){
-			returnable = this.get(key.getKey());
-		}else{
-			returnable = key.getValue();
-		}
-		if(returnable == null){
-			return null;
-		}
-		if(returnable instanceof String){
-			/* A String can be used to construct a BigDecimal. */
-			returnable = new BigDecimal((String)returnable);
-		}
-		return ((Number)returnable).doubleValue();
+		return ValueConverter.toDouble(this.getOrDefault(key.getKey(), key.getValue()));
 	}
 
 	/** A convenience method that assumes there is a Number or String value at the given key.
@@ -279,15 +296,7 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 	 * @see JsonKey
 	 * @since 2.3.0 to utilize JsonKey */
 	public Float getFloat(final JsonKey key){
-		Object returnable = this.get(key.getKey());
-		if(returnable == null){
-			return null;
-		}
-		if(returnable instanceof String){
-			/* A String can be used to construct a BigDecimal. */
-			returnable = new BigDecimal((String)returnable);
-		}
-		return ((Number)returnable).floatValue();
+		return ValueConverter.toFloat(this.get(key.getKey()));
 	}
 
 	/** A convenience method that assumes there is a Number or String value at the given key.
@@ -301,20 +310,7 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 	 * @see JsonKey
 	 * @since 2.3.0 to utilize JsonKey */
 	public Float getFloatOrDefault(final JsonKey key){
-		Object returnable;
-		if(this.containsKey(key.getKey())){
-			returnable = this.get(key.getKey());
-		}else{
-			returnable = key.getValue();
-		}
-		if(returnable == null){
-			return null;
-		}
-		if(returnable instanceof String){
-			/* A String can be used to construct a BigDecimal. */
-			returnable = new BigDecimal((String)returnable);
-		}
-		return ((Number)returnable).floatValue();
+		return ValueConverter.toFloat(this.getOrDefault(key.getKey(), key.getValue()));
 	}
 
 	/** A convenience method that assumes there is a Number or String value at the given key.
@@ -327,15 +323,7 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 	 * @see JsonKey
 	 * @since 2.3.0 to utilize JsonKey */
 	public Integer getInteger(final JsonKey key){
-		Object returnable = this.get(key.getKey());
-		if(returnable == null){
-			return null;
-		}
-		if(returnable instanceof String){
-			/* A String can be used to construct a BigDecimal. */
-			returnable = new BigDecimal((String)returnable);
-		}
-		return ((Number)returnable).intValue();
+		return ValueConverter.toInteger(this.get(key.getKey()));
 	}
 
 	/** A convenience method that assumes there is a Number or String value at the given key.
@@ -349,20 +337,7 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 	 * @see JsonKey
 	 * @since 2.3.0 to utilize JsonKey */
 	public Integer getIntegerOrDefault(final JsonKey key){
-		Object returnable;
-		if(this.containsKey(key.getKey())){
-			returnable = this.get(key.getKey());
-		}else{
-			returnable = key.getValue();
-		}
-		if(returnable == null){
-			return null;
-		}
-		if(returnable instanceof String){
-			/* A String can be used to construct a BigDecimal. */
-			returnable = new BigDecimal((String)returnable);
-		}
-		return ((Number)returnable).intValue();
+		return ValueConverter.toInteger(this.getOrDefault(key.getKey(), key.getValue()));
 	}
 
 	/** A convenience method that assumes there is a Number or String value at the given key.
@@ -375,15 +350,7 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 	 * @see JsonKey
 	 * @since 2.3.0 to utilize JsonKey */
 	public Long getLong(final JsonKey key){
-		Object returnable = this.get(key.getKey());
-		if(returnable == null){
-			return null;
-		}
-		if(returnable instanceof String){
-			/* A String can be used to construct a BigDecimal. */
-			returnable = new BigDecimal((String)returnable);
-		}
-		return ((Number)returnable).longValue();
+		return ValueConverter.toLong(this.get(key.getKey()));
 	}
 
 	/** A convenience method that assumes there is a Number or String value at the given key.
@@ -397,20 +364,7 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 	 * @see JsonKey
 	 * @since 2.3.0 to utilize JsonKey */
 	public Long getLongOrDefault(final JsonKey key){
-		Object returnable;
-		if(this.containsKey(key.getKey())){
-			returnable = this.get(key.getKey());
-		}else{
-			returnable = key.getValue();
-		}
-		if(returnable == null){
-			return null;
-		}
-		if(returnable instanceof String){
-			/* A String can be used to construct a BigDecimal. */
-			returnable = new BigDecimal((String)returnable);
-		}
-		return ((Number)returnable).longValue();
+		return ValueConverter.toLong(this.getOrDefault(key.getKey(), key.getValue()));
 	}
 
 	/** A convenience method that assumes there is a Map at the given key.
@@ -438,13 +392,12 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 	public <T extends Map<?, ?>> T getMapOrDefault(final JsonKey key){
 		/* The unchecked warning is suppressed because there is no way of guaranteeing at compile time the cast will
 		 * work. */
-		Object returnable;
-		if(this.containsKey(key.getKey())){
-			returnable = this.get(key.getKey());
-		}else{
-			returnable = key.getValue();
-		}
-		return (T)returnable;
+		return (T)this.getOrDefault(key.getKey(), key.getValue());
+	}
+
+	/** @return the JSON text kept from the last serialization, or null if there isn't any. */
+	SerializedForm getSerializedForm(){
+		return this.serializedForm;
 	}
 
 	/** A convenience method that assumes there is a Number or String value at the given key.
@@ -457,15 +410,7 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 	 * @see JsonKey
 	 * @since 2.3.0 to utilize JsonKey */
 	public Short getShort(final JsonKey key){
-		Object returnable = this.get(key.getKey());
-		if(returnable == null){
-			return null;
-		}
-		if(returnable instanceof String){
-			/* A String can be used to construct a BigDecimal. */
-			returnable = new BigDecimal((String)returnable);
-		}
-		return ((Number)returnable).shortValue();
+		return ValueConverter.toShort(this.get(key.getKey()));
 	}
 
 	/** A convenience method that assumes there is a Number or String value at the given key.
@@ -479,20 +424,12 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 	 * @see JsonKey
 	 * @since 2.3.0 to utilize JsonKey */
 	public Short getShortOrDefault(final JsonKey key){
-		Object returnable;
-		if(this.containsKey(key.getKey())){
-			returnable = this.get(key.getKey());
-		}else{
-			returnable = key.getValue();
-		}
-		if(returnable == null){
-			return null;
-		}
-		if(returnable instanceof String){
-			/* A String can be used to construct a BigDecimal. */
-			returnable = new BigDecimal((String)returnable);
-		}
-		return ((Number)returnable).shortValue();
+		return ValueConverter.toShort(this.getOrDefault(key.getKey(), key.getValue()));
+	}
+
+	/** @return where the JsonObject was deserialized from, or null if it wasn't or it changed since. */
+	SourceSpan getSourceSpan(){
+		return this.sourceSpan;
 	}
 
 	/** A convenience method that assumes there is a Boolean, Number, or String value at the given key.
@@ -502,13 +439,7 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 	 * @see JsonKey
 	 * @since 2.3.0 to utilize JsonKey */
 	public String getString(final JsonKey key){
-		Object returnable = this.get(key.getKey());
-		if(returnable instanceof Boolean){
-			returnable = returnable.toString();
-		}else if(returnable instanceof Number){
-			returnable = returnable.toString();
-		}
-		return (String)returnable;
+		return ValueConverter.toString(this.get(key.getKey()));
 	}
 
 	/** A convenience method that assumes there is a Boolean, Number, or String value at the given key.
@@ -518,18 +449,45 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 	 * @see JsonKey
 	 * @since 2.3.0 to utilize JsonKey */
 	public String getStringOrDefault(final JsonKey key){
-		Object returnable;
-		if(this.containsKey(key.getKey())){
-			returnable = this.get(key.getKey());
-		}else{
-			returnable = key.getValue();
-		}
-		if(returnable instanceof Boolean){
-			returnable = returnable.toString();
-		}else if(returnable instanceof Number){
-			returnable = returnable.toString();
+		return ValueConverter.toString(this.getOrDefault(key.getKey(), key.getValue()));
+	}
+
+	/** @return whether the JsonObject keeps the JSON text it serialized to.
+	 * @see JsonObject#setSerializationCached(boolean)
+	 * @since 4.2.0 */
+	public boolean isSerializationCached(){
+		return this.serializationCached;
+	}
+
+	/** @return whether something keeps text the JsonObject serialized to or was deserialized from, which a change
+	 *         made through one of the entries of its views must make out of date. */
+	private boolean isObserved(){
+		return this.serializationCached || (this.sourceSpan != null) || (this.dependents != null);
+	}
+
+	/** @return whether the JsonObject still has the JSON text it was deserialized from, which is copied as is when it
+	 *         is serialized.
+	 * @see Jsoner#deserializeRetainingSource(String)
+	 * @since 4.2.0 */
+	public boolean isSourceRetained(){
+		return this.sourceSpan != null;
+	}
+
+	/** Views the keys like HashMap#keySet() does, and keys removed through the view count as changes to the
+	 * JsonObject.
+	 * @return the keys as a set. */
+	@Override
+	public Set<String> keySet(){
+		if(this.trackedKeys == null){
+			this.trackedKeys = new TrackedKeys();
 		}
-		return (String)returnable;
+		return this.trackedKeys;
+	}
+
+	@Override
+	public Object merge(final String key, final Object value, final BiFunction<? super Object, ? super Object, ? extends Object> remappingFunction){
+		this.changed();
+		return super.merge(key, value, remappingFunction);
 	}
 
 	/** Convenience method that calls put for the given key and value.
@@ -541,6 +499,18 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 		this.put(key.getKey(), value);
 	}
 
+	@Override
+	public Object put(final String key, final Object value){
+		this.changed();
+		return super.put(key, value);
+	}
+
+	@Override
+	public void putAll(final Map<? extends String, ? extends Object> map){
+		this.changed();
+		super.putAll(map);
+	}
+
 	/** Calls putAll for the given map, but returns the JsonObject for chaining calls.
 	 * @param map represents the map to be copied into the JsonObject.
 	 * @return the JsonObject to allow chaining calls.
@@ -573,6 +543,12 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 		return this;
 	}
 
+	@Override
+	public Object putIfAbsent(final String key, final Object value){
+		this.changed();
+		return super.putIfAbsent(key, value);
+	}
+
 	/** Convenience method that calls remove for the given key.
 	 * @param key represents the value's association in the map.
 	 * @return an object representing the removed value or null if there wasn't one.
@@ -592,50 +568,107 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 		return this.remove(key.getKey(), value);
 	}
 
+	@Override
+	public Object remove(final Object key){
+		this.changed();
+		return super.remove(key);
+	}
+
+	@Override
+	public boolean remove(final Object key, final Object value){
+		this.changed();
+		return super.remove(key, value);
+	}
+
+	@Override
+	public Object replace(final String key, final Object value){
+		this.changed();
+		return super.replace(key, value);
+	}
+
+	@Override
+	public boolean replace(final String key, final Object oldValue, final Object newValue){
+		this.changed();
+		return super.replace(key, oldValue, newValue);
+	}
+
+	@Override
+	public void replaceAll(final BiFunction<? super String, ? super Object, ? extends Object> function){
+		this.changed();
+		super.replaceAll(function);
+	}
+
 	/** Ensures the given keys are present.
 	 * @param keys represents the keys that must be present.
 	 * @throws NoSuchElementException if any of the given keys are missing.
 	 * @since 2.3.0 to ensure critical keys are in the JsonObject. */
 	public void requireKeys(final JsonKey... keys){
-		/* Track all of the missing keys. */
-		final Set<JsonKey> missing = new HashSet<JsonKey>();
-		for(final JsonKey k : keys){
-			if(!this.containsKey(k.getKey())){
-				missing.add(k);
-			}
+		ValueConverter.requireKeys(this, "JsonObject", keys);
+	}
+
+	/** Sets whether the JsonObject keeps the JSON text it serializes to, so serializing it again is a single write of
+	 * that text until it or a JsonObject or JsonArray within it changes. Serializing the object it is in keeps using the
+	 * text too, though that object reserializes everything else. Text that went through other maps, collections,
+	 * arrays, Jsonables, or values with a registered serializer isn't kept, since their changes can't be noticed. Text
+	 * is only kept by the serialization methods that throw on values that aren't JSON.
+	 * @param cached represents whether the text is kept, when it is false the kept text is discarded.
+	 * @since 4.2.0 */
+	public void setSerializationCached(final boolean cached){
+		this.serializationCached = cached;
+		if(!cached){
+			this.setSerializedForm(null);
 		}
-		if(!missing.isEmpty()){
-			/* Report any missing keys in the exception. */
-			final StringBuilder sb = new StringBuilder();
-			for(final JsonKey k : missing){
-				sb.append(k.getKey()).append(", ");
-			}
-			sb.setLength(sb.length() - 2);
-			final String s = missing.size() > 1 ? "s" : "";
-			throw new NoSuchElementException("A JsonObject is missing required key" + s + ": " + sb.toString());
+	}
+
+	/** @param serializedForm represents the JSON text to keep until the next serialization that finds it out of date. */
+	void setSerializedForm(final SerializedForm serializedForm){
+		if(this.serializedForm != null){
+			this.serializedForm.release();
 		}
+		this.serializedForm = serializedForm;
+	}
+
+	/** @param sourceSpan represents where the JsonObject was deserialized from. */
+	void setSourceSpan(final SourceSpan sourceSpan){
+		this.sourceSpan = sourceSpan;
+	}
+
+	/** @return the forms whose text includes the JsonObject's, or null if there aren't any, which it no longer
+	 *         remembers. */
+	List<Reference<SerializedForm>> takeDependents(){
+		final List<Reference<SerializedForm>> returnable = this.dependents;
+		this.dependents = null;
+		return returnable;
 	}
 
 	/* (non-Javadoc)
 	 * @see org.json.simple.Jsonable#asJsonString() */
 	@Override
 	public String toJson(){
-		final StringWriter writable = new StringWriter();
+		final TextWriter writable = TextWriter.reusing();
 		try{
 			this.toJson(writable);
 		}catch(final IOException caught){
-			/* See java.io.StringWriter. */
+			/* See eu.kofis.json_simple.TextWriter. */
 		}
-		return writable.toString();
+		return writable.release();
 	}
 
 	/* (non-Javadoc)
 	 * @see org.json.simple.Jsonable#toJsonString(java.io.Writer) */
 	@Override
 	public void toJson(final Writer writable) throws IOException{
+		if(this.sourceSpan != null){
+			this.sourceSpan.write(writable);
+			return;
+		}
+		if(this.serializationCached){
+			Jsoner.serializeCached(this, writable);
+			return;
+		}
 		/* Writes the map in JSON object format. */
 		boolean isFirstEntry = true;
-		final Iterator<Map.Entry<String, Object>> entries = this.entrySet().iterator();
+		final Iterator<Map.Entry<String, Object>> entries = this.untrackedEntries();
 		writable.write('{');
 		while(entries.hasNext()){
 			if(isFirstEntry){
@@ -644,10 +677,190 @@ public class JsonObject extends HashMap<String, Object> implements Jsonable{
 				writable.write(',');
 			}
 			final Map.Entry<String, Object> entry = entries.next();
-			writable.write(Jsoner.serialize(entry.getKey()));
+			Jsoner.serialize(entry.getKey(), writable);
 			writable.write(':');
-			writable.write(Jsoner.serialize(entry.getValue()));
+			Jsoner.serialize(entry.getValue(), writable);
 		}
 		writable.write('}');
 	}
+
+	/** @return an iterator over the mappings that doesn't count the changes made through it, for serialization that
+	 *         only reads them. */
+	Iterator<Map.Entry<String, Object>> untrackedEntries(){
+		return super.entrySet().iterator();
+	}
+
+	/** Views the values like HashMap#values() does, and values removed through the view count as changes to the
+	 * JsonObject.
+	 * @return the values as a collection. */
+	@Override
+	public Collection<Object> values(){
+		if(this.trackedValues == null){
+			this.trackedValues = new TrackedValues();
+		}
+		return this.trackedValues;
+	}
+
+	/** Views the mappings as a set, counting the changes made through it. */
+	private final class TrackedEntries extends AbstractSet<Map.Entry<String, Object>>{
+		@Override
+		public void clear(){
+			JsonObject.this.clear();
+		}
+
+		@Override
+		public boolean contains(final Object entry){
+			return JsonObject.super.entrySet().contains(entry);
+		}
+
+		@Override
+		public Iterator<Map.Entry<String, Object>> iterator(){
+			return new TrackedEntryIterator();
+		}
+
+		@Override
+		public int size(){
+			return JsonObject.this.size();
+		}
+	}
+
+	/** Views a mapping, counting a change when its value is set. */
+	private final class TrackedEntry implements Map.Entry<String, Object>{
+		@SuppressWarnings("javadoc")
+		private final Map.Entry<String, Object> entry;
+
+		/** @param entry represents the mapping being viewed. */
+		TrackedEntry(final Map.Entry<String, Object> entry){
+			this.entry = entry;
+		}
+
+		@Override
+		public boolean equals(final Object other){
+			return this.entry.equals(other);
+		}
+
+		@Override
+		public String getKey(){
+			return this.entry.getKey();
+		}
+
+		@Override
+		public Object getValue(){
+			return this.entry.getValue();
+		}
+
+		@Override
+		public int hashCode(){
+			return this.entry.hashCode();
+		}
+
+		@Override
+		public Object setValue(final Object value){
+			JsonObject.this.changed();
+			return this.entry.setValue(value);
+		}
+
+		@Override
+		public String toString(){
+			return this.entry.toString();
+		}
+	}
+
+	/** Iterates over the mappings, counting a change when one is removed or, while the JsonObject is observed, its
+	 * value is set. */
+	private final class TrackedEntryIterator extends TrackedIterator<Map.Entry<String, Object>>{
+		@SuppressWarnings("javadoc")
+		TrackedEntryIterator(){
+			super(JsonObject.super.entrySet().iterator());
+		}
+
+		@Override
+		public Map.Entry<String, Object> next(){
+			final Map.Entry<String, Object> entry = super.next();
+			return JsonObject.this.isObserved() ? new TrackedEntry(entry) : entry;
+		}
+	}
+
+	/** Iterates over one of the views, counting a change when an element is removed.
+	 * @param <T> the type of the elements iterated over. */
+	private class TrackedIterator<T> implements Iterator<T>{
+		@SuppressWarnings("javadoc")
+		private final Iterator<T> iterator;
+
+		/** @param iterator represents the iteration over the HashMap's view. */
+		TrackedIterator(final Iterator<T> iterator){
+			this.iterator = iterator;
+		}
+
+		@Override
+		public boolean hasNext(){
+			return this.iterator.hasNext();
+		}
+
+		@Override
+		public T next(){
+			return this.iterator.next();
+		}
+
+		@Override
+		public void remove(){
+			this.iterator.remove();
+			JsonObject.this.changed();
+		}
+	}
+
+	/** Views the keys as a set, counting the changes made through it. */
+	private final class TrackedKeys extends AbstractSet<String>{
+		@Override
+		public void clear(){
+			JsonObject.this.clear();
+		}
+
+		@Override
+		public boolean contains(final Object key){
+			return JsonObject.this.containsKey(key);
+		}
+
+		@Override
+		public Iterator<String> iterator(){
+			return new TrackedIterator<String>(JsonObject.super.keySet().iterator());
+		}
+
+		@Override
+		public boolean remove(final Object key){
+			if(JsonObject.this.containsKey(key)){
+				JsonObject.this.remove(key);
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public int size(){
+			return JsonObject.this.size();
+		}
+	}
+
+	/** Views the values as a collection, counting the changes made through it. */
+	private final class TrackedValues extends AbstractCollection<Object>{
+		@Override
+		public void clear(){
+			JsonObject.this.clear();
+		}
+
+		@Override
+		public boolean contains(final Object value){
+			return JsonObject.this.containsValue(value);
+		}
+
+		@Override
+		public Iterator<Object> iterator(){
+			return new TrackedIterator<Object>(JsonObject.super.values().iterator());
+		}
+
+		@Override
+		public int size(){
+			return JsonObject.this.size();
+		}
+	}
 }
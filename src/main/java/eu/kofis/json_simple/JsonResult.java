@@ -0,0 +1,144 @@
+/* Copyright 2016 Clifton Labs
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. */
+package eu.kofis.json_simple;
+
+/** JsonResult is the outcome of a deserialization that doesn't throw. It either holds the deserialized value or
+ * explains how and where the problem occurs in the source JSON text, the same way a JsonException would but without
+ * the cost of creating one.
+ * @param <T> the kind of value a successful deserialization produces.
+ * @see Jsoner#tryDeserialize(java.io.Reader)
+ * @since 4.2.0 */
+public class JsonResult<T>{
+	@SuppressWarnings("javadoc")
+	private final int						column;
+	@SuppressWarnings("javadoc")
+	private final int						line;
+	@SuppressWarnings("javadoc")
+	private final int						position;
+	@SuppressWarnings("javadoc")
+	private final JsonException.Problems	problemType;
+	@SuppressWarnings("javadoc")
+	private final Object					unexpectedObject;
+	@SuppressWarnings("javadoc")
+	private final T							value;
+
+	/** @param value what was deserialized, ignored unless problemType is null.
+	 * @param position where the problem occurred.
+	 * @param line which line the position is on, or -1 if it isn't known.
+	 * @param column which column of the line the position is on, or -1 if it isn't known.
+	 * @param problemType how the problem occurred, or null if there wasn't one.
+	 * @param unexpectedObject what caused the problem. */
+	private JsonResult(final T value, final int position, final int line, final int column, final JsonException.Problems problemType, final Object unexpectedObject){
+		this.value = value;
+		this.position = position;
+		this.line = line;
+		this.column = column;
+		this.problemType = problemType;
+		this.unexpectedObject = unexpectedObject;
+	}
+
+	/** @param <T> the kind of value a successful deserialization produces.
+	 * @param position where the problem occurred.
+	 * @param problemType how the problem occurred.
+	 * @param unexpectedObject what caused the problem.
+	 * @return a JsonResult explaining the problem. */
+	static <T> JsonResult<T> failure(final int position, final JsonException.Problems problemType, final Object unexpectedObject){
+		return JsonResult.failure(position, -1, -1, problemType, unexpectedObject);
+	}
+
+	/** @param <T> the kind of value a successful deserialization produces.
+	 * @param position where the problem occurred.
+	 * @param line which line the position is on.
+	 * @param column which column of the line the position is on.
+	 * @param problemType how the problem occurred.
+	 * @param unexpectedObject what caused the problem.
+	 * @return a JsonResult explaining the problem. */
+	static <T> JsonResult<T> failure(final int position, final int line, final int column, final JsonException.Problems problemType, final Object unexpectedObject){
+		return new JsonResult<T>(null, position, line, column, problemType, unexpectedObject);
+	}
+
+	/** @param <T> the kind of value a successful deserialization produces.
+	 * @param value what was deserialized.
+	 * @return a JsonResult holding the value. */
+	static <T> JsonResult<T> success(final T value){
+		return new JsonResult<T>(value, -1, -1, -1, null, null);
+	}
+
+	/** Helps debug the location of a problem in text with multiple lines.
+	 * @return the column, starting at 1, of the line the problem occurred at or -1 if it isn't known.
+	 * @see JsonException#getColumn() */
+	public int getColumn(){
+		return this.column;
+	}
+
+	/** Helps debug the location of a problem in text with multiple lines.
+	 * @return the line, starting at 1, the problem occurred at or -1 if it isn't known.
+	 * @see JsonException#getLine() */
+	public int getLine(){
+		return this.line;
+	}
+
+	/** Helps debug the location of a problem.
+	 * @return an index of the string character the problem occurred at, or -1 if the deserialization succeeded. */
+	public int getPosition(){
+		return this.position;
+	}
+
+	/** Helps find an appropriate solution for a problem.
+	 * @return the enumeration for how the problem occurred, or null if the deserialization succeeded. */
+	public JsonException.Problems getProblemType(){
+		return this.problemType;
+	}
+
+	/** Helps identify the problem.
+	 * @return a representation of what caused the problem, or null if the deserialization succeeded. */
+	public Object getUnexpectedObject(){
+		return this.unexpectedObject;
+	}
+
+	/** @return the deserialized value, or null if the deserialization failed. */
+	public T getValue(){
+		return this.value;
+	}
+
+	/** @param defaultValue representing what should be returned if the deserialization failed.
+	 * @return the deserialized value, or the defaultValue if the deserialization failed. */
+	public T getValueOrDefault(final T defaultValue){
+		return this.isSuccess() ? this.value : defaultValue;
+	}
+
+	/** @return true if the deserialization produced a value, false if there was a problem. */
+	public boolean isSuccess(){
+		return this.problemType == null;
+	}
+
+	/** Creates the JsonException a throwing deserialization would have thrown, for callers that decide to throw after
+	 * all.
+	 * @return a JsonException that explains the problem.
+	 * @throws IllegalStateException if the deserialization succeeded. */
+	public JsonException toException(){
+		if(this.isSuccess()){
+			throw new IllegalStateException("A successful deserialization doesn't have a problem to explain.");
+		}
+		return new JsonException(this.position, this.line, this.column, this.problemType, this.unexpectedObject, true);
+	}
+
+	@Override
+	public String toString(){
+		final StringBuilder sb = new StringBuilder();
+		if(this.isSuccess()){
+			sb.append("success(").append(this.value).append(")");
+		}else{
+			sb.append(this.problemType.toString()).append("(").append(this.unexpectedObject).append(") at position ").append(this.position);
+		}
+		return sb.toString();
+	}
+}
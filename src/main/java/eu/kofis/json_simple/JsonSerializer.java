@@ -0,0 +1,27 @@
+/* Copyright 2016-2017 Clifton Labs
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. */
+package eu.kofis.json_simple;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/** JsonSerializers write values of classes that don't implement Jsonable, like classes from other libraries, as JSON.
+ * Once one is registered for a class Jsoner uses it whenever it serializes an instance of that class.
+ * @param <T> the kind of value the serializer writes.
+ * @see Jsoner#registerSerializer(Class, JsonSerializer)
+ * @since 4.2.0 */
+public interface JsonSerializer<T>{
+	/** Writes the value as exactly one valid JSON value.
+	 * @param serializable represents the value being serialized, it is never null.
+	 * @param writable represents where the JSON text is written to.
+	 * @throws IOException if the writable encounters an I/O problem. */
+	public void serialize(T serializable, Writer writable) throws IOException;
+}
@@ -0,0 +1,60 @@
+/* Copyright 2016 Clifton Labs
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. */
+package eu.kofis.json_simple;
+
+/** JsonValidation explains whether JSON text is deserializable, and if it isn't how and where the problem occurs in
+ * the source JSON text. Unlike a JsonException it doesn't hold on to what caused the problem, since validation never
+ * builds the values of the JSON text.
+ * @see Jsoner#validate(java.io.Reader)
+ * @since 4.2.0 */
+public class JsonValidation{
+	/** The outcome of every successful validation, since there is nothing else to tell about it. */
+	static final JsonValidation				VALID	= new JsonValidation(-1, null);
+
+	@SuppressWarnings("javadoc")
+	private final int						position;
+	@SuppressWarnings("javadoc")
+	private final JsonException.Problems	problemType;
+
+	/** @param position where the problem occurred, or -1 if there wasn't one.
+	 * @param problemType how the problem occurred, or null if there wasn't one. */
+	JsonValidation(final int position, final JsonException.Problems problemType){
+		this.position = position;
+		this.problemType = problemType;
+	}
+
+	/** Helps debug the location of a problem.
+	 * @return an index of the string character the problem occurred at, or -1 if the JSON text is valid. */
+	public int getPosition(){
+		return this.position;
+	}
+
+	/** Helps find an appropriate solution for a problem.
+	 * @return the enumeration for how the problem occurred, or null if the JSON text is valid. */
+	public JsonException.Problems getProblemType(){
+		return this.problemType;
+	}
+
+	/** @return true if the JSON text would deserialize without a JsonException, false otherwise. */
+	public boolean isValid(){
+		return this.problemType == null;
+	}
+
+	@Override
+	public String toString(){
+		if(this.isValid()){
+			return "valid";
+		}
+		final StringBuilder sb = new StringBuilder();
+		sb.append(this.problemType.toString()).append(" at position ").append(this.position);
+		return sb.toString();
+	}
+}
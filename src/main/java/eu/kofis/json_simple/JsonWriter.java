@@ -0,0 +1,306 @@
+/* Copyright 2016-2017 Clifton Labs
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. */
+package eu.kofis.json_simple;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+/** JsonWriter is a non-thread safe generator that writes JSON text as it is told each value, so the JSON doesn't have
+ * to be built as JsonObjects and JsonArrays before it is serialized. It checks each call fits where the JSON text is
+ * at, so it only ever writes one complete and valid JSON value:
+ * new JsonWriter(writer).beginObject().name("id").value(1).name("tags").beginArray().value("a").endArray().endObject();
+ * Names given as JsonKey enum constants are escaped once and reused by every JsonWriter.
+ * @see Jsoner#serialize(Object, Writer)
+ * @since 4.2.0 */
+public class JsonWriter implements Closeable, Flushable{
+	@SuppressWarnings("javadoc")
+	private static final int								DANGLING_NAME		= 0;
+	@SuppressWarnings("javadoc")
+	private static final int								EMPTY_ARRAY			= 1;
+	@SuppressWarnings("javadoc")
+	private static final int								EMPTY_DOCUMENT		= 2;
+	@SuppressWarnings("javadoc")
+	private static final int								EMPTY_OBJECT		= 3;
+	/** The keys of each JsonKey enum's constants already escaped, quoted, and followed by a colon, by their ordinals.
+	 * They are kept with the enum's class so they don't keep its loader from being unloaded. Minted JsonKeys aren't
+	 * cached since there is no telling how many of them there are. */
+	private static final ClassValue<char[][]>				ESCAPED_KEYS		= new ClassValue<char[][]>(){
+		@Override
+		protected char[][] computeValue(final Class<?> type){
+			final Object[] constants = type.getEnumConstants();
+			final char[][] escaped = new char[constants.length][];
+			for(int i = 0; i < constants.length; i++){
+				escaped[i] = ("\"" + Jsoner.escape(((JsonKey)constants[i]).getKey()) + "\":").toCharArray();
+			}
+			return escaped;
+		}
+	};
+	@SuppressWarnings("javadoc")
+	private static final int								NONEMPTY_ARRAY		= 4;
+	@SuppressWarnings("javadoc")
+	private static final int								NONEMPTY_DOCUMENT	= 5;
+	@SuppressWarnings("javadoc")
+	private static final int								NONEMPTY_OBJECT		= 6;
+
+	/** Where numbers are formatted before being written. */
+	private final char[]									buffer				= new char[NumberWriter.MAX_DOUBLE_CHARS];
+	/** Where the JSON text is written to. */
+	private final Writer									writable;
+	/** How many of the states are in use. */
+	private int												depth;
+	/** Where the JSON text is at for the document and each array and object it is inside of. */
+	private int[]											states				= new int[32];
+
+	/** Instantiates a JsonWriter that writes the JSON text as UTF-8 to the output stream.
+	 * @param writable represents where the JSON text is written to. */
+	public JsonWriter(final OutputStream writable){
+		this(new Utf8Writer(writable));
+	}
+
+	/** Instantiates a JsonWriter that writes the JSON text to the writer.
+	 * @param writable represents where the JSON text is written to. */
+	public JsonWriter(final Writer writable){
+		this.writable = writable;
+		this.states[this.depth++] = JsonWriter.EMPTY_DOCUMENT;
+	}
+
+	/** Writes whatever separates the next name from the entry before it, after checking a name fits there.
+	 * @throws IllegalStateException if the JsonWriter isn't in an object or the object's last name has no value.
+	 * @throws IOException if the writer encounters an I/O problem. */
+	private void beforeName() throws IOException{
+		switch(this.states[this.depth - 1]){
+			case EMPTY_OBJECT:
+				break;
+			case NONEMPTY_OBJECT:
+				this.writable.write(',');
+				break;
+			case DANGLING_NAME:
+				throw new IllegalStateException("The last name in the object doesn't have a value yet.");
+			default:
+				throw new IllegalStateException("Names can only be written in an object.");
+		}
+		this.states[this.depth - 1] = JsonWriter.DANGLING_NAME;
+	}
+
+	/** Writes whatever separates the next value from what came before it, after checking a value fits there.
+	 * @throws IllegalStateException if a value doesn't fit where the JSON text is at.
+	 * @throws IOException if the writer encounters an I/O problem. */
+	private void beforeValue() throws IOException{
+		switch(this.states[this.depth - 1]){
+			case EMPTY_DOCUMENT:
+				this.states[this.depth - 1] = JsonWriter.NONEMPTY_DOCUMENT;
+				break;
+			case EMPTY_ARRAY:
+				this.states[this.depth - 1] = JsonWriter.NONEMPTY_ARRAY;
+				break;
+			case NONEMPTY_ARRAY:
+				this.writable.write(',');
+				break;
+			case DANGLING_NAME:
+				this.states[this.depth - 1] = JsonWriter.NONEMPTY_OBJECT;
+				break;
+			case NONEMPTY_DOCUMENT:
+				throw new IllegalStateException("The JSON text already holds a complete value.");
+			default:
+				throw new IllegalStateException("Values in an object must follow a name.");
+		}
+	}
+
+	/** Begins a JSON array, its elements are the values written until it is ended.
+	 * @return the JsonWriter to allow chaining calls.
+	 * @throws IllegalStateException if a value doesn't fit where the JSON text is at.
+	 * @throws IOException if the writer encounters an I/O problem. */
+	public JsonWriter beginArray() throws IOException{
+		this.beforeValue();
+		this.push(JsonWriter.EMPTY_ARRAY);
+		this.writable.write('[');
+		return this;
+	}
+
+	/** Begins a JSON object, its entries are the names and values written until it is ended.
+	 * @return the JsonWriter to allow chaining calls.
+	 * @throws IllegalStateException if a value doesn't fit where the JSON text is at.
+	 * @throws IOException if the writer encounters an I/O problem. */
+	public JsonWriter beginObject() throws IOException{
+		this.beforeValue();
+		this.push(JsonWriter.EMPTY_OBJECT);
+		this.writable.write('{');
+		return this;
+	}
+
+	/** Closes the writer.
+	 * @throws IllegalStateException if the JSON text isn't a complete value, after the writer is closed.
+	 * @throws IOException if the writer encounters an I/O problem. */
+	@Override
+	public void close() throws IOException{
+		this.writable.close();
+		if((this.depth > 1) || (this.states[0] != JsonWriter.NONEMPTY_DOCUMENT)){
+			throw new IllegalStateException("The JSON text was closed before it held a complete value.");
+		}
+	}
+
+	/** Ends the JSON array the JsonWriter is in.
+	 * @return the JsonWriter to allow chaining calls.
+	 * @throws IllegalStateException if the JsonWriter isn't in an array.
+	 * @throws IOException if the writer encounters an I/O problem. */
+	public JsonWriter endArray() throws IOException{
+		final int state = this.states[this.depth - 1];
+		if((state != JsonWriter.EMPTY_ARRAY) && (state != JsonWriter.NONEMPTY_ARRAY)){
+			throw new IllegalStateException("There isn't an array to end.");
+		}
+		this.depth--;
+		this.writable.write(']');
+		return this;
+	}
+
+	/** Ends the JSON object the JsonWriter is in.
+	 * @return the JsonWriter to allow chaining calls.
+	 * @throws IllegalStateException if the JsonWriter isn't in an object or the object's last name has no value.
+	 * @throws IOException if the writer encounters an I/O problem. */
+	public JsonWriter endObject() throws IOException{
+		final int state = this.states[this.depth - 1];
+		if(state == JsonWriter.DANGLING_NAME){
+			throw new IllegalStateException("The last name in the object doesn't have a value yet.");
+		}else if((state != JsonWriter.EMPTY_OBJECT) && (state != JsonWriter.NONEMPTY_OBJECT)){
+			throw new IllegalStateException("There isn't an object to end.");
+		}
+		this.depth--;
+		this.writable.write('}');
+		return this;
+	}
+
+	/** Flushes the writer.
+	 * @throws IOException if the writer encounters an I/O problem. */
+	@Override
+	public void flush() throws IOException{
+		this.writable.flush();
+	}
+
+	/** Writes the name of the next entry of the JSON object the JsonWriter is in. The JsonKey's escaped name is
+	 * reused when the key is an enum constant.
+	 * @param key represents the name of the entry.
+	 * @return the JsonWriter to allow chaining calls.
+	 * @throws IllegalStateException if the JsonWriter isn't in an object or the object's last name has no value.
+	 * @throws IOException if the writer encounters an I/O problem. */
+	public JsonWriter name(final JsonKey key) throws IOException{
+		if(!(key instanceof Enum)){
+			return this.name(key.getKey());
+		}
+		final Enum<?> constant = (Enum<?>)key;
+		final char[] escaped = JsonWriter.ESCAPED_KEYS.get(constant.getDeclaringClass())[constant.ordinal()];
+		this.beforeName();
+		this.writable.write(escaped);
+		return this;
+	}
+
+	/** Writes the name of the next entry of the JSON object the JsonWriter is in.
+	 * @param key represents the name of the entry.
+	 * @return the JsonWriter to allow chaining calls.
+	 * @throws IllegalStateException if the JsonWriter isn't in an object or the object's last name has no value.
+	 * @throws IOException if the writer encounters an I/O problem.
+	 * @throws NullPointerException if the key is null. */
+	public JsonWriter name(final String key) throws IOException{
+		if(key == null){
+			throw new NullPointerException("JSON names can't be null.");
+		}
+		this.beforeName();
+		this.writable.write('"');
+		this.writable.write(Jsoner.escape(key));
+		this.writable.write("\":");
+		return this;
+	}
+
+	/** Writes a JSON null.
+	 * @return the JsonWriter to allow chaining calls.
+	 * @throws IllegalStateException if a value doesn't fit where the JSON text is at.
+	 * @throws IOException if the writer encounters an I/O problem. */
+	public JsonWriter nullValue() throws IOException{
+		this.beforeValue();
+		this.writable.write("null");
+		return this;
+	}
+
+	/** @param state represents where the JSON text is at in the array or object being begun. */
+	private void push(final int state){
+		if(this.depth == this.states.length){
+			final int[] grown = new int[this.depth * 2];
+			System.arraycopy(this.states, 0, grown, 0, this.depth);
+			this.states = grown;
+		}
+		this.states[this.depth++] = state;
+	}
+
+	/** Writes a JSON boolean.
+	 * @param value represents the boolean to write.
+	 * @return the JsonWriter to allow chaining calls.
+	 * @throws IllegalStateException if a value doesn't fit where the JSON text is at.
+	 * @throws IOException if the writer encounters an I/O problem. */
+	public JsonWriter value(final boolean value) throws IOException{
+		this.beforeValue();
+		this.writable.write(value ? "true" : "false");
+		return this;
+	}
+
+	/** Writes a JSON number, or null if the double is infinite or not a number since JSON doesn't support them.
+	 * @param value represents the number to write.
+	 * @return the JsonWriter to allow chaining calls.
+	 * @throws IllegalStateException if a value doesn't fit where the JSON text is at.
+	 * @throws IOException if the writer encounters an I/O problem. */
+	public JsonWriter value(final double value) throws IOException{
+		this.beforeValue();
+		this.writable.write(this.buffer, 0, Jsoner.writeDouble(this.buffer, 0, value));
+		return this;
+	}
+
+	/** Writes a JSON number.
+	 * @param value represents the number to write.
+	 * @return the JsonWriter to allow chaining calls.
+	 * @throws IllegalStateException if a value doesn't fit where the JSON text is at.
+	 * @throws IOException if the writer encounters an I/O problem. */
+	public JsonWriter value(final long value) throws IOException{
+		this.beforeValue();
+		this.writable.write(this.buffer, 0, NumberWriter.writeLong(this.buffer, 0, value));
+		return this;
+	}
+
+	/** Writes any value Jsoner#serialize(Object, Writer) can serialize, like a Number, JsonArray, JsonObject, or
+	 * Jsonable.
+	 * @param value represents the value to write.
+	 * @return the JsonWriter to allow chaining calls.
+	 * @throws IllegalArgumentException if the value isn't serializable in JSON.
+	 * @throws IllegalStateException if a value doesn't fit where the JSON text is at.
+	 * @throws IOException if the writer encounters an I/O problem. */
+	public JsonWriter value(final Object value) throws IOException{
+		this.beforeValue();
+		Jsoner.serialize(value, this.writable);
+		return this;
+	}
+
+	/** Writes a JSON string, or null if the string is null.
+	 * @param value represents the string to write.
+	 * @return the JsonWriter to allow chaining calls.
+	 * @throws IllegalStateException if a value doesn't fit where the JSON text is at.
+	 * @throws IOException if the writer encounters an I/O problem. */
+	public JsonWriter value(final String value) throws IOException{
+		this.beforeValue();
+		if(value == null){
+			this.writable.write("null");
+		}else{
+			this.writable.write('"');
+			this.writable.write(Jsoner.escape(value));
+			this.writable.write('"');
+		}
+		return this;
+	}
+}
@@ -10,17 +10,35 @@
  * limitations under the License. */
 package eu.kofis.json_simple;
 
+import java.io.CharArrayReader;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringReader;
-import java.io.StringWriter;
 import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 /** Jsoner provides JSON utilities for escaping strings to be JSON compatible, thread safe parsing (RFC 7159) JSON
  * strings, and thread safe serializing data to strings in JSON format.
@@ -38,6 +56,82 @@ public class Jsoner{
 		ALLOW_JSON_OBJECTS;
 	}
 
+	/** How a class serializes, resolved once per class so serialization doesn't test every value against each kind of
+	 * value JSON supports. */
+	private static final class Dispatch{
+		/** How instances serialize when Jsonables and registered serializers are allowed. */
+		private final SerializationKinds		kind;
+		/** How instances serialize when Jsonables and registered serializers aren't allowed. */
+		private final SerializationKinds		kindWithoutJsonables;
+		/** The registered serializer for the class, or null if there isn't one. */
+		private final JsonSerializer<Object>	serializer;
+
+		@SuppressWarnings("javadoc")
+		private Dispatch(final SerializationKinds kind, final SerializationKinds kindWithoutJsonables, final JsonSerializer<Object> serializer){
+			this.kind = kind;
+			this.kindWithoutJsonables = kindWithoutJsonables;
+			this.serializer = serializer;
+		}
+	}
+
+	/** The kinds of values the primary serialization method knows how to write. */
+	private static enum SerializationKinds{
+		@SuppressWarnings("javadoc")
+		BIG_DECIMAL,
+		@SuppressWarnings("javadoc")
+		BOOLEAN,
+		@SuppressWarnings("javadoc")
+		BOOLEAN_ARRAY,
+		@SuppressWarnings("javadoc")
+		BYTE_ARRAY,
+		@SuppressWarnings("javadoc")
+		CHAR_ARRAY,
+		@SuppressWarnings("javadoc")
+		CHARACTER,
+		@SuppressWarnings("javadoc")
+		COLLECTION,
+		/** A value whose class or one of its ancestors has a registered JsonSerializer. */
+		CUSTOM,
+		@SuppressWarnings("javadoc")
+		DOUBLE,
+		@SuppressWarnings("javadoc")
+		DOUBLE_ARRAY,
+		@SuppressWarnings("javadoc")
+		FLOAT,
+		@SuppressWarnings("javadoc")
+		FLOAT_ARRAY,
+		@SuppressWarnings("javadoc")
+		INT_ARRAY,
+		/** A value that isn't JSON serializable. */
+		INVALID,
+		/** Exactly a JsonArray, which may keep its serialized form. */
+		JSON_ARRAY,
+		@SuppressWarnings("javadoc")
+		JSON_DOUBLE_ARRAY,
+		@SuppressWarnings("javadoc")
+		JSON_LONG_ARRAY,
+		/** Exactly a JsonObject, which may keep its serialized form. */
+		JSON_OBJECT,
+		@SuppressWarnings("javadoc")
+		JSONABLE,
+		@SuppressWarnings("javadoc")
+		LONG_ARRAY,
+		@SuppressWarnings("javadoc")
+		MAP,
+		/** A Number that doesn't have a faster kind of its own. */
+		NUMBER,
+		@SuppressWarnings("javadoc")
+		OBJECT_ARRAY,
+		/** JSON text that is written as is. */
+		RAW_JSON,
+		@SuppressWarnings("javadoc")
+		SHORT_ARRAY,
+		@SuppressWarnings("javadoc")
+		STRING,
+		/** A Byte, Integer, Long, or Short. */
+		WHOLE_NUMBER;
+	}
+
 	/** Flags to tweak the behavior of the primary serialization method. */
 	private static enum SerializationOptions{
 		/** Instead of aborting serialization on non-JSON values it will continue serialization by serializing the
@@ -47,7 +141,165 @@ public class Jsoner{
 		/** Instead of aborting serialization on non-JSON values that implement Jsonable it will continue serialization
 		 * by deferring serialization to the Jsonable.
 		 * @see Jsonable */
-		ALLOW_JSONABLES;
+		ALLOW_JSONABLES,
+		/** Instead of writing values as they are, it sorts the keys of objects, writes numbers as doubles the way
+		 * ECMAScript does, only escapes the characters that have to be escaped, and serializes the text of Jsonables
+		 * again, so equal values always serialize to the same text as RFC 8785 describes. */
+		CANONICAL;
+	}
+
+	/** Creates JsonObjects and JsonArrays that remember where in the JSON text they were deserialized from. Only the
+	 * containers whose text is strict JSON remember it, since the deserializer also accepts comments, missing or extra
+	 * commas and colons, and a few lenient tokens that serializing must not copy. */
+	private static final class SourceRetainingContainers implements JsonContainerFactory{
+		/** What strict JSON allows next in each of the open containers. */
+		private Expected[]		expected	= new Expected[16];
+		/** How many of the containers are open. */
+		private int				depth;
+		/** How many lenient comments and tokens the lexer had lexed when each of the open containers started. */
+		private int[]			lenience	= new int[16];
+		/** Whether each of the open containers had tokens in an order strict JSON doesn't allow. */
+		private boolean[]		lenient		= new boolean[16];
+		/** The lexer whose position is where each container starts and ends. */
+		private final Yylex		lexer;
+		/** The containers that were created but aren't finished yet, innermost last. */
+		private Object[]		open		= new Object[16];
+		/** The JSON text being deserialized. */
+		private final String	source;
+		/** Where each of the open containers starts in the source. */
+		private int[]			starts		= new int[16];
+
+		/** What strict JSON allows next in an array or object. */
+		private static enum Expected{
+			/** The colon after a key. */
+			COLON,
+			/** An element after a comma. */
+			ELEMENT,
+			/** The first element or the end of an empty array. */
+			ELEMENT_OR_END,
+			/** A key after a comma. */
+			KEY,
+			/** The first key or the end of an empty object. */
+			KEY_OR_END,
+			/** A comma or the end after an element or value. */
+			SEPARATOR_OR_END,
+			/** A value after a colon. */
+			VALUE;
+		}
+
+		/** @param lexer represents the lexer that lexes the source.
+		 * @param source represents the JSON text being deserialized. */
+		SourceRetainingContainers(final Yylex lexer, final String source){
+			this.lexer = lexer;
+			this.source = source;
+		}
+
+		@Override
+		public List<Object> createArray(){
+			return this.push(new JsonArray());
+		}
+
+		@Override
+		public Map<String, Object> createObject(){
+			return this.push(new JsonObject());
+		}
+
+		@Override
+		public void finishArray(final List<Object> array, final int elements){
+			((JsonArray)array).setSourceSpan(this.pop());
+		}
+
+		@Override
+		public void finishObject(final Map<String, Object> object, final int entries){
+			((JsonObject)object).setSourceSpan(this.pop());
+		}
+
+		/** Follows the strict JSON grammar in the innermost open container, noting when a token comes where strict JSON
+		 * doesn't allow it even though the deserializer does.
+		 * @param type represents the type of the token the deserializer is about to handle. */
+		void lexed(final Yytoken.Types type){
+			if(this.depth == 0){
+				return;
+			}
+			final int level = this.depth - 1;
+			final Expected state = this.expected[level];
+			Expected next = null;
+			switch(type){
+				case COLON:
+					if(state == Expected.COLON){
+						next = Expected.VALUE;
+					}
+					break;
+				case COMMA:
+					if(state == Expected.SEPARATOR_OR_END){
+						next = this.open[level] instanceof Map ? Expected.KEY : Expected.ELEMENT;
+					}
+					break;
+				case DATUM:
+					if((state == Expected.KEY) || (state == Expected.KEY_OR_END)){
+						next = Expected.COLON;
+					}else if((state == Expected.VALUE) || (state == Expected.ELEMENT) || (state == Expected.ELEMENT_OR_END)){
+						next = Expected.SEPARATOR_OR_END;
+					}
+					break;
+				case LEFT_BRACE:
+				case LEFT_SQUARE:
+					if((state == Expected.VALUE) || (state == Expected.ELEMENT) || (state == Expected.ELEMENT_OR_END)){
+						next = Expected.SEPARATOR_OR_END;
+					}
+					break;
+				case RIGHT_BRACE:
+				case RIGHT_SQUARE:
+					if((state == Expected.SEPARATOR_OR_END) || (state == Expected.KEY_OR_END) || (state == Expected.ELEMENT_OR_END)){
+						next = state;
+					}
+					break;
+				default:
+					return;
+			}
+			if(next == null){
+				this.lenient[level] = true;
+			}else{
+				this.expected[level] = next;
+			}
+		}
+
+		/** Finishes the innermost open container, the lexer's last token is the bracket that ends it.
+		 * @return where the container was deserialized from, or null if its text isn't strict JSON. */
+		private SourceSpan pop(){
+			this.depth--;
+			final int level = this.depth;
+			this.open[level] = null;
+			if(this.lenient[level] || (this.lexer.getLenience() != this.lenience[level])){
+				/* The text of the containers around it includes its text, so theirs isn't strict either. */
+				if(level > 0){
+					this.lenient[level - 1] = true;
+				}
+				return null;
+			}
+			return new SourceSpan(this.source, this.starts[level], this.lexer.getPosition() + 1, level == 0 ? null : this.open[level - 1]);
+		}
+
+		/** Opens a container, the lexer's last token is the bracket that starts it.
+		 * @param <T> the type of the container.
+		 * @param container represents the JsonObject or JsonArray that was created.
+		 * @return the container. */
+		private <T> T push(final T container){
+			if(this.depth == this.open.length){
+				this.expected = Arrays.copyOf(this.expected, this.depth * 2);
+				this.lenience = Arrays.copyOf(this.lenience, this.depth * 2);
+				this.lenient = Arrays.copyOf(this.lenient, this.depth * 2);
+				this.open = Arrays.copyOf(this.open, this.depth * 2);
+				this.starts = Arrays.copyOf(this.starts, this.depth * 2);
+			}
+			this.expected[this.depth] = container instanceof Map ? Expected.KEY_OR_END : Expected.ELEMENT_OR_END;
+			this.lenience[this.depth] = this.lexer.getLenience();
+			this.lenient[this.depth] = false;
+			this.open[this.depth] = container;
+			this.starts[this.depth] = this.lexer.getPosition();
+			this.depth++;
+			return container;
+		}
 	}
 
 	/** The possible States of a JSON deserializer. */
@@ -66,6 +318,97 @@ public class Jsoner{
 		PARSING_OBJECT;
 	}
 
+	/** How many characters the primitive array serializers buffer before writing them in bulk. */
+	private static final int									BUFFER_SIZE				= 1024;
+	/** Creates a list and a map that discard whatever is added to them, so validation runs the deserialization state
+	 * machine without building any of the values. */
+	private static final JsonContainerFactory					DISCARDING_CONTAINERS	= new JsonContainerFactory(){
+		/** Stands in for every array while validating. */
+		private final List<Object> array = new AbstractList<Object>(){
+			@Override
+			public void add(final int index, final Object element){
+				/* Validation doesn't keep the elements. */
+			}
+
+			@Override
+			public Object get(final int index){
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: 0");
+			}
+
+			@Override
+			public int size(){
+				return 0;
+			}
+		};
+		/** Stands in for every object while validating. */
+		private final Map<String, Object> object = new AbstractMap<String, Object>(){
+			@Override
+			public Set<Map.Entry<String, Object>> entrySet(){
+				return Collections.emptySet();
+			}
+
+			@Override
+			public Object put(final String key, final Object value){
+				/* Validation doesn't keep the entries. */
+				return null;
+			}
+		};
+
+		@Override
+		public List<Object> createArray(){
+			return this.array;
+		}
+
+		@Override
+		public Map<String, Object> createObject(){
+			return this.object;
+		}
+
+		@Override
+		public void finishArray(final List<Object> array, final int elements){
+			/* There is nothing to finish. */
+		}
+
+		@Override
+		public void finishObject(final Map<String, Object> object, final int entries){
+			/* There is nothing to finish. */
+		}
+	};
+	/** Creates the JsonObjects and JsonArrays that deserialization produces unless it is given other containers. */
+	private static final JsonContainerFactory					JSON_SIMPLE_CONTAINERS	= new JsonContainerFactory(){
+		@Override
+		public List<Object> createArray(){
+			return new JsonArray();
+		}
+
+		@Override
+		public Map<String, Object> createObject(){
+			return new JsonObject();
+		}
+
+		@Override
+		public void finishArray(final List<Object> array, final int elements){
+			/* JsonArrays are left as they are. */
+		}
+
+		@Override
+		public void finishObject(final Map<String, Object> object, final int entries){
+			/* JsonObjects are left as they are. */
+		}
+	};
+	/** The most characters a number, or a primitive array element and its separator, take; a double needs 25 of them. */
+	static final int											MAX_ELEMENT_CHARS		= 32;
+	/** The serializers registered for classes and interfaces, it is also the lock that guards resolving dispatches. */
+	private static final Map<Class<?>, JsonSerializer<Object>>	SERIALIZERS				= new HashMap<Class<?>, JsonSerializer<Object>>();
+	/** The kinds of values that can change without a JsonObject or JsonArray noticing, so text that went through them
+	 * isn't kept. */
+	private static final Set<SerializationKinds>				UNTRACKED_KINDS			= EnumSet.of(SerializationKinds.BOOLEAN_ARRAY, SerializationKinds.BYTE_ARRAY, SerializationKinds.CHAR_ARRAY, SerializationKinds.COLLECTION, SerializationKinds.CUSTOM, SerializationKinds.DOUBLE_ARRAY, SerializationKinds.FLOAT_ARRAY, SerializationKinds.INT_ARRAY, SerializationKinds.JSON_DOUBLE_ARRAY, SerializationKinds.JSON_LONG_ARRAY, SerializationKinds.JSONABLE, SerializationKinds.LONG_ARRAY, SerializationKinds.MAP, SerializationKinds.OBJECT_ARRAY, SerializationKinds.SHORT_ARRAY);
+
+	/** How each class that has been serialized serializes. Each dispatch is kept with its class, so it doesn't keep the
+	 * class's loader from being unloaded, and all of them are dropped for new ones whenever the registered serializers
+	 * change. The registered serializers themselves are kept until they are unregistered. */
+	private static volatile ClassValue<Dispatch>				dispatches				= Jsoner.newDispatches();
+
 	@SuppressWarnings("javadoc")
 	private Jsoner(){
 		/* Jsoner is purely static so instantiation is unnecessary. */
@@ -80,6 +423,60 @@ public class Jsoner{
 		return Jsoner.deserialize(readableDeserializable, EnumSet.of(DeserializationOptions.ALLOW_JSON_ARRAYS, DeserializationOptions.ALLOW_JSON_OBJECTS, DeserializationOptions.ALLOW_JSON_DATA)).get(0);
 	}
 
+	/** Deserializes a readable stream according to the RFC 7159 JSON specification into the maps and lists of the
+	 * provided factory instead of JsonObjects and JsonArrays.
+	 * @param readableDeserializable representing content to be deserialized as JSON.
+	 * @param containers represents where the maps and lists for JSON objects and arrays come from.
+	 * @return either a boolean, null, Number, String, or a map or list from the containers that best represents the
+	 *         deserializable.
+	 * @throws JsonException if an unexpected token is encountered in the deserializable. To recover from a
+	 *         JsonException: fix the deserializable to no longer have an unexpected token and try again.
+	 * @see JsonContainerFactory
+	 * @since 4.2.0 */
+	public static Object deserialize(final Reader readableDeserializable, final JsonContainerFactory containers) throws JsonException{
+		final JsonResult<Object> returnable = Jsoner.tryDeserialize(readableDeserializable, containers);
+		if(!returnable.isSuccess()){
+			throw returnable.toException();
+		}
+		return returnable.getValue();
+	}
+
+	/** Deserializes a readable stream like Jsoner#deserialize(Reader), failing as soon as the JSON text exceeds one of
+	 * the limits instead of deserializing text of any size. Use it for text from a source that isn't trusted, where a
+	 * single request could otherwise nest deep enough or be long enough to exhaust the heap.
+	 * @param readableDeserializable representing content to be deserialized as JSON.
+	 * @param limits represents how much JSON text is deserialized before it fails.
+	 * @return either a boolean, null, Number, String, JsonObject, or JsonArray that best represents the deserializable.
+	 * @throws JsonException if an unexpected token is encountered in the deserializable, or it exceeds one of the
+	 *         limits in which case the problem is LIMIT_EXCEEDED. To recover from a JsonException: fix the
+	 *         deserializable to no longer have an unexpected token and try again, or reject it.
+	 * @see JsonLimits
+	 * @since 4.2.0 */
+	public static Object deserialize(final Reader readableDeserializable, final JsonLimits limits) throws JsonException{
+		final JsonResult<Object> returnable = Jsoner.tryDeserialize(readableDeserializable, limits);
+		if(!returnable.isSuccess()){
+			throw returnable.toException();
+		}
+		return returnable.getValue();
+	}
+
+	/** Deserializes a JSON object straight into a domain object, handing the value of each key to the binder as soon
+	 * as it is lexed. No JsonObject is built for the object itself, and the values of keys that aren't one of the
+	 * enum's constants are skipped without being built.
+	 * @param <T> the class of the object the binder fills.
+	 * @param <K> the JsonKey enum whose constants name the keys the binder fills from.
+	 * @param readableDeserializable representing content to be deserialized as a JSON object, or null.
+	 * @param keys represents the JsonKey enum whose constants name the keys the binder fills from.
+	 * @param binder represents how the values are filled into the object.
+	 * @return the object the binder created and filled, or null if the content was null.
+	 * @throws IllegalArgumentException if two of the enum's constants have the same key.
+	 * @throws JsonException if the content isn't a JSON object or an unexpected token is encountered in it.
+	 * @see JsonBinder
+	 * @since 4.2.0 */
+	public static <T, K extends Enum<K> & JsonKey> T deserialize(final Reader readableDeserializable, final Class<K> keys, final JsonBinder<T, K> binder) throws JsonException{
+		return JsonCodec.bind(readableDeserializable, keys, binder);
+	}
+
 	/** Deserialize a stream with all deserialized JSON values are wrapped in a JsonArray.
 	 * @param deserializable representing content to be deserialized as JSON.
 	 * @param flags representing the allowances and restrictions on deserialization.
@@ -88,17 +485,45 @@ public class Jsoner{
 	 *         JsonException: fix the deserializable to no longer have a disallowed or unexpected token and try
 	 *         again. */
 	private static JsonArray deserialize(final Reader deserializable, final Set<DeserializationOptions> flags) throws JsonException{
-		final Yylex lexer = new Yylex(deserializable);
+		final JsonResult<JsonArray> returnable = Jsoner.tryDeserialize(deserializable, flags);
+		if(!returnable.isSuccess()){
+			throw returnable.toException();
+		}
+		return returnable.getValue();
+	}
+
+	/** Deserialize the lexer's stream with all deserialized JSON values wrapped in a JsonArray, without throwing.
+	 * @param lexer represents a quiet text processor that records any problem it or the deserialization encounters.
+	 * @param flags representing the allowances and restrictions on deserialization.
+	 * @param containers represents where the maps and lists for JSON objects and arrays come from.
+	 * @param limits represents how deep the arrays and objects can nest and how many values each of them can hold.
+	 * @return the allowable object best represented by the deserializable, or null if a disallowed or unexpected token
+	 *         was encountered in which case the lexer explains the problem.
+	 * @see Yylex#setQuiet(boolean) */
+	@SuppressWarnings("unchecked")
+	private static JsonArray deserialize(final Yylex lexer, final Set<DeserializationOptions> flags, final JsonContainerFactory containers, final JsonLimits limits){
+		/* The unchecked warnings are suppressed because the value stack only holds keys and the maps and lists the
+		 * containers created. */
 		Yytoken token;
 		States currentState;
 		int returnCount = 1;
+		int depth = 0;
+		final int maxDepth = limits.getMaxDepth();
+		final int maxEntries = limits.getMaxEntries();
 		final LinkedList<States> stateStack = new LinkedList<States>();
 		final LinkedList<Object> valueStack = new LinkedList<Object>();
 		stateStack.addLast(States.INITIAL);
 		do{
 			/* Parse through the parsable string's tokens. */
 			currentState = Jsoner.popNextState(stateStack);
-			token = Jsoner.lexNextToken(lexer);
+			token = Jsoner.lexNextTokenQuietly(lexer);
+			if(Yytoken.Types.PROBLEM.equals(token.getType())){
+				return null;
+			}
+			if(containers instanceof SourceRetainingContainers){
+				/* Only containers whose text is strict JSON keep it, and the parse accepts more than that. */
+				((SourceRetainingContainers)containers).lexed(token.getType());
+			}
 			switch(currentState){
 				case DONE:
 					/* The parse has finished a JSON value. */
@@ -119,35 +544,48 @@ public class Jsoner{
 								valueStack.addLast(token.getValue());
 								stateStack.addLast(States.DONE);
 							}else{
-								throw new JsonException(lexer.getPosition(), JsonException.Problems.DISALLOWED_TOKEN, token);
+								lexer.reportProblem(lexer.getPosition(), JsonException.Problems.DISALLOWED_TOKEN, token);
+								return null;
 							}
 							break;
 						case LEFT_BRACE:
 							/* An object is detected. */
 							if(flags.contains(DeserializationOptions.ALLOW_JSON_OBJECTS)){
-								valueStack.addLast(new JsonObject());
+								if(++depth > maxDepth){
+									lexer.reportProblem(lexer.getPosition(), JsonException.Problems.LIMIT_EXCEEDED, "nesting depth (" + maxDepth + ")");
+									return null;
+								}
+								valueStack.addLast(containers.createObject());
 								stateStack.addLast(States.PARSING_OBJECT);
 							}else{
-								throw new JsonException(lexer.getPosition(), JsonException.Problems.DISALLOWED_TOKEN, token);
+								lexer.reportProblem(lexer.getPosition(), JsonException.Problems.DISALLOWED_TOKEN, token);
+								return null;
 							}
 							break;
 						case LEFT_SQUARE:
 							/* An array is detected. */
 							if(flags.contains(DeserializationOptions.ALLOW_JSON_ARRAYS)){
-								valueStack.addLast(new JsonArray());
+								if(++depth > maxDepth){
+									lexer.reportProblem(lexer.getPosition(), JsonException.Problems.LIMIT_EXCEEDED, "nesting depth (" + maxDepth + ")");
+									return null;
+								}
+								valueStack.addLast(containers.createArray());
 								stateStack.addLast(States.PARSING_ARRAY);
 							}else{
-								throw new JsonException(lexer.getPosition(), JsonException.Problems.DISALLOWED_TOKEN, token);
+								lexer.reportProblem(lexer.getPosition(), JsonException.Problems.DISALLOWED_TOKEN, token);
+								return null;
 							}
 							break;
 						default:
 							/* Neither a JSON array or object was detected. */
-							throw new JsonException(lexer.getPosition(), JsonException.Problems.UNEXPECTED_TOKEN, token);
+							lexer.reportProblem(lexer.getPosition(), JsonException.Problems.UNEXPECTED_TOKEN, token);
+							return null;
 					}
 					break;
 				case PARSED_ERROR:
 					/* The parse could be in this state due to the state stack not having a state to pop off. */
-					throw new JsonException(lexer.getPosition(), JsonException.Problems.UNEXPECTED_TOKEN, token);
+					lexer.reportProblem(lexer.getPosition(), JsonException.Problems.UNEXPECTED_TOKEN, token);
+					return null;
 				case PARSING_ARRAY:
 					switch(token.getType()){
 						case COMMA:
@@ -156,30 +594,53 @@ public class Jsoner{
 							break;
 						case DATUM:
 							/* The parse found an element of the array. */
-							JsonArray val = (JsonArray)valueStack.getLast();
+							List<Object> val = (List<Object>)valueStack.getLast();
 							val.add(token.getValue());
+							if(val.size() > maxEntries){
+								lexer.reportProblem(lexer.getPosition(), JsonException.Problems.LIMIT_EXCEEDED, "entries in an array or object (" + maxEntries + ")");
+								return null;
+							}
 							stateStack.addLast(currentState);
 							break;
 						case LEFT_BRACE:
 							/* The parse found an object in the array. */
-							val = (JsonArray)valueStack.getLast();
-							final JsonObject object = new JsonObject();
+							val = (List<Object>)valueStack.getLast();
+							if(++depth > maxDepth){
+								lexer.reportProblem(lexer.getPosition(), JsonException.Problems.LIMIT_EXCEEDED, "nesting depth (" + maxDepth + ")");
+								return null;
+							}
+							final Map<String, Object> object = containers.createObject();
 							val.add(object);
+							if(val.size() > maxEntries){
+								lexer.reportProblem(lexer.getPosition(), JsonException.Problems.LIMIT_EXCEEDED, "entries in an array or object (" + maxEntries + ")");
+								return null;
+							}
 							valueStack.addLast(object);
 							stateStack.addLast(currentState);
 							stateStack.addLast(States.PARSING_OBJECT);
 							break;
 						case LEFT_SQUARE:
 							/* The parse found another array in the array. */
-							val = (JsonArray)valueStack.getLast();
-							final JsonArray array = new JsonArray();
+							val = (List<Object>)valueStack.getLast();
+							if(++depth > maxDepth){
+								lexer.reportProblem(lexer.getPosition(), JsonException.Problems.LIMIT_EXCEEDED, "nesting depth (" + maxDepth + ")");
+								return null;
+							}
+							final List<Object> array = containers.createArray();
 							val.add(array);
+							if(val.size() > maxEntries){
+								lexer.reportProblem(lexer.getPosition(), JsonException.Problems.LIMIT_EXCEEDED, "entries in an array or object (" + maxEntries + ")");
+								return null;
+							}
 							valueStack.addLast(array);
 							stateStack.addLast(currentState);
 							stateStack.addLast(States.PARSING_ARRAY);
 							break;
 						case RIGHT_SQUARE:
 							/* The parse found the end of the array. */
+							val = (List<Object>)valueStack.getLast();
+							containers.finishArray(val, val.size());
+							depth--;
 							if(valueStack.size() > returnCount){
 								valueStack.removeLast();
 							}else{
@@ -189,7 +650,8 @@ public class Jsoner{
 							break;
 						default:
 							/* Any other token is invalid in an array. */
-							throw new JsonException(lexer.getPosition(), JsonException.Problems.UNEXPECTED_TOKEN, token);
+							lexer.reportProblem(lexer.getPosition(), JsonException.Problems.UNEXPECTED_TOKEN, token);
+							return null;
 					}
 					break;
 				case PARSING_OBJECT:
@@ -211,11 +673,15 @@ public class Jsoner{
 								stateStack.addLast(States.PARSING_ENTRY);
 							}else{
 								/* Abort! JSON keys are always strings and it wasn't a string. */
-								throw new JsonException(lexer.getPosition(), JsonException.Problems.UNEXPECTED_TOKEN, token);
+								lexer.reportProblem(lexer.getPosition(), JsonException.Problems.UNEXPECTED_TOKEN, token);
+								return null;
 							}
 							break;
 						case RIGHT_BRACE:
 							/* The parse has found the end of the object. */
+							final Map<String, Object> object = (Map<String, Object>)valueStack.getLast();
+							containers.finishObject(object, object.size());
+							depth--;
 							if(valueStack.size() > returnCount){
 								/* There are unresolved values remaining. */
 								valueStack.removeLast();
@@ -226,7 +692,8 @@ public class Jsoner{
 							break;
 						default:
 							/* The parse didn't detect the end of an object or a key. */
-							throw new JsonException(lexer.getPosition(), JsonException.Problems.UNEXPECTED_TOKEN, token);
+							lexer.reportProblem(lexer.getPosition(), JsonException.Problems.UNEXPECTED_TOKEN, token);
+							return null;
 					}
 					break;
 				case PARSING_ENTRY:
@@ -240,30 +707,51 @@ public class Jsoner{
 						case DATUM:
 							/* The parse has found a value for the parsed pair key. */
 							String key = (String)valueStack.removeLast();
-							JsonObject parent = (JsonObject)valueStack.getLast();
+							Map<String, Object> parent = (Map<String, Object>)valueStack.getLast();
 							parent.put(key, token.getValue());
+							if(parent.size() > maxEntries){
+								lexer.reportProblem(lexer.getPosition(), JsonException.Problems.LIMIT_EXCEEDED, "entries in an array or object (" + maxEntries + ")");
+								return null;
+							}
 							break;
 						case LEFT_BRACE:
 							/* The parse has found an object for the parsed pair key. */
 							key = (String)valueStack.removeLast();
-							parent = (JsonObject)valueStack.getLast();
-							final JsonObject object = new JsonObject();
+							parent = (Map<String, Object>)valueStack.getLast();
+							if(++depth > maxDepth){
+								lexer.reportProblem(lexer.getPosition(), JsonException.Problems.LIMIT_EXCEEDED, "nesting depth (" + maxDepth + ")");
+								return null;
+							}
+							final Map<String, Object> object = containers.createObject();
 							parent.put(key, object);
+							if(parent.size() > maxEntries){
+								lexer.reportProblem(lexer.getPosition(), JsonException.Problems.LIMIT_EXCEEDED, "entries in an array or object (" + maxEntries + ")");
+								return null;
+							}
 							valueStack.addLast(object);
 							stateStack.addLast(States.PARSING_OBJECT);
 							break;
 						case LEFT_SQUARE:
 							/* The parse has found an array for the parsed pair key. */
 							key = (String)valueStack.removeLast();
-							parent = (JsonObject)valueStack.getLast();
-							final JsonArray array = new JsonArray();
+							parent = (Map<String, Object>)valueStack.getLast();
+							if(++depth > maxDepth){
+								lexer.reportProblem(lexer.getPosition(), JsonException.Problems.LIMIT_EXCEEDED, "nesting depth (" + maxDepth + ")");
+								return null;
+							}
+							final List<Object> array = containers.createArray();
 							parent.put(key, array);
+							if(parent.size() > maxEntries){
+								lexer.reportProblem(lexer.getPosition(), JsonException.Problems.LIMIT_EXCEEDED, "entries in an array or object (" + maxEntries + ")");
+								return null;
+							}
 							valueStack.addLast(array);
 							stateStack.addLast(States.PARSING_ARRAY);
 							break;
 						default:
 							/* The parse didn't find anything for the parsed pair key. */
-							throw new JsonException(lexer.getPosition(), JsonException.Problems.UNEXPECTED_TOKEN, token);
+							lexer.reportProblem(lexer.getPosition(), JsonException.Problems.UNEXPECTED_TOKEN, token);
+							return null;
 					}
 					break;
 				default:
@@ -282,22 +770,16 @@ public class Jsoner{
 	 * @see Jsoner#deserialize(Reader)
 	 * @see StringReader */
 	public static Object deserialize(final String deserializable) throws JsonException{
-		Object returnable;
-		StringReader readableDeserializable = null;
-		try{
-			readableDeserializable = new StringReader(deserializable);
-			returnable = Jsoner.deserialize(readableDeserializable);
-		}catch(final NullPointerException caught){
-			/* They both have the same recovery scenario.
-			 * See StringReader.
-			 * If deserializable is null, it should be reasonable to expect null back. */
-			returnable = null;
-		}finally{
-			if(readableDeserializable != null){
-				readableDeserializable.close();
-			}
+		if(deserializable == null){
+			/* If deserializable is null, it should be reasonable to expect null back. */
+			return null;
 		}
-		return returnable;
+		/* Going through the String keeps the text around to find the line and column of a problem. */
+		final JsonResult<Object> returnable = Jsoner.tryDeserialize(deserializable);
+		if(!returnable.isSuccess()){
+			throw returnable.toException();
+		}
+		return returnable.getValue();
 	}
 
 	/** A convenience method that assumes a JsonArray must be deserialized.
@@ -308,22 +790,12 @@ public class Jsoner{
 	 *         represents deserializable.
 	 * @see Jsoner#deserialize(Reader) */
 	public static JsonArray deserialize(final String deserializable, final JsonArray defaultValue){
-		StringReader readable = null;
-		JsonArray returnable;
-		try {
-			readable = new StringReader(deserializable);
-			returnable = Jsoner.deserialize(readable, EnumSet.of(DeserializationOptions.ALLOW_JSON_ARRAYS)).<JsonArray>getCollection(0);
-		} catch (JsonException caught) {
-			returnable = defaultValue;
-		}catch(NullPointerException e){
+		if(deserializable == null){
 			/* Don't care, just return the default value. */
-			returnable = defaultValue;
-		}finally{
-			if(readable != null){
-				readable.close();
-			}
+			return defaultValue;
 		}
-		return returnable;
+		/* Invalid input is expected here, so the problem isn't worth creating a JsonException for. */
+		return Jsoner.tryDeserializeArray(deserializable).getValueOrDefault(defaultValue);
 	}
 
 	/** A convenience method that assumes a JsonObject must be deserialized.
@@ -334,22 +806,12 @@ public class Jsoner{
 	 *         represents deserializable.
 	 * @see Jsoner#deserialize(Reader) */
 	public static JsonObject deserialize(final String deserializable, final JsonObject defaultValue){
-		StringReader readable = null;
-		JsonObject returnable;
-		try {
-			readable = new StringReader(deserializable);
-			returnable = Jsoner.deserialize(readable, EnumSet.of(DeserializationOptions.ALLOW_JSON_OBJECTS)).<JsonObject>getMap(0);
-		} catch (JsonException caught) {
-			returnable = defaultValue;
-		}catch(NullPointerException e){
+		if(deserializable == null){
 			/* Don't care, just return the default value. */
-			returnable = defaultValue;
-		}finally{
-			if(readable != null){
-				readable.close();
-			}
+			return defaultValue;
 		}
-		return returnable;
+		/* Invalid input is expected here, so the problem isn't worth creating a JsonException for. */
+		return Jsoner.tryDeserializeObject(deserializable).getValueOrDefault(defaultValue);
 	}
 
 	/** A convenience method that assumes multiple RFC 7159 JSON values (except numbers) have been concatenated together
@@ -376,6 +838,108 @@ public class Jsoner{
 		return Jsoner.deserialize(deserializable, EnumSet.of(DeserializationOptions.ALLOW_JSON_ARRAYS, DeserializationOptions.ALLOW_JSON_OBJECTS, DeserializationOptions.ALLOW_JSON_DATA, DeserializationOptions.ALLOW_CONCATENATED_JSON_VALUES));
 	}
 
+	/** Deserializes JSON text like Jsoner#deserialize(String), except each JsonObject and JsonArray remembers where in
+	 * the text it was deserialized from. Until one of them changes, serializing it copies that text as is instead of
+	 * serializing its values, so changing one value of a large document and serializing it again only reserializes the
+	 * containers around the change. A change to a container discards the text of it and every container it is in. The
+	 * copied text is exactly what was deserialized, including its whitespace and how its numbers and strings were
+	 * written, and the text is kept in memory as long as any container that was deserialized from it is. Only the
+	 * containers whose text is strict JSON remember it, so a container with a comment, a missing or extra comma or
+	 * colon, a number with a leading zero, or an unescaped control character or unknown escape in a string is
+	 * serialized from its values instead, and so is every container it is in. Only Jsoner#serialize(Object, Writer)
+	 * and the methods that serialize like it copy the text, Jsoner#serializeStrictly(Object, Writer) never does.
+	 * @param deserializable representing content to be deserialized as JSON.
+	 * @return either a boolean, null, Number, String, JsonObject, or JsonArray that best represents the deserializable.
+	 * @throws JsonException if an unexpected token is encountered in the deserializable. To recover from a
+	 *         JsonException: fix the deserializable to no longer have an unexpected token and try again.
+	 * @see JsonObject#isSourceRetained()
+	 * @see JsonArray#isSourceRetained()
+	 * @since 4.2.0 */
+	public static Object deserializeRetainingSource(final String deserializable) throws JsonException{
+		if(deserializable == null){
+			return null;
+		}
+		final Yylex lexer = new Yylex(new StringReader(deserializable));
+		lexer.setQuiet(true);
+		final JsonArray returnable = Jsoner.deserialize(lexer, EnumSet.of(DeserializationOptions.ALLOW_JSON_ARRAYS, DeserializationOptions.ALLOW_JSON_OBJECTS, DeserializationOptions.ALLOW_JSON_DATA), new SourceRetainingContainers(lexer, deserializable), JsonLimits.NONE);
+		if(returnable == null){
+			throw Jsoner.locate(JsonResult.failure(lexer.getProblemPosition(), lexer.getProblemType(), lexer.getProblemObject()), deserializable).toException();
+		}
+		return returnable.get(0);
+	}
+
+	/** Feeds the UTF-8 bytes of a value's canonical JSON text to a digest as they are serialized, without keeping the
+	 * text, so hashing a large value only takes a small buffer besides the keys of the object being sorted. The digest
+	 * isn't completed, so more can be fed to it before MessageDigest#digest() produces the hash.
+	 * @param jsonSerializable represents the object whose canonical JSON text is hashed.
+	 * @param digest represents the digest the bytes are fed to.
+	 * @throws IllegalArgumentException if the jsonSerializable isn't serializable in JSON, or holds a number that isn't
+	 *         finite.
+	 * @see Jsoner#serializeCanonically(Object, Writer)
+	 * @since 4.2.0 */
+	public static void digest(final Object jsonSerializable, final MessageDigest digest){
+		final Utf8Writer writable = new Utf8Writer(new DigestOutputStream(new OutputStream(){
+			@Override
+			public void write(final byte[] bytes, final int offset, final int length){
+				/* The digest was already fed the bytes. */
+			}
+
+			@Override
+			public void write(final int b){
+				/* The digest was already fed the byte. */
+			}
+		}, digest));
+		try{
+			Jsoner.serializeCanonically(jsonSerializable, writable);
+			writable.finish();
+		}catch(final IOException caught){
+			/* Neither the digest nor the stream it writes to throw. */
+		}
+	}
+
+	/** @param type represents the class of a value being serialized.
+	 * @return how instances of the class serialize, resolving it the first time the class is serialized. */
+	private static Dispatch dispatch(final Class<?> type){
+		return Jsoner.dispatches.get(type);
+	}
+
+	/** Takes the elements of an array or the entries of an object that Jsoner#serializeParallel(Object, OutputStream,
+	 * ForkJoinPool, int) can split into ranges, the same ones in the same order serializing it sequentially would.
+	 * @param value represents a value being serialized.
+	 * @return the elements of the array or Map.Entries of the object, or null if the value isn't an array or object or
+	 *         it is written as text it kept, like a JsonObject deserialized with its source retained. */
+	static Object[] elementsToSplit(final Object value){
+		if(value == null){
+			return null;
+		}
+		switch(Jsoner.dispatch(value.getClass()).kind){
+			case JSON_OBJECT:{
+				if((((JsonObject)value).getSourceSpan() != null) || ((JsonObject)value).isSerializationCached()){
+					return null;
+				}
+				final List<Object> entries = new ArrayList<Object>(((JsonObject)value).size());
+				final Iterator<Map.Entry<String, Object>> iterable = ((JsonObject)value).untrackedEntries();
+				while(iterable.hasNext()){
+					entries.add(iterable.next());
+				}
+				return entries.toArray();
+			}
+			case JSON_ARRAY:
+				if((((JsonArray)value).getSourceSpan() != null) || ((JsonArray)value).isSerializationCached()){
+					return null;
+				}
+				return ((JsonArray)value).toArray();
+			case MAP:
+				return ((Map<?, ?>)value).entrySet().toArray();
+			case COLLECTION:
+				return ((Collection<?>)value).toArray();
+			case OBJECT_ARRAY:
+				return (Object[])value;
+			default:
+				return null;
+		}
+	}
+
 	/** Escapes potentially confusing or important characters in the String provided.
 	 * @param escapable an unescaped string.
 	 * @return an escaped string for usage in JSON; An escaped string is one that has escaped all of the quotes ("),
@@ -432,6 +996,19 @@ public class Jsoner{
 		return builder.toString();
 	}
 
+	/** A convenience method that validates a CharSequence without reporting why it isn't valid.
+	 * @param validatable representing content to be validated as JSON.
+	 * @return true if the validatable deserializes without a JsonException, false otherwise including when the
+	 *         validatable is null.
+	 * @see Jsoner#validate(Reader)
+	 * @since 4.2.0 */
+	public static boolean isValid(final CharSequence validatable){
+		if(validatable == null){
+			return false;
+		}
+		return Jsoner.validate(new StringReader(validatable.toString())).isValid();
+	}
+
 	/** Processes the lexer's reader for the next token.
 	 * @param lexer represents a text processor being used in the deserialization process.
 	 * @return a token representing a meaningful element encountered by the lexer.
@@ -451,6 +1028,44 @@ public class Jsoner{
 		return returnable;
 	}
 
+	/** Processes the quiet lexer's reader for the next token without throwing, any problem is recorded by the lexer
+	 * instead.
+	 * @param lexer represents a quiet text processor being used in the deserialization process.
+	 * @return a token representing a meaningful element encountered by the lexer, or the PROBLEM token if the lexer
+	 *         recorded a problem.
+	 * @see Yylex#setQuiet(boolean) */
+	private static Yytoken lexNextTokenQuietly(final Yylex lexer){
+		Yytoken returnable;
+		/* Parse through the next token. */
+		try{
+			returnable = lexer.yylex();
+		}catch(final IOException caught){
+			return lexer.reportProblem(-1, JsonException.Problems.UNEXPECTED_EXCEPTION, caught);
+		}catch(final JsonException caught){
+			/* A quiet lexer only throws if it is broken. */
+			return lexer.reportProblem(caught.getPosition(), caught.getProblemType(), caught.getUnexpectedObject());
+		}
+		if(returnable == null){
+			/* If there isn't another token, it must be the end. */
+			returnable = new Yytoken(Yytoken.Types.END, null);
+		}
+		return returnable;
+	}
+
+	/** Minifies JSON text by copying it without its whitespace and comments. Strings, numbers, and literals are copied
+	 * exactly as they were written instead of being deserialized and serialized again, so minifying is about as fast as
+	 * copying the text and the values keep their escapes and precision. The text isn't validated beyond rejecting
+	 * characters that can't be outside a string, try Jsoner#validate(Reader) first if it isn't trusted to be JSON.
+	 * @param readable represents the JSON text to minify.
+	 * @param writable represents where the minified JSON text is written to, it is flushed but not closed.
+	 * @throws IOException if the readable or writable encounters an I/O problem.
+	 * @throws JsonException if a character outside of a string can't be part of JSON text.
+	 * @see Jsoner#prettyPrintVerbatim(Reader, Writer, String, String)
+	 * @since 4.2.0 */
+	public static void minify(final Reader readable, final Writer writable) throws IOException, JsonException{
+		Reformatter.reformat(readable, writable, null, null);
+	}
+
 	/** Creates a new JsonKey that wraps the given string and value. This function should NOT be
 	 * used in favor of existing constants and enumerations to make code easier to maintain.
 	 * @param key represents the JsonKey as a String.
@@ -470,6 +1085,19 @@ public class Jsoner{
 		};
 	}
 
+	/** @return a ClassValue that resolves how each class serializes the first time the class is serialized, with the
+	 *         serializers registered at that time. */
+	private static ClassValue<Dispatch> newDispatches(){
+		return new ClassValue<Dispatch>(){
+			@Override
+			protected Dispatch computeValue(final Class<?> type){
+				synchronized(Jsoner.SERIALIZERS){
+					return Jsoner.resolveDispatch(type);
+				}
+			}
+		};
+	}
+
 	/** Used for state transitions while deserializing.
 	 * @param stateStack represents the deserialization states saved for future processing.
 	 * @return a state for deserialization context so it knows how to consume the next token. */
@@ -481,6 +1109,46 @@ public class Jsoner{
 		}
 	}
 
+	/** Finds the line and column of a failed deserialization's position by scanning the text again. Doing it after the
+	 * fact means the lexer never has to count lines while it deserializes valid text.
+	 * @param <T> the kind of value a successful deserialization produces.
+	 * @param result represents the outcome of deserializing the text.
+	 * @param text represents what was deserialized.
+	 * @return the result with the line and column of its position, or the result itself if there isn't a position to
+	 *         locate. */
+	private static <T> JsonResult<T> locate(final JsonResult<T> result, final CharSequence text){
+		final int position = result.getPosition();
+		if(result.isSuccess() || (position < 0)){
+			return result;
+		}
+		final int end = Math.min(position, text.length());
+		int line = 1;
+		int lineStart = 0;
+		for(int i = 0; i < end; i++){
+			final char character = text.charAt(i);
+			/* A "\r\n" pair is one line break, so only its '\n' counts. */
+			if((character == '\n') || ((character == '\r') && (((i + 1) == text.length()) || (text.charAt(i + 1) != '\n')))){
+				line++;
+				lineStart = i + 1;
+			}
+		}
+		return JsonResult.failure(position, line, (position - lineStart) + 1, result.getProblemType(), result.getUnexpectedObject());
+	}
+
+	/** Serializes a value without keeping any of its JSON text.
+	 * @param jsonSerializable represents the object that would be serialized in JSON format.
+	 * @return the LengthWriter the value was serialized to.
+	 * @throws IllegalArgumentException if the jsonSerializable isn't serializable in JSON. */
+	private static LengthWriter measure(final Object jsonSerializable){
+		final LengthWriter returnable = new LengthWriter();
+		try{
+			Jsoner.serialize(jsonSerializable, returnable);
+		}catch(final IOException caught){
+			/* See eu.kofis.json_simple.LengthWriter. */
+		}
+		return returnable;
+	}
+
 	/** Makes the JSON input more easily human readable using indentation and newline of the caller's choice. This means
 	 * the validity of the JSON printed by this method is dependent on the caller's choice of indentation and newlines.
 	 * @param readable representing a JSON formatted string with out extraneous characters, like one returned from
@@ -553,12 +1221,12 @@ public class Jsoner{
 	 * @return printable except it will have '\n' then '\t' characters inserted after '[', '{', ',' and before ']' '}'
 	 *         tokens in the JSON. It will return null if printable isn't a JSON string. */
 	public static String prettyPrint(final String printable){
-		final StringWriter writer = new StringWriter();
+		final TextWriter writer = new TextWriter(printable.length() * 2);
 		try{
 			Jsoner.prettyPrint(new StringReader(printable), writer, "\t", "\n");
 		}catch(final IOException caught){
 			/* See java.io.StringReader.
-			 * See java.io.StringWriter. */
+			 * See eu.kofis.json_simple.TextWriter. */
 		}catch(final JsonException caught){
 			/* Would have been caused by a an IO exception while lexing, but the StringReader does not throw them. See
 			 * java.io.StringReader. */
@@ -583,7 +1251,7 @@ public class Jsoner{
 			throw new IllegalArgumentException("Indentation with spaces must be between 2 and 10.");
 		}
 		final StringBuilder indentation = new StringBuilder("");
-		final StringWriter writer = new StringWriter();
+		final TextWriter writer = new TextWriter(printable.length() * 2);
 		for(int i = 0; i < spaces; i++){
 			indentation.append(" ");
 		}
@@ -591,7 +1259,7 @@ public class Jsoner{
 			Jsoner.prettyPrint(new StringReader(printable), writer, indentation.toString(), "\n");
 		}catch(final IOException caught){
 			/* See java.io.StringReader.
-			 * See java.io.StringWriter. */
+			 * See eu.kofis.json_simple.TextWriter. */
 		}catch(final JsonException caught){
 			/* Would have been caused by a an IO exception while lexing, but the StringReader does not throw them. See
 			 * java.io.StringReader. */
@@ -599,20 +1267,190 @@ public class Jsoner{
 		return writer.toString();
 	}
 
-	/** A convenience method that assumes a StringWriter.
+	/** Pretty prints JSON text like Jsoner#prettyPrint(Reader, Writer, String, String), except strings, numbers, and
+	 * literals are copied exactly as they were written instead of being lexed into values and serialized again. Only
+	 * the whitespace is rewritten, so pretty printing large text is about as fast as copying it and the values keep
+	 * their escapes and precision. The text isn't validated beyond rejecting characters that can't be outside a string.
+	 * @param readable represents the JSON text to pretty print.
+	 * @param writable represents where the pretty printed JSON text is written to, it is flushed but not closed.
+	 * @param indentation represents the indentation written once for each level arrays and objects are nested.
+	 * @param newline represents the newline written after each opening bracket and comma and before each closing
+	 *        bracket.
+	 * @throws IOException if the readable or writable encounters an I/O problem.
+	 * @throws IllegalArgumentException if the indentation or newline is null.
+	 * @throws JsonException if a character outside of a string can't be part of JSON text.
+	 * @see Jsoner#minify(Reader, Writer)
+	 * @since 4.2.0 */
+	public static void prettyPrintVerbatim(final Reader readable, final Writer writable, final String indentation, final String newline) throws IOException, JsonException{
+		if((indentation == null) || (newline == null)){
+			throw new IllegalArgumentException("Pretty printing needs an indentation and a newline, minify instead to write neither.");
+		}
+		Reformatter.reformat(readable, writable, indentation, newline);
+	}
+
+	/** Registers how values of a class serialize, so values that can't implement Jsonable can still be serialized
+	 * without being converted first. The serializer is used for instances of the class and its subclasses, or of the
+	 * implementations of an interface, and takes precedence over how Jsoner would otherwise serialize them. Like
+	 * Jsonables, registered serializers are used by Jsoner#serialize(Object, Writer) and
+	 * Jsoner#serializeCarelessly(Object, Writer) but not by Jsoner#serializeStrictly(Object, Writer). When several of
+	 * a value's ancestors have serializers the one registered for the closest class wins, then the one for the first
+	 * interface found.
+	 * @param <T> the kind of value the serializer writes.
+	 * @param type represents the class or interface the serializer is used for.
+	 * @param serializer represents how values of the type are written as JSON, it must write exactly one valid JSON
+	 *        value.
+	 * @throws NullPointerException if the type or serializer is null.
+	 * @see JsonSerializer
+	 * @see Jsoner#unregisterSerializer(Class)
+	 * @since 4.2.0 */
+	@SuppressWarnings("unchecked")
+	public static <T> void registerSerializer(final Class<T> type, final JsonSerializer<? super T> serializer){
+		if((type == null) || (serializer == null)){
+			throw new NullPointerException("Serializers must be registered with a type and a serializer.");
+		}
+		synchronized(Jsoner.SERIALIZERS){
+			Jsoner.SERIALIZERS.put(type, (JsonSerializer<Object>)serializer);
+			Jsoner.dispatches = Jsoner.newDispatches();
+		}
+	}
+
+	/** Resolves how instances of a class serialize by checking it against each kind of value in the order the primary
+	 * serialization method always has. It must be called while holding the SERIALIZERS lock.
+	 * @param type represents the class of a value being serialized.
+	 * @return how instances of the class serialize. */
+	private static Dispatch resolveDispatch(final Class<?> type){
+		final SerializationKinds kindWithoutJsonables;
+		if(type == RawJson.class){
+			kindWithoutJsonables = SerializationKinds.RAW_JSON;
+		}else if(JsonDoubleArray.class.isAssignableFrom(type)){
+			kindWithoutJsonables = SerializationKinds.JSON_DOUBLE_ARRAY;
+		}else if(JsonLongArray.class.isAssignableFrom(type)){
+			kindWithoutJsonables = SerializationKinds.JSON_LONG_ARRAY;
+		}else if(type == String.class){
+			kindWithoutJsonables = SerializationKinds.STRING;
+		}else if(type == Character.class){
+			kindWithoutJsonables = SerializationKinds.CHARACTER;
+		}else if(type == Double.class){
+			kindWithoutJsonables = SerializationKinds.DOUBLE;
+		}else if(type == Float.class){
+			kindWithoutJsonables = SerializationKinds.FLOAT;
+		}else if((type == Integer.class) || (type == Long.class) || (type == Short.class) || (type == Byte.class)){
+			kindWithoutJsonables = SerializationKinds.WHOLE_NUMBER;
+		}else if(BigDecimal.class.isAssignableFrom(type)){
+			kindWithoutJsonables = SerializationKinds.BIG_DECIMAL;
+		}else if(Number.class.isAssignableFrom(type)){
+			kindWithoutJsonables = SerializationKinds.NUMBER;
+		}else if(type == Boolean.class){
+			kindWithoutJsonables = SerializationKinds.BOOLEAN;
+		}else if(type == JsonObject.class){
+			kindWithoutJsonables = SerializationKinds.JSON_OBJECT;
+		}else if(type == JsonArray.class){
+			kindWithoutJsonables = SerializationKinds.JSON_ARRAY;
+		}else if(Map.class.isAssignableFrom(type)){
+			kindWithoutJsonables = SerializationKinds.MAP;
+		}else if(Collection.class.isAssignableFrom(type)){
+			kindWithoutJsonables = SerializationKinds.COLLECTION;
+		}else if(type == byte[].class){
+			kindWithoutJsonables = SerializationKinds.BYTE_ARRAY;
+		}else if(type == short[].class){
+			kindWithoutJsonables = SerializationKinds.SHORT_ARRAY;
+		}else if(type == int[].class){
+			kindWithoutJsonables = SerializationKinds.INT_ARRAY;
+		}else if(type == long[].class){
+			kindWithoutJsonables = SerializationKinds.LONG_ARRAY;
+		}else if(type == float[].class){
+			kindWithoutJsonables = SerializationKinds.FLOAT_ARRAY;
+		}else if(type == double[].class){
+			kindWithoutJsonables = SerializationKinds.DOUBLE_ARRAY;
+		}else if(type == boolean[].class){
+			kindWithoutJsonables = SerializationKinds.BOOLEAN_ARRAY;
+		}else if(type == char[].class){
+			kindWithoutJsonables = SerializationKinds.CHAR_ARRAY;
+		}else if(Object[].class.isAssignableFrom(type)){
+			kindWithoutJsonables = SerializationKinds.OBJECT_ARRAY;
+		}else{
+			kindWithoutJsonables = SerializationKinds.INVALID;
+		}
+		/* The closest class with a serializer wins, then the first interface found walking up from the class. */
+		JsonSerializer<Object> serializer = null;
+		final LinkedList<Class<?>> interfaces = new LinkedList<Class<?>>();
+		for(Class<?> ancestor = type; (ancestor != null) && (serializer == null); ancestor = ancestor.getSuperclass()){
+			serializer = Jsoner.SERIALIZERS.get(ancestor);
+			for(final Class<?> implemented : ancestor.getInterfaces()){
+				interfaces.add(implemented);
+			}
+		}
+		while((serializer == null) && !interfaces.isEmpty()){
+			final Class<?> implemented = interfaces.removeFirst();
+			serializer = Jsoner.SERIALIZERS.get(implemented);
+			for(final Class<?> extended : implemented.getInterfaces()){
+				interfaces.add(extended);
+			}
+		}
+		final SerializationKinds kind;
+		if(serializer != null){
+			kind = SerializationKinds.CUSTOM;
+		}else if((type == JsonObject.class) || (type == CompactJsonObject.class) || (type == JsonArray.class)){
+			/* They write exactly what a map or collection is written as, so they are written straight to the writer
+			 * instead of through a String from toJson(). Subclasses could override toJson() so they aren't. */
+			kind = kindWithoutJsonables;
+		}else if((kindWithoutJsonables != SerializationKinds.JSON_DOUBLE_ARRAY) && (kindWithoutJsonables != SerializationKinds.JSON_LONG_ARRAY) && (kindWithoutJsonables != SerializationKinds.RAW_JSON) && Jsonable.class.isAssignableFrom(type)){
+			kind = SerializationKinds.JSONABLE;
+		}else{
+			kind = kindWithoutJsonables;
+		}
+		return new Dispatch(kind, kindWithoutJsonables, serializer);
+	}
+
+	/** A convenience method that serializes to a String. The text is gathered in an unsynchronized array the thread
+	 * reuses, and the String returned is the only copy made of it.
 	 * @param jsonSerializable represents the object that should be serialized as a string in JSON format.
 	 * @return a string, in JSON format, that represents the object provided.
 	 * @throws IllegalArgumentException if the jsonSerializable isn't serializable in JSON.
-	 * @see Jsoner#serialize(Object, Writer)
-	 * @see StringWriter */
+	 * @see Jsoner#serialize(Object, Writer) */
 	public static String serialize(final Object jsonSerializable){
-		final StringWriter writableDestination = new StringWriter();
+		final TextWriter writableDestination = TextWriter.reusing();
 		try{
 			Jsoner.serialize(jsonSerializable, writableDestination);
 		}catch(final IOException caught){
-			/* See java.io.StringWriter. */
+			/* See eu.kofis.json_simple.TextWriter. */
+		}
+		return writableDestination.release();
+	}
+
+	/** Serializes values like Jsoner#serialize(Object, Writer) as UTF-8 into a buffer, encoding the characters as they
+	 * are serialized instead of through a charset encoder.
+	 * @param jsonSerializable represents the object that should be serialized in JSON format.
+	 * @param writableDestination represents where the resulting UTF-8 bytes are put, starting at its position. When it
+	 *        doesn't have room for all of them its position is left after the bytes it did have room for.
+	 * @throws java.nio.BufferOverflowException if the writableDestination doesn't have room for the bytes.
+	 * @throws IllegalArgumentException if the jsonSerializable isn't serializable in JSON.
+	 * @see Jsoner#serialize(Object, Writer)
+	 * @since 4.2.0 */
+	public static void serialize(final Object jsonSerializable, final ByteBuffer writableDestination){
+		final Utf8Writer writable = new Utf8Writer(writableDestination);
+		try{
+			Jsoner.serialize(jsonSerializable, writable);
+			writable.finish();
+		}catch(final IOException caught){
+			/* See java.nio.ByteBuffer, a Utf8Writer only throws when its stream does. */
 		}
-		return writableDestination.toString();
+	}
+
+	/** Serializes values like Jsoner#serialize(Object, Writer) as UTF-8 to a stream, encoding the characters as they
+	 * are serialized instead of through a charset encoder. The bytes are buffered and the stream is flushed once all of
+	 * them have been written, but it isn't closed.
+	 * @param jsonSerializable represents the object that should be serialized in JSON format.
+	 * @param writableDestination represents where the resulting UTF-8 bytes are written to.
+	 * @throws IOException if the writableDestination encounters an I/O problem, like being closed while in use.
+	 * @throws IllegalArgumentException if the jsonSerializable isn't serializable in JSON.
+	 * @see Jsoner#serialize(Object, Writer)
+	 * @since 4.2.0 */
+	public static void serialize(final Object jsonSerializable, final OutputStream writableDestination) throws IOException{
+		final Utf8Writer writable = new Utf8Writer(writableDestination);
+		Jsoner.serialize(jsonSerializable, writable);
+		writable.finish();
+		writableDestination.flush();
 	}
 
 	/** Serializes values according to the RFC 7159 JSON specification. It will also trust the serialization provided by
@@ -625,6 +1463,45 @@ public class Jsoner{
 		Jsoner.serialize(jsonSerializable, writableDestination, EnumSet.of(SerializationOptions.ALLOW_JSONABLES));
 	}
 
+	/** Serializes values like Jsoner#serialize(Object, Writer), except arrays and objects can't nest deeper than a
+	 * maximum depth. Containers are serialized from a stack kept in arrays instead of recursively, so values nested to
+	 * any depth serialize without overflowing the thread's stack, but a limit keeps an unexpectedly deep value from
+	 * being written at all. A container that contains itself fails to serialize, with or without a limit.
+	 * @param jsonSerializable represents the object that should be serialized in JSON format.
+	 * @param writableDestination represents where the resulting JSON text is written to.
+	 * @param maxDepth represents how deep arrays and objects can nest, where the outermost one is at a depth of 1.
+	 * @throws IOException if the writableDestination encounters an I/O problem, like being closed while in use.
+	 * @throws IllegalArgumentException if the jsonSerializable isn't serializable in JSON, nests deeper than the
+	 *         maxDepth, or contains itself.
+	 * @since 4.2.0 */
+	public static void serialize(final Object jsonSerializable, final Writer writableDestination, final int maxDepth) throws IOException{
+		Jsoner.serialize(jsonSerializable, writableDestination, EnumSet.of(SerializationOptions.ALLOW_JSONABLES), maxDepth);
+	}
+
+	/** Serializes values like Jsoner#serialize(Object, Writer), except the JSON text is laid out for people to read as
+	 * it is serialized, instead of being serialized and then lexed again by Jsoner#prettyPrint(String). Each value of
+	 * an array or entry of an object is written on a line of its own, indented once for each array and object it is
+	 * in, the same way Jsoner#prettyPrint(Reader, Writer, String, String) lays it out, except an empty array or object
+	 * is written on one line. JsonObjects and JsonArrays are always serialized again, even if they kept their JSON text,
+	 * but the JSON text of a Jsonable, a RawJson, or a value with a registered serializer is written as it is given.
+	 * @param jsonSerializable represents the object that should be serialized in JSON format.
+	 * @param writableDestination represents where the resulting JSON text is written to.
+	 * @param options represents the indentation, newline, whether keys are sorted, and which arrays are written on
+	 *        one line.
+	 * @throws IOException if the writableDestination encounters an I/O problem, like being closed while in use.
+	 * @throws IllegalArgumentException if the jsonSerializable isn't serializable in JSON, or the options are null.
+	 * @see PrettyPrintOptions
+	 * @since 4.2.0 */
+	public static void serialize(final Object jsonSerializable, final Writer writableDestination, final PrettyPrintOptions options) throws IOException{
+		if(options == null){
+			throw new IllegalArgumentException("The options can't be null, use PrettyPrintOptions.DEFAULT instead.");
+		}
+		final Set<SerializationOptions> flags = EnumSet.of(SerializationOptions.ALLOW_JSONABLES);
+		final SerializationStack stack = new SerializationStack(writableDestination, Integer.MAX_VALUE, options, false);
+		Jsoner.serializeValue(jsonSerializable, stack, flags);
+		Jsoner.serializeNested(stack, flags);
+	}
+
 	/** Serialize values to JSON and write them to the provided writer based on behavior flags.
 	 * @param jsonSerializable represents the object that should be serialized to a string in JSON format.
 	 * @param writableDestination represents where the resulting JSON text is written to.
@@ -633,229 +1510,940 @@ public class Jsoner{
 	 * @throws IllegalArgumentException if the jsonSerializable isn't serializable in JSON.
 	 * @see SerializationOptions */
 	private static void serialize(final Object jsonSerializable, final Writer writableDestination, final Set<SerializationOptions> flags) throws IOException{
-		if(jsonSerializable == null){
-			/* When a null is passed in the word null is supported in JSON. */
-			writableDestination.write("null");
-		}else if(((jsonSerializable instanceof Jsonable) && flags.contains(SerializationOptions.ALLOW_JSONABLES))){
-			/* Writes the writable as defined by the writable. */
-			writableDestination.write(((Jsonable)jsonSerializable).toJson());
-		}else if(jsonSerializable instanceof String){
-			/* Make sure the string is properly escaped. */
-			writableDestination.write('"');
-			writableDestination.write(Jsoner.escape((String)jsonSerializable));
-			writableDestination.write('"');
-		}else if(jsonSerializable instanceof Character){
-			/* Make sure the string is properly escaped.
-			 * Quotes for some reason are necessary for String, but not Character. */
-			writableDestination.write(Jsoner.escape(jsonSerializable.toString()));
-		}else if(jsonSerializable instanceof Double){
-			if(((Double)jsonSerializable).isInfinite() || ((Double)jsonSerializable).isNaN()){
-				/* Infinite and not a number are not supported by the JSON specification, so null is used instead. */
-				writableDestination.write("null");
-			}else{
-				writableDestination.write(jsonSerializable.toString());
+		Jsoner.serialize(jsonSerializable, writableDestination, flags, Integer.MAX_VALUE);
+	}
+
+	/** Serialize values to JSON and write them to the provided writer based on behavior flags, without nesting arrays
+	 * and objects deeper than a maximum depth.
+	 * @param jsonSerializable represents the object that should be serialized to a string in JSON format.
+	 * @param writableDestination represents where the resulting JSON text is written to.
+	 * @param flags represents the allowances and restrictions on serialization.
+	 * @param maxDepth represents how deep arrays and objects can nest.
+	 * @throws IOException if the writableDestination encounters an I/O problem.
+	 * @throws IllegalArgumentException if the jsonSerializable isn't serializable in JSON, nests deeper than the
+	 *         maxDepth, or contains itself.
+	 * @see SerializationOptions */
+	private static void serialize(final Object jsonSerializable, final Writer writableDestination, final Set<SerializationOptions> flags, final int maxDepth) throws IOException{
+		final SerializationStack stack = new SerializationStack(writableDestination, maxDepth, null, flags.contains(SerializationOptions.CANONICAL));
+		Jsoner.serializeValue(jsonSerializable, stack, flags);
+		Jsoner.serializeNested(stack, flags);
+	}
+
+	/** Writes the first length elements of a primitive array in JSON array format, formatting each of them into a buffer
+	 * that is written in bulk instead of boxing and serializing each of them separately.
+	 * @param values represents the boolean, byte, char, double, float, int, long, or short array to serialize.
+	 * @param length represents how many of the values are serialized.
+	 * @param writableDestination represents where the resulting JSON text is written to.
+	 * @throws IOException if the writableDestination encounters an I/O problem. */
+	static void serializeArray(final Object values, final int length, final Writer writableDestination) throws IOException{
+		if((length == 0) && (values instanceof char[])){
+			/* Empty character arrays have always been written as an array holding an empty string. */
+			writableDestination.write("[\"\"]");
+			return;
+		}
+		/* Sized for short arrays to be written at once, without overflowing for long ones. */
+		final char[] buffer = new char[length >= (Jsoner.BUFFER_SIZE / Jsoner.MAX_ELEMENT_CHARS) ? Jsoner.BUFFER_SIZE : (length + 1) * Jsoner.MAX_ELEMENT_CHARS];
+		int position = 0;
+		buffer[position++] = '[';
+		for(int i = 0; i < length; i++){
+			if(position > (buffer.length - Jsoner.MAX_ELEMENT_CHARS)){
+				writableDestination.write(buffer, 0, position);
+				position = 0;
 			}
-		}else if(jsonSerializable instanceof Float){
-			if(((Float)jsonSerializable).isInfinite() || ((Float)jsonSerializable).isNaN()){
-				/* Infinite and not a number are not supported by the JSON specification, so null is used instead. */
-				writableDestination.write("null");
-			}else{
-				writableDestination.write(jsonSerializable.toString());
+			if(i > 0){
+				buffer[position++] = ',';
 			}
-		}else if(jsonSerializable instanceof Number){
-			writableDestination.write(jsonSerializable.toString());
-		}else if(jsonSerializable instanceof Boolean){
-			writableDestination.write(jsonSerializable.toString());
-		}else if(jsonSerializable instanceof Map){
-			/* Writes the map in JSON object format. */
-			boolean isFirstEntry = true;
-			@SuppressWarnings("rawtypes")
-			final Iterator entries = ((Map)jsonSerializable).entrySet().iterator();
-			writableDestination.write('{');
-			while(entries.hasNext()){
-				if(isFirstEntry){
-					isFirstEntry = false;
-				}else{
-					writableDestination.write(',');
+			position = Jsoner.writeArrayElement(buffer, position, values, i);
+		}
+		buffer[position++] = ']';
+		writableDestination.write(buffer, 0, position);
+	}
+
+	/** Writes the JSON text a JsonObject or JsonArray keeps, serializing it again first if there isn't any or it or a
+	 * container within it changed since.
+	 * @param container represents the JsonObject or JsonArray being serialized.
+	 * @param writableDestination represents where the resulting JSON text is written to.
+	 * @throws IOException if the writableDestination encounters an I/O problem.
+	 * @throws IllegalArgumentException if the container isn't serializable in JSON.
+	 * @see JsonObject#setSerializationCached(boolean) */
+	static void serializeCached(final Jsonable container, final Writer writableDestination) throws IOException{
+		final SerializationStack stack = new SerializationStack(writableDestination, Integer.MAX_VALUE, null, false);
+		Jsoner.serializeCached(container, stack);
+		Jsoner.serializeNested(stack, EnumSet.of(SerializationOptions.ALLOW_JSONABLES));
+	}
+
+	/** Writes the JSON text a JsonObject or JsonArray keeps, or starts serializing it again if there isn't any or it or
+	 * a container within it changed since. Its text is gathered separately while it is serialized, so it can be kept
+	 * once its level is removed from the stack.
+	 * @param container represents the JsonObject or JsonArray being serialized.
+	 * @param stack represents the arrays and objects being serialized and where the resulting JSON text is written to.
+	 * @throws IOException if the writer encounters an I/O problem.
+	 * @throws IllegalArgumentException if the container nests too deep or contains itself. */
+	private static void serializeCached(final Jsonable container, final SerializationStack stack) throws IOException{
+		final boolean isObject = container instanceof JsonObject;
+		final SerializedForm serializedForm = isObject ? ((JsonObject)container).getSerializedForm() : ((JsonArray)container).getSerializedForm();
+		if((serializedForm != null) && serializedForm.isCurrent()){
+			stack.getWriter().write(serializedForm.getJson());
+		}else if(isObject){
+			final SerializedForm gathered = new SerializedForm(container);
+			((JsonObject)container).setSerializedForm(gathered);
+			stack.push(container, ((JsonObject)container).untrackedEntries(), true, gathered);
+		}else{
+			final SerializedForm gathered = new SerializedForm(container);
+			((JsonArray)container).setSerializedForm(gathered);
+			stack.push(container, ((JsonArray)container).iterator(), false, gathered);
+		}
+	}
+
+	/** Serializes a value the canonical way if it isn't already written that way. Strings are only escaped where they
+	 * have to be, numbers are written as the doubles closest to them, and the JSON text of Jsonables, RawJsons, and
+	 * values with a registered serializer is deserialized and serialized again.
+	 * @param jsonSerializable represents the object that should be serialized in JSON format.
+	 * @param kind represents how the object serializes.
+	 * @param dispatch represents the serializer registered for the object's class, if there is one.
+	 * @param stack represents the arrays and objects being serialized and where the resulting JSON text is written to.
+	 * @param flags represents the allowances and restrictions on serialization.
+	 * @return whether the value was serialized, otherwise it serializes the same way it does when it isn't canonical.
+	 * @throws IOException if the writer encounters an I/O problem.
+	 * @throws IllegalArgumentException if the value is a number that isn't finite, or its JSON text isn't valid. */
+	private static boolean serializeCanonical(final Object jsonSerializable, final SerializationKinds kind, final Dispatch dispatch, final SerializationStack stack, final Set<SerializationOptions> flags) throws IOException{
+		final String json;
+		switch(kind){
+			case STRING:
+			case CHARACTER:
+				Jsoner.writeCanonical(stack.getWriter(), jsonSerializable.toString());
+				return true;
+			case DOUBLE:
+			case FLOAT:
+			case WHOLE_NUMBER:
+			case BIG_DECIMAL:
+			case NUMBER:{
+				final double value = ((Number)jsonSerializable).doubleValue();
+				if(Double.isInfinite(value) || Double.isNaN(value)){
+					throw new IllegalArgumentException("Encountered a: " + jsonSerializable.getClass().getName() + " as: " + jsonSerializable.toString() + " that isn't finite, so it has no canonical JSON.");
 				}
-				@SuppressWarnings("rawtypes")
-				final Map.Entry entry = (Map.Entry)entries.next();
-				Jsoner.serialize(entry.getKey(), writableDestination, flags);
-				writableDestination.write(':');
-				Jsoner.serialize(entry.getValue(), writableDestination, flags);
-			}
-			writableDestination.write('}');
-		}else if(jsonSerializable instanceof Collection){
-			/* Writes the collection in JSON array format. */
-			boolean isFirstElement = true;
-			@SuppressWarnings("rawtypes")
-			final Iterator elements = ((Collection)jsonSerializable).iterator();
-			writableDestination.write('[');
-			while(elements.hasNext()){
-				if(isFirstElement){
-					isFirstElement = false;
+				final char[] buffer = stack.getScratch();
+				stack.getWriter().write(buffer, 0, NumberWriter.writeCanonical(buffer, 0, value));
+				return true;
+			}
+			case JSONABLE:
+				json = ((Jsonable)jsonSerializable).toJson();
+				break;
+			case RAW_JSON:
+				json = ((RawJson)jsonSerializable).toJson();
+				break;
+			case CUSTOM:{
+				final TextWriter writable = TextWriter.reusing();
+				dispatch.serializer.serialize(jsonSerializable, writable);
+				json = writable.release();
+				break;
+			}
+			default:
+				return false;
+		}
+		/* Text that was already serialized isn't necessarily canonical, so its values are serialized again. */
+		final Object deserialized;
+		try{
+			deserialized = Jsoner.deserialize(json);
+		}catch(final JsonException caught){
+			throw new IllegalArgumentException("Encountered a: " + jsonSerializable.getClass().getName() + " whose JSON text isn't valid, so it has no canonical JSON.", caught);
+		}
+		Jsoner.serializeValue(deserialized, stack, flags);
+		return true;
+	}
+
+	/** A convenience method that serializes canonically to a String.
+	 * @param jsonSerializable represents the object that should be serialized as a string in JSON format.
+	 * @return a string, in canonical JSON format, that represents the object provided.
+	 * @throws IllegalArgumentException if the jsonSerializable isn't serializable in JSON, or holds a number that isn't
+	 *         finite.
+	 * @see Jsoner#serializeCanonically(Object, Writer)
+	 * @since 4.2.0 */
+	public static String serializeCanonically(final Object jsonSerializable){
+		final TextWriter writableDestination = TextWriter.reusing();
+		try{
+			Jsoner.serializeCanonically(jsonSerializable, writableDestination);
+		}catch(final IOException caught){
+			/* See eu.kofis.json_simple.TextWriter. */
+		}
+		return writableDestination.release();
+	}
+
+	/** Serializes values canonically, like the JSON Canonicalization Scheme of RFC 8785, so values that are equal as
+	 * JSON always serialize to the same text, which can be compared or hashed. There isn't any whitespace, the entries
+	 * of objects are written in the order of their keys' UTF-16 code units, strings only escape quotes, backslashes,
+	 * and control characters, and every number is written as the double closest to it in the format ECMAScript uses.
+	 * Numbers with more precision than a double, like large longs and BigDecimals, lose it. Jsonables are trusted to
+	 * produce valid JSON, but their text is deserialized and serialized again since it may not be canonical, and
+	 * JsonObjects and JsonArrays never copy text they kept.
+	 * @param jsonSerializable represents the object that should be serialized in JSON format.
+	 * @param writableDestination represents where the resulting JSON text is written to, which should encode it as
+	 *        UTF-8 for it to be canonical.
+	 * @throws IOException if the writableDestination encounters an I/O problem, like being closed while in use.
+	 * @throws IllegalArgumentException if the jsonSerializable isn't serializable in JSON, or holds a number that isn't
+	 *         finite.
+	 * @see <a href="https://www.rfc-editor.org/rfc/rfc8785">RFC 8785</a>
+	 * @see Jsoner#digest(Object, MessageDigest)
+	 * @since 4.2.0 */
+	public static void serializeCanonically(final Object jsonSerializable, final Writer writableDestination) throws IOException{
+		Jsoner.serialize(jsonSerializable, writableDestination, EnumSet.of(SerializationOptions.ALLOW_JSONABLES, SerializationOptions.CANONICAL));
+	}
+
+	/** Serializes like the first version of this library.
+	 * It has been adapted to use Jsonable for serializing custom objects, but otherwise works like the old JSON string
+	 * serializer. It will allow non-JSON values in its output like the old one. It can be helpful for last resort log
+	 * statements and debugging errors in self generated JSON. Anything serialized using this method isn't guaranteed to
+	 * be deserializable.
+	 * @param jsonSerializable represents the object that should be serialized in JSON format.
+	 * @param writableDestination represents where the resulting JSON text is written to.
+	 * @throws IOException if the writableDestination encounters an I/O problem, like being closed while in use. */
+	public static void serializeCarelessly(final Object jsonSerializable, final Writer writableDestination) throws IOException{
+		Jsoner.serialize(jsonSerializable, writableDestination, EnumSet.of(SerializationOptions.ALLOW_JSONABLES, SerializationOptions.ALLOW_INVALIDS));
+	}
+
+	/** Serializes the values of the arrays and objects on the stack until all of them are done. The deepest level's
+	 * next value is serialized each time around, and a value that is an array or object adds a level of its own
+	 * instead of being serialized recursively. A level whose container is done is removed, and if it was gathering
+	 * its text that text is kept as the container's SerializedForm, unless it went through a value whose changes
+	 * can't be noticed, and written where the level below writes.
+	 * @param stack represents the arrays and objects being serialized and where the resulting JSON text is written to.
+	 * @param flags represents the allowances and restrictions on serialization.
+	 * @throws IOException if the writer encounters an I/O problem.
+	 * @throws IllegalArgumentException if a value isn't serializable in JSON, nests too deep, or contains itself. */
+	private static void serializeNested(final SerializationStack stack, final Set<SerializationOptions> flags) throws IOException{
+		while(!stack.isEmpty()){
+			if(stack.hasPendingValue()){
+				/* The entry's key was serialized, even if it took levels of its own. */
+				stack.getWriter().write(':');
+				Jsoner.serializeValue(stack.takePendingValue(), stack, flags);
+			}else if(stack.hasNext()){
+				if(stack.isObject()){
+					final Map.Entry<?, ?> entry = (Map.Entry<?, ?>)stack.next();
+					stack.setPendingValue(entry.getValue());
+					Jsoner.serializeValue(entry.getKey(), stack, flags);
 				}else{
-					writableDestination.write(',');
+					Jsoner.serializeValue(stack.next(), stack, flags);
 				}
-				Jsoner.serialize(elements.next(), writableDestination, flags);
-			}
-			writableDestination.write(']');
-		}else if(jsonSerializable instanceof byte[]){
-			/* Writes the array in JSON array format. */
-			final byte[] writableArray = (byte[])jsonSerializable;
-			final int numberOfElements = writableArray.length;
-			writableDestination.write('[');
-			for(int i = 0; i < numberOfElements; i++){
-				if(i == (numberOfElements - 1)){
-					Jsoner.serialize(writableArray[i], writableDestination, flags);
-				}else{
-					Jsoner.serialize(writableArray[i], writableDestination, flags);
-					writableDestination.write(',');
+			}else if(stack.isCaching()){
+				final SerializedForm form = stack.getForm();
+				final String json = ((TextWriter)stack.pop()).release();
+				if(!form.finish(json)){
+					/* The text of whatever the container is in went through the same untracked value. */
+					stack.distrust();
 				}
+				stack.getWriter().write(json);
+			}else{
+				stack.pop();
 			}
-			writableDestination.write(']');
-		}else if(jsonSerializable instanceof short[]){
-			/* Writes the array in JSON array format. */
-			final short[] writableArray = (short[])jsonSerializable;
-			final int numberOfElements = writableArray.length;
-			writableDestination.write('[');
-			for(int i = 0; i < numberOfElements; i++){
-				if(i == (numberOfElements - 1)){
-					Jsoner.serialize(writableArray[i], writableDestination, flags);
-				}else{
-					Jsoner.serialize(writableArray[i], writableDestination, flags);
-					writableDestination.write(',');
-				}
+		}
+	}
+
+	/** Serializes values like Jsoner#serialize(Object, OutputStream), except the arrays and objects in the value that
+	 * hold at least 8192 elements or entries are split into ranges that are serialized on a pool's workers.
+	 * @param jsonSerializable represents the object that should be serialized in JSON format.
+	 * @param writableDestination represents where the resulting UTF-8 bytes are written to.
+	 * @param pool represents where the ranges are serialized.
+	 * @throws IOException if the writableDestination encounters an I/O problem, like being closed while in use.
+	 * @throws IllegalArgumentException if the jsonSerializable isn't serializable in JSON, or the pool is null.
+	 * @see Jsoner#serializeParallel(Object, OutputStream, ForkJoinPool, int)
+	 * @since 4.2.0 */
+	public static void serializeParallel(final Object jsonSerializable, final OutputStream writableDestination, final ForkJoinPool pool) throws IOException{
+		Jsoner.serializeParallel(jsonSerializable, writableDestination, pool, ParallelSerializer.DEFAULT_THRESHOLD);
+	}
+
+	/** Serializes values like Jsoner#serialize(Object, OutputStream), except the arrays and objects in the value that
+	 * hold at least a threshold of elements or entries are split into ranges. Each range is serialized as UTF-8 into a
+	 * buffer of its own on a pool's workers, and the buffers are written to the stream in order, so the bytes written
+	 * are exactly the ones serializing sequentially writes. Arrays and objects below the threshold are looked into for
+	 * larger ones, except when they are nested deeply, and everything that isn't split is serialized on the calling
+	 * thread. The elements are copied before they are serialized, so the value must not be changed until this returns.
+	 * @param jsonSerializable represents the object that should be serialized in JSON format.
+	 * @param writableDestination represents where the resulting UTF-8 bytes are written to. The bytes are written as
+	 *        the ranges are serialized in large writes, and the stream is flushed once all of them have been written,
+	 *        but it isn't closed.
+	 * @param pool represents where the ranges are serialized.
+	 * @param threshold represents how many elements or entries an array or object holds before it is split, it is only
+	 *        worth splitting ones that take far longer to serialize than handing ranges to the workers does.
+	 * @throws IOException if the writableDestination encounters an I/O problem, like being closed while in use.
+	 * @throws IllegalArgumentException if the jsonSerializable isn't serializable in JSON, the pool is null, or the
+	 *         threshold isn't positive.
+	 * @since 4.2.0 */
+	public static void serializeParallel(final Object jsonSerializable, final OutputStream writableDestination, final ForkJoinPool pool, final int threshold) throws IOException{
+		if(pool == null){
+			throw new IllegalArgumentException("The pool can't be null, serialize sequentially instead.");
+		}
+		if(threshold < 1){
+			throw new IllegalArgumentException("An array or object can't be split before it holds any values, but the threshold was " + threshold + ".");
+		}
+		new ParallelSerializer(writableDestination, pool, threshold).serialize(jsonSerializable);
+		writableDestination.flush();
+	}
+
+	/** Serializes some of the elements of an array or entries of an object with commas between them but not around
+	 * them, which is how ranges of them are serialized separately.
+	 * @param values represents the elements of the array or Map.Entries of the object.
+	 * @param from represents the index of the first value serialized.
+	 * @param to represents the index after the last value serialized.
+	 * @param isObject represents whether the values are the entries of an object.
+	 * @param writableDestination represents where the resulting JSON text is written to.
+	 * @throws IOException if the writableDestination encounters an I/O problem.
+	 * @throws IllegalArgumentException if a value isn't serializable in JSON, nests too deep, or contains itself.
+	 * @see Jsoner#elementsToSplit(Object) */
+	static void serializeRange(final Object[] values, final int from, final int to, final boolean isObject, final Writer writableDestination) throws IOException{
+		final Set<SerializationOptions> flags = EnumSet.of(SerializationOptions.ALLOW_JSONABLES);
+		final SerializationStack stack = new SerializationStack(writableDestination, Integer.MAX_VALUE, null, false);
+		for(int i = from; i < to; i++){
+			if(i > from){
+				writableDestination.write(',');
 			}
-			writableDestination.write(']');
-		}else if(jsonSerializable instanceof int[]){
-			/* Writes the array in JSON array format. */
-			final int[] writableArray = (int[])jsonSerializable;
-			final int numberOfElements = writableArray.length;
-			writableDestination.write('[');
-			for(int i = 0; i < numberOfElements; i++){
-				if(i == (numberOfElements - 1)){
-					Jsoner.serialize(writableArray[i], writableDestination, flags);
-				}else{
-					Jsoner.serialize(writableArray[i], writableDestination, flags);
-					writableDestination.write(',');
-				}
+			if(isObject){
+				final Map.Entry<?, ?> entry = (Map.Entry<?, ?>)values[i];
+				Jsoner.serializeValue(entry.getKey(), stack, flags);
+				Jsoner.serializeNested(stack, flags);
+				writableDestination.write(':');
+				Jsoner.serializeValue(entry.getValue(), stack, flags);
+			}else{
+				Jsoner.serializeValue(values[i], stack, flags);
 			}
-			writableDestination.write(']');
-		}else if(jsonSerializable instanceof long[]){
-			/* Writes the array in JSON array format. */
-			final long[] writableArray = (long[])jsonSerializable;
-			final int numberOfElements = writableArray.length;
-			writableDestination.write('[');
-			for(int i = 0; i < numberOfElements; i++){
-				if(i == (numberOfElements - 1)){
-					Jsoner.serialize(writableArray[i], writableDestination, flags);
+			Jsoner.serializeNested(stack, flags);
+		}
+	}
+
+	/** Serializes JSON values and only JSON values according to the RFC 7159 JSON specification.
+	 * @param jsonSerializable represents the object that should be serialized in JSON format.
+	 * @param writableDestination represents where the resulting JSON text is written to.
+	 * @throws IOException if the writableDestination encounters an I/O problem, like being closed while in use.
+	 * @throws IllegalArgumentException if the jsonSerializable isn't serializable in raw JSON. */
+	public static void serializeStrictly(final Object jsonSerializable, final Writer writableDestination) throws IOException{
+		Jsoner.serialize(jsonSerializable, writableDestination, EnumSet.noneOf(SerializationOptions.class));
+	}
+
+	/** Serializes values like Jsoner#serialize(Object) into a char array that is exactly as long as the JSON text. The
+	 * value is serialized twice, once to measure it and once to fill the array, so nothing is copied or grown.
+	 * @param jsonSerializable represents the object that should be serialized in JSON format.
+	 * @return the JSON text that represents the object provided, in an array of exactly its length.
+	 * @throws IllegalArgumentException if the jsonSerializable isn't serializable in JSON, or the JSON text is too long
+	 *         for an array.
+	 * @throws IllegalStateException if the jsonSerializable serializes differently the second time, like a Jsonable
+	 *         or JsonSerializer that doesn't always produce the same text.
+	 * @see Jsoner#serializedLength(Object)
+	 * @since 4.2.0 */
+	public static char[] serializeToChars(final Object jsonSerializable){
+		final char[] returnable = new char[Jsoner.toArrayLength(Jsoner.measure(jsonSerializable).getChars())];
+		final TextWriter writable = new TextWriter(returnable);
+		try{
+			Jsoner.serialize(jsonSerializable, writable);
+		}catch(final IOException caught){
+			/* See eu.kofis.json_simple.TextWriter. */
+		}
+		if(writable.size() != returnable.length){
+			throw new IllegalStateException("The value serialized to " + writable.size() + " chars after it was measured as " + returnable.length + " chars.");
+		}
+		return returnable;
+	}
+
+	/** Serializes values like Jsoner#serialize(Object, ByteBuffer) into a byte array that is exactly as long as the
+	 * UTF-8 encoded JSON text. The value is serialized twice, once to measure it and once to fill the array, so the
+	 * array can be handed to a single write after its length is announced, like in a Content-Length header.
+	 * @param jsonSerializable represents the object that should be serialized in JSON format.
+	 * @return the UTF-8 bytes of the JSON text that represents the object provided, in an array of exactly their
+	 *         length.
+	 * @throws IllegalArgumentException if the jsonSerializable isn't serializable in JSON, or the JSON text is too long
+	 *         for an array.
+	 * @throws IllegalStateException if the jsonSerializable serializes differently the second time, like a Jsonable
+	 *         or JsonSerializer that doesn't always produce the same text.
+	 * @see Jsoner#serializedUtf8Length(Object)
+	 * @since 4.2.0 */
+	public static byte[] serializeToUtf8(final Object jsonSerializable){
+		final byte[] returnable = new byte[Jsoner.toArrayLength(Jsoner.measure(jsonSerializable).getBytes())];
+		final ByteBuffer buffer = ByteBuffer.wrap(returnable);
+		final Utf8Writer writable = new Utf8Writer(buffer);
+		try{
+			Jsoner.serialize(jsonSerializable, writable);
+			writable.finish();
+		}catch(final BufferOverflowException caught){
+			throw new IllegalStateException("The value serialized to more bytes than the " + returnable.length + " it was measured as.");
+		}catch(final IOException caught){
+			/* See java.nio.ByteBuffer, a Utf8Writer only throws when its stream does. */
+		}
+		if(buffer.hasRemaining()){
+			throw new IllegalStateException("The value serialized to " + buffer.position() + " bytes after it was measured as " + returnable.length + " bytes.");
+		}
+		return returnable;
+	}
+
+	/** Serializes a value, or starts serializing an array or object by adding a level for it to the stack.
+	 * @param jsonSerializable represents the object that should be serialized to a string in JSON format.
+	 * @param stack represents the arrays and objects being serialized and where the resulting JSON text is written to.
+	 * @param flags represents the allowances and restrictions on serialization.
+	 * @throws IOException if the writer encounters an I/O problem.
+	 * @throws IllegalArgumentException if the jsonSerializable isn't serializable in JSON, nests too deep, or contains
+	 *         itself.
+	 * @see SerializationOptions */
+	private static void serializeValue(final Object jsonSerializable, final SerializationStack stack, final Set<SerializationOptions> flags) throws IOException{
+		final Writer writableDestination = stack.getWriter();
+		if(jsonSerializable == null){
+			/* When a null is passed in the word null is supported in JSON. */
+			writableDestination.write("null");
+			return;
+		}
+		final boolean allowingJsonables = flags.contains(SerializationOptions.ALLOW_JSONABLES);
+		final Dispatch dispatch = Jsoner.dispatch(jsonSerializable.getClass());
+		final SerializationKinds kind = allowingJsonables ? dispatch.kind : dispatch.kindWithoutJsonables;
+		if(flags.contains(SerializationOptions.CANONICAL) && Jsoner.serializeCanonical(jsonSerializable, kind, dispatch, stack, flags)){
+			return;
+		}
+		if(Jsoner.UNTRACKED_KINDS.contains(kind)){
+			stack.distrust();
+		}
+		switch(kind){
+			case CUSTOM:
+				/* Writes the value as its registered serializer defines it. */
+				dispatch.serializer.serialize(jsonSerializable, writableDestination);
+				break;
+			case JSON_OBJECT:
+				/* Whichever way it is written, a change to it makes the text being gathered around it out of date. */
+				stack.include(jsonSerializable);
+				if((((JsonObject)jsonSerializable).getSourceSpan() != null) && allowingJsonables && !flags.contains(SerializationOptions.ALLOW_INVALIDS) && !stack.isRewriting()){
+					/* Copies the text it was deserialized from, it hasn't changed since. */
+					((JsonObject)jsonSerializable).getSourceSpan().write(writableDestination);
+				}else if(((JsonObject)jsonSerializable).isSerializationCached() && allowingJsonables && !flags.contains(SerializationOptions.ALLOW_INVALIDS) && !stack.isRewriting()){
+					Jsoner.serializeCached((JsonObject)jsonSerializable, stack);
 				}else{
-					Jsoner.serialize(writableArray[i], writableDestination, flags);
-					writableDestination.write(',');
+					/* Reads the entries without the view that counts changes made through it. */
+					stack.push(jsonSerializable, ((JsonObject)jsonSerializable).untrackedEntries(), true, null);
 				}
-			}
-			writableDestination.write(']');
-		}else if(jsonSerializable instanceof float[]){
-			/* Writes the array in JSON array format. */
-			final float[] writableArray = (float[])jsonSerializable;
-			final int numberOfElements = writableArray.length;
-			writableDestination.write('[');
-			for(int i = 0; i < numberOfElements; i++){
-				if(i == (numberOfElements - 1)){
-					Jsoner.serialize(writableArray[i], writableDestination, flags);
+				break;
+			case JSON_ARRAY:
+				stack.include(jsonSerializable);
+				if((((JsonArray)jsonSerializable).getSourceSpan() != null) && allowingJsonables && !flags.contains(SerializationOptions.ALLOW_INVALIDS) && !stack.isRewriting()){
+					((JsonArray)jsonSerializable).getSourceSpan().write(writableDestination);
+				}else if(((JsonArray)jsonSerializable).isSerializationCached() && allowingJsonables && !flags.contains(SerializationOptions.ALLOW_INVALIDS) && !stack.isRewriting()){
+					Jsoner.serializeCached((JsonArray)jsonSerializable, stack);
 				}else{
-					Jsoner.serialize(writableArray[i], writableDestination, flags);
-					writableDestination.write(',');
+					stack.push(jsonSerializable, ((JsonArray)jsonSerializable).iterator(), false, null);
 				}
-			}
-			writableDestination.write(']');
-		}else if(jsonSerializable instanceof double[]){
-			/* Writes the array in JSON array format. */
-			final double[] writableArray = (double[])jsonSerializable;
-			final int numberOfElements = writableArray.length;
-			writableDestination.write('[');
-			for(int i = 0; i < numberOfElements; i++){
-				if(i == (numberOfElements - 1)){
-					Jsoner.serialize(writableArray[i], writableDestination, flags);
+				break;
+			case JSON_DOUBLE_ARRAY:
+				if(((JsonDoubleArray)jsonSerializable).isPrimitive() && !stack.isRewriting()){
+					/* Writes the doubles straight from the array instead of boxing each of them. */
+					((JsonDoubleArray)jsonSerializable).toJson(writableDestination);
 				}else{
-					Jsoner.serialize(writableArray[i], writableDestination, flags);
-					writableDestination.write(',');
+					stack.push(jsonSerializable, ((Collection<?>)jsonSerializable).iterator(), false, null);
 				}
-			}
-			writableDestination.write(']');
-		}else if(jsonSerializable instanceof boolean[]){
-			/* Writes the array in JSON array format. */
-			final boolean[] writableArray = (boolean[])jsonSerializable;
-			final int numberOfElements = writableArray.length;
-			writableDestination.write('[');
-			for(int i = 0; i < numberOfElements; i++){
-				if(i == (numberOfElements - 1)){
-					Jsoner.serialize(writableArray[i], writableDestination, flags);
+				break;
+			case JSON_LONG_ARRAY:
+				if(((JsonLongArray)jsonSerializable).isPrimitive() && !stack.isRewriting()){
+					/* Writes the longs straight from the array instead of boxing each of them. */
+					((JsonLongArray)jsonSerializable).toJson(writableDestination);
 				}else{
-					Jsoner.serialize(writableArray[i], writableDestination, flags);
-					writableDestination.write(',');
+					stack.push(jsonSerializable, ((Collection<?>)jsonSerializable).iterator(), false, null);
 				}
+				break;
+			case JSONABLE:
+				/* Writes the writable as defined by the writable. */
+				writableDestination.write(((Jsonable)jsonSerializable).toJson());
+				break;
+			case RAW_JSON:
+				/* Writes the text as is, it is already JSON. */
+				writableDestination.write(((RawJson)jsonSerializable).toJson());
+				break;
+			case STRING:
+				/* Make sure the string is properly escaped. */
+				writableDestination.write('"');
+				writableDestination.write(Jsoner.escape((String)jsonSerializable));
+				writableDestination.write('"');
+				break;
+			case CHARACTER:
+				/* Make sure the string is properly escaped.
+				 * Quotes for some reason are necessary for String, but not Character. */
+				writableDestination.write(Jsoner.escape(jsonSerializable.toString()));
+				break;
+			case DOUBLE:{
+				/* Formats the shortest decimal that reads back as the same double, or null if there isn't one. */
+				final char[] buffer = stack.getScratch();
+				writableDestination.write(buffer, 0, Jsoner.writeDouble(buffer, 0, ((Double)jsonSerializable).doubleValue()));
+				break;
 			}
-			writableDestination.write(']');
-		}else if(jsonSerializable instanceof char[]){
-			/* Writes the array in JSON array format. */
-			final char[] writableArray = (char[])jsonSerializable;
-			final int numberOfElements = writableArray.length;
-			writableDestination.write("[\"");
-			for(int i = 0; i < numberOfElements; i++){
-				if(i == (numberOfElements - 1)){
-					Jsoner.serialize(writableArray[i], writableDestination, flags);
+			case FLOAT:{
+				/* Formats the shortest decimal that reads back as the same float, or null if there isn't one. */
+				final char[] buffer = stack.getScratch();
+				writableDestination.write(buffer, 0, Jsoner.writeFloat(buffer, 0, ((Float)jsonSerializable).floatValue()));
+				break;
+			}
+			case WHOLE_NUMBER:{
+				/* Formats the digits without creating a String for them. */
+				final char[] buffer = stack.getScratch();
+				writableDestination.write(buffer, 0, NumberWriter.writeLong(buffer, 0, ((Number)jsonSerializable).longValue()));
+				break;
+			}
+			case BIG_DECIMAL:
+				if((((BigDecimal)jsonSerializable).scale() == 0) && (((BigDecimal)jsonSerializable).precision() <= 18)){
+					/* Most lexed numbers are whole and a long holds them exactly, which skips laying out the
+					 * BigDecimal. */
+					final char[] buffer = stack.getScratch();
+					writableDestination.write(buffer, 0, NumberWriter.writeLong(buffer, 0, ((BigDecimal)jsonSerializable).longValue()));
 				}else{
-					Jsoner.serialize(writableArray[i], writableDestination, flags);
-					writableDestination.write("\",\"");
+					writableDestination.write(jsonSerializable.toString());
 				}
-			}
-			writableDestination.write("\"]");
-		}else if(jsonSerializable instanceof Object[]){
-			/* Writes the array in JSON array format. */
-			final Object[] writableArray = (Object[])jsonSerializable;
-			final int numberOfElements = writableArray.length;
-			writableDestination.write('[');
-			for(int i = 0; i < numberOfElements; i++){
-				if(i == (numberOfElements - 1)){
-					Jsoner.serialize(writableArray[i], writableDestination, flags);
+				break;
+			case NUMBER:
+			case BOOLEAN:
+				writableDestination.write(jsonSerializable.toString());
+				break;
+			case MAP:
+				/* Writes the map in JSON object format. */
+				stack.push(jsonSerializable, ((Map<?, ?>)jsonSerializable).entrySet().iterator(), true, null);
+				break;
+			case COLLECTION:
+				/* Writes the collection in JSON array format. */
+				stack.push(jsonSerializable, ((Collection<?>)jsonSerializable).iterator(), false, null);
+				break;
+			case BYTE_ARRAY:
+				/* Writes the array in JSON array format, or its elements on lines of their own when pretty printing. */
+				if(!stack.pushExpanded(jsonSerializable, ((byte[])jsonSerializable).length)){
+					Jsoner.serializeArray(jsonSerializable, ((byte[])jsonSerializable).length, writableDestination);
+				}
+				break;
+			case SHORT_ARRAY:
+				/* Writes the array in JSON array format, or its elements on lines of their own when pretty printing. */
+				if(!stack.pushExpanded(jsonSerializable, ((short[])jsonSerializable).length)){
+					Jsoner.serializeArray(jsonSerializable, ((short[])jsonSerializable).length, writableDestination);
+				}
+				break;
+			case INT_ARRAY:
+				/* Writes the array in JSON array format, or its elements on lines of their own when pretty printing. */
+				if(!stack.pushExpanded(jsonSerializable, ((int[])jsonSerializable).length)){
+					Jsoner.serializeArray(jsonSerializable, ((int[])jsonSerializable).length, writableDestination);
+				}
+				break;
+			case LONG_ARRAY:
+				/* Writes the array in JSON array format, or its elements on lines of their own when pretty printing. */
+				if(!stack.pushExpanded(jsonSerializable, ((long[])jsonSerializable).length)){
+					Jsoner.serializeArray(jsonSerializable, ((long[])jsonSerializable).length, writableDestination);
+				}
+				break;
+			case FLOAT_ARRAY:
+				/* Writes the array in JSON array format, or its elements on lines of their own when pretty printing. */
+				if(!stack.pushExpanded(jsonSerializable, ((float[])jsonSerializable).length)){
+					Jsoner.serializeArray(jsonSerializable, ((float[])jsonSerializable).length, writableDestination);
+				}
+				break;
+			case DOUBLE_ARRAY:
+				/* Writes the array in JSON array format, or its elements on lines of their own when pretty printing. */
+				if(!stack.pushExpanded(jsonSerializable, ((double[])jsonSerializable).length)){
+					Jsoner.serializeArray(jsonSerializable, ((double[])jsonSerializable).length, writableDestination);
+				}
+				break;
+			case BOOLEAN_ARRAY:
+				/* Writes the array in JSON array format, or its elements on lines of their own when pretty printing. */
+				if(!stack.pushExpanded(jsonSerializable, ((boolean[])jsonSerializable).length)){
+					Jsoner.serializeArray(jsonSerializable, ((boolean[])jsonSerializable).length, writableDestination);
+				}
+				break;
+			case CHAR_ARRAY:
+				/* Writes the array in JSON array format, or its elements on lines of their own when pretty printing. */
+				if(!stack.pushExpanded(jsonSerializable, ((char[])jsonSerializable).length)){
+					Jsoner.serializeArray(jsonSerializable, ((char[])jsonSerializable).length, writableDestination);
+				}
+				break;
+			case OBJECT_ARRAY:
+				/* Writes the array in JSON array format. */
+				stack.push(jsonSerializable, Arrays.asList((Object[])jsonSerializable).iterator(), false, null);
+				break;
+			default:
+				/* It cannot by any measure be safely serialized according to specification. */
+				if(flags.contains(SerializationOptions.ALLOW_INVALIDS)){
+					/* Can be helpful for debugging how it isn't valid. */
+					writableDestination.write(jsonSerializable.toString());
 				}else{
-					Jsoner.serialize(writableArray[i], writableDestination, flags);
-					writableDestination.write(",");
+					/* Notify the caller the cause of failure for the serialization. */
+					throw new IllegalArgumentException("Encountered a: " + jsonSerializable.getClass().getName() + " as: " + jsonSerializable.toString() + "  that isn't JSON serializable.\n  Try:\n    1) Implementing the Jsonable interface for the object to return valid JSON. If it already does it probably has a bug.\n    2) If you cannot edit the source of the object or couple it with this library consider wrapping it in a class that does implement the Jsonable interface.\n    3) Otherwise convert it to a boolean, null, number, JsonArray, JsonObject, or String value before serializing it.\n    4) If you feel it should have serialized you could use a more tolerant serialization for debugging purposes.");
 				}
+		}
+	}
+
+	/** Measures how many chars Jsoner#serialize(Object) would produce for a value, escapes included, without keeping
+	 * any of the JSON text.
+	 * @param jsonSerializable represents the object that would be serialized in JSON format.
+	 * @return how many chars the JSON text that represents the object provided is.
+	 * @throws IllegalArgumentException if the jsonSerializable isn't serializable in JSON.
+	 * @since 4.2.0 */
+	public static long serializedLength(final Object jsonSerializable){
+		return Jsoner.measure(jsonSerializable).getChars();
+	}
+
+	/** Measures how many bytes Jsoner#serialize(Object, OutputStream) would produce for a value, escapes included,
+	 * without keeping any of the JSON text.
+	 * @param jsonSerializable represents the object that would be serialized in JSON format.
+	 * @return how many bytes the UTF-8 encoded JSON text that represents the object provided is.
+	 * @throws IllegalArgumentException if the jsonSerializable isn't serializable in JSON.
+	 * @since 4.2.0 */
+	public static long serializedUtf8Length(final Object jsonSerializable){
+		return Jsoner.measure(jsonSerializable).getBytes();
+	}
+
+	/** @param length represents how many chars or bytes an array has to hold.
+	 * @return the length as an array length.
+	 * @throws IllegalArgumentException if the length is too long for an array. */
+	private static int toArrayLength(final long length){
+		if(length > (Integer.MAX_VALUE - 8)){
+			throw new IllegalArgumentException("The JSON text is " + length + " long, which is too long for an array.");
+		}
+		return (int)length;
+	}
+
+	/** Deserializes a readable stream like Jsoner#deserialize(Reader, JsonContainerFactory), except problems are
+	 * returned instead of thrown.
+	 * @param deserializable representing content to be deserialized as JSON.
+	 * @param containers represents where the maps and lists for JSON objects and arrays come from.
+	 * @return the outcome holding either a boolean, null, Number, String, or a map or list from the containers that
+	 *         best represents the deserializable, or how and where the deserializable was invalid.
+	 * @see Jsoner#deserialize(Reader, JsonContainerFactory)
+	 * @since 4.2.0 */
+	public static JsonResult<Object> tryDeserialize(final Reader deserializable, final JsonContainerFactory containers){
+		final JsonResult<JsonArray> returnable = Jsoner.tryDeserialize(deserializable, EnumSet.of(DeserializationOptions.ALLOW_JSON_ARRAYS, DeserializationOptions.ALLOW_JSON_OBJECTS, DeserializationOptions.ALLOW_JSON_DATA), containers);
+		if(!returnable.isSuccess()){
+			return JsonResult.failure(returnable.getPosition(), returnable.getProblemType(), returnable.getUnexpectedObject());
+		}
+		return JsonResult.success(returnable.getValue().get(0));
+	}
+
+	/** Deserializes a readable stream like Jsoner#deserialize(Reader), except problems are returned instead of thrown.
+	 * Neither a successful nor a failed deserialization creates an exception, which keeps rejecting invalid input
+	 * cheap.
+	 * @param deserializable representing content to be deserialized as JSON.
+	 * @return the outcome holding either a boolean, null, Number, String, JsonObject, or JsonArray that best represents
+	 *         the deserializable, or how and where the deserializable was invalid.
+	 * @see Jsoner#deserialize(Reader)
+	 * @since 4.2.0 */
+	public static JsonResult<Object> tryDeserialize(final Reader deserializable){
+		final JsonResult<JsonArray> returnable = Jsoner.tryDeserialize(deserializable, EnumSet.of(DeserializationOptions.ALLOW_JSON_ARRAYS, DeserializationOptions.ALLOW_JSON_OBJECTS, DeserializationOptions.ALLOW_JSON_DATA));
+		if(!returnable.isSuccess()){
+			return JsonResult.failure(returnable.getPosition(), returnable.getProblemType(), returnable.getUnexpectedObject());
+		}
+		return JsonResult.success(returnable.getValue().get(0));
+	}
+
+	/** Deserializes a readable stream like Jsoner#deserialize(Reader, JsonLimits), except problems are returned
+	 * instead of thrown.
+	 * @param deserializable representing content to be deserialized as JSON.
+	 * @param limits represents how much JSON text is deserialized before it fails.
+	 * @return the outcome holding either a boolean, null, Number, String, JsonObject, or JsonArray that best represents
+	 *         the deserializable, or how and where the deserializable was invalid or exceeded the limits.
+	 * @see Jsoner#deserialize(Reader, JsonLimits)
+	 * @since 4.2.0 */
+	public static JsonResult<Object> tryDeserialize(final Reader deserializable, final JsonLimits limits){
+		final JsonResult<JsonArray> returnable = Jsoner.tryDeserialize(deserializable, EnumSet.of(DeserializationOptions.ALLOW_JSON_ARRAYS, DeserializationOptions.ALLOW_JSON_OBJECTS, DeserializationOptions.ALLOW_JSON_DATA), Jsoner.JSON_SIMPLE_CONTAINERS, limits);
+		if(!returnable.isSuccess()){
+			return JsonResult.failure(returnable.getPosition(), returnable.getProblemType(), returnable.getUnexpectedObject());
+		}
+		return JsonResult.success(returnable.getValue().get(0));
+	}
+
+	/** Deserialize a stream with all deserialized JSON values wrapped in a JsonArray, without throwing.
+	 * @param deserializable representing content to be deserialized as JSON.
+	 * @param flags representing the allowances and restrictions on deserialization.
+	 * @return the outcome holding the allowable object best represented by the deserializable, or how and where a
+	 *         disallowed or unexpected token was encountered. */
+	private static JsonResult<JsonArray> tryDeserialize(final Reader deserializable, final Set<DeserializationOptions> flags){
+		return Jsoner.tryDeserialize(deserializable, flags, Jsoner.JSON_SIMPLE_CONTAINERS);
+	}
+
+	/** Deserialize a stream with all deserialized JSON values wrapped in a JsonArray, without throwing.
+	 * @param deserializable representing content to be deserialized as JSON.
+	 * @param flags representing the allowances and restrictions on deserialization.
+	 * @param containers represents where the maps and lists for JSON objects and arrays come from.
+	 * @return the outcome holding the allowable object best represented by the deserializable, or how and where a
+	 *         disallowed or unexpected token was encountered. */
+	private static JsonResult<JsonArray> tryDeserialize(final Reader deserializable, final Set<DeserializationOptions> flags, final JsonContainerFactory containers){
+		return Jsoner.tryDeserialize(deserializable, flags, containers, JsonLimits.NONE);
+	}
+
+	/** Deserialize a stream with all deserialized JSON values wrapped in a JsonArray within limits, without throwing.
+	 * @param deserializable representing content to be deserialized as JSON.
+	 * @param flags representing the allowances and restrictions on deserialization.
+	 * @param containers represents where the maps and lists for JSON objects and arrays come from.
+	 * @param limits represents how much JSON text is deserialized before it fails.
+	 * @return the outcome holding the allowable object best represented by the deserializable, or how and where a
+	 *         disallowed or unexpected token was encountered or a limit was exceeded. */
+	private static JsonResult<JsonArray> tryDeserialize(final Reader deserializable, final Set<DeserializationOptions> flags, final JsonContainerFactory containers, final JsonLimits limits){
+		/* The stream is only wrapped when its length is limited, so unlimited deserialization reads it directly. */
+		final LimitedReader limited = limits.getMaxInputChars() == Long.MAX_VALUE ? null : new LimitedReader(deserializable, limits.getMaxInputChars());
+		final Yylex lexer = new Yylex(limited == null ? deserializable : limited);
+		lexer.setQuiet(true);
+		lexer.setLimits(limits);
+		final JsonArray returnable = Jsoner.deserialize(lexer, flags, containers, limits);
+		if((limited != null) && limited.isExceeded()){
+			/* Whatever was made of the text that was cut off doesn't matter. */
+			return JsonResult.failure((int)Math.min(limited.getMaxChars(), Integer.MAX_VALUE), JsonException.Problems.LIMIT_EXCEEDED, "chars of input (" + limited.getMaxChars() + ")");
+		}
+		if(returnable == null){
+			return JsonResult.failure(lexer.getProblemPosition(), lexer.getProblemType(), lexer.getProblemObject());
+		}
+		return JsonResult.success(returnable);
+	}
+
+	/** A convenience method that assumes a StringReader to deserialize a string without throwing.
+	 * @param deserializable representing content to be deserialized as JSON.
+	 * @return the outcome holding either a boolean, null, Number, String, JsonObject, or JsonArray that best represents
+	 *         the deserializable, or how and where the deserializable was invalid.
+	 * @throws NullPointerException if the deserializable is null.
+	 * @see Jsoner#tryDeserialize(Reader)
+	 * @since 4.2.0 */
+	public static JsonResult<Object> tryDeserialize(final String deserializable){
+		return Jsoner.locate(Jsoner.tryDeserialize(new StringReader(deserializable)), deserializable);
+	}
+
+	/** A convenience method that assumes a JsonArray must be deserialized, without throwing.
+	 * @param deserializable representing content to be deserializable as a JsonArray.
+	 * @return the outcome holding a JsonArray that represents the deserializable, or how and where the deserializable
+	 *         wasn't a JsonArray.
+	 * @throws NullPointerException if the deserializable is null.
+	 * @see Jsoner#deserialize(String, JsonArray)
+	 * @since 4.2.0 */
+	public static JsonResult<JsonArray> tryDeserializeArray(final String deserializable){
+		final JsonResult<JsonArray> returnable = Jsoner.tryDeserialize(new StringReader(deserializable), EnumSet.of(DeserializationOptions.ALLOW_JSON_ARRAYS));
+		if(!returnable.isSuccess()){
+			return Jsoner.locate(returnable, deserializable);
+		}
+		return JsonResult.success(returnable.getValue().<JsonArray>getCollection(0));
+	}
+
+	/** Deserializes concatenated JSON values like Jsoner#deserializeMany(Reader), except problems are returned instead
+	 * of thrown.
+	 * @param deserializable representing concatenated content to be deserialized as JSON in one reader.
+	 * @return the outcome holding a JsonArray that contains each of the concatenated values, or how and where the
+	 *         deserializable was invalid.
+	 * @see Jsoner#deserializeMany(Reader)
+	 * @since 4.2.0 */
+	public static JsonResult<JsonArray> tryDeserializeMany(final Reader deserializable){
+		return Jsoner.tryDeserialize(deserializable, EnumSet.of(DeserializationOptions.ALLOW_JSON_ARRAYS, DeserializationOptions.ALLOW_JSON_OBJECTS, DeserializationOptions.ALLOW_JSON_DATA, DeserializationOptions.ALLOW_CONCATENATED_JSON_VALUES));
+	}
+
+	/** A convenience method that assumes a JsonObject must be deserialized, without throwing.
+	 * @param deserializable representing content to be deserializable as a JsonObject.
+	 * @return the outcome holding a JsonObject that represents the deserializable, or how and where the deserializable
+	 *         wasn't a JsonObject.
+	 * @throws NullPointerException if the deserializable is null.
+	 * @see Jsoner#deserialize(String, JsonObject)
+	 * @since 4.2.0 */
+	public static JsonResult<JsonObject> tryDeserializeObject(final String deserializable){
+		final JsonResult<JsonArray> returnable = Jsoner.tryDeserialize(new StringReader(deserializable), EnumSet.of(DeserializationOptions.ALLOW_JSON_OBJECTS));
+		if(!returnable.isSuccess()){
+			return Jsoner.locate(JsonResult.<JsonObject>failure(returnable.getPosition(), returnable.getProblemType(), returnable.getUnexpectedObject()), deserializable);
+		}
+		return JsonResult.success(returnable.getValue().<JsonObject>getMap(0));
+	}
+
+	/** Stops using the serializer registered for exactly the class or interface, values of it go back to serializing
+	 * the way they would have had it never been registered.
+	 * @param type represents the class or interface a serializer was registered for.
+	 * @see Jsoner#registerSerializer(Class, JsonSerializer)
+	 * @since 4.2.0 */
+	public static void unregisterSerializer(final Class<?> type){
+		synchronized(Jsoner.SERIALIZERS){
+			if(Jsoner.SERIALIZERS.remove(type) != null){
+				Jsoner.dispatches = Jsoner.newDispatches();
 			}
-			writableDestination.write(']');
-		}else{
-			/* It cannot by any measure be safely serialized according to specification. */
-			if(flags.contains(SerializationOptions.ALLOW_INVALIDS)){
-				/* Can be helpful for debugging how it isn't valid. */
-				writableDestination.write(jsonSerializable.toString());
+		}
+	}
+
+	/** A convenience method that assumes the bytes are JSON text encoded in UTF-8. Bytes that aren't well formed UTF-8
+	 * are a problem of their own instead of being replaced, and unlike Jsoner#validate(Reader) the position of a
+	 * problem is the index of the byte it occurred at instead of the char.
+	 * @param validatable representing UTF-8 encoded content to be validated as JSON.
+	 * @return the outcome of the validation, which explains how and at which byte the problem occurred if it isn't
+	 *         valid. Bytes that aren't well formed UTF-8 are an UNEXPECTED_CHARACTER problem.
+	 * @see Jsoner#validate(Reader)
+	 * @since 4.2.0 */
+	public static JsonValidation validate(final byte[] validatable){
+		final CharsetDecoder decoder = Charset.forName("UTF-8").newDecoder().onMalformedInput(CodingErrorAction.REPORT).onUnmappableCharacter(CodingErrorAction.REPORT);
+		final ByteBuffer bytes = ByteBuffer.wrap(validatable);
+		/* UTF-8 never decodes to more chars than it has bytes. */
+		final CharBuffer chars = CharBuffer.allocate(validatable.length);
+		if(decoder.decode(bytes, chars, true).isError() || decoder.flush(chars).isError()){
+			return new JsonValidation(bytes.position(), JsonException.Problems.UNEXPECTED_CHARACTER);
+		}
+		final JsonValidation validation = Jsoner.validate(new CharArrayReader(chars.array(), 0, chars.position()));
+		if(validation.getPosition() < 0){
+			return validation;
+		}
+		/* The lexer counts chars, so the position is counted again in the bytes they were decoded from. */
+		final int position = validation.getPosition();
+		final int decoded = Math.min(position, chars.position());
+		int bytePosition = position - decoded;
+		for(int i = 0; i < decoded; i++){
+			final char character = chars.get(i);
+			if(character < 0x80){
+				bytePosition++;
+			}else if(character < 0x800){
+				bytePosition += 2;
+			}else if(Character.isHighSurrogate(character)){
+				/* The decoder only produces whole surrogate pairs, which are 4 bytes together. */
+				bytePosition += 4;
+				i++;
 			}else{
-				/* Notify the caller the cause of failure for the serialization. */
-				throw new IllegalArgumentException("Encountered a: " + jsonSerializable.getClass().getName() + " as: " + jsonSerializable.toString() + "  that isn't JSON serializable.\n  Try:\n    1) Implementing the Jsonable interface for the object to return valid JSON. If it already does it probably has a bug.\n    2) If you cannot edit the source of the object or couple it with this library consider wrapping it in a class that does implement the Jsonable interface.\n    3) Otherwise convert it to a boolean, null, number, JsonArray, JsonObject, or String value before serializing it.\n    4) If you feel it should have serialized you could use a more tolerant serialization for debugging purposes.");
+				bytePosition += 3;
 			}
 		}
+		return new JsonValidation(bytePosition, validation.getProblemType());
 	}
 
-	/** Serializes like the first version of this library.
-	 * It has been adapted to use Jsonable for serializing custom objects, but otherwise works like the old JSON string
-	 * serializer. It will allow non-JSON values in its output like the old one. It can be helpful for last resort log
-	 * statements and debugging errors in self generated JSON. Anything serialized using this method isn't guaranteed to
-	 * be deserializable.
-	 * @param jsonSerializable represents the object that should be serialized in JSON format.
-	 * @param writableDestination represents where the resulting JSON text is written to.
-	 * @throws IOException if the writableDestination encounters an I/O problem, like being closed while in use. */
-	public static void serializeCarelessly(final Object jsonSerializable, final Writer writableDestination) throws IOException{
-		Jsoner.serialize(jsonSerializable, writableDestination, EnumSet.of(SerializationOptions.ALLOW_JSONABLES, SerializationOptions.ALLOW_INVALIDS));
+	/** Checks a readable stream against the same grammar Jsoner#deserialize(Reader) uses, but without building any of
+	 * the values it contains. Strings, numbers, JsonObjects, and JsonArrays are only lexed and never instantiated,
+	 * which makes it suitable for rejecting malformed input before handing it elsewhere.
+	 * @param validatable representing content to be validated as JSON.
+	 * @return the outcome of the validation, which explains how and at which char the problem occurred if it isn't
+	 *         valid.
+	 * @see Jsoner#deserialize(Reader)
+	 * @since 4.2.0 */
+	public static JsonValidation validate(final Reader validatable){
+		return Jsoner.validate(validatable, EnumSet.of(DeserializationOptions.ALLOW_JSON_ARRAYS, DeserializationOptions.ALLOW_JSON_OBJECTS, DeserializationOptions.ALLOW_JSON_DATA));
 	}
 
-	/** Serializes JSON values and only JSON values according to the RFC 7159 JSON specification.
-	 * @param jsonSerializable represents the object that should be serialized in JSON format.
-	 * @param writableDestination represents where the resulting JSON text is written to.
-	 * @throws IOException if the writableDestination encounters an I/O problem, like being closed while in use.
-	 * @throws IllegalArgumentException if the jsonSerializable isn't serializable in raw JSON. */
-	public static void serializeStrictly(final Object jsonSerializable, final Writer writableDestination) throws IOException{
-		Jsoner.serialize(jsonSerializable, writableDestination, EnumSet.noneOf(SerializationOptions.class));
+	/** Runs the same state machine Jsoner#deserialize(Reader, Set) does, but the lexer validates instead of lexing and
+	 * the containers discard what is added to them, so none of the values are built.
+	 * @param validatable representing content to be validated as JSON.
+	 * @param flags representing the allowances and restrictions on deserialization.
+	 * @return the outcome of the validation.
+	 * @see Jsoner#deserialize(Reader, Set) */
+	private static JsonValidation validate(final Reader validatable, final Set<DeserializationOptions> flags){
+		final Yylex lexer = new Yylex(validatable);
+		lexer.setValidating(true);
+		lexer.setQuiet(true);
+		if(Jsoner.deserialize(lexer, flags, Jsoner.DISCARDING_CONTAINERS, JsonLimits.NONE) == null){
+			return new JsonValidation(lexer.getProblemPosition(), lexer.getProblemType());
+		}
+		return JsonValidation.VALID;
+	}
+
+	/** Formats an element of a primitive array, without boxing it or creating a String.
+	 * @param buffer represents where the characters are put, which must have room for Jsoner#MAX_ELEMENT_CHARS.
+	 * @param position represents where in the buffer the first character is put.
+	 * @param values represents the boolean, byte, char, double, float, int, long, or short array holding the element.
+	 * @param index represents which element of the array is formatted.
+	 * @return the position after the last character put. */
+	private static int writeArrayElement(final char[] buffer, final int position, final Object values, final int index){
+		/* The array's type never changes while it is serialized, so the same branch is taken for every element. */
+		if(values instanceof long[]){
+			return NumberWriter.writeLong(buffer, position, ((long[])values)[index]);
+		}else if(values instanceof double[]){
+			return Jsoner.writeDouble(buffer, position, ((double[])values)[index]);
+		}else if(values instanceof int[]){
+			return NumberWriter.writeLong(buffer, position, ((int[])values)[index]);
+		}else if(values instanceof float[]){
+			return Jsoner.writeFloat(buffer, position, ((float[])values)[index]);
+		}else if(values instanceof short[]){
+			return NumberWriter.writeLong(buffer, position, ((short[])values)[index]);
+		}else if(values instanceof byte[]){
+			return NumberWriter.writeLong(buffer, position, ((byte[])values)[index]);
+		}else if(values instanceof boolean[]){
+			if(((boolean[])values)[index]){
+				buffer[position] = 't';
+				buffer[position + 1] = 'r';
+				buffer[position + 2] = 'u';
+				buffer[position + 3] = 'e';
+				return position + 4;
+			}
+			buffer[position] = 'f';
+			buffer[position + 1] = 'a';
+			buffer[position + 2] = 'l';
+			buffer[position + 3] = 's';
+			buffer[position + 4] = 'e';
+			return position + 5;
+		}
+		/* Like a Character each character is escaped, but unlike one it is quoted as well. */
+		final String escaped = Jsoner.escape(String.valueOf(((char[])values)[index]));
+		buffer[position] = '"';
+		escaped.getChars(0, escaped.length(), buffer, position + 1);
+		buffer[position + 1 + escaped.length()] = '"';
+		return position + escaped.length() + 2;
+	}
+
+	/** Writes a string in quotes, escaping only the quotes, backslashes, and control characters in it, which is what
+	 * canonical JSON requires. Control characters without a short escape are escaped with lowercase hexadecimal digits.
+	 * @param writable represents where the string is written to.
+	 * @param value represents the string to write.
+	 * @throws IOException if the writer encounters an I/O problem. */
+	private static void writeCanonical(final Writer writable, final String value) throws IOException{
+		writable.write('"');
+		final int length = value.length();
+		int unescaped = 0;
+		for(int i = 0; i < length; i++){
+			final char character = value.charAt(i);
+			if((character >= 0x20) && (character != '"') && (character != '\\')){
+				continue;
+			}
+			/* Writes the run of characters that don't need escaping in one go. */
+			writable.write(value, unescaped, i - unescaped);
+			unescaped = i + 1;
+			writable.write('\\');
+			switch(character){
+				case '"':
+				case '\\':
+					writable.write(character);
+					break;
+				case '\b':
+					writable.write('b');
+					break;
+				case '\f':
+					writable.write('f');
+					break;
+				case '\n':
+					writable.write('n');
+					break;
+				case '\r':
+					writable.write('r');
+					break;
+				case '\t':
+					writable.write('t');
+					break;
+				default:
+					writable.write("u00");
+					writable.write(Character.forDigit(character >> 4, 16));
+					writable.write(Character.forDigit(character & 0xF, 16));
+					break;
+			}
+		}
+		writable.write(value, unescaped, length - unescaped);
+		writable.write('"');
+	}
+
+	/** Formats the shortest decimal that reads back as the same double, without boxing it or creating a String.
+	 * @param buffer represents where the characters are put, which must have room for Jsoner#MAX_ELEMENT_CHARS.
+	 * @param position represents where in the buffer the first character is put.
+	 * @param value represents the double to format.
+	 * @return the position after the last character put. */
+	static int writeDouble(final char[] buffer, final int position, final double value){
+		if(Double.isInfinite(value) || Double.isNaN(value)){
+			/* Infinite and not a number are not supported by the JSON specification, so null is used instead. */
+			return Jsoner.writeNull(buffer, position);
+		}
+		return NumberWriter.writeDouble(buffer, position, value);
+	}
+
+	/** Formats the shortest decimal that reads back as the same float, without boxing it or creating a String.
+	 * @param buffer represents where the characters are put, which must have room for Jsoner#MAX_ELEMENT_CHARS.
+	 * @param position represents where in the buffer the first character is put.
+	 * @param value represents the float to format.
+	 * @return the position after the last character put. */
+	static int writeFloat(final char[] buffer, final int position, final float value){
+		if(Float.isInfinite(value) || Float.isNaN(value)){
+			/* Infinite and not a number are not supported by the JSON specification, so null is used instead. */
+			return Jsoner.writeNull(buffer, position);
+		}
+		return NumberWriter.writeFloat(buffer, position, value);
+	}
+
+	/** @param buffer represents where the characters are put.
+	 * @param position represents where in the buffer the first character is put.
+	 * @return the position after the null that was put. */
+	private static int writeNull(final char[] buffer, final int position){
+		buffer[position] = 'n';
+		buffer[position + 1] = 'u';
+		buffer[position + 2] = 'l';
+		buffer[position + 3] = 'l';
+		return position + 4;
 	}
 }
@@ -0,0 +1,113 @@
+/* Copyright 2016-2017 Clifton Labs
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. */
+package eu.kofis.json_simple;
+
+import java.io.Writer;
+
+/** LengthWriter keeps nothing it is written, it only counts how many chars it was written and how many bytes they
+ * take as UTF-8, the same way Utf8Writer encodes them. A LengthWriter is never thrown an IOException. */
+final class LengthWriter extends Writer{
+	/** How many UTF-8 bytes the chars take. */
+	private long	bytes;
+	/** How many chars were written. */
+	private long	chars;
+	/** Whether the last char written was a high surrogate, whose bytes depend on the char after it. */
+	private boolean	highSurrogate;
+
+	/** Counts a char that isn't ASCII or follows a high surrogate.
+	 * @param character represents the char being counted. */
+	private void count(final char character){
+		if(this.highSurrogate){
+			this.highSurrogate = false;
+			if(Character.isLowSurrogate(character)){
+				/* The pair is four bytes, the high surrogate was already counted as one of them. */
+				this.bytes += 3;
+				return;
+			}
+		}
+		if(character < 0x80){
+			this.bytes += 1;
+		}else if(character < 0x800){
+			this.bytes += 2;
+		}else if(Character.isHighSurrogate(character)){
+			/* Counted as an unpaired surrogate's '?' until the next char pairs with it. */
+			this.highSurrogate = true;
+			this.bytes += 1;
+		}else if(Character.isLowSurrogate(character)){
+			this.bytes += 1;
+		}else{
+			this.bytes += 3;
+		}
+	}
+
+	@Override
+	public void close(){
+		/* There is nothing to close. */
+	}
+
+	@Override
+	public void flush(){
+		/* There is nothing to flush. */
+	}
+
+	/** @return how many UTF-8 bytes the chars written take. */
+	long getBytes(){
+		return this.bytes;
+	}
+
+	/** @return how many chars were written. */
+	long getChars(){
+		return this.chars;
+	}
+
+	@Override
+	public void write(final char[] characters, final int offset, final int length){
+		this.chars += length;
+		final int end = offset + length;
+		for(int i = offset; i < end; i++){
+			final char character = characters[i];
+			if((character < 0x80) && !this.highSurrogate){
+				this.bytes++;
+			}else{
+				this.count(character);
+			}
+		}
+	}
+
+	@Override
+	public void write(final int character){
+		this.chars++;
+		if((character < 0x80) && !this.highSurrogate){
+			this.bytes++;
+		}else{
+			this.count((char)character);
+		}
+	}
+
+	@Override
+	public void write(final String string){
+		this.write(string, 0, string.length());
+	}
+
+	@Override
+	public void write(final String string, final int offset, final int length){
+		this.chars += length;
+		final int end = offset + length;
+		for(int i = offset; i < end; i++){
+			final char character = string.charAt(i);
+			if((character < 0x80) && !this.highSurrogate){
+				this.bytes++;
+			}else{
+				this.count(character);
+			}
+		}
+	}
+}
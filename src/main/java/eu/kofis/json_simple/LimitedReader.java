@@ -0,0 +1,72 @@
+/* Copyright 2016-2017 Clifton Labs
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. */
+package eu.kofis.json_simple;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/** LimitedReader stops reading from another reader once a maximum number of chars were read, so the lexer's buffer
+ * never grows past what is allowed no matter how long a token in the text is. Reaching the maximum looks like the end
+ * of the text to the lexer, and once there was more text than allowed the LimitedReader remembers the limit was
+ * exceeded for the deserialization to report it instead of whatever the lexer made of the cut off text.
+ * @see JsonLimits#getMaxInputChars() */
+final class LimitedReader extends Reader{
+	/** How many chars are read before the limit is exceeded. */
+	private final long		maxChars;
+	/** Where the chars are read from. */
+	private final Reader	readable;
+	/** How many chars were read so far. */
+	private long			count;
+	/** Whether there was more text than the limit allows. */
+	private boolean			exceeded;
+
+	/** Instantiates a LimitedReader that reads up to a maximum number of chars from another reader.
+	 * @param readable represents where the chars are read from.
+	 * @param maxChars represents how many chars are read before the limit is exceeded. */
+	LimitedReader(final Reader readable, final long maxChars){
+		this.maxChars = maxChars;
+		this.readable = readable;
+	}
+
+	@Override
+	public void close() throws IOException{
+		this.readable.close();
+	}
+
+	/** @return how many chars are read before the limit is exceeded. */
+	long getMaxChars(){
+		return this.maxChars;
+	}
+
+	/** @return whether there was more text than the limit allows. */
+	boolean isExceeded(){
+		return this.exceeded;
+	}
+
+	@Override
+	public int read(final char[] buffer, final int offset, final int length) throws IOException{
+		if(this.exceeded){
+			return -1;
+		}
+		/* One char more than allowed is asked for, since it's the only way to tell there is more text. */
+		final int allowed = (int)Math.min(length, (this.maxChars - this.count) + 1);
+		final int read = this.readable.read(buffer, offset, allowed);
+		if(read < 0){
+			return read;
+		}
+		this.count += read;
+		if(this.count > this.maxChars){
+			this.exceeded = true;
+			return -1;
+		}
+		return read;
+	}
+}
@@ -0,0 +1,638 @@
+/* Copyright 2016-2017 Clifton Labs
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. */
+package eu.kofis.json_simple;
+
+import java.math.BigInteger;
+
+/** NumberWriter formats numbers straight into a character buffer so the serializer doesn't create a String for each of
+ * them. Whole numbers are written two digits at a time from a table of digit pairs. Doubles and floats are formatted
+ * with Raffaello Giulietti's Schubfach algorithm, which always finds the shortest decimal that reads back as the same
+ * value. The layout of the digits is the one Double#toString(double) and Float#toString(float) use, so the output
+ * matches theirs on Java 19 and later, where they use the same algorithm, and only differs on older Java where they
+ * sometimes produce more digits than necessary.
+ * @see <a href="https://github.com/c4f7fcce9cb06515/Schubfach">Schubfach</a>
+ * @since 4.2.0 */
+final class NumberWriter{
+	/** How much room writeCanonical needs, it finds the shortest decimal past where it lays out the canonical one. */
+	static final int			CANONICAL_BUFFER_CHARS	= NumberWriter.MAX_CANONICAL_CHARS + NumberWriter.MAX_DOUBLE_CHARS;
+	/** The most characters a double formatted canonically takes. */
+	static final int			MAX_CANONICAL_CHARS		= 25;
+	/** The most characters a formatted double takes. */
+	static final int			MAX_DOUBLE_CHARS		= 24;
+	/** The most characters a formatted long takes. */
+	static final int			MAX_LONG_CHARS			= 20;
+	@SuppressWarnings("javadoc")
+	private static final long	C_MIN_DOUBLE			= 1L << 52;
+	@SuppressWarnings("javadoc")
+	private static final int	C_MIN_FLOAT				= 1 << 23;
+	/** Subnormal significands below this are scaled by ten so they have enough digits. */
+	private static final int	C_TINY_DOUBLE			= 3;
+	/** Subnormal significands below this are scaled by ten so they have enough digits. */
+	private static final int	C_TINY_FLOAT			= 8;
+	/** Every number from 00 to 99 as two characters, so the number n starts at 2 n. */
+	private static final char[]	DIGIT_PAIRS				= ("00010203040506070809101112131415161718192021222324252627282930313233343536373839" + "40414243444546474849505152535455565758596061626364656667686970717273747576777879" + "8081828384858687888990919293949596979899").toCharArray();
+	/** How many digits a double's shortest decimal can have. */
+	private static final int	H_DOUBLE				= 17;
+	/** How many digits a float's shortest decimal can have. */
+	private static final int	H_FLOAT					= 9;
+	/** The smallest power of ten the table of powers covers. */
+	private static final int	K_MIN					= -324;
+	/** The largest power of ten the table of powers covers. */
+	private static final int	K_MAX					= 292;
+	@SuppressWarnings("javadoc")
+	private static final int	MASK_28					= (1 << 28) - 1;
+	@SuppressWarnings("javadoc")
+	private static final long	MASK_32					= (1L << 32) - 1;
+	@SuppressWarnings("javadoc")
+	private static final long	MASK_63					= (1L << 63) - 1;
+	@SuppressWarnings("javadoc")
+	private static final int	P_DOUBLE				= 53;
+	@SuppressWarnings("javadoc")
+	private static final int	P_FLOAT					= 24;
+	/** The powers of ten a long holds, indexed by exponent. */
+	private static final long[]	POWERS_OF_TEN			= new long[19];
+	/** The smallest binary exponent of a double. */
+	private static final int	Q_MIN_DOUBLE			= -1074;
+	/** The smallest binary exponent of a float. */
+	private static final int	Q_MIN_FLOAT				= -149;
+	/** For each power of ten 10^-k the 126 bit approximation g = floor(10^-k 2^-r) + 1 with 2^125 <= g < 2^126, split
+	 * into its upper 63 bits at 2 (k - K_MIN) and its lower 63 bits right after. It is computed once instead of being
+	 * spelled out as more than 1200 literals. */
+	private static final long[]	G						= new long[(NumberWriter.K_MAX - NumberWriter.K_MIN + 1) * 2];
+
+	static{
+		NumberWriter.POWERS_OF_TEN[0] = 1;
+		for(int i = 1; i < NumberWriter.POWERS_OF_TEN.length; i++){
+			NumberWriter.POWERS_OF_TEN[i] = NumberWriter.POWERS_OF_TEN[i - 1] * 10;
+		}
+		final BigInteger mask = BigInteger.ONE.shiftLeft(63).subtract(BigInteger.ONE);
+		for(int k = NumberWriter.K_MIN; k <= NumberWriter.K_MAX; k++){
+			final int r = NumberWriter.flog2pow10(-k) - 125;
+			BigInteger g;
+			if(k <= 0){
+				g = BigInteger.TEN.pow(-k);
+				g = r <= 0 ? g.shiftLeft(-r) : g.shiftRight(r);
+			}else{
+				g = BigInteger.ONE.shiftLeft(-r).divide(BigInteger.TEN.pow(k));
+			}
+			g = g.add(BigInteger.ONE);
+			NumberWriter.G[(k - NumberWriter.K_MIN) << 1] = g.shiftRight(63).longValue();
+			NumberWriter.G[((k - NumberWriter.K_MIN) << 1) + 1] = g.and(mask).longValue();
+		}
+	}
+
+	@SuppressWarnings("javadoc")
+	private NumberWriter(){
+		/* NumberWriter is purely static so instantiation is unnecessary. */
+	}
+
+	/** @param buffer represents where the digits are put.
+	 * @param position represents where in the buffer the first digit is put.
+	 * @param value represents eight digits to put, including leading zeros.
+	 * @return the position after the last digit put. */
+	private static int append8Digits(final char[] buffer, final int position, final int value){
+		/* Left to right digit extraction, without dividing, from "Printing Floating-Point Numbers" by Adams. */
+		int index = position;
+		int y = NumberWriter.y(value);
+		for(int i = 0; i < 8; i++){
+			final int t = 10 * y;
+			buffer[index++] = (char)('0' + (t >>> 28));
+			y = t & NumberWriter.MASK_28;
+		}
+		return index;
+	}
+
+	/** @param buffer represents where the exponent is put.
+	 * @param position represents where in the buffer the exponent starts.
+	 * @param exponent represents the power of ten.
+	 * @return the position after the last character put. */
+	private static int exponent(final char[] buffer, final int position, final int exponent){
+		int index = position;
+		int e = exponent;
+		buffer[index++] = 'E';
+		if(e < 0){
+			buffer[index++] = '-';
+			e = -e;
+		}
+		if(e < 10){
+			buffer[index++] = (char)('0' + e);
+			return index;
+		}
+		int d;
+		if(e >= 100){
+			/* floor(e / 100) for e < 1000. */
+			d = (e * 1311) >>> 17;
+			buffer[index++] = (char)('0' + d);
+			e -= 100 * d;
+		}
+		/* floor(e / 10) for e < 100. */
+		d = (e * 103) >>> 10;
+		buffer[index++] = (char)('0' + d);
+		buffer[index++] = (char)('0' + (e - (10 * d)));
+		return index;
+	}
+
+	/** @param e represents an exponent with |e| <= 1233.
+	 * @return floor(e log10(2)). */
+	private static int flog10pow2(final int e){
+		return (int)((e * 661971961083L) >> 41);
+	}
+
+	/** @param e represents an exponent with |e| <= 1233.
+	 * @return floor(e log10(3/4 2)). */
+	private static int flog10threeQuartersPow2(final int e){
+		return (int)(((e * 661971961083L) + -274743187321L) >> 41);
+	}
+
+	/** @param e represents an exponent with |e| <= 1233.
+	 * @return floor(e log2(10)). */
+	private static int flog2pow10(final int e){
+		return (int)((e * 913124641741L) >> 38);
+	}
+
+	/** Math#multiplyHigh(long, long) isn't available before Java 9.
+	 * @param x represents a factor.
+	 * @param y represents a factor.
+	 * @return the upper 64 bits of the 128 bit product of x and y. */
+	private static long multiplyHigh(final long x, final long y){
+		final long x1 = x >> 32;
+		final long x2 = x & 0xFFFFFFFFL;
+		final long y1 = y >> 32;
+		final long y2 = y & 0xFFFFFFFFL;
+		final long z2 = x2 * y2;
+		final long t = (x1 * y2) + (z2 >>> 32);
+		long z1 = t & 0xFFFFFFFFL;
+		final long z0 = t >> 32;
+		z1 += x2 * y1;
+		return (x1 * y1) + z0 + (z1 >> 32);
+	}
+
+	/** Drops the zeros that end the digits after the decimal point, except the one right after it.
+	 * @param buffer represents where the digits were put.
+	 * @param position represents the position after the last digit.
+	 * @return the position after the last digit that is kept. */
+	private static int removeTrailingZeros(final char[] buffer, final int position){
+		int index = position - 1;
+		while(buffer[index] == '0'){
+			index--;
+		}
+		if(buffer[index] == '.'){
+			index++;
+		}
+		return index + 1;
+	}
+
+	/** Rounds the product of a double's scaled significand and a power of ten to odd.
+	 * @param g1 represents the upper 63 bits of the power of ten.
+	 * @param g0 represents the lower 63 bits of the power of ten.
+	 * @param cp represents the scaled significand.
+	 * @return the product, rounded to odd. */
+	private static long roundToOdd(final long g1, final long g0, final long cp){
+		final long x1 = NumberWriter.multiplyHigh(g0, cp);
+		final long y0 = g1 * cp;
+		final long y1 = NumberWriter.multiplyHigh(g1, cp);
+		final long z = (y0 >>> 1) + x1;
+		final long vbp = y1 + (z >>> 63);
+		return vbp | (((z & NumberWriter.MASK_63) + NumberWriter.MASK_63) >>> 63);
+	}
+
+	/** Rounds the product of a float's scaled significand and a power of ten to odd.
+	 * @param g represents the upper 63 bits of the power of ten, plus one.
+	 * @param cp represents the scaled significand.
+	 * @return the product, rounded to odd. */
+	private static int roundToOdd(final long g, final long cp){
+		final long x1 = NumberWriter.multiplyHigh(g, cp);
+		final long vbp = x1 >>> 31;
+		return (int)(vbp | (((x1 & NumberWriter.MASK_32) + NumberWriter.MASK_32) >>> 32));
+	}
+
+	/** Lays out the digits of a double's decimal like Double#toString(double).
+	 * @param buffer represents where the characters are put.
+	 * @param position represents where in the buffer the first character is put.
+	 * @param digits represents the decimal's significand without trailing zeros being required.
+	 * @param exponent represents the decimal's exponent, so the value is digits 10^exponent.
+	 * @return the position after the last character put. */
+	private static int toChars(final char[] buffer, final int position, final long digits, final int exponent){
+		/* Find len such that 10^(len-1) <= f < 10^len. */
+		int len = NumberWriter.flog10pow2(Long.SIZE - Long.numberOfLeadingZeros(digits));
+		if(digits >= NumberWriter.POWERS_OF_TEN[len]){
+			len++;
+		}
+		/* Scale f to exactly H digits, so the value is 0.f 10^e. */
+		final long f = digits * NumberWriter.POWERS_OF_TEN[NumberWriter.H_DOUBLE - len];
+		final int e = exponent + len;
+		/* Split f into its most significant digit h, the next 8 digits m, and the last 8 digits l. */
+		final long hm = NumberWriter.multiplyHigh(f, 193428131138340668L) >>> 20;
+		final int l = (int)(f - (100000000L * hm));
+		final int h = (int)((hm * 1441151881L) >>> 57);
+		final int m = (int)(hm - (100000000 * h));
+		return NumberWriter.toChars(buffer, position, h, m, l, e);
+	}
+
+	/** Lays out split digits like Double#toString(double) and Float#toString(float).
+	 * @param buffer represents where the characters are put.
+	 * @param position represents where in the buffer the first character is put.
+	 * @param h represents the most significant digit.
+	 * @param m represents the next 8 digits.
+	 * @param l represents the last 8 digits, which floats don't have so it is 0 for them.
+	 * @param e represents the exponent such that the value is 0.hml 10^e.
+	 * @return the position after the last character put. */
+	private static int toChars(final char[] buffer, final int position, final int h, final int m, final int l, final int e){
+		int index = position;
+		if((0 < e) && (e <= 7)){
+			/* Plain format without leading zeros, the decimal point goes after e digits. */
+			buffer[index++] = (char)('0' + h);
+			int y = NumberWriter.y(m);
+			int i = 1;
+			for(; i < e; i++){
+				final int t = 10 * y;
+				buffer[index++] = (char)('0' + (t >>> 28));
+				y = t & NumberWriter.MASK_28;
+			}
+			buffer[index++] = '.';
+			for(; i <= 8; i++){
+				final int t = 10 * y;
+				buffer[index++] = (char)('0' + (t >>> 28));
+				y = t & NumberWriter.MASK_28;
+			}
+			if(l != 0){
+				index = NumberWriter.append8Digits(buffer, index, l);
+			}
+			return NumberWriter.removeTrailingZeros(buffer, index);
+		}
+		if((-3 < e) && (e <= 0)){
+			/* Plain format with leading zeros. */
+			buffer[index++] = '0';
+			buffer[index++] = '.';
+			for(int zeros = e; zeros < 0; zeros++){
+				buffer[index++] = '0';
+			}
+			buffer[index++] = (char)('0' + h);
+			index = NumberWriter.append8Digits(buffer, index, m);
+			if(l != 0){
+				index = NumberWriter.append8Digits(buffer, index, l);
+			}
+			return NumberWriter.removeTrailingZeros(buffer, index);
+		}
+		/* Computerized scientific notation. */
+		buffer[index++] = (char)('0' + h);
+		buffer[index++] = '.';
+		index = NumberWriter.append8Digits(buffer, index, m);
+		if(l != 0){
+			index = NumberWriter.append8Digits(buffer, index, l);
+		}
+		index = NumberWriter.removeTrailingZeros(buffer, index);
+		return NumberWriter.exponent(buffer, index, e - 1);
+	}
+
+	/** Lays out the digits of a float's decimal like Float#toString(float).
+	 * @param buffer represents where the characters are put.
+	 * @param position represents where in the buffer the first character is put.
+	 * @param digits represents the decimal's significand.
+	 * @param exponent represents the decimal's exponent, so the value is digits 10^exponent.
+	 * @return the position after the last character put. */
+	private static int toChars(final char[] buffer, final int position, final int digits, final int exponent){
+		int len = NumberWriter.flog10pow2(Integer.SIZE - Integer.numberOfLeadingZeros(digits));
+		if(digits >= NumberWriter.POWERS_OF_TEN[len]){
+			len++;
+		}
+		final int f = digits * (int)NumberWriter.POWERS_OF_TEN[NumberWriter.H_FLOAT - len];
+		final int e = exponent + len;
+		/* floor(f / 10^8) for f < 10^9. */
+		final int h = (int)((f * 1441151881L) >>> 57);
+		final int m = f - (100000000 * h);
+		return NumberWriter.toChars(buffer, position, h, m, 0, e);
+	}
+
+	/** Finds the shortest decimal that rounds to the double 2^q c and lays it out.
+	 * @param buffer represents where the characters are put.
+	 * @param position represents where in the buffer the first character is put.
+	 * @param q represents the binary exponent.
+	 * @param c represents the significand.
+	 * @param dk represents how much c was scaled by a power of ten.
+	 * @return the position after the last character put. */
+	private static int toDecimal(final char[] buffer, final int position, final int q, final long c, final int dk){
+		final int out = (int)c & 1;
+		final long cb = c << 2;
+		final long cbr = cb + 2;
+		final long cbl;
+		final int k;
+		if((c != NumberWriter.C_MIN_DOUBLE) | (q == NumberWriter.Q_MIN_DOUBLE)){
+			cbl = cb - 2;
+			k = NumberWriter.flog10pow2(q);
+		}else{
+			/* The rounding interval of a power of two is asymmetric. */
+			cbl = cb - 1;
+			k = NumberWriter.flog10threeQuartersPow2(q);
+		}
+		final int h = q + NumberWriter.flog2pow10(-k) + 2;
+		final long g1 = NumberWriter.G[(k - NumberWriter.K_MIN) << 1];
+		final long g0 = NumberWriter.G[((k - NumberWriter.K_MIN) << 1) + 1];
+		final long vb = NumberWriter.roundToOdd(g1, g0, cb << h);
+		final long vbl = NumberWriter.roundToOdd(g1, g0, cbl << h);
+		final long vbr = NumberWriter.roundToOdd(g1, g0, cbr << h);
+		final long s = vb >> 2;
+		if(s >= 100){
+			/* Try the decimals with one digit less first, sp10 = 10 floor(s / 10). */
+			final long sp10 = 10 * NumberWriter.multiplyHigh(s, 115292150460684698L << 4);
+			final long tp10 = sp10 + 10;
+			final boolean upin = (vbl + out) <= (sp10 << 2);
+			final boolean wpin = ((tp10 << 2) + out) <= vbr;
+			if(upin != wpin){
+				return NumberWriter.toChars(buffer, position, upin ? sp10 : tp10, k);
+			}
+		}
+		final long t = s + 1;
+		final boolean uin = (vbl + out) <= (s << 2);
+		final boolean win = ((t << 2) + out) <= vbr;
+		if(uin != win){
+			return NumberWriter.toChars(buffer, position, uin ? s : t, k + dk);
+		}
+		/* Both are in the rounding interval, pick the closer one and the even one on a tie. */
+		final long cmp = vb - ((s + t) << 1);
+		return NumberWriter.toChars(buffer, position, (cmp < 0) || ((cmp == 0) && ((s & 1) == 0)) ? s : t, k + dk);
+	}
+
+	/** Finds the shortest decimal that rounds to the float 2^q c and lays it out.
+	 * @param buffer represents where the characters are put.
+	 * @param position represents where in the buffer the first character is put.
+	 * @param q represents the binary exponent.
+	 * @param c represents the significand.
+	 * @param dk represents how much c was scaled by a power of ten.
+	 * @return the position after the last character put. */
+	private static int toDecimal(final char[] buffer, final int position, final int q, final int c, final int dk){
+		final int out = c & 1;
+		final long cb = c << 2;
+		final long cbr = cb + 2;
+		final long cbl;
+		final int k;
+		if((c != NumberWriter.C_MIN_FLOAT) | (q == NumberWriter.Q_MIN_FLOAT)){
+			cbl = cb - 2;
+			k = NumberWriter.flog10pow2(q);
+		}else{
+			/* The rounding interval of a power of two is asymmetric. */
+			cbl = cb - 1;
+			k = NumberWriter.flog10threeQuartersPow2(q);
+		}
+		final int h = q + NumberWriter.flog2pow10(-k) + 33;
+		final long g = NumberWriter.G[(k - NumberWriter.K_MIN) << 1] + 1;
+		final int vb = NumberWriter.roundToOdd(g, cb << h);
+		final int vbl = NumberWriter.roundToOdd(g, cbl << h);
+		final int vbr = NumberWriter.roundToOdd(g, cbr << h);
+		final int s = vb >> 2;
+		if(s >= 100){
+			/* Try the decimals with one digit less first, sp10 = 10 floor(s / 10). */
+			final int sp10 = 10 * (int)((s * 1717986919L) >>> 34);
+			final int tp10 = sp10 + 10;
+			final boolean upin = (vbl + out) <= (sp10 << 2);
+			final boolean wpin = ((tp10 << 2) + out) <= vbr;
+			if(upin != wpin){
+				return NumberWriter.toChars(buffer, position, upin ? sp10 : tp10, k);
+			}
+		}
+		final int t = s + 1;
+		final boolean uin = (vbl + out) <= (s << 2);
+		final boolean win = ((t << 2) + out) <= vbr;
+		if(uin != win){
+			return NumberWriter.toChars(buffer, position, uin ? s : t, k + dk);
+		}
+		/* Both are in the rounding interval, pick the closer one and the even one on a tie. */
+		final int cmp = vb - ((s + t) << 1);
+		return NumberWriter.toChars(buffer, position, (cmp < 0) || ((cmp == 0) && ((s & 1) == 0)) ? s : t, k + dk);
+	}
+
+	/** Formats a finite double canonically, the way ECMAScript's Number.prototype.toString lays out the shortest
+	 * decimal that reads back as the same double, which is what RFC 8785 requires. Whole numbers below 10^21 are written
+	 * without a decimal point or exponent, numbers from 10^-6 up to that without an exponent, and any other number with
+	 * a lowercase exponent that always has a sign. Negative zero is written as 0.
+	 * @param buffer represents where the characters are put, which must have room for CANONICAL_BUFFER_CHARS of them.
+	 * @param position represents where in the buffer the first character is put.
+	 * @param value represents a finite double.
+	 * @return the position after the last character put.
+	 * @see <a href="https://www.rfc-editor.org/rfc/rfc8785#section-3.2.2.3">RFC 8785 section 3.2.2.3</a> */
+	static int writeCanonical(final char[] buffer, final int position, final double value){
+		int index = position;
+		if(value == 0){
+			buffer[index++] = '0';
+			return index;
+		}
+		if(value < 0){
+			buffer[index++] = '-';
+		}
+		/* The shortest decimal is found once, past where the canonical one is laid out, then its digits are laid out
+		 * again, so the value is 0.digits 10^n. */
+		final int digits = position + NumberWriter.MAX_CANONICAL_CHARS;
+		final int length = NumberWriter.writeDouble(buffer, digits, Math.abs(value)) - digits;
+		int k = 0;
+		int n = 0;
+		boolean fraction = false;
+		int i = 0;
+		for(; (i < length) && (buffer[digits + i] != 'E'); i++){
+			final char character = buffer[digits + i];
+			if(character == '.'){
+				fraction = true;
+			}else if((k == 0) && (character == '0')){
+				/* Leading zeros only move the decimal point. */
+				if(fraction){
+					n--;
+				}
+			}else{
+				/* The digits are gathered in place, never ahead of the character being read. */
+				buffer[digits + k++] = character;
+				if(!fraction){
+					n++;
+				}
+			}
+		}
+		if(i < length){
+			int exponent = 0;
+			for(int e = i + 1; e < length; e++){
+				if(buffer[digits + e] != '-'){
+					exponent = (exponent * 10) + (buffer[digits + e] - '0');
+				}
+			}
+			n += buffer[digits + i + 1] == '-' ? -exponent : exponent;
+		}
+		if((k == 2) && (Math.abs(value) < (Double.MIN_VALUE * NumberWriter.C_TINY_DOUBLE))){
+			/* Double#toString(double) keeps two digits for the smallest subnormals, one is all they need. */
+			final int rounded = ((((buffer[digits] - '0') * 10) + (buffer[digits + 1] - '0')) + 5) / 10;
+			if(rounded == 10){
+				buffer[digits] = '1';
+				n++;
+			}else{
+				buffer[digits] = (char)('0' + rounded);
+			}
+			k = 1;
+		}
+		while(buffer[(digits + k) - 1] == '0'){
+			k--;
+		}
+		if((k <= n) && (n <= 21)){
+			System.arraycopy(buffer, digits, buffer, index, k);
+			index += k;
+			for(int zeros = k; zeros < n; zeros++){
+				buffer[index++] = '0';
+			}
+		}else if((0 < n) && (n <= 21)){
+			System.arraycopy(buffer, digits, buffer, index, n);
+			index += n;
+			buffer[index++] = '.';
+			System.arraycopy(buffer, digits + n, buffer, index, k - n);
+			index += k - n;
+		}else if((-6 < n) && (n <= 0)){
+			buffer[index++] = '0';
+			buffer[index++] = '.';
+			for(int zeros = n; zeros < 0; zeros++){
+				buffer[index++] = '0';
+			}
+			System.arraycopy(buffer, digits, buffer, index, k);
+			index += k;
+		}else{
+			buffer[index++] = buffer[digits];
+			if(k > 1){
+				buffer[index++] = '.';
+				System.arraycopy(buffer, digits + 1, buffer, index, k - 1);
+				index += k - 1;
+			}
+			buffer[index++] = 'e';
+			buffer[index++] = n > 0 ? '+' : '-';
+			index = NumberWriter.writeLong(buffer, index, Math.abs(n - 1));
+		}
+		return index;
+	}
+
+	/** Formats a finite double as the shortest decimal that reads back as the same double.
+	 * @param buffer represents where the characters are put, which must have room for MAX_DOUBLE_CHARS of them.
+	 * @param position represents where in the buffer the first character is put.
+	 * @param value represents a finite double.
+	 * @return the position after the last character put. */
+	static int writeDouble(final char[] buffer, final int position, final double value){
+		final long bits = Double.doubleToRawLongBits(value);
+		final long t = bits & ((1L << 52) - 1);
+		final int bq = (int)(bits >>> 52) & 0x7FF;
+		int index = position;
+		if(bits < 0){
+			buffer[index++] = '-';
+		}
+		if(bq != 0){
+			/* Normal values. */
+			final int mq = -NumberWriter.Q_MIN_DOUBLE + 1 - bq;
+			final long c = NumberWriter.C_MIN_DOUBLE | t;
+			if((0 < mq) & (mq < NumberWriter.P_DOUBLE)){
+				/* Whole numbers below 2^53 are their own shortest decimal. */
+				final long f = c >> mq;
+				if((f << mq) == c){
+					return NumberWriter.toChars(buffer, index, f, 0);
+				}
+			}
+			return NumberWriter.toDecimal(buffer, index, -mq, c, 0);
+		}
+		if(t != 0){
+			/* Subnormal values. */
+			return t < NumberWriter.C_TINY_DOUBLE ? NumberWriter.toDecimal(buffer, index, NumberWriter.Q_MIN_DOUBLE, 10 * t, -1) : NumberWriter.toDecimal(buffer, index, NumberWriter.Q_MIN_DOUBLE, t, 0);
+		}
+		buffer[index++] = '0';
+		buffer[index++] = '.';
+		buffer[index++] = '0';
+		return index;
+	}
+
+	/** Formats a finite float as the shortest decimal that reads back as the same float.
+	 * @param buffer represents where the characters are put, which must have room for MAX_DOUBLE_CHARS of them.
+	 * @param position represents where in the buffer the first character is put.
+	 * @param value represents a finite float.
+	 * @return the position after the last character put. */
+	static int writeFloat(final char[] buffer, final int position, final float value){
+		final int bits = Float.floatToRawIntBits(value);
+		final int t = bits & ((1 << 23) - 1);
+		final int bq = (bits >>> 23) & 0xFF;
+		int index = position;
+		if(bits < 0){
+			buffer[index++] = '-';
+		}
+		if(bq != 0){
+			/* Normal values. */
+			final int mq = -NumberWriter.Q_MIN_FLOAT + 1 - bq;
+			final int c = NumberWriter.C_MIN_FLOAT | t;
+			if((0 < mq) & (mq < NumberWriter.P_FLOAT)){
+				/* Whole numbers below 2^24 are their own shortest decimal. */
+				final int f = c >> mq;
+				if((f << mq) == c){
+					return NumberWriter.toChars(buffer, index, f, 0);
+				}
+			}
+			return NumberWriter.toDecimal(buffer, index, -mq, c, 0);
+		}
+		if(t != 0){
+			/* Subnormal values. */
+			return t < NumberWriter.C_TINY_FLOAT ? NumberWriter.toDecimal(buffer, index, NumberWriter.Q_MIN_FLOAT, 10 * t, -1) : NumberWriter.toDecimal(buffer, index, NumberWriter.Q_MIN_FLOAT, t, 0);
+		}
+		buffer[index++] = '0';
+		buffer[index++] = '.';
+		buffer[index++] = '0';
+		return index;
+	}
+
+	/** Formats a long in decimal, two digits at a time.
+	 * @param buffer represents where the characters are put, which must have room for MAX_LONG_CHARS of them.
+	 * @param position represents where in the buffer the first character is put.
+	 * @param value represents the long to format.
+	 * @return the position after the last character put. */
+	static int writeLong(final char[] buffer, final int position, final long value){
+		if(value == Long.MIN_VALUE){
+			/* The smallest long has no positive counterpart to format. */
+			final String formatted = Long.toString(value);
+			formatted.getChars(0, formatted.length(), buffer, position);
+			return position + formatted.length();
+		}
+		int index = position;
+		long remaining = value;
+		if(remaining < 0){
+			buffer[index++] = '-';
+			remaining = -remaining;
+		}
+		int digits = 1;
+		while((digits < 19) && (remaining >= NumberWriter.POWERS_OF_TEN[digits])){
+			digits++;
+		}
+		final int end = index + digits;
+		index = end;
+		while(remaining > Integer.MAX_VALUE){
+			final long quotient = remaining / 100;
+			final int pair = (int)(remaining - (quotient * 100)) << 1;
+			remaining = quotient;
+			buffer[--index] = NumberWriter.DIGIT_PAIRS[pair + 1];
+			buffer[--index] = NumberWriter.DIGIT_PAIRS[pair];
+		}
+		/* Dividing ints is cheaper than dividing longs, so the digits that fit in an int are written as one. */
+		int small = (int)remaining;
+		while(small >= 100){
+			final int quotient = small / 100;
+			final int pair = (small - (quotient * 100)) << 1;
+			small = quotient;
+			buffer[--index] = NumberWriter.DIGIT_PAIRS[pair + 1];
+			buffer[--index] = NumberWriter.DIGIT_PAIRS[pair];
+		}
+		if(small >= 10){
+			buffer[--index] = NumberWriter.DIGIT_PAIRS[(small << 1) + 1];
+			buffer[--index] = NumberWriter.DIGIT_PAIRS[small << 1];
+		}else{
+			buffer[--index] = (char)('0' + small);
+		}
+		return end;
+	}
+
+	/** @param a represents eight digits.
+	 * @return floor((a + 1) 2^28 / 10^8) - 1, the fixed point fraction the digits are extracted from. */
+	private static int y(final int a){
+		return (int)(NumberWriter.multiplyHigh((long)(a + 1) << 28, 193428131138340668L) >>> 20) - 1;
+	}
+}
@@ -0,0 +1,205 @@
+/* Copyright 2016-2017 Clifton Labs
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. */
+package eu.kofis.json_simple;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/** ParallelSerializer splits the arrays and objects that hold at least a threshold of elements or entries into ranges,
+ * serializes each range as UTF-8 into a buffer of its own on a pool's workers, and writes the buffers to a stream in
+ * order. The brackets, commas, keys, and small values between the ranges are serialized on the calling thread into
+ * buffers of their own, so the bytes written are exactly the ones serializing sequentially writes. Only so many
+ * ranges are serialized ahead of the stream, so the buffers waiting to be written don't grow with the value.
+ * @see Jsoner#serializeParallel(Object, OutputStream, ForkJoinPool, int) */
+final class ParallelSerializer{
+	/** How many elements or entries an array or object holds before it is split, unless another threshold is given. */
+	static final int							DEFAULT_THRESHOLD	= 8192;
+	/** How many ranges are serialized ahead of the stream for each of the pool's workers. */
+	private static final int					RANGES_PER_WORKER	= 4;
+	/** How deep the arrays and objects smaller than the threshold are looked into for larger ones, so a deeply nested
+	 * value is serialized sequentially instead of overflowing the calling thread's stack. */
+	private static final int					SEARCHED_DEPTH		= 32;
+
+	/** Where the bytes are written to. */
+	private final OutputStream					destination;
+	/** The bytes serialized on the calling thread since the last range. */
+	private final ByteArrayOutputStream			literal				= new ByteArrayOutputStream();
+	/** Encodes what the calling thread serializes into the literal bytes. */
+	private final Utf8Writer					literalWriter		= new Utf8Writer(this.literal);
+	/** How many ranges can be waiting to be written before the oldest is waited for. */
+	private final int							maxPending;
+	/** How many ranges are waiting to be written. */
+	private int									pending;
+	/** The literal bytes and ranges that haven't been written yet, in the order they are written. */
+	private final ArrayDeque<Object>			pieces				= new ArrayDeque<Object>();
+	/** Where the ranges are serialized. */
+	private final ForkJoinPool					pool;
+	/** How many elements or entries an array or object holds before it is split. */
+	private final int							threshold;
+
+	/** Instantiates a ParallelSerializer for a stream.
+	 * @param destination represents where the bytes are written to.
+	 * @param pool represents where the ranges are serialized.
+	 * @param threshold represents how many elements or entries an array or object holds before it is split. */
+	ParallelSerializer(final OutputStream destination, final ForkJoinPool pool, final int threshold){
+		this.destination = destination;
+		this.maxPending = pool.getParallelism() * ParallelSerializer.RANGES_PER_WORKER;
+		this.pool = pool;
+		this.threshold = threshold;
+	}
+
+	/** Writes pieces to the stream until only so many ranges are waiting, waiting for the ranges to be serialized if
+	 * more are waiting, and writing any that already are.
+	 * @param maxRanges represents how many ranges can be left waiting.
+	 * @throws IOException if the stream encounters an I/O problem.
+	 * @throws IllegalArgumentException if a range held a value that isn't serializable in JSON. */
+	private void drain(final int maxRanges) throws IOException{
+		while(!this.pieces.isEmpty()){
+			final Object piece = this.pieces.peekFirst();
+			if(piece instanceof byte[]){
+				this.destination.write((byte[])piece);
+			}else if((this.pending > maxRanges) || ((ForkJoinTask<?>)piece).isDone()){
+				/* Rethrows what serializing the range threw, like a value that isn't serializable. */
+				this.destination.write((byte[])((ForkJoinTask<?>)piece).join());
+				this.pending--;
+			}else{
+				return;
+			}
+			this.pieces.pollFirst();
+		}
+	}
+
+	/** Queues the bytes the calling thread serialized since the last range to be written before the next one.
+	 * @throws IOException if the literal bytes can't be encoded, which doesn't happen. */
+	private void flushLiteral() throws IOException{
+		this.literalWriter.finish();
+		if(this.literal.size() > 0){
+			this.pieces.addLast(this.literal.toByteArray());
+			this.literal.reset();
+		}
+	}
+
+	/** Serializes the elements of an array or entries of an object, splitting them into ranges if there are enough of
+	 * them, or looking into each of them for arrays and objects large enough to split otherwise.
+	 * @param values represents the elements or entries.
+	 * @param isObject represents whether the values are the entries of an object.
+	 * @param depth represents how many arrays and objects the values are in.
+	 * @throws IOException if the stream encounters an I/O problem.
+	 * @throws IllegalArgumentException if a value isn't serializable in JSON. */
+	private void plan(final Object[] values, final boolean isObject, final int depth) throws IOException{
+		this.literalWriter.write(isObject ? '{' : '[');
+		if(values.length >= this.threshold){
+			/* Enough ranges to keep the workers busy, but none longer than the threshold. */
+			final int perWorker = (values.length + (this.maxPending - 1)) / this.maxPending;
+			final int length = Math.max(1, Math.min(this.threshold, perWorker));
+			for(int from = 0; from < values.length; from += length){
+				if(from > 0){
+					this.literalWriter.write(',');
+				}
+				this.flushLiteral();
+				final int to = Math.min(values.length, from + length);
+				this.pieces.addLast(this.pool.submit(new Range(values, from, to, isObject)));
+				this.pending++;
+				this.drain(this.maxPending);
+			}
+		}else{
+			for(int i = 0; i < values.length; i++){
+				if(i > 0){
+					this.literalWriter.write(',');
+				}
+				if(isObject){
+					final Map.Entry<?, ?> entry = (Map.Entry<?, ?>)values[i];
+					Jsoner.serialize(entry.getKey(), this.literalWriter);
+					this.literalWriter.write(':');
+					this.plan(entry.getValue(), depth + 1);
+				}else{
+					this.plan(values[i], depth + 1);
+				}
+			}
+		}
+		this.literalWriter.write(isObject ? '}' : ']');
+	}
+
+	/** Serializes a value, splitting it if it is an array or object large enough, or looking into it for arrays and
+	 * objects large enough to split if it is a smaller one.
+	 * @param value represents the value to serialize.
+	 * @param depth represents how many arrays and objects the value is in.
+	 * @throws IOException if the stream encounters an I/O problem.
+	 * @throws IllegalArgumentException if the value isn't serializable in JSON. */
+	private void plan(final Object value, final int depth) throws IOException{
+		final Object[] values = depth < ParallelSerializer.SEARCHED_DEPTH ? Jsoner.elementsToSplit(value) : null;
+		if(values == null){
+			Jsoner.serialize(value, this.literalWriter);
+		}else{
+			this.plan(values, value instanceof Map, depth);
+		}
+	}
+
+	/** Serializes a value to the stream, waiting for all of its ranges to be serialized and written.
+	 * @param value represents the value to serialize.
+	 * @throws IOException if the stream encounters an I/O problem.
+	 * @throws IllegalArgumentException if the value isn't serializable in JSON. */
+	void serialize(final Object value) throws IOException{
+		try{
+			this.plan(value, 0);
+			this.flushLiteral();
+			this.drain(0);
+		}finally{
+			/* Ranges that won't be written anymore are abandoned instead of waited for. */
+			for(final Object piece : this.pieces){
+				if(piece instanceof ForkJoinTask){
+					((ForkJoinTask<?>)piece).cancel(false);
+				}
+			}
+			this.pieces.clear();
+		}
+	}
+
+	/** Range serializes some of the elements of an array or entries of an object as UTF-8 into a buffer, with commas
+	 * between them but not around them. */
+	private static final class Range implements Callable<byte[]>{
+		/** The index of the first value of the range. */
+		private final int		from;
+		/** Whether the values are the entries of an object. */
+		private final boolean	isObject;
+		/** The index after the last value of the range. */
+		private final int		to;
+		/** The elements or entries the range is in. */
+		private final Object[]	values;
+
+		/** Instantiates a Range of values.
+		 * @param values represents the elements or entries the range is in.
+		 * @param from represents the index of the first value of the range.
+		 * @param to represents the index after the last value of the range.
+		 * @param isObject represents whether the values are the entries of an object. */
+		Range(final Object[] values, final int from, final int to, final boolean isObject){
+			this.from = from;
+			this.isObject = isObject;
+			this.to = to;
+			this.values = values;
+		}
+
+		@Override
+		public byte[] call() throws IOException{
+			final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			final Utf8Writer writable = new Utf8Writer(buffer);
+			Jsoner.serializeRange(this.values, this.from, this.to, this.isObject, writable);
+			writable.finish();
+			return buffer.toByteArray();
+		}
+	}
+}
@@ -0,0 +1,102 @@
+/* Copyright 2016-2017 Clifton Labs
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. */
+package eu.kofis.json_simple;
+
+/** PrettyPrintOptions describes how Jsoner#serialize(Object, java.io.Writer, PrettyPrintOptions) lays out the JSON
+ * text it writes. Each value of an array or entry of an object is written on a line of its own, indented once for each
+ * array and object it is in, unless the array is short enough and only holds nulls, booleans, numbers, and strings to
+ * be written on one line. A PrettyPrintOptions is immutable, each of the with methods returns a copy with one option
+ * changed.
+ * @since 4.2.0 */
+public final class PrettyPrintOptions{
+	/** Indents with a tab and ends lines with "\n", without sorting keys or writing any array on one line, which is how
+	 * Jsoner#prettyPrint(String) lays out JSON text. */
+	public static final PrettyPrintOptions	DEFAULT	= new PrettyPrintOptions("\t", 0, "\n", false);
+
+	@SuppressWarnings("javadoc")
+	private final String					indentation;
+	@SuppressWarnings("javadoc")
+	private final int						maxInlineElements;
+	@SuppressWarnings("javadoc")
+	private final String					newline;
+	@SuppressWarnings("javadoc")
+	private final boolean					sortingKeys;
+
+	@SuppressWarnings("javadoc")
+	private PrettyPrintOptions(final String indentation, final int maxInlineElements, final String newline, final boolean sortingKeys){
+		this.indentation = indentation;
+		this.maxInlineElements = maxInlineElements;
+		this.newline = newline;
+		this.sortingKeys = sortingKeys;
+	}
+
+	/** @return the indentation written once for each array and object a value is in. */
+	public String getIndentation(){
+		return this.indentation;
+	}
+
+	/** @return how many elements an array of nulls, booleans, numbers, and strings can hold and still be written on one
+	 *         line. */
+	public int getMaxInlineElements(){
+		return this.maxInlineElements;
+	}
+
+	/** @return the newline written before each value of an array or entry of an object and before a closing bracket. */
+	public String getNewline(){
+		return this.newline;
+	}
+
+	/** @return whether the entries of objects are written in the order of their keys instead of the order they are
+	 *         iterated in. */
+	public boolean isSortingKeys(){
+		return this.sortingKeys;
+	}
+
+	/** @param indentation represents the indentation written once for each array and object a value is in, it isn't
+	 *        validated to be whitespace.
+	 * @return a PrettyPrintOptions like this one except for its indentation.
+	 * @throws IllegalArgumentException if the indentation is null. */
+	public PrettyPrintOptions withIndentation(final String indentation){
+		if(indentation == null){
+			throw new IllegalArgumentException("The indentation can't be null, it can be empty instead.");
+		}
+		return new PrettyPrintOptions(indentation, this.maxInlineElements, this.newline, this.sortingKeys);
+	}
+
+	/** @param maxInlineElements represents how many elements an array of nulls, booleans, numbers, and strings can hold
+	 *        and still be written on one line.
+	 * @return a PrettyPrintOptions like this one except for how long an array written on one line can be.
+	 * @throws IllegalArgumentException if the maxInlineElements is negative. */
+	public PrettyPrintOptions withMaxInlineElements(final int maxInlineElements){
+		if(maxInlineElements < 0){
+			throw new IllegalArgumentException("An array can't hold fewer than no elements, but the maximum was " + maxInlineElements + ".");
+		}
+		return new PrettyPrintOptions(this.indentation, maxInlineElements, this.newline, this.sortingKeys);
+	}
+
+	/** @param newline represents the newline written before each value of an array or entry of an object and before a
+	 *        closing bracket, it isn't validated to be whitespace.
+	 * @return a PrettyPrintOptions like this one except for its newline.
+	 * @throws IllegalArgumentException if the newline is null. */
+	public PrettyPrintOptions withNewline(final String newline){
+		if(newline == null){
+			throw new IllegalArgumentException("The newline can't be null, it can be empty instead.");
+		}
+		return new PrettyPrintOptions(this.indentation, this.maxInlineElements, newline, this.sortingKeys);
+	}
+
+	/** @param sortingKeys represents whether the entries of objects are written in the order of their keys instead of
+	 *        the order they are iterated in.
+	 * @return a PrettyPrintOptions like this one except for whether it sorts keys. */
+	public PrettyPrintOptions withSortedKeys(final boolean sortingKeys){
+		return new PrettyPrintOptions(this.indentation, this.maxInlineElements, this.newline, sortingKeys);
+	}
+}
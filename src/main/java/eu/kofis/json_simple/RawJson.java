@@ -0,0 +1,86 @@
+/* Copyright 2016-2017 Clifton Labs
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. */
+package eu.kofis.json_simple;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.StringReader;
+import java.io.Writer;
+
+/** RawJson is JSON text that has already been serialized, like a payload received as JSON that is embedded in another
+ * document. Serializing it writes the text as is instead of deserializing it into values just to serialize them again,
+ * and it is written by every serialization method, even the ones that don't allow Jsonables. Unless it is built by
+ * RawJson#validated(String) the text is trusted to be a single JSON value, since it is never checked.
+ * @see Jsoner#serialize(Object, Writer)
+ * @since 4.2.0 */
+public final class RawJson implements Jsonable, Serializable{
+	/** The serialization version this class is compatible with. This value doesn't need to be incremented if and only
+	 * if the only changes to occur were updating comments, updating javadocs, adding new fields to the class, changing
+	 * the fields from static to non-static, or changing the fields from transient to non transient. All other changes
+	 * require this number be incremented. */
+	private static final long	serialVersionUID	= 1L;
+
+	/** The JSON text that is written as is. */
+	private final String		json;
+
+	/** Instantiates a RawJson of JSON text without checking it.
+	 * @param json represents a single JSON value that is written as is wherever the RawJson is serialized.
+	 * @throws IllegalArgumentException if the json is null. */
+	public RawJson(final String json){
+		if(json == null){
+			throw new IllegalArgumentException("The JSON text of a RawJson can't be null, use the null value instead.");
+		}
+		this.json = json;
+	}
+
+	/** Instantiates a RawJson of JSON text after checking it is a single JSON value, without deserializing it.
+	 * @param json represents a single JSON value that is written as is wherever the RawJson is serialized.
+	 * @return a RawJson of the json.
+	 * @throws JsonException if the json isn't a single JSON value, its problem type and position are where
+	 *         Jsoner#validate(java.io.Reader) found the problem.
+	 * @throws IllegalArgumentException if the json is null. */
+	public static RawJson validated(final String json) throws JsonException{
+		if(json == null){
+			throw new IllegalArgumentException("The JSON text of a RawJson can't be null, use the null value instead.");
+		}
+		final JsonValidation validation = Jsoner.validate(new StringReader(json));
+		if(!validation.isValid()){
+			final int position = validation.getPosition();
+			throw new JsonException(position, validation.getProblemType(), (position >= 0) && (position < json.length()) ? Character.valueOf(json.charAt(position)) : null);
+		}
+		return new RawJson(json);
+	}
+
+	@Override
+	public boolean equals(final Object other){
+		return (other instanceof RawJson) && this.json.equals(((RawJson)other).json);
+	}
+
+	@Override
+	public int hashCode(){
+		return this.json.hashCode();
+	}
+
+	@Override
+	public String toJson(){
+		return this.json;
+	}
+
+	@Override
+	public void toJson(final Writer writable) throws IOException{
+		writable.write(this.json);
+	}
+
+	@Override
+	public String toString(){
+		return this.json;
+	}
+}
@@ -0,0 +1,195 @@
+/* Copyright 2016-2017 Clifton Labs
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. */
+package eu.kofis.json_simple;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+/** Reformatter rewrites the whitespace of JSON text without lexing its values. Strings, numbers, and literals are
+ * copied from the buffer the text is read into exactly as they were written, escapes and all, so none of them are
+ * unescaped into a String or parsed into a BigDecimal only to be written back. Whitespace and comments are dropped,
+ * and when pretty printing a newline and indentation are written around the brackets and commas. Since values are
+ * only copied the text isn't validated beyond rejecting characters that can't be outside a string.
+ * @see Jsoner#minify(Reader, Writer)
+ * @see Jsoner#prettyPrintVerbatim(Reader, Writer, String, String) */
+final class Reformatter{
+	/** Where in the JSON text the chars being read are. */
+	private static enum States{
+		/** Skipping a comment that started with slash star, the char before wasn't a star. */
+		BLOCK_COMMENT,
+		/** Skipping a comment that started with slash star, the char before was a star. */
+		BLOCK_STAR,
+		/** Copying a string, the char before was a backslash. */
+		ESCAPE,
+		/** Skipping a comment that started with two slashes. */
+		LINE_COMMENT,
+		/** Outside of strings and comments. */
+		OUTSIDE,
+		/** A slash was read outside of a string, so a comment is starting. */
+		SLASH,
+		/** Copying a string. */
+		STRING;
+	}
+
+	/** How many chars are read from the text at a time. */
+	private static final int BUFFER_SIZE = 8192;
+
+	@SuppressWarnings("javadoc")
+	private Reformatter(){
+		/* Reformatter is purely static so instantiation is unnecessary. */
+	}
+
+	/** @param character represents a char outside of a string and comment.
+	 * @return whether the char can be part of a number, true, false, or null. */
+	private static boolean isLiteral(final char character){
+		return ((character >= '0') && (character <= '9')) || ((character >= 'a') && (character <= 'z')) || ((character >= 'A') && (character <= 'Z')) || (character == '-') || (character == '+') || (character == '.');
+	}
+
+	/** Writes a newline followed by the indentation of a level.
+	 * @param writable represents where the text is written to.
+	 * @param newline represents the newline to write.
+	 * @param indentation represents the indentation written once for each level.
+	 * @param level represents how deep in arrays and objects the text is.
+	 * @throws IOException if the writable encounters an I/O problem. */
+	private static void newline(final Writer writable, final String newline, final String indentation, final int level) throws IOException{
+		writable.write(newline);
+		for(int i = 0; i < level; i++){
+			writable.write(indentation);
+		}
+	}
+
+	/** Copies JSON text from a reader to a writer, dropping its whitespace and comments, and when pretty printing
+	 * writing a newline and indentation after each opening bracket and comma and before each closing bracket.
+	 * @param readable represents the JSON text to reformat.
+	 * @param writable represents where the reformatted JSON text is written to.
+	 * @param indentation represents the indentation written once for each level, or null to minify.
+	 * @param newline represents the newline written after and before brackets and after commas, or null to minify.
+	 * @throws IOException if the readable or writable encounters an I/O problem.
+	 * @throws JsonException if a char outside of a string can't be part of JSON text. */
+	static void reformat(final Reader readable, final Writer writable, final String indentation, final String newline) throws IOException, JsonException{
+		final boolean pretty = (indentation != null) && (newline != null);
+		final char[] buffer = new char[Reformatter.BUFFER_SIZE];
+		long offset = 0;
+		int level = 0;
+		States state = States.OUTSIDE;
+		int read;
+		while((read = readable.read(buffer, 0, buffer.length)) >= 0){
+			/* Chars from the start of the run up to the current one are copied as is once something else is written. */
+			int run = 0;
+			for(int i = 0; i < read; i++){
+				final char character = buffer[i];
+				switch(state){
+					case STRING:{
+						/* Most of a string is neither a quote nor a backslash, so it is skipped over in a tight loop. */
+						int end = i;
+						while((end < read) && (buffer[end] != '"') && (buffer[end] != '\\')){
+							end++;
+						}
+						if(end < read){
+							state = buffer[end] == '"' ? States.OUTSIDE : States.ESCAPE;
+						}
+						i = end;
+						continue;
+					}
+					case ESCAPE:
+						state = States.STRING;
+						continue;
+					case SLASH:
+						if(character == '*'){
+							state = States.BLOCK_COMMENT;
+						}else if(character == '/'){
+							state = States.LINE_COMMENT;
+						}else{
+							throw new JsonException((int)Math.min(offset + i - 1, Integer.MAX_VALUE), JsonException.Problems.UNEXPECTED_CHARACTER, Character.valueOf('/'));
+						}
+						run = i + 1;
+						continue;
+					case BLOCK_COMMENT:
+						if(character == '*'){
+							state = States.BLOCK_STAR;
+						}
+						run = i + 1;
+						continue;
+					case BLOCK_STAR:
+						if(character == '/'){
+							state = States.OUTSIDE;
+						}else if(character != '*'){
+							state = States.BLOCK_COMMENT;
+						}
+						run = i + 1;
+						continue;
+					case LINE_COMMENT:
+						if((character == '\n') || (character == '\r')){
+							state = States.OUTSIDE;
+						}
+						run = i + 1;
+						continue;
+					default:
+						break;
+				}
+				switch(character){
+					case '"':
+						state = States.STRING;
+						break;
+					case ' ':
+					case '\t':
+					case '\n':
+					case '\r':
+						writable.write(buffer, run, i - run);
+						run = i + 1;
+						break;
+					case '/':
+						writable.write(buffer, run, i - run);
+						state = States.SLASH;
+						run = i + 1;
+						break;
+					case '{':
+					case '[':
+						if(pretty){
+							writable.write(buffer, run, (i - run) + 1);
+							Reformatter.newline(writable, newline, indentation, ++level);
+							run = i + 1;
+						}
+						break;
+					case '}':
+					case ']':
+						if(pretty){
+							writable.write(buffer, run, i - run);
+							Reformatter.newline(writable, newline, indentation, --level);
+							run = i;
+						}
+						break;
+					case ',':
+						if(pretty){
+							writable.write(buffer, run, (i - run) + 1);
+							Reformatter.newline(writable, newline, indentation, level);
+							run = i + 1;
+						}
+						break;
+					case ':':
+						break;
+					default:
+						if(!Reformatter.isLiteral(character)){
+							throw new JsonException((int)Math.min(offset + i, Integer.MAX_VALUE), JsonException.Problems.UNEXPECTED_CHARACTER, Character.valueOf(character));
+						}
+						break;
+				}
+			}
+			writable.write(buffer, run, read - run);
+			offset += read;
+		}
+		if(state == States.SLASH){
+			throw new JsonException((int)Math.min(offset - 1, Integer.MAX_VALUE), JsonException.Problems.UNEXPECTED_CHARACTER, Character.valueOf('/'));
+		}
+		writable.flush();
+	}
+}
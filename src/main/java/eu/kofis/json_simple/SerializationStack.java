@@ -0,0 +1,393 @@
+/* Copyright 2016-2017 Clifton Labs
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. */
+package eu.kofis.json_simple;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/** SerializationStack is how far into each array and object Jsoner is while it serializes, kept in arrays instead of
+ * on the call stack so values nested to any depth serialize without overflowing it. Each level remembers the values
+ * of the container left to serialize, whether a value was serialized before the next one needs a comma, and for
+ * objects the value of an entry whose key was just serialized. A level can also gather its text separately so it can
+ * be kept as a container's SerializedForm once the container is done. Containers deeper than a few levels are
+ * tracked by identity, so a container that contains itself fails instead of serializing forever. When it is pretty
+ * printing, each value is written on a line of its own as it is serialized, unless its array is written on one line.
+ * When it is serializing canonically, the entries of each object are serialized in the order of their keys.
+ * @see Jsoner#serialize(Object, Writer, int)
+ * @see Jsoner#serialize(Object, Writer, PrettyPrintOptions)
+ * @see Jsoner#serializeCanonically(Object, Writer) */
+final class SerializationStack{
+	/** How many levels the arrays have room for once the first container is serialized. */
+	private static final int				INITIAL_DEPTH	= 16;
+	/** Orders the entries of an object by their keys when they are sorted. */
+	private static final KeyOrder			KEY_ORDER		= new KeyOrder();
+	/** How deep containers nest before they are tracked, since shallower ones can't be cycling yet. */
+	private static final int				TRACKED_DEPTH	= 64;
+
+	/** Whether each level gathers its text for a SerializedForm. */
+	private boolean[]						caching;
+	/** Whether the text is canonical, so keys are sorted and every value is serialized again. */
+	private final boolean					canonical;
+	/** The container at each level. */
+	private Object[]						containers;
+	/** How many levels there are. */
+	private int								depth;
+	/** Whether each level is an array written on one line. */
+	private boolean[]						inline;
+	/** The values of each level's container left to serialize. */
+	private Iterator<?>[]					iterators;
+	/** How many levels there can be before serialization fails. */
+	private final int						maxDepth;
+	/** Whether each level is an object instead of an array. */
+	private boolean[]						objects;
+	/** Whether each level's entry has a key serialized but not its value. */
+	private boolean[]						pending;
+	/** The value of each level's entry whose key was serialized. */
+	private Object[]						pendingValues;
+	/** How the text is laid out, or null if it is written without any whitespace. */
+	private final PrettyPrintOptions		pretty;
+	/** The SerializedForm each level gathers its text for, or for a level that doesn't, the one of the nearest level
+	 * below it that does, which its text goes into too. */
+	private SerializedForm[]				forms;
+	/** Where the text is written to when there aren't any levels. */
+	private final Writer					root;
+	/** Where numbers are formatted before they are written, or null until the first one is. */
+	private char[]							scratch;
+	/** Whether each level serialized a value, so the next one is written after a comma. */
+	private boolean[]						started;
+	/** The containers deeper than TRACKED_DEPTH that are being serialized, or null until there are any. */
+	private IdentityHashMap<Object, Object>	tracked;
+	/** Where each level's text is written to. */
+	private Writer[]						writers;
+
+	/** Instantiates a SerializationStack without any levels.
+	 * @param root represents where the JSON text is written to.
+	 * @param maxDepth represents how deep containers can nest before serialization fails.
+	 * @param pretty represents how the text is laid out, or null if it is written without any whitespace.
+	 * @param canonical represents whether the text is canonical, which it can't be when it is laid out. */
+	SerializationStack(final Writer root, final int maxDepth, final PrettyPrintOptions pretty, final boolean canonical){
+		this.canonical = canonical;
+		this.maxDepth = maxDepth;
+		this.pretty = pretty;
+		this.root = root;
+	}
+
+	/** Notes that the text being gathered for a SerializedForm went through a value whose changes can't be noticed, so
+	 * it won't be kept. */
+	void distrust(){
+		final SerializedForm form = this.getForm();
+		if(form != null){
+			form.distrust();
+		}
+	}
+
+	/** @return the SerializedForm the deepest level's text goes into, or null if no level is gathering its text. */
+	SerializedForm getForm(){
+		return this.depth == 0 ? null : this.forms[this.depth - 1];
+	}
+
+	/** @return room for a number to be formatted in, canonically or not, shared by every number serialized so none of
+	 *         them allocates it. */
+	char[] getScratch(){
+		if(this.scratch == null){
+			this.scratch = new char[Math.max(Jsoner.MAX_ELEMENT_CHARS, NumberWriter.CANONICAL_BUFFER_CHARS)];
+		}
+		return this.scratch;
+	}
+
+	/** @return where text is written to at the deepest level. */
+	Writer getWriter(){
+		return this.depth == 0 ? this.root : this.writers[this.depth - 1];
+	}
+
+	/** Makes room for more levels, creating the arrays for the first level or doubling how many they have room for. */
+	private void grow(){
+		if(this.containers == null){
+			this.caching = new boolean[SerializationStack.INITIAL_DEPTH];
+			this.containers = new Object[SerializationStack.INITIAL_DEPTH];
+			this.forms = new SerializedForm[SerializationStack.INITIAL_DEPTH];
+			this.inline = new boolean[SerializationStack.INITIAL_DEPTH];
+			this.iterators = new Iterator<?>[SerializationStack.INITIAL_DEPTH];
+			this.objects = new boolean[SerializationStack.INITIAL_DEPTH];
+			this.pending = new boolean[SerializationStack.INITIAL_DEPTH];
+			this.pendingValues = new Object[SerializationStack.INITIAL_DEPTH];
+			this.started = new boolean[SerializationStack.INITIAL_DEPTH];
+			this.writers = new Writer[SerializationStack.INITIAL_DEPTH];
+			return;
+		}
+		final int grown = this.containers.length * 2;
+		this.caching = Arrays.copyOf(this.caching, grown);
+		this.containers = Arrays.copyOf(this.containers, grown);
+		this.forms = Arrays.copyOf(this.forms, grown);
+		this.inline = Arrays.copyOf(this.inline, grown);
+		this.iterators = Arrays.copyOf(this.iterators, grown);
+		this.objects = Arrays.copyOf(this.objects, grown);
+		this.pending = Arrays.copyOf(this.pending, grown);
+		this.pendingValues = Arrays.copyOf(this.pendingValues, grown);
+		this.started = Arrays.copyOf(this.started, grown);
+		this.writers = Arrays.copyOf(this.writers, grown);
+	}
+
+	/** @return whether the deepest level has values left to serialize. */
+	boolean hasNext(){
+		return this.iterators[this.depth - 1].hasNext();
+	}
+
+	/** @return whether the deepest level's entry has a key serialized but not its value. */
+	boolean hasPendingValue(){
+		return this.pending[this.depth - 1];
+	}
+
+	/** Notes that a JsonObject's or JsonArray's text is going into the text being gathered for a SerializedForm, so a
+	 * change to it makes the form out of date.
+	 * @param container represents the JsonObject or JsonArray being serialized. */
+	void include(final Object container){
+		final SerializedForm form = this.getForm();
+		if(form != null){
+			if(container instanceof JsonObject){
+				((JsonObject)container).addDependent(form);
+			}else{
+				((JsonArray)container).addDependent(form);
+			}
+		}
+	}
+
+	/** @return whether the deepest level is caching its text for a SerializedForm. */
+	boolean isCaching(){
+		return this.caching[this.depth - 1];
+	}
+
+	/** @return whether there aren't any levels. */
+	boolean isEmpty(){
+		return this.depth == 0;
+	}
+
+	/** @param container represents the array about to be serialized.
+	 * @return whether the array is short enough and only holds nulls, booleans, numbers, and strings to be written on
+	 *         one line. */
+	private boolean isInline(final Object container){
+		final Collection<?> elements = container instanceof Collection ? (Collection<?>)container : Arrays.asList((Object[])container);
+		if(elements.size() > this.pretty.getMaxInlineElements()){
+			return false;
+		}
+		for(final Object element : elements){
+			if(!((element == null) || (element instanceof String) || (element instanceof Number) || (element instanceof Boolean) || (element instanceof Character))){
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/** @return whether the deepest level is an object instead of an array. */
+	boolean isObject(){
+		return this.objects[this.depth - 1];
+	}
+
+	/** @return whether the text is laid out instead of written without any whitespace. */
+	boolean isPretty(){
+		return this.pretty != null;
+	}
+
+	/** @return whether arrays and objects are always serialized again, instead of copying the text they kept, because
+	 *         the text is laid out or canonical. */
+	boolean isRewriting(){
+		return (this.pretty != null) || this.canonical;
+	}
+
+	/** Writes a newline and the indentation for a level.
+	 * @param writable represents where the text is written to.
+	 * @param level represents how many times the indentation is written.
+	 * @throws IOException if the writer encounters an I/O problem. */
+	private void newline(final Writer writable, final int level) throws IOException{
+		writable.write(this.pretty.getNewline());
+		for(int i = 0; i < level; i++){
+			writable.write(this.pretty.getIndentation());
+		}
+	}
+
+	/** Gives the next value of the deepest level, writing the comma before it if a value came before and the newline
+	 * before it when pretty printing.
+	 * @return the next element of an array or entry of an object.
+	 * @throws IOException if the writer encounters an I/O problem. */
+	Object next() throws IOException{
+		final int level = this.depth - 1;
+		if(this.started[level]){
+			this.writers[level].write(',');
+		}else{
+			this.started[level] = true;
+		}
+		if((this.pretty != null) && !this.inline[level]){
+			this.newline(this.writers[level], this.depth);
+		}
+		return this.iterators[level].next();
+	}
+
+	/** Removes the deepest level, writing the bracket that closes it.
+	 * @return where the text of the level was written to.
+	 * @throws IOException if the writer encounters an I/O problem. */
+	Writer pop() throws IOException{
+		final int level = --this.depth;
+		final Writer writable = this.writers[level];
+		if((this.pretty != null) && !this.inline[level] && this.started[level]){
+			/* An empty array or object is closed on the line it was opened on. */
+			this.newline(writable, level);
+		}
+		writable.write(this.objects[level] ? '}' : ']');
+		if(this.tracked != null){
+			this.tracked.remove(this.containers[level]);
+		}
+		this.containers[level] = null;
+		this.forms[level] = null;
+		this.iterators[level] = null;
+		this.writers[level] = null;
+		return writable;
+	}
+
+	/** Adds a level for a container, writing the bracket that opens it.
+	 * @param container represents the container whose values are serialized at the new level.
+	 * @param values represents the elements of the array or entries of the object, which are serialized in the order
+	 *        of their keys instead when the text is canonical or pretty printed with sorted keys.
+	 * @param isObject represents whether the container is an object instead of an array.
+	 * @param form represents the SerializedForm the level's text is gathered separately for, or null if it is written
+	 *        where the level below writes.
+	 * @throws IOException if the writer encounters an I/O problem.
+	 * @throws IllegalArgumentException if the container would nest deeper than the maximum depth, or is already being
+	 *         serialized because it contains itself. */
+	void push(final Object container, final Iterator<?> values, final boolean isObject, final SerializedForm form) throws IOException{
+		if(this.depth >= this.maxDepth){
+			throw new IllegalArgumentException("Encountered a: " + container.getClass().getName() + " nested deeper than the maximum depth of " + this.maxDepth + " that isn't JSON serializable.");
+		}
+		if(this.depth >= SerializationStack.TRACKED_DEPTH){
+			if(this.tracked == null){
+				this.tracked = new IdentityHashMap<Object, Object>();
+			}
+			if(this.tracked.put(container, container) != null){
+				throw new IllegalArgumentException("Encountered a: " + container.getClass().getName() + " that contains itself and isn't JSON serializable.");
+			}
+		}
+		if((this.containers == null) || (this.depth == this.containers.length)){
+			this.grow();
+		}
+		final Writer writable = form != null ? TextWriter.reusing() : this.getWriter();
+		final boolean isInline = (this.pretty != null) && !isObject && ((container instanceof Collection) || (container instanceof Object[])) && this.isInline(container);
+		Iterator<?> iterable = values;
+		if(isObject && (this.canonical || ((this.pretty != null) && this.pretty.isSortingKeys()))){
+			final List<Map.Entry<?, ?>> entries = new ArrayList<Map.Entry<?, ?>>();
+			while(values.hasNext()){
+				entries.add((Map.Entry<?, ?>)values.next());
+			}
+			Collections.sort(entries, SerializationStack.KEY_ORDER);
+			iterable = entries.iterator();
+		}
+		final SerializedForm enclosing = this.getForm();
+		final int level = this.depth++;
+		this.caching[level] = form != null;
+		this.containers[level] = container;
+		this.forms[level] = form != null ? form : enclosing;
+		this.inline[level] = isInline;
+		this.iterators[level] = iterable;
+		this.objects[level] = isObject;
+		this.pending[level] = false;
+		this.started[level] = false;
+		this.writers[level] = writable;
+		writable.write(isObject ? '{' : '[');
+	}
+
+	/** Adds a level for an array of primitives when pretty printing, so each of its elements is written on a line of its
+	 * own like the elements of any other array, or when the text is canonical and the array holds numbers or chars
+	 * that aren't written canonically in bulk.
+	 * @param array represents the array of primitives about to be serialized.
+	 * @param length represents how many elements the array has.
+	 * @return whether a level was added, otherwise the array should be written in bulk on one line.
+	 * @throws IOException if the writer encounters an I/O problem.
+	 * @throws IllegalArgumentException if the array would nest deeper than the maximum depth. */
+	boolean pushExpanded(final Object array, final int length) throws IOException{
+		if(this.canonical){
+			/* Booleans and whole numbers that fit in an int are already written the canonical way. */
+			if((length == 0) || (array instanceof boolean[]) || (array instanceof byte[]) || (array instanceof short[]) || (array instanceof int[])){
+				return false;
+			}
+		}else if((this.pretty == null) || (length <= this.pretty.getMaxInlineElements())){
+			return false;
+		}
+		this.push(array, new PrimitiveElements(array, length), false, null);
+		return true;
+	}
+
+	/** @param value represents the value of the deepest level's entry whose key is about to be serialized. */
+	void setPendingValue(final Object value){
+		this.pending[this.depth - 1] = true;
+		this.pendingValues[this.depth - 1] = value;
+	}
+
+	/** @return the value of the deepest level's entry whose key was serialized, which is no longer pending. */
+	Object takePendingValue(){
+		final int level = this.depth - 1;
+		final Object returnable = this.pendingValues[level];
+		this.pending[level] = false;
+		this.pendingValues[level] = null;
+		return returnable;
+	}
+
+	/** KeyOrder orders the entries of an object by their keys, comparing keys that aren't strings as the strings they
+	 * are serialized as. */
+	private static final class KeyOrder implements Comparator<Map.Entry<?, ?>>{
+		@Override
+		public int compare(final Map.Entry<?, ?> first, final Map.Entry<?, ?> second){
+			return String.valueOf(first.getKey()).compareTo(String.valueOf(second.getKey()));
+		}
+	}
+
+	/** PrimitiveElements iterates over an array of primitives, boxing each element as it is reached, and giving each
+	 * char as a String so it is quoted like the elements of a char array written on one line are. */
+	private static final class PrimitiveElements implements Iterator<Object>{
+		/** The array of primitives. */
+		private final Object	array;
+		/** How many elements the array has. */
+		private final int		length;
+		/** Which element is next. */
+		private int				position;
+
+		/** Instantiates a PrimitiveElements at the first element of an array.
+		 * @param array represents the array of primitives.
+		 * @param length represents how many elements the array has. */
+		PrimitiveElements(final Object array, final int length){
+			this.array = array;
+			this.length = length;
+		}
+
+		@Override
+		public boolean hasNext(){
+			return this.position < this.length;
+		}
+
+		@Override
+		public Object next(){
+			final Object element = Array.get(this.array, this.position++);
+			return element instanceof Character ? element.toString() : element;
+		}
+
+		@Override
+		public void remove(){
+			throw new UnsupportedOperationException("The elements are only being serialized.");
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/* Copyright 2016-2017 Clifton Labs
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. */
+package eu.kofis.json_simple;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/** SerializedForm is the JSON text a JsonObject or JsonArray serialized to, kept so it can be written again in one
+ * write. Each JsonObject and JsonArray whose text went into it remembers it as a dependent while it is serialized,
+ * including ones whose kept or source text was copied instead, so a change to one of them marks the form out of date
+ * and in turn the forms the container's text went into, without looking through the container again. The dependents
+ * are only weakly remembered, so a container doesn't keep the ones it was serialized in from being collected. Changes
+ * to anything other than a JsonObject or JsonArray can't be noticed, so text that went through another Map,
+ * Collection, array, or Jsonable isn't kept at all. */
+final class SerializedForm{
+	/** The JsonObject or JsonArray the text is of. */
+	private final Object	container;
+	/** Whether the text went through a value whose changes can't be noticed. */
+	private boolean			distrusted;
+	/** The JSON text the container serialized to, or null until it is done serializing. */
+	private String			json;
+	/** Whether a change made the text out of date. */
+	private boolean			stale;
+
+	/** Instantiates a SerializedForm of a container that is about to be serialized.
+	 * @param container represents the JsonObject or JsonArray being serialized. */
+	SerializedForm(final Object container){
+		this.container = container;
+	}
+
+	/** Remembers that a form's text includes a container's, so a change to the container makes the form out of date.
+	 * Forms that were collected or are out of date are let go of while the dependents are looked through.
+	 * @param dependents represents the forms the container's text already went into, or null if there aren't any.
+	 * @param form represents the form the container's text is going into.
+	 * @return the dependents including the form. */
+	static List<Reference<SerializedForm>> addDependent(final List<Reference<SerializedForm>> dependents, final SerializedForm form){
+		final List<Reference<SerializedForm>> returnable = dependents == null ? new ArrayList<Reference<SerializedForm>>(2) : dependents;
+		final Iterator<Reference<SerializedForm>> references = returnable.iterator();
+		while(references.hasNext()){
+			final SerializedForm dependent = references.next().get();
+			if(dependent == form){
+				return returnable;
+			}else if((dependent == null) || dependent.stale){
+				references.remove();
+			}
+		}
+		returnable.add(new WeakReference<SerializedForm>(form));
+		return returnable;
+	}
+
+	/** Marks the form of a changed container out of date, along with the forms its text went into and the ones their
+	 * containers' text went into in turn. They are discarded walking up with a list of the containers left instead of
+	 * recursively, so a deeply nested container doesn't overflow the stack, and a form already out of date isn't walked
+	 * past again.
+	 * @param changed represents the JsonObject or JsonArray that changed. */
+	static void discard(final Object changed){
+		final ArrayDeque<Object> discardable = new ArrayDeque<Object>();
+		discardable.push(changed);
+		while(!discardable.isEmpty()){
+			final Object container = discardable.pop();
+			final SerializedForm form;
+			final List<Reference<SerializedForm>> dependents;
+			if(container instanceof JsonObject){
+				form = ((JsonObject)container).getSerializedForm();
+				dependents = ((JsonObject)container).takeDependents();
+			}else{
+				form = ((JsonArray)container).getSerializedForm();
+				dependents = ((JsonArray)container).takeDependents();
+			}
+			if(form != null){
+				form.stale = true;
+			}
+			if(dependents != null){
+				for(final Reference<SerializedForm> reference : dependents){
+					final SerializedForm dependent = reference.get();
+					if((dependent != null) && !dependent.stale){
+						dependent.stale = true;
+						discardable.push(dependent.container);
+					}
+				}
+			}
+		}
+	}
+
+	/** Notes that the text went through a value whose changes can't be noticed, so it won't be kept. */
+	void distrust(){
+		this.distrusted = true;
+	}
+
+	/** Takes the text the container serialized to, which is only kept if a change can't have gone unnoticed.
+	 * @param json represents the JSON text the container serialized to.
+	 * @return whether the text is kept, otherwise the form of whatever the container is in can't be kept either. */
+	boolean finish(final String json){
+		if(this.distrusted){
+			this.stale = true;
+			return false;
+		}
+		this.json = json;
+		return true;
+	}
+
+	/** @return the JSON text the container serialized to. */
+	String getJson(){
+		return this.json;
+	}
+
+	/** @return whether the text is done serializing and neither the container nor anything within it changed since. */
+	boolean isCurrent(){
+		return (this.json != null) && !this.stale;
+	}
+
+	/** Marks the form out of date, since its container no longer keeps it. */
+	void release(){
+		this.stale = true;
+	}
+}
@@ -0,0 +1,70 @@
+/* Copyright 2016-2017 Clifton Labs
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. */
+package eu.kofis.json_simple;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/** SourceSpan is where a JsonObject or JsonArray was found in the JSON text it was deserialized from, so until it
+ * changes it can be serialized by copying that text instead of serializing its values again. It also knows the
+ * container the JsonObject or JsonArray was found in, since a change to it means the text of that container and every
+ * container around it is out of date too.
+ * @see Jsoner#deserializeRetainingSource(String) */
+final class SourceSpan{
+	/** The index after the container's last character in the source. */
+	private final int		end;
+	/** The JsonObject or JsonArray the container was found in, or null if it was the root. */
+	private final Object	parent;
+	/** The JSON text the container was deserialized from. */
+	private final String	source;
+	/** The index of the container's first character in the source. */
+	private final int		start;
+
+	/** Instantiates a SourceSpan of a container that was just deserialized.
+	 * @param source represents the JSON text the container was deserialized from.
+	 * @param start represents the index of the container's first character in the source.
+	 * @param end represents the index after the container's last character in the source.
+	 * @param parent represents the JsonObject or JsonArray the container was found in, or null if it was the root. */
+	SourceSpan(final String source, final int start, final int end, final Object parent){
+		this.end = end;
+		this.parent = parent;
+		this.source = source;
+		this.start = start;
+	}
+
+	/** Discards the spans of the containers the container was found in, since their text includes the container's,
+	 * along with the kept text that copied their spans. They are discarded walking up one at a time instead of
+	 * recursively, so a deeply nested container doesn't overflow the stack. */
+	void discardParents(){
+		Object container = this.parent;
+		while(container != null){
+			final SourceSpan span;
+			if(container instanceof JsonObject){
+				span = ((JsonObject)container).getSourceSpan();
+				((JsonObject)container).setSourceSpan(null);
+				((JsonObject)container).discardSerializedForm();
+			}else{
+				span = ((JsonArray)container).getSourceSpan();
+				((JsonArray)container).setSourceSpan(null);
+				((JsonArray)container).discardSerializedForm();
+			}
+			/* Once a container has no span, neither do the ones it was found in. */
+			container = span == null ? null : span.parent;
+		}
+	}
+
+	/** Copies the container's text from the source.
+	 * @param writable represents where the text is written to.
+	 * @throws IOException if the writable encounters an I/O problem. */
+	void write(final Writer writable) throws IOException{
+		writable.write(this.source, this.start, this.end - this.start);
+	}
+}
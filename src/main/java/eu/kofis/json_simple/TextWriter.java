@@ -0,0 +1,122 @@
+/* Copyright 2016-2017 Clifton Labs
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. */
+package eu.kofis.json_simple;
+
+import java.io.Writer;
+
+/** TextWriter gathers text into a char array for the methods that return their JSON as a String. Unlike a
+ * StringWriter it isn't synchronized, and the String it produces is the only copy made of the array. Each thread keeps
+ * the array of the last TextWriter it released, so serializing to Strings over and over doesn't allocate a new array
+ * each time. A TextWriter is never thrown an IOException. */
+final class TextWriter extends Writer{
+	/** The thread's array while no TextWriter is using it. */
+	private static final ThreadLocal<char[]>	ARRAYS			= new ThreadLocal<char[]>();
+	/** How many chars a new array has room for when there isn't a better estimate. */
+	private static final int					INITIAL_CHARS	= 1024;
+	/** The largest array a thread keeps, so one large serialization doesn't hold on to its memory forever. */
+	private static final int					REUSED_CHARS	= 1 << 16;
+
+	/** Where the text is gathered. */
+	private char[]								chars;
+	/** How many of the chars are text. */
+	private int									count;
+
+	/** Instantiates a TextWriter that gathers the text into an array it was given.
+	 * @param chars represents where the text is gathered. */
+	TextWriter(final char[] chars){
+		this.chars = chars;
+	}
+
+	/** Instantiates a TextWriter with room for about as much text as it is expected to be given.
+	 * @param sizeHint represents how many chars the text is expected to be. */
+	TextWriter(final int sizeHint){
+		this.chars = new char[Math.max(sizeHint, 16)];
+	}
+
+	@Override
+	public void close(){
+		/* There is nothing to close. */
+	}
+
+	@Override
+	public void flush(){
+		/* There is nothing to flush. */
+	}
+
+	/** Produces the text and gives the array to the thread for the next TextWriter, the TextWriter can't be used
+	 * afterwards.
+	 * @return the text that was written. */
+	String release(){
+		final String returnable = new String(this.chars, 0, this.count);
+		if(this.chars.length <= TextWriter.REUSED_CHARS){
+			TextWriter.ARRAYS.set(this.chars);
+		}
+		this.chars = null;
+		return returnable;
+	}
+
+	/** @param needed represents how many more chars are about to be written. */
+	private void reserve(final int needed){
+		final int required = this.count + needed;
+		if(required > this.chars.length){
+			final char[] grown = new char[Math.max(required, this.chars.length + (this.chars.length >> 1))];
+			System.arraycopy(this.chars, 0, grown, 0, this.count);
+			this.chars = grown;
+		}
+	}
+
+	/** @return a TextWriter that uses the thread's array, or a new one if another TextWriter is using it. */
+	static TextWriter reusing(){
+		final char[] array = TextWriter.ARRAYS.get();
+		if(array == null){
+			return new TextWriter(TextWriter.INITIAL_CHARS);
+		}
+		TextWriter.ARRAYS.remove();
+		return new TextWriter(array);
+	}
+
+	/** @return how many chars were written. */
+	int size(){
+		return this.count;
+	}
+
+	@Override
+	public String toString(){
+		return new String(this.chars, 0, this.count);
+	}
+
+	@Override
+	public void write(final char[] characters, final int offset, final int length){
+		this.reserve(length);
+		System.arraycopy(characters, offset, this.chars, this.count, length);
+		this.count += length;
+	}
+
+	@Override
+	public void write(final int character){
+		if(this.count == this.chars.length){
+			this.reserve(1);
+		}
+		this.chars[this.count++] = (char)character;
+	}
+
+	@Override
+	public void write(final String string){
+		this.write(string, 0, string.length());
+	}
+
+	@Override
+	public void write(final String string, final int offset, final int length){
+		this.reserve(length);
+		string.getChars(offset, offset + length, this.chars, this.count);
+		this.count += length;
+	}
+}
@@ -0,0 +1,172 @@
+/* Copyright 2016-2017 Clifton Labs
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. */
+package eu.kofis.json_simple;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+
+/** Utf8Writer encodes characters as UTF-8 straight into a byte buffer as they are written, which skips the charset
+ * encoder an OutputStreamWriter goes through. JSON text is mostly ASCII, so each ASCII character is a single store
+ * into the buffer. Like an OutputStreamWriter, unpaired surrogates are encoded as '?'. */
+final class Utf8Writer extends Writer{
+	/** How many bytes are encoded before they are handed to the destination. */
+	private static final int	BUFFER_SIZE	= 8192;
+
+	/** Where the encoded bytes wait to be handed to the destination. */
+	private final byte[]		bytes		= new byte[Utf8Writer.BUFFER_SIZE];
+	/** Where the bytes are handed to, when the destination isn't a stream. */
+	private final ByteBuffer	buffer;
+	/** Where the bytes are handed to, when the destination isn't a buffer. */
+	private final OutputStream	stream;
+	/** How many of the bytes are waiting. */
+	private int					count;
+	/** The high surrogate written last whose low surrogate hasn't been written yet, or 0 if there isn't one. */
+	private char				highSurrogate;
+
+	/** Instantiates a Utf8Writer that puts the bytes into a buffer.
+	 * @param buffer represents where the bytes are put, starting at its position. */
+	Utf8Writer(final ByteBuffer buffer){
+		this.buffer = buffer;
+		this.stream = null;
+	}
+
+	/** Instantiates a Utf8Writer that writes the bytes to a stream.
+	 * @param stream represents where the bytes are written. */
+	Utf8Writer(final OutputStream stream){
+		this.buffer = null;
+		this.stream = stream;
+	}
+
+	/** Hands the waiting bytes to the destination.
+	 * @throws IOException if the stream encounters an I/O problem.
+	 * @throws java.nio.BufferOverflowException if the buffer doesn't have room for the bytes. */
+	private void drain() throws IOException{
+		if(this.count > 0){
+			if(this.stream != null){
+				this.stream.write(this.bytes, 0, this.count);
+			}else{
+				this.buffer.put(this.bytes, 0, this.count);
+			}
+			this.count = 0;
+		}
+	}
+
+	/** Encodes a character that isn't ASCII.
+	 * @param character represents the character to encode.
+	 * @throws IOException if the stream encounters an I/O problem. */
+	private void encode(final char character) throws IOException{
+		if((this.count + 4) > Utf8Writer.BUFFER_SIZE){
+			this.drain();
+		}
+		if(this.highSurrogate != 0){
+			final char high = this.highSurrogate;
+			this.highSurrogate = 0;
+			if(Character.isLowSurrogate(character)){
+				final int codePoint = Character.toCodePoint(high, character);
+				this.bytes[this.count++] = (byte)(0xF0 | (codePoint >> 18));
+				this.bytes[this.count++] = (byte)(0x80 | ((codePoint >> 12) & 0x3F));
+				this.bytes[this.count++] = (byte)(0x80 | ((codePoint >> 6) & 0x3F));
+				this.bytes[this.count++] = (byte)(0x80 | (codePoint & 0x3F));
+				return;
+			}
+			this.bytes[this.count++] = '?';
+			this.write(character);
+			return;
+		}
+		if(character < 0x80){
+			this.bytes[this.count++] = (byte)character;
+		}else if(character < 0x800){
+			this.bytes[this.count++] = (byte)(0xC0 | (character >> 6));
+			this.bytes[this.count++] = (byte)(0x80 | (character & 0x3F));
+		}else if(Character.isHighSurrogate(character)){
+			this.highSurrogate = character;
+		}else if(Character.isLowSurrogate(character)){
+			this.bytes[this.count++] = '?';
+		}else{
+			this.bytes[this.count++] = (byte)(0xE0 | (character >> 12));
+			this.bytes[this.count++] = (byte)(0x80 | ((character >> 6) & 0x3F));
+			this.bytes[this.count++] = (byte)(0x80 | (character & 0x3F));
+		}
+	}
+
+	/** Hands every byte to the destination, encoding a high surrogate that is still waiting for its low surrogate as
+	 * '?', without flushing or closing the stream.
+	 * @throws IOException if the stream encounters an I/O problem.
+	 * @throws java.nio.BufferOverflowException if the buffer doesn't have room for the bytes. */
+	void finish() throws IOException{
+		if(this.highSurrogate != 0){
+			this.highSurrogate = 0;
+			if(this.count == Utf8Writer.BUFFER_SIZE){
+				this.drain();
+			}
+			this.bytes[this.count++] = '?';
+		}
+		this.drain();
+	}
+
+	@Override
+	public void close() throws IOException{
+		this.finish();
+		if(this.stream != null){
+			this.stream.close();
+		}
+	}
+
+	@Override
+	public void flush() throws IOException{
+		this.drain();
+		if(this.stream != null){
+			this.stream.flush();
+		}
+	}
+
+	@Override
+	public void write(final char[] characters, final int offset, final int length) throws IOException{
+		final int end = offset + length;
+		for(int i = offset; i < end; i++){
+			final char character = characters[i];
+			if((character < 0x80) && (this.highSurrogate == 0) && (this.count < Utf8Writer.BUFFER_SIZE)){
+				this.bytes[this.count++] = (byte)character;
+			}else{
+				this.encode(character);
+			}
+		}
+	}
+
+	@Override
+	public void write(final int character) throws IOException{
+		if((character < 0x80) && (this.highSurrogate == 0) && (this.count < Utf8Writer.BUFFER_SIZE)){
+			this.bytes[this.count++] = (byte)character;
+		}else{
+			this.encode((char)character);
+		}
+	}
+
+	@Override
+	public void write(final String string) throws IOException{
+		this.write(string, 0, string.length());
+	}
+
+	@Override
+	public void write(final String string, final int offset, final int length) throws IOException{
+		final int end = offset + length;
+		for(int i = offset; i < end; i++){
+			final char character = string.charAt(i);
+			if((character < 0x80) && (this.highSurrogate == 0) && (this.count < Utf8Writer.BUFFER_SIZE)){
+				this.bytes[this.count++] = (byte)character;
+			}else{
+				this.encode(character);
+			}
+		}
+	}
+}
@@ -0,0 +1,158 @@
+/* Copyright 2016-2017 Clifton Labs
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. */
+package eu.kofis.json_simple;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/** ValueConverter turns the values a JsonObject or CompactJsonObject holds into what their convenience methods
+ * promise, so both of them convert the same way.
+ * @see JsonObject
+ * @see CompactJsonObject */
+final class ValueConverter{
+	/** Nothing to instantiate, every method is static. */
+	private ValueConverter(){
+	}
+
+	/** Ensures the given keys are present in a map.
+	 * @param map represents the map that must hold the keys.
+	 * @param kind represents the kind of map, as named in the exception.
+	 * @param keys represents the keys that must be present.
+	 * @throws NoSuchElementException if any of the given keys are missing. */
+	static void requireKeys(final Map<String, ?> map, final String kind, final JsonKey... keys){
+		/* Track all of the missing keys. */
+		final Set<JsonKey> missing = new HashSet<JsonKey>();
+		for(final JsonKey k : keys){
+			if(!map.containsKey(k.getKey())){
+				missing.add(k);
+			}
+		}
+		if(!missing.isEmpty()){
+			/* Report any missing keys in the exception. */
+			final StringBuilder sb = new StringBuilder();
+			for(final JsonKey k : missing){
+				sb.append(k.getKey()).append(", ");
+			}
+			sb.setLength(sb.length() - 2);
+			final String s = missing.size() > 1 ? "s" : "";
+			throw new NoSuchElementException("A " + kind + " is missing required key" + s + ": " + sb.toString());
+		}
+	}
+
+	/** @param value represents a BigDecimal, Number, String, or null.
+	 * @return a BigDecimal, constructed from the Number's Number#toString() or from the String if it wasn't one
+	 *         already, or null.
+	 * @throws ClassCastException if the value isn't a BigDecimal, Number, or String.
+	 * @throws NumberFormatException if a String isn't a valid representation of a BigDecimal or if the Number
+	 *         represents the double or float Infinity or NaN. */
+	static BigDecimal toBigDecimal(final Object value){
+		Object returnable = value;
+		if(returnable instanceof BigDecimal){
+			/* Success there was a BigDecimal or it defaulted. */
+		}else if(returnable instanceof Number){
+			/* A number can be used to construct a BigDecimal */
+			returnable = new BigDecimal(returnable.toString());
+		}else if(returnable instanceof String){
+			/* A String can be used to construct a BigDecimal */
+			returnable = new BigDecimal((String)returnable);
+		}
+		return (BigDecimal)returnable;
+	}
+
+	/** @param value represents a Boolean, String, or null.
+	 * @return a Boolean, parsed from the String if it wasn't one already, or null.
+	 * @throws ClassCastException if the value isn't a Boolean or String. */
+	static Boolean toBoolean(final Object value){
+		if(value instanceof String){
+			return Boolean.valueOf((String)value);
+		}
+		return (Boolean)value;
+	}
+
+	/** @param value represents a Number, String, or null.
+	 * @return the Number's Number#byteValue(), or null.
+	 * @throws ClassCastException if the value isn't a Number or String.
+	 * @throws NumberFormatException if a String isn't a valid representation of a BigDecimal. */
+	static Byte toByte(final Object value){
+		final Number number = ValueConverter.toNumber(value);
+		return number == null ? null : Byte.valueOf(number.byteValue());
+	}
+
+	/** @param value represents a Number, String, or null.
+	 * @return the Number's Number#doubleValue(), or null.
+	 * @throws ClassCastException if the value isn't a Number or String.
+	 * @throws NumberFormatException if a String isn't a valid representation of a BigDecimal. */
+	static Double toDouble(final Object value){
+		final Number number = ValueConverter.toNumber(value);
+		return number == null ? null : Double.valueOf(number.doubleValue());
+	}
+
+	/** @param value represents a Number, String, or null.
+	 * @return the Number's Number#floatValue(), or null.
+	 * @throws ClassCastException if the value isn't a Number or String.
+	 * @throws NumberFormatException if a String isn't a valid representation of a BigDecimal. */
+	static Float toFloat(final Object value){
+		final Number number = ValueConverter.toNumber(value);
+		return number == null ? null : Float.valueOf(number.floatValue());
+	}
+
+	/** @param value represents a Number, String, or null.
+	 * @return the Number's Number#intValue(), or null.
+	 * @throws ClassCastException if the value isn't a Number or String.
+	 * @throws NumberFormatException if a String isn't a valid representation of a BigDecimal. */
+	static Integer toInteger(final Object value){
+		final Number number = ValueConverter.toNumber(value);
+		return number == null ? null : Integer.valueOf(number.intValue());
+	}
+
+	/** @param value represents a Number, String, or null.
+	 * @return the Number's Number#longValue(), or null.
+	 * @throws ClassCastException if the value isn't a Number or String.
+	 * @throws NumberFormatException if a String isn't a valid representation of a BigDecimal. */
+	static Long toLong(final Object value){
+		final Number number = ValueConverter.toNumber(value);
+		return number == null ? null : Long.valueOf(number.longValue());
+	}
+
+	/** @param value represents a Number, String, or null.
+	 * @return the Number, a BigDecimal constructed from the String, or null.
+	 * @throws ClassCastException if the value isn't a Number or String.
+	 * @throws NumberFormatException if a String isn't a valid representation of a BigDecimal. */
+	private static Number toNumber(final Object value){
+		if(value instanceof String){
+			/* A String can be used to construct a BigDecimal. */
+			return new BigDecimal((String)value);
+		}
+		return (Number)value;
+	}
+
+	/** @param value represents a Number, String, or null.
+	 * @return the Number's Number#shortValue(), or null.
+	 * @throws ClassCastException if the value isn't a Number or String.
+	 * @throws NumberFormatException if a String isn't a valid representation of a BigDecimal. */
+	static Short toShort(final Object value){
+		final Number number = ValueConverter.toNumber(value);
+		return number == null ? null : Short.valueOf(number.shortValue());
+	}
+
+	/** @param value represents a Boolean, Number, String, or null.
+	 * @return a String, the Boolean's or Number's toString() if it wasn't one already, or null.
+	 * @throws ClassCastException if the value isn't a Boolean, Number, or String. */
+	static String toString(final Object value){
+		if((value instanceof Boolean) || (value instanceof Number)){
+			return value.toString();
+		}
+		return (String)value;
+	}
+}
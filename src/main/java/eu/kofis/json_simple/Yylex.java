@@ -1,4 +1,4 @@
-/* The following code was generated by JFlex 1.4.3 on 2/27/20, 10:51 PM */
+/* The following code was generated by JFlex 1.4.3 on 10/19/26 5:00 AM */
 
 package eu.kofis.json_simple;
 
@@ -6,8 +6,8 @@ package eu.kofis.json_simple;
 /**
  * This class is a scanner generated by 
  * <a href="http://www.jflex.de/">JFlex</a> 1.4.3
- * on 2/27/20, 10:51 PM from the specification file
- * <tt>/Volumes/kfsCard/src/kfs/json-simple/src/main/lex/jsonstrict.lex</tt>
+ * on 10/19/26 5:00 AM from the specification file
+ * <tt>/root/project/src/main/lex/jsonstrict.lex</tt>
  */
 class Yylex {
 
@@ -18,8 +18,11 @@ class Yylex {
   private static final int ZZ_BUFFERSIZE = 16384;
 
   /** lexical states */
+  public static final int NUMBER_EXPONENT = 8;
+  public static final int NUMBER_INTEGER = 4;
   public static final int YYINITIAL = 0;
   public static final int STRING_BEGIN = 2;
+  public static final int NUMBER_FRACTION = 6;
 
   /**
    * ZZ_LEXSTATE[l] is the state in the DFA for the lexical state l
@@ -28,18 +31,18 @@ class Yylex {
    * l is of the form l = 2*k, k a non negative integer
    */
   private static final int ZZ_LEXSTATE[] = { 
-     0,  0,  1, 1
+     0,  0,  1,  1,  2,  2,  3,  3,  4, 4
   };
 
   /** 
    * Translates characters to character classes
    */
   private static final String ZZ_CMAP_PACKED = 
-    "\11\0\1\7\1\11\2\0\1\14\22\0\1\7\1\0\1\15\7\0"+
-    "\1\13\1\6\1\34\1\2\1\4\1\12\12\3\1\35\6\0\4\1"+
-    "\1\5\1\1\24\0\1\32\1\10\1\33\3\0\1\25\1\16\2\1"+
-    "\1\24\1\17\5\0\1\26\1\0\1\20\3\0\1\21\1\27\1\22"+
-    "\1\23\5\0\1\30\1\0\1\31\uff82\0";
+    "\11\6\1\5\1\7\2\6\1\12\22\6\1\3\1\0\1\13\7\0"+
+    "\1\11\1\24\1\36\1\25\1\22\1\10\12\2\1\37\6\0\4\1"+
+    "\1\23\1\1\24\0\1\34\1\4\1\35\3\0\1\27\1\14\2\1"+
+    "\1\26\1\15\5\0\1\30\1\0\1\16\3\0\1\17\1\31\1\20"+
+    "\1\21\5\0\1\32\1\0\1\33\uff82\0";
 
   /** 
    * Translates characters to character classes
@@ -52,14 +55,118 @@ class Yylex {
   private static final int [] ZZ_ACTION = zzUnpackAction();
 
   private static final String ZZ_ACTION_PACKED_0 =
-    "\2\0\2\1\1\2\1\3\1\1\1\4\3\1\1\5"+
+    "\5\0\1\1\1\2\1\3\1\1\1\4\4\1\1\5"+
     "\1\6\1\7\1\10\1\11\1\12\1\13\1\14\1\15"+
-    "\2\0\1\3\4\0\1\14\1\16\1\17\1\20\1\21"+
-    "\1\22\1\23\1\24\1\0\1\2\1\0\1\2\2\3"+
-    "\7\0\1\25\1\26\2\0\1\27";
+    "\1\16\1\17\1\20\2\17\1\21\1\22\1\2\1\3"+
+    "\1\23\4\0\1\13\1\24\1\25\1\26\1\27\1\30"+
+    "\1\31\1\32\1\33\1\0\1\15\1\20\1\0\1\21"+
+    "\1\22\1\2\1\3\2\23\5\0\1\13\1\0\1\15"+
+    "\1\20\1\21\1\22\1\2\1\3\1\0\1\34\1\35"+
+    "\1\13\1\0\1\15\1\20\1\21\1\22\1\2\1\3"+
+    "\1\13\1\0\1\15\1\20\1\21\1\22\1\2\1\3"+
+    "\1\13\1\36\1\15\1\20\1\21\1\22\1\2\1\3"+
+    "\1\13\1\15\1\20\1\21\1\22\1\2\1\3\1\13"+
+    "\1\15\1\20\1\21\1\22\1\2\1\3\1\13\1\15"+
+    "\1\20\1\21\1\22\1\2\1\3\1\13\1\15\1\20"+
+    "\1\21\1\22\1\2\1\3\1\13\1\15\1\20\1\21"+
+    "\1\22\1\2\1\3\1\13\1\15\1\20\1\21\1\22"+
+    "\1\2\1\3\1\13\1\15\1\20\1\21\1\22\1\2"+
+    "\1\3\1\13\1\15\1\20\1\21\1\22\1\2\1\3"+
+    "\1\13\1\15\1\20\1\21\1\22\1\2\1\3\1\13"+
+    "\1\15\1\20\1\21\1\22\1\2\1\3\1\13\1\15"+
+    "\1\20\1\21\1\22\1\2\1\3\1\13\1\15\1\20"+
+    "\1\21\1\22\1\2\1\3\1\13\1\15\1\20\1\21"+
+    "\1\22\1\2\1\3\1\13\1\15\1\20\1\21\1\22"+
+    "\1\2\1\3\1\13\1\15\1\20\1\21\1\22\1\2"+
+    "\1\3\1\13\1\15\1\20\1\21\1\22\1\2\1\3"+
+    "\1\13\1\15\1\20\1\21\1\22\1\2\1\3\1\13"+
+    "\1\15\1\20\1\21\1\22\1\2\1\3\1\13\1\15"+
+    "\1\20\1\21\1\22\1\2\1\3\1\13\1\15\1\20"+
+    "\1\21\1\22\1\2\1\3\1\13\1\15\1\20\1\21"+
+    "\1\22\1\2\1\3\1\13\1\15\1\20\1\21\1\22"+
+    "\1\2\1\3\1\13\1\15\1\20\1\21\1\22\1\2"+
+    "\1\3\1\13\1\15\1\20\1\21\1\22\1\2\1\3"+
+    "\1\13\1\15\1\20\1\21\1\22\1\2\1\3\1\13"+
+    "\1\15\1\20\1\21\1\22\1\2\1\3\1\13\1\15"+
+    "\1\20\1\21\1\22\1\2\1\3\1\13\1\15\1\20"+
+    "\1\21\1\22\1\2\1\3\1\13\1\15\1\20\1\21"+
+    "\1\22\1\2\1\3\1\13\1\15\1\20\1\21\1\22"+
+    "\1\2\1\3\1\13\1\15\1\20\1\21\1\22\1\2"+
+    "\1\3\1\13\1\15\1\20\1\21\1\22\1\2\1\3"+
+    "\1\13\1\15\1\20\1\21\1\22\1\2\1\3\1\13"+
+    "\1\15\1\20\1\21\1\22\1\2\1\3\1\13\1\15"+
+    "\1\20\1\21\1\22\1\2\1\3\1\13\1\15\1\20"+
+    "\1\21\1\22\1\2\1\3\1\13\1\15\1\20\1\21"+
+    "\1\22\1\2\1\3\1\13\1\15\1\20\1\21\1\22"+
+    "\1\2\1\3\1\13\1\15\1\20\1\21\1\22\1\2"+
+    "\1\3\1\13\1\15\1\20\1\21\1\22\1\2\1\3"+
+    "\1\13\1\15\1\20\1\21\1\22\1\2\1\3\1\13"+
+    "\1\15\1\20\1\21\1\22\1\2\1\3\1\13\1\15"+
+    "\1\20\1\21\1\22\1\2\1\3\1\13\1\15\1\20"+
+    "\1\21\1\22\1\2\1\3\1\13\1\15\1\20\1\21"+
+    "\1\22\1\2\1\3\1\13\1\15\1\20\1\21\1\22"+
+    "\1\2\1\3\1\13\1\15\1\20\1\21\1\22\1\2"+
+    "\1\3\1\13\1\15\1\20\1\21\1\22\1\2\1\3"+
+    "\1\13\1\15\1\20\1\21\1\22\1\2\1\3\1\13"+
+    "\1\15\1\20\1\21\1\22\1\2\1\3\1\13\1\15"+
+    "\1\20\1\21\1\22\1\2\1\3\1\13\1\15\1\20"+
+    "\1\21\1\22\1\2\1\3\1\13\1\15\1\20\1\21"+
+    "\1\22\1\2\1\3\1\13\1\15\1\20\1\21\1\22"+
+    "\1\2\1\3\1\13\1\15\1\20\1\21\1\22\1\2"+
+    "\1\3\1\13\1\15\1\20\1\21\1\22\1\2\1\3"+
+    "\1\13\1\15\1\20\1\21\1\22\1\2\1\3\1\13"+
+    "\1\15\1\20\1\21\1\22\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15\1\13\1\15\1\13\1\15"+
+    "\1\13\1\15\1\13\1\15";
 
   private static int [] zzUnpackAction() {
-    int [] result = new int[53];
+    int [] result = new int[884];
     int offset = 0;
     offset = zzUnpackAction(ZZ_ACTION_PACKED_0, offset, result);
     return result;
@@ -84,16 +191,120 @@ class Yylex {
   private static final int [] ZZ_ROWMAP = zzUnpackRowMap();
 
   private static final String ZZ_ROWMAP_PACKED_0 =
-    "\0\0\0\36\0\74\0\132\0\170\0\226\0\264\0\74"+
-    "\0\322\0\360\0\u010e\0\74\0\74\0\74\0\74\0\74"+
-    "\0\74\0\u012c\0\u014a\0\74\0\u0168\0\u0186\0\u01a4\0\u01c2"+
-    "\0\u01e0\0\u01fe\0\u021c\0\74\0\74\0\74\0\74\0\74"+
-    "\0\74\0\74\0\74\0\u023a\0\u0258\0\u0276\0\u0276\0\74"+
-    "\0\u0294\0\u02b2\0\u02d0\0\u02ee\0\u030c\0\u032a\0\u0348\0\u0366"+
-    "\0\74\0\74\0\u0384\0\u03a2\0\74";
+    "\0\0\0\40\0\100\0\140\0\200\0\240\0\300\0\340"+
+    "\0\u0100\0\240\0\u0120\0\u0140\0\u0160\0\u0180\0\240\0\240"+
+    "\0\240\0\240\0\240\0\240\0\u01a0\0\u01c0\0\u01e0\0\240"+
+    "\0\240\0\u0200\0\u0220\0\u0240\0\u0260\0\u0280\0\u02a0\0\u02c0"+
+    "\0\u02e0\0\u0300\0\u0320\0\u0340\0\u0360\0\u0380\0\240\0\240"+
+    "\0\240\0\240\0\240\0\240\0\240\0\240\0\u03a0\0\u03c0"+
+    "\0\u03e0\0\u0400\0\u0420\0\u0440\0\u0460\0\u0480\0\240\0\u04a0"+
+    "\0\u04c0\0\u04e0\0\u0500\0\u0520\0\u0540\0\u0560\0\u0580\0\u05a0"+
+    "\0\u05c0\0\u05e0\0\u0600\0\u0620\0\u0640\0\u0660\0\240\0\240"+
+    "\0\u0680\0\u06a0\0\u06c0\0\u06e0\0\u0700\0\u0720\0\u0740\0\u0760"+
+    "\0\u0780\0\u07a0\0\u07c0\0\u07e0\0\u0800\0\u0820\0\u0840\0\u0860"+
+    "\0\u0880\0\240\0\u08a0\0\u08c0\0\u08e0\0\u0900\0\u0920\0\u0940"+
+    "\0\u0960\0\u0980\0\u09a0\0\u09c0\0\u09e0\0\u0a00\0\u0a20\0\u0a40"+
+    "\0\u0a60\0\u0a80\0\u0aa0\0\u0ac0\0\u0ae0\0\u0b00\0\u0b20\0\u0b40"+
+    "\0\u0b60\0\u0b80\0\u0ba0\0\u0bc0\0\u0be0\0\u0c00\0\u0c20\0\u0c40"+
+    "\0\u0c60\0\u0c80\0\u0ca0\0\u0cc0\0\u0ce0\0\u0d00\0\u0d20\0\u0d40"+
+    "\0\u0d60\0\u0d80\0\u0da0\0\u0dc0\0\u0de0\0\u0e00\0\u0e20\0\u0e40"+
+    "\0\u0e60\0\u0e80\0\u0ea0\0\u0ec0\0\u0ee0\0\u0f00\0\u0f20\0\u0f40"+
+    "\0\u0f60\0\u0f80\0\u0fa0\0\u0fc0\0\u0fe0\0\u1000\0\u1020\0\u1040"+
+    "\0\u1060\0\u1080\0\u10a0\0\u10c0\0\u10e0\0\u1100\0\u1120\0\u1140"+
+    "\0\u1160\0\u1180\0\u11a0\0\u11c0\0\u11e0\0\u1200\0\u1220\0\u1240"+
+    "\0\u1260\0\u1280\0\u12a0\0\u12c0\0\u12e0\0\u1300\0\u1320\0\u1340"+
+    "\0\u1360\0\u1380\0\u13a0\0\u13c0\0\u13e0\0\u1400\0\u1420\0\u1440"+
+    "\0\u1460\0\u1480\0\u14a0\0\u14c0\0\u14e0\0\u1500\0\u1520\0\u1540"+
+    "\0\u1560\0\u1580\0\u15a0\0\u15c0\0\u15e0\0\u1600\0\u1620\0\u1640"+
+    "\0\u1660\0\u1680\0\u16a0\0\u16c0\0\u16e0\0\u1700\0\u1720\0\u1740"+
+    "\0\u1760\0\u1780\0\u17a0\0\u17c0\0\u17e0\0\u1800\0\u1820\0\u1840"+
+    "\0\u1860\0\u1880\0\u18a0\0\u18c0\0\u18e0\0\u1900\0\u1920\0\u1940"+
+    "\0\u1960\0\u1980\0\u19a0\0\u19c0\0\u19e0\0\u1a00\0\u1a20\0\u1a40"+
+    "\0\u1a60\0\u1a80\0\u1aa0\0\u1ac0\0\u1ae0\0\u1b00\0\u1b20\0\u1b40"+
+    "\0\u1b60\0\u1b80\0\u1ba0\0\u1bc0\0\u1be0\0\u1c00\0\u1c20\0\u1c40"+
+    "\0\u1c60\0\u1c80\0\u1ca0\0\u1cc0\0\u1ce0\0\u1d00\0\u1d20\0\u1d40"+
+    "\0\u1d60\0\u1d80\0\u1da0\0\u1dc0\0\u1de0\0\u1e00\0\u1e20\0\u1e40"+
+    "\0\u1e60\0\u1e80\0\u1ea0\0\u1ec0\0\u1ee0\0\u1f00\0\u1f20\0\u1f40"+
+    "\0\u1f60\0\u1f80\0\u1fa0\0\u1fc0\0\u1fe0\0\u2000\0\u2020\0\u2040"+
+    "\0\u2060\0\u2080\0\u20a0\0\u20c0\0\u20e0\0\u2100\0\u2120\0\u2140"+
+    "\0\u2160\0\u2180\0\u21a0\0\u21c0\0\u21e0\0\u2200\0\u2220\0\u2240"+
+    "\0\u2260\0\u2280\0\u22a0\0\u22c0\0\u22e0\0\u2300\0\u2320\0\u2340"+
+    "\0\u2360\0\u2380\0\u23a0\0\u23c0\0\u23e0\0\u2400\0\u2420\0\u2440"+
+    "\0\u2460\0\u2480\0\u24a0\0\u24c0\0\u24e0\0\u2500\0\u2520\0\u2540"+
+    "\0\u2560\0\u2580\0\u25a0\0\u25c0\0\u25e0\0\u2600\0\u2620\0\u2640"+
+    "\0\u2660\0\u2680\0\u26a0\0\u26c0\0\u26e0\0\u2700\0\u2720\0\u2740"+
+    "\0\u2760\0\u2780\0\u27a0\0\u27c0\0\u27e0\0\u2800\0\u2820\0\u2840"+
+    "\0\u2860\0\u2880\0\u28a0\0\u28c0\0\u28e0\0\u2900\0\u2920\0\u2940"+
+    "\0\u2960\0\u2980\0\u29a0\0\u29c0\0\u29e0\0\u2a00\0\u2a20\0\u2a40"+
+    "\0\u2a60\0\u2a80\0\u2aa0\0\u2ac0\0\u2ae0\0\u2b00\0\u2b20\0\u2b40"+
+    "\0\u2b60\0\u2b80\0\u2ba0\0\u2bc0\0\u2be0\0\u2c00\0\u2c20\0\u2c40"+
+    "\0\u2c60\0\u2c80\0\u2ca0\0\u2cc0\0\u2ce0\0\u2d00\0\u2d20\0\u2d40"+
+    "\0\u2d60\0\u2d80\0\u2da0\0\u2dc0\0\u2de0\0\u2e00\0\u2e20\0\u2e40"+
+    "\0\u2e60\0\u2e80\0\u2ea0\0\u2ec0\0\u2ee0\0\u2f00\0\u2f20\0\u2f40"+
+    "\0\u2f60\0\u2f80\0\u2fa0\0\u2fc0\0\u2fe0\0\u3000\0\u3020\0\u3040"+
+    "\0\u3060\0\u3080\0\u30a0\0\u30c0\0\u30e0\0\u3100\0\u3120\0\u3140"+
+    "\0\u3160\0\u3180\0\u31a0\0\u31c0\0\u31e0\0\u3200\0\u3220\0\u3240"+
+    "\0\u3260\0\u3280\0\u32a0\0\u32c0\0\u32e0\0\u3300\0\u3320\0\u3340"+
+    "\0\u3360\0\u3380\0\u33a0\0\u33c0\0\u33e0\0\u3400\0\u3420\0\u3440"+
+    "\0\u3460\0\u3480\0\u34a0\0\u34c0\0\u34e0\0\u3500\0\u3520\0\u3540"+
+    "\0\u3560\0\u3580\0\u35a0\0\u35c0\0\u35e0\0\u3600\0\u3620\0\u3640"+
+    "\0\u3660\0\u3680\0\u36a0\0\u36c0\0\u36e0\0\u3700\0\u3720\0\u3740"+
+    "\0\u3760\0\u3780\0\u37a0\0\u37c0\0\u37e0\0\u3800\0\u3820\0\u3840"+
+    "\0\u3860\0\u3880\0\u38a0\0\u38c0\0\u38e0\0\u3900\0\u3920\0\u3940"+
+    "\0\u3960\0\u3980\0\u39a0\0\u39c0\0\u39e0\0\u3a00\0\u3a20\0\u3a40"+
+    "\0\u3a60\0\u3a80\0\u3aa0\0\u3ac0\0\u3ae0\0\240\0\240\0\u3b00"+
+    "\0\u3b20\0\240\0\240\0\240\0\u3b40\0\u3b60\0\u3b80\0\u3ba0"+
+    "\0\u3bc0\0\u3be0\0\u3c00\0\u3c20\0\u3c40\0\u3c60\0\u3c80\0\u3ca0"+
+    "\0\u3cc0\0\u3ce0\0\u3d00\0\u3d20\0\u3d40\0\u3d60\0\u3d80\0\u3da0"+
+    "\0\u3dc0\0\u3de0\0\u3e00\0\u3e20\0\u3e40\0\u3e60\0\u3e80\0\u3ea0"+
+    "\0\u3ec0\0\u3ee0\0\u3f00\0\u3f20\0\u3f40\0\u3f60\0\u3f80\0\u3fa0"+
+    "\0\u3fc0\0\u3fe0\0\u4000\0\u4020\0\u4040\0\u4060\0\u4080\0\u40a0"+
+    "\0\u40c0\0\u40e0\0\u4100\0\u4120\0\u4140\0\u4160\0\u4180\0\u41a0"+
+    "\0\u41c0\0\u41e0\0\u4200\0\u4220\0\u4240\0\u4260\0\u4280\0\u42a0"+
+    "\0\u42c0\0\u42e0\0\u4300\0\u4320\0\u4340\0\u4360\0\u4380\0\u43a0"+
+    "\0\u43c0\0\u43e0\0\u4400\0\u4420\0\u4440\0\u4460\0\u4480\0\u44a0"+
+    "\0\u44c0\0\u44e0\0\u4500\0\u4520\0\u4540\0\u4560\0\u4580\0\u45a0"+
+    "\0\u45c0\0\u45e0\0\u4600\0\u4620\0\u4640\0\u4660\0\u4680\0\u46a0"+
+    "\0\u46c0\0\u46e0\0\u4700\0\u4720\0\u4740\0\u4760\0\u4780\0\u47a0"+
+    "\0\u47c0\0\u47e0\0\u4800\0\u4820\0\u4840\0\u4860\0\u4880\0\u48a0"+
+    "\0\u48c0\0\u48e0\0\u4900\0\u4920\0\u4940\0\u4960\0\u4980\0\u49a0"+
+    "\0\u49c0\0\u49e0\0\u4a00\0\u4a20\0\u4a40\0\u4a60\0\u4a80\0\u4aa0"+
+    "\0\u4ac0\0\u4ae0\0\u4b00\0\u4b20\0\u4b40\0\u4b60\0\u4b80\0\u4ba0"+
+    "\0\u4bc0\0\u4be0\0\u4c00\0\u4c20\0\u4c40\0\u4c60\0\u4c80\0\u4ca0"+
+    "\0\u4cc0\0\u4ce0\0\u4d00\0\u4d20\0\u4d40\0\u4d60\0\u4d80\0\u4da0"+
+    "\0\u4dc0\0\u4de0\0\u4e00\0\u4e20\0\u4e40\0\u4e60\0\u4e80\0\u4ea0"+
+    "\0\u4ec0\0\u4ee0\0\u4f00\0\u4f20\0\u4f40\0\u4f60\0\u4f80\0\u4fa0"+
+    "\0\u4fc0\0\u4fe0\0\u5000\0\u5020\0\u5040\0\u5060\0\u5080\0\u50a0"+
+    "\0\u50c0\0\u50e0\0\u5100\0\u5120\0\u5140\0\u5160\0\u5180\0\u51a0"+
+    "\0\u51c0\0\u51e0\0\u5200\0\u5220\0\u5240\0\u5260\0\u5280\0\u52a0"+
+    "\0\u52c0\0\u52e0\0\u5300\0\u5320\0\u5340\0\u5360\0\u5380\0\u53a0"+
+    "\0\u53c0\0\u53e0\0\u5400\0\u5420\0\u5440\0\u5460\0\u5480\0\u54a0"+
+    "\0\u54c0\0\u54e0\0\u5500\0\u5520\0\u5540\0\u5560\0\u5580\0\u55a0"+
+    "\0\u55c0\0\u55e0\0\u5600\0\u5620\0\u5640\0\u5660\0\u5680\0\u56a0"+
+    "\0\u56c0\0\u56e0\0\u5700\0\u5720\0\u5740\0\u5760\0\u5780\0\u57a0"+
+    "\0\u57c0\0\u57e0\0\u5800\0\u5820\0\u5840\0\u5860\0\u5880\0\u58a0"+
+    "\0\u58c0\0\u58e0\0\u5900\0\u5920\0\u5940\0\u5960\0\u5980\0\u59a0"+
+    "\0\u59c0\0\u59e0\0\u5a00\0\u5a20\0\u5a40\0\u5a60\0\u5a80\0\u5aa0"+
+    "\0\u5ac0\0\u5ae0\0\u5b00\0\u5b20\0\u5b40\0\u5b60\0\u5b80\0\u5ba0"+
+    "\0\u5bc0\0\u5be0\0\u5c00\0\u5c20\0\u5c40\0\u5c60\0\u5c80\0\u5ca0"+
+    "\0\u5cc0\0\u5ce0\0\u5d00\0\u5d20\0\u5d40\0\u5d60\0\u5d80\0\u5da0"+
+    "\0\u5dc0\0\u5de0\0\u5e00\0\u5e20\0\u5e40\0\u5e60\0\u5e80\0\u5ea0"+
+    "\0\u5ec0\0\u5ee0\0\u5f00\0\u5f20\0\u5f40\0\u5f60\0\u5f80\0\u5fa0"+
+    "\0\u5fc0\0\u5fe0\0\u6000\0\u6020\0\u6040\0\u6060\0\u6080\0\u60a0"+
+    "\0\u60c0\0\u60e0\0\u6100\0\u6120\0\u6140\0\u6160\0\u6180\0\u61a0"+
+    "\0\u61c0\0\u61e0\0\u6200\0\u6220\0\u6240\0\u6260\0\u6280\0\u62a0"+
+    "\0\u62c0\0\u62e0\0\u6300\0\u6320\0\u6340\0\u6360\0\u6380\0\u63a0"+
+    "\0\u63c0\0\u63e0\0\u6400\0\u6420\0\u6440\0\u6460\0\u6480\0\u64a0"+
+    "\0\u64c0\0\u64e0\0\u6500\0\u6520\0\u6540\0\u6560\0\u6580\0\u65a0"+
+    "\0\u65c0\0\u65e0\0\u6600\0\u6620\0\u6640\0\u6660\0\u6680\0\u66a0"+
+    "\0\u66c0\0\u66e0\0\u6700\0\u6720\0\u6740\0\u6760\0\u6780\0\u67a0"+
+    "\0\u67c0\0\u67e0\0\u6800\0\u6820\0\u6840\0\u6860\0\u6880\0\u68a0"+
+    "\0\u68c0\0\u68e0\0\u6900\0\u6920\0\u6940\0\u6960\0\u6980\0\u69a0"+
+    "\0\u69c0\0\u69e0\0\u6a00\0\u6a20\0\u6a40\0\u6a60\0\u6a80\0\u6aa0"+
+    "\0\u6ac0\0\u6ae0\0\240\0\240";
 
   private static int [] zzUnpackRowMap() {
-    int [] result = new int[53];
+    int [] result = new int[884];
     int offset = 0;
     offset = zzUnpackRowMap(ZZ_ROWMAP_PACKED_0, offset, result);
     return result;
@@ -113,104 +324,493 @@ class Yylex {
   /** 
    * The transition table of the DFA
    */
-  private static final int ZZ_TRANS [] = {
-    2, 2, 3, 4, 2, 2, 2, 5, 2, 5, 
-    6, 2, 5, 7, 2, 8, 9, 2, 10, 2, 
-    2, 2, 2, 2, 11, 12, 13, 14, 15, 16, 
-    17, 17, 17, 17, 17, 17, 17, 17, 18, 17, 
-    17, 17, 17, 19, 17, 17, 17, 17, 17, 17, 
-    17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, 4, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, 4, 20, 21, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    21, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, 5, -1, 5, 
-    -1, -1, 5, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    22, 23, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, 24, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, 25, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, 26, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    17, 17, 17, 17, 17, 17, 17, 17, -1, 17, 
-    17, 17, 17, -1, 17, 17, 17, 17, 17, 17, 
-    17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 
-    -1, -1, -1, -1, -1, -1, -1, -1, 27, -1, 
-    28, -1, -1, 29, 30, 31, 32, 33, 34, 35, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, 36, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, 37, 38, -1, -1, 37, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    22, 22, 22, 22, 22, 22, 22, 22, 22, 39, 
-    22, 22, 40, 22, 22, 22, 22, 22, 22, 22, 
-    22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 
-    41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 
-    41, 42, 41, 41, 41, 41, 41, 41, 41, 41, 
-    41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, 43, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, 44, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, 45, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, 46, -1, 46, -1, 46, -1, -1, -1, -1, 
-    -1, -1, -1, -1, 46, 46, -1, -1, -1, -1, 
-    46, 46, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, 36, -1, 21, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    21, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, 38, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, 39, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 
-    41, 47, 41, 41, 41, 41, 41, 41, 41, 41, 
-    41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    39, 42, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, 45, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, 48, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    49, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, 50, -1, 50, -1, 50, -1, -1, -1, -1, 
-    -1, -1, -1, -1, 50, 50, -1, -1, -1, -1, 
-    50, 50, -1, -1, -1, -1, -1, -1, -1, -1, 
-    41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 
-    39, 47, 41, 41, 41, 41, 41, 41, 41, 41, 
-    41, 41, 41, 41, 41, 41, 41, 41, 41, 41, 
-    -1, 51, -1, 51, -1, 51, -1, -1, -1, -1, 
-    -1, -1, -1, -1, 51, 51, -1, -1, -1, -1, 
-    51, 51, -1, -1, -1, -1, -1, -1, -1, -1, 
-    -1, 52, -1, 52, -1, 52, -1, -1, -1, -1, 
-    -1, -1, -1, -1, 52, 52, -1, -1, -1, -1, 
-    52, 52, -1, -1, -1, -1, -1, -1, -1, -1, 
-  };
+  private static final int [] ZZ_TRANS = zzUnpackTrans();
+
+  private static final String ZZ_TRANS_PACKED_0 =
+    "\2\6\1\7\1\10\1\6\1\10\1\6\1\10\1\11"+
+    "\1\6\1\10\1\12\1\6\1\13\1\14\1\6\1\15"+
+    "\4\6\1\16\4\6\1\17\1\20\1\21\1\22\1\23"+
+    "\1\24\4\25\1\26\3\27\2\25\1\27\1\30\24\25"+
+    "\2\31\1\32\17\31\1\33\1\34\2\31\1\34\13\31"+
+    "\1\35\20\31\1\34\2\31\1\34\13\31\1\36\35\31"+
+    "\42\0\1\37\40\0\1\40\1\0\1\40\1\0\1\40"+
+    "\2\0\1\40\35\0\1\41\1\42\55\0\1\43\31\0"+
+    "\1\44\35\0\1\45\22\0\1\7\35\0\4\46\4\0"+
+    "\2\46\2\0\24\46\4\0\1\47\3\0\1\50\2\0"+
+    "\1\51\1\52\1\53\1\54\1\55\1\56\1\57\23\0"+
+    "\3\60\2\0\1\60\27\0\1\61\37\0\1\35\37\0"+
+    "\1\36\21\0\2\62\14\0\1\63\37\0\1\64\37\0"+
+    "\1\65\40\0\1\66\1\0\1\66\1\0\1\66\2\0"+
+    "\1\66\25\0\7\41\1\67\2\41\1\70\25\41\11\71"+
+    "\1\72\26\71\30\0\1\73\37\0\1\74\30\0\1\75"+
+    "\16\0\4\76\4\0\2\76\2\0\24\76\1\0\2\77"+
+    "\11\0\2\77\5\0\1\77\2\0\2\77\15\0\3\100"+
+    "\2\0\1\100\27\0\1\101\37\0\1\36\37\0\1\102"+
+    "\37\0\1\103\37\0\1\104\40\0\1\105\1\0\1\105"+
+    "\1\0\1\105\2\0\1\105\34\0\1\67\30\0\11\71"+
+    "\1\106\26\71\10\0\1\67\1\72\57\0\1\75\36\0"+
+    "\1\107\35\0\1\110\11\0\4\111\4\0\2\111\2\0"+
+    "\24\111\1\0\2\112\11\0\2\112\5\0\1\112\2\0"+
+    "\2\112\15\0\3\113\2\0\1\113\27\0\1\114\37\0"+
+    "\1\115\37\0\1\116\37\0\1\117\40\0\1\120\1\0"+
+    "\1\120\1\0\1\120\2\0\1\120\25\0\10\71\1\67"+
+    "\1\106\26\71\4\121\4\0\2\121\2\0\24\121\1\0"+
+    "\2\122\11\0\2\122\5\0\1\122\2\0\2\122\15\0"+
+    "\3\123\2\0\1\123\27\0\1\124\37\0\1\125\37\0"+
+    "\1\126\37\0\1\127\40\0\1\130\1\0\1\130\1\0"+
+    "\1\130\2\0\1\130\25\0\4\131\4\0\2\131\2\0"+
+    "\24\131\1\0\2\132\11\0\2\132\5\0\1\132\2\0"+
+    "\2\132\15\0\3\133\2\0\1\133\27\0\1\134\37\0"+
+    "\1\135\37\0\1\136\37\0\1\137\40\0\1\140\1\0"+
+    "\1\140\1\0\1\140\2\0\1\140\25\0\4\141\4\0"+
+    "\2\141\2\0\24\141\5\0\3\142\2\0\1\142\27\0"+
+    "\1\143\37\0\1\144\37\0\1\145\37\0\1\146\40\0"+
+    "\1\147\1\0\1\147\1\0\1\147\2\0\1\147\25\0"+
+    "\4\150\4\0\2\150\2\0\24\150\5\0\3\151\2\0"+
+    "\1\151\27\0\1\152\37\0\1\153\37\0\1\154\37\0"+
+    "\1\155\40\0\1\156\1\0\1\156\1\0\1\156\2\0"+
+    "\1\156\25\0\4\157\4\0\2\157\2\0\24\157\5\0"+
+    "\3\160\2\0\1\160\27\0\1\161\37\0\1\162\37\0"+
+    "\1\163\37\0\1\164\40\0\1\165\1\0\1\165\1\0"+
+    "\1\165\2\0\1\165\25\0\4\166\4\0\2\166\2\0"+
+    "\24\166\5\0\3\167\2\0\1\167\27\0\1\170\37\0"+
+    "\1\171\37\0\1\172\37\0\1\173\40\0\1\174\1\0"+
+    "\1\174\1\0\1\174\2\0\1\174\25\0\4\175\4\0"+
+    "\2\175\2\0\24\175\5\0\3\176\2\0\1\176\27\0"+
+    "\1\177\37\0\1\200\37\0\1\201\37\0\1\202\40\0"+
+    "\1\203\1\0\1\203\1\0\1\203\2\0\1\203\25\0"+
+    "\4\204\4\0\2\204\2\0\24\204\5\0\3\205\2\0"+
+    "\1\205\27\0\1\206\37\0\1\207\37\0\1\210\37\0"+
+    "\1\211\40\0\1\212\1\0\1\212\1\0\1\212\2\0"+
+    "\1\212\25\0\4\213\4\0\2\213\2\0\24\213\5\0"+
+    "\3\214\2\0\1\214\27\0\1\215\37\0\1\216\37\0"+
+    "\1\217\37\0\1\220\40\0\1\221\1\0\1\221\1\0"+
+    "\1\221\2\0\1\221\25\0\4\222\4\0\2\222\2\0"+
+    "\24\222\5\0\3\223\2\0\1\223\27\0\1\224\37\0"+
+    "\1\225\37\0\1\226\37\0\1\227\40\0\1\230\1\0"+
+    "\1\230\1\0\1\230\2\0\1\230\25\0\4\231\4\0"+
+    "\2\231\2\0\24\231\5\0\3\232\2\0\1\232\27\0"+
+    "\1\233\37\0\1\234\37\0\1\235\37\0\1\236\40\0"+
+    "\1\237\1\0\1\237\1\0\1\237\2\0\1\237\25\0"+
+    "\4\240\4\0\2\240\2\0\24\240\5\0\3\241\2\0"+
+    "\1\241\27\0\1\242\37\0\1\243\37\0\1\244\37\0"+
+    "\1\245\40\0\1\246\1\0\1\246\1\0\1\246\2\0"+
+    "\1\246\25\0\4\247\4\0\2\247\2\0\24\247\5\0"+
+    "\3\250\2\0\1\250\27\0\1\251\37\0\1\252\37\0"+
+    "\1\253\37\0\1\254\40\0\1\255\1\0\1\255\1\0"+
+    "\1\255\2\0\1\255\25\0\4\256\4\0\2\256\2\0"+
+    "\24\256\5\0\3\257\2\0\1\257\27\0\1\260\37\0"+
+    "\1\261\37\0\1\262\37\0\1\263\40\0\1\264\1\0"+
+    "\1\264\1\0\1\264\2\0\1\264\25\0\4\265\4\0"+
+    "\2\265\2\0\24\265\5\0\3\266\2\0\1\266\27\0"+
+    "\1\267\37\0\1\270\37\0\1\271\37\0\1\272\40\0"+
+    "\1\273\1\0\1\273\1\0\1\273\2\0\1\273\25\0"+
+    "\4\274\4\0\2\274\2\0\24\274\5\0\3\275\2\0"+
+    "\1\275\27\0\1\276\37\0\1\277\37\0\1\300\37\0"+
+    "\1\301\40\0\1\302\1\0\1\302\1\0\1\302\2\0"+
+    "\1\302\25\0\4\303\4\0\2\303\2\0\24\303\5\0"+
+    "\3\304\2\0\1\304\27\0\1\305\37\0\1\306\37\0"+
+    "\1\307\37\0\1\310\40\0\1\311\1\0\1\311\1\0"+
+    "\1\311\2\0\1\311\25\0\4\312\4\0\2\312\2\0"+
+    "\24\312\5\0\3\313\2\0\1\313\27\0\1\314\37\0"+
+    "\1\315\37\0\1\316\37\0\1\317\40\0\1\320\1\0"+
+    "\1\320\1\0\1\320\2\0\1\320\25\0\4\321\4\0"+
+    "\2\321\2\0\24\321\5\0\3\322\2\0\1\322\27\0"+
+    "\1\323\37\0\1\324\37\0\1\325\37\0\1\326\40\0"+
+    "\1\327\1\0\1\327\1\0\1\327\2\0\1\327\25\0"+
+    "\4\330\4\0\2\330\2\0\24\330\5\0\3\331\2\0"+
+    "\1\331\27\0\1\332\37\0\1\333\37\0\1\334\37\0"+
+    "\1\335\40\0\1\336\1\0\1\336\1\0\1\336\2\0"+
+    "\1\336\25\0\4\337\4\0\2\337\2\0\24\337\5\0"+
+    "\3\340\2\0\1\340\27\0\1\341\37\0\1\342\37\0"+
+    "\1\343\37\0\1\344\40\0\1\345\1\0\1\345\1\0"+
+    "\1\345\2\0\1\345\25\0\4\346\4\0\2\346\2\0"+
+    "\24\346\5\0\3\347\2\0\1\347\27\0\1\350\37\0"+
+    "\1\351\37\0\1\352\37\0\1\353\40\0\1\354\1\0"+
+    "\1\354\1\0\1\354\2\0\1\354\25\0\4\355\4\0"+
+    "\2\355\2\0\24\355\5\0\3\356\2\0\1\356\27\0"+
+    "\1\357\37\0\1\360\37\0\1\361\37\0\1\362\40\0"+
+    "\1\363\1\0\1\363\1\0\1\363\2\0\1\363\25\0"+
+    "\4\364\4\0\2\364\2\0\24\364\5\0\3\365\2\0"+
+    "\1\365\27\0\1\366\37\0\1\367\37\0\1\370\37\0"+
+    "\1\371\40\0\1\372\1\0\1\372\1\0\1\372\2\0"+
+    "\1\372\25\0\4\373\4\0\2\373\2\0\24\373\5\0"+
+    "\3\374\2\0\1\374\27\0\1\375\37\0\1\376\37\0"+
+    "\1\377\37\0\1\u0100\40\0\1\u0101\1\0\1\u0101\1\0"+
+    "\1\u0101\2\0\1\u0101\25\0\4\u0102\4\0\2\u0102\2\0"+
+    "\24\u0102\5\0\3\u0103\2\0\1\u0103\27\0\1\u0104\37\0"+
+    "\1\u0105\37\0\1\u0106\37\0\1\u0107\40\0\1\u0108\1\0"+
+    "\1\u0108\1\0\1\u0108\2\0\1\u0108\25\0\4\u0109\4\0"+
+    "\2\u0109\2\0\24\u0109\5\0\3\u010a\2\0\1\u010a\27\0"+
+    "\1\u010b\37\0\1\u010c\37\0\1\u010d\37\0\1\u010e\40\0"+
+    "\1\u010f\1\0\1\u010f\1\0\1\u010f\2\0\1\u010f\25\0"+
+    "\4\u0110\4\0\2\u0110\2\0\24\u0110\5\0\3\u0111\2\0"+
+    "\1\u0111\27\0\1\u0112\37\0\1\u0113\37\0\1\u0114\37\0"+
+    "\1\u0115\40\0\1\u0116\1\0\1\u0116\1\0\1\u0116\2\0"+
+    "\1\u0116\25\0\4\u0117\4\0\2\u0117\2\0\24\u0117\5\0"+
+    "\3\u0118\2\0\1\u0118\27\0\1\u0119\37\0\1\u011a\37\0"+
+    "\1\u011b\37\0\1\u011c\40\0\1\u011d\1\0\1\u011d\1\0"+
+    "\1\u011d\2\0\1\u011d\25\0\4\u011e\4\0\2\u011e\2\0"+
+    "\24\u011e\5\0\3\u011f\2\0\1\u011f\27\0\1\u0120\37\0"+
+    "\1\u0121\37\0\1\u0122\37\0\1\u0123\40\0\1\u0124\1\0"+
+    "\1\u0124\1\0\1\u0124\2\0\1\u0124\25\0\4\u0125\4\0"+
+    "\2\u0125\2\0\24\u0125\5\0\3\u0126\2\0\1\u0126\27\0"+
+    "\1\u0127\37\0\1\u0128\37\0\1\u0129\37\0\1\u012a\40\0"+
+    "\1\u012b\1\0\1\u012b\1\0\1\u012b\2\0\1\u012b\25\0"+
+    "\4\u012c\4\0\2\u012c\2\0\24\u012c\5\0\3\u012d\2\0"+
+    "\1\u012d\27\0\1\u012e\37\0\1\u012f\37\0\1\u0130\37\0"+
+    "\1\u0131\40\0\1\u0132\1\0\1\u0132\1\0\1\u0132\2\0"+
+    "\1\u0132\25\0\4\u0133\4\0\2\u0133\2\0\24\u0133\5\0"+
+    "\3\u0134\2\0\1\u0134\27\0\1\u0135\37\0\1\u0136\37\0"+
+    "\1\u0137\37\0\1\u0138\40\0\1\u0139\1\0\1\u0139\1\0"+
+    "\1\u0139\2\0\1\u0139\25\0\4\u013a\4\0\2\u013a\2\0"+
+    "\24\u013a\5\0\3\u013b\2\0\1\u013b\27\0\1\u013c\37\0"+
+    "\1\u013d\37\0\1\u013e\37\0\1\u013f\40\0\1\u0140\1\0"+
+    "\1\u0140\1\0\1\u0140\2\0\1\u0140\25\0\4\u0141\4\0"+
+    "\2\u0141\2\0\24\u0141\5\0\3\u0142\2\0\1\u0142\27\0"+
+    "\1\u0143\37\0\1\u0144\37\0\1\u0145\37\0\1\u0146\40\0"+
+    "\1\u0147\1\0\1\u0147\1\0\1\u0147\2\0\1\u0147\25\0"+
+    "\4\u0148\4\0\2\u0148\2\0\24\u0148\5\0\3\u0149\2\0"+
+    "\1\u0149\27\0\1\u014a\37\0\1\u014b\37\0\1\u014c\37\0"+
+    "\1\u014d\40\0\1\u014e\1\0\1\u014e\1\0\1\u014e\2\0"+
+    "\1\u014e\25\0\4\u014f\4\0\2\u014f\2\0\24\u014f\5\0"+
+    "\3\u0150\2\0\1\u0150\27\0\1\u0151\37\0\1\u0152\37\0"+
+    "\1\u0153\37\0\1\u0154\40\0\1\u0155\1\0\1\u0155\1\0"+
+    "\1\u0155\2\0\1\u0155\25\0\4\u0156\4\0\2\u0156\2\0"+
+    "\24\u0156\5\0\3\u0157\2\0\1\u0157\27\0\1\u0158\37\0"+
+    "\1\u0159\37\0\1\u015a\37\0\1\u015b\40\0\1\u015c\1\0"+
+    "\1\u015c\1\0\1\u015c\2\0\1\u015c\25\0\4\u015d\4\0"+
+    "\2\u015d\2\0\24\u015d\5\0\3\u015e\2\0\1\u015e\27\0"+
+    "\1\u015f\37\0\1\u0160\37\0\1\u0161\37\0\1\u0162\40\0"+
+    "\1\u0163\1\0\1\u0163\1\0\1\u0163\2\0\1\u0163\25\0"+
+    "\4\u0164\4\0\2\u0164\2\0\24\u0164\5\0\3\u0165\2\0"+
+    "\1\u0165\27\0\1\u0166\37\0\1\u0167\37\0\1\u0168\37\0"+
+    "\1\u0169\40\0\1\u016a\1\0\1\u016a\1\0\1\u016a\2\0"+
+    "\1\u016a\25\0\4\u016b\4\0\2\u016b\2\0\24\u016b\5\0"+
+    "\3\u016c\2\0\1\u016c\27\0\1\u016d\37\0\1\u016e\37\0"+
+    "\1\u016f\37\0\1\u0170\40\0\1\u0171\1\0\1\u0171\1\0"+
+    "\1\u0171\2\0\1\u0171\25\0\4\u0172\4\0\2\u0172\2\0"+
+    "\24\u0172\5\0\3\u0173\2\0\1\u0173\27\0\1\u0174\37\0"+
+    "\1\u0175\37\0\1\u0176\37\0\1\u0177\40\0\1\u0178\1\0"+
+    "\1\u0178\1\0\1\u0178\2\0\1\u0178\25\0\4\u0179\4\0"+
+    "\2\u0179\2\0\24\u0179\5\0\3\u017a\2\0\1\u017a\27\0"+
+    "\1\u017b\37\0\1\u017c\37\0\1\u017d\37\0\1\u017e\40\0"+
+    "\1\u017f\1\0\1\u017f\1\0\1\u017f\2\0\1\u017f\25\0"+
+    "\4\u0180\4\0\2\u0180\2\0\24\u0180\5\0\3\u0181\2\0"+
+    "\1\u0181\27\0\1\u0182\37\0\1\u0183\37\0\1\u0184\37\0"+
+    "\1\u0185\40\0\1\u0186\1\0\1\u0186\1\0\1\u0186\2\0"+
+    "\1\u0186\25\0\4\u0187\4\0\2\u0187\2\0\24\u0187\5\0"+
+    "\3\u0188\2\0\1\u0188\27\0\1\u0189\37\0\1\u018a\37\0"+
+    "\1\u018b\37\0\1\u018c\40\0\1\u018d\1\0\1\u018d\1\0"+
+    "\1\u018d\2\0\1\u018d\25\0\4\u018e\4\0\2\u018e\2\0"+
+    "\24\u018e\5\0\3\u018f\2\0\1\u018f\27\0\1\u0190\37\0"+
+    "\1\u0191\37\0\1\u0192\37\0\1\u0193\40\0\1\u0194\1\0"+
+    "\1\u0194\1\0\1\u0194\2\0\1\u0194\25\0\4\u0195\4\0"+
+    "\2\u0195\2\0\24\u0195\5\0\3\u0196\2\0\1\u0196\27\0"+
+    "\1\u0197\37\0\1\u0198\37\0\1\u0199\37\0\1\u019a\40\0"+
+    "\1\u019b\1\0\1\u019b\1\0\1\u019b\2\0\1\u019b\25\0"+
+    "\4\u019c\4\0\2\u019c\2\0\24\u019c\5\0\3\u019d\2\0"+
+    "\1\u019d\27\0\1\u019e\37\0\1\u019f\37\0\1\u01a0\37\0"+
+    "\1\u01a1\40\0\1\u01a2\1\0\1\u01a2\1\0\1\u01a2\2\0"+
+    "\1\u01a2\25\0\4\u01a3\4\0\2\u01a3\2\0\24\u01a3\5\0"+
+    "\3\u01a4\2\0\1\u01a4\27\0\1\u01a5\37\0\1\u01a6\37\0"+
+    "\1\u01a7\37\0\1\u01a8\40\0\1\u01a9\1\0\1\u01a9\1\0"+
+    "\1\u01a9\2\0\1\u01a9\25\0\4\u01aa\4\0\2\u01aa\2\0"+
+    "\24\u01aa\5\0\3\u01ab\2\0\1\u01ab\27\0\1\u01ac\37\0"+
+    "\1\u01ad\37\0\1\u01ae\37\0\1\u01af\40\0\1\u01b0\1\0"+
+    "\1\u01b0\1\0\1\u01b0\2\0\1\u01b0\25\0\4\u01b1\4\0"+
+    "\2\u01b1\2\0\24\u01b1\5\0\3\u01b2\2\0\1\u01b2\27\0"+
+    "\1\u01b3\37\0\1\u01b4\37\0\1\u01b5\37\0\1\u01b6\40\0"+
+    "\1\u01b7\1\0\1\u01b7\1\0\1\u01b7\2\0\1\u01b7\25\0"+
+    "\4\u01b8\4\0\2\u01b8\2\0\24\u01b8\5\0\3\u01b9\2\0"+
+    "\1\u01b9\27\0\1\u01ba\37\0\1\u01bb\37\0\1\u01bc\37\0"+
+    "\1\u01bd\40\0\1\u01be\1\0\1\u01be\1\0\1\u01be\2\0"+
+    "\1\u01be\25\0\4\u01bf\4\0\2\u01bf\2\0\24\u01bf\5\0"+
+    "\3\u01c0\2\0\1\u01c0\27\0\1\u01c1\37\0\1\u01c2\37\0"+
+    "\1\u01c3\37\0\1\u01c4\40\0\1\u01c5\1\0\1\u01c5\1\0"+
+    "\1\u01c5\2\0\1\u01c5\25\0\4\u01c6\4\0\2\u01c6\2\0"+
+    "\24\u01c6\5\0\3\u01c7\2\0\1\u01c7\27\0\1\u01c8\37\0"+
+    "\1\u01c9\37\0\1\u01ca\37\0\1\u01cb\40\0\1\u01cc\1\0"+
+    "\1\u01cc\1\0\1\u01cc\2\0\1\u01cc\25\0\4\u01cd\4\0"+
+    "\2\u01cd\2\0\24\u01cd\5\0\3\u01ce\2\0\1\u01ce\27\0"+
+    "\1\u01cf\37\0\1\u01d0\37\0\1\u01d1\37\0\1\u01d2\40\0"+
+    "\1\u01d3\1\0\1\u01d3\1\0\1\u01d3\2\0\1\u01d3\25\0"+
+    "\4\u01d4\4\0\2\u01d4\2\0\24\u01d4\5\0\3\u01d5\2\0"+
+    "\1\u01d5\27\0\1\u01d6\37\0\1\u01d7\37\0\1\u01d8\37\0"+
+    "\1\u01d9\40\0\1\u01da\1\0\1\u01da\1\0\1\u01da\2\0"+
+    "\1\u01da\25\0\4\u01db\4\0\2\u01db\2\0\24\u01db\5\0"+
+    "\3\u01dc\2\0\1\u01dc\27\0\1\u01dd\37\0\1\u01de\37\0"+
+    "\1\u01df\37\0\1\u01e0\40\0\1\u01e1\1\0\1\u01e1\1\0"+
+    "\1\u01e1\2\0\1\u01e1\25\0\4\u01e2\4\0\2\u01e2\2\0"+
+    "\24\u01e2\5\0\3\u01e3\2\0\1\u01e3\27\0\1\u01e4\37\0"+
+    "\1\u01e5\37\0\1\u01e6\37\0\1\u01e7\40\0\1\u01e8\1\0"+
+    "\1\u01e8\1\0\1\u01e8\2\0\1\u01e8\25\0\4\u01e9\4\0"+
+    "\2\u01e9\2\0\24\u01e9\5\0\3\u01ea\2\0\1\u01ea\27\0"+
+    "\1\u01eb\37\0\1\u01ec\37\0\1\u01ed\37\0\1\u01ee\40\0"+
+    "\1\u01ef\1\0\1\u01ef\1\0\1\u01ef\2\0\1\u01ef\25\0"+
+    "\4\u01f0\4\0\2\u01f0\2\0\24\u01f0\5\0\3\u01f1\2\0"+
+    "\1\u01f1\27\0\1\u01f2\37\0\1\u01f3\37\0\1\u01f4\35\0"+
+    "\4\u01f5\4\0\2\u01f5\2\0\24\u01f5\5\0\3\u01f6\2\0"+
+    "\1\u01f6\25\0\4\u01f7\4\0\2\u01f7\2\0\24\u01f7\5\0"+
+    "\3\u01f8\2\0\1\u01f8\25\0\4\u01f9\4\0\2\u01f9\2\0"+
+    "\24\u01f9\5\0\3\u01fa\2\0\1\u01fa\25\0\4\u01fb\4\0"+
+    "\2\u01fb\2\0\24\u01fb\5\0\3\u01fc\2\0\1\u01fc\25\0"+
+    "\4\u01fd\4\0\2\u01fd\2\0\24\u01fd\5\0\3\u01fe\2\0"+
+    "\1\u01fe\25\0\4\u01ff\4\0\2\u01ff\2\0\24\u01ff\5\0"+
+    "\3\u0200\2\0\1\u0200\25\0\4\u0201\4\0\2\u0201\2\0"+
+    "\24\u0201\5\0\3\u0202\2\0\1\u0202\25\0\4\u0203\4\0"+
+    "\2\u0203\2\0\24\u0203\5\0\3\u0204\2\0\1\u0204\25\0"+
+    "\4\u0205\4\0\2\u0205\2\0\24\u0205\5\0\3\u0206\2\0"+
+    "\1\u0206\25\0\4\u0207\4\0\2\u0207\2\0\24\u0207\5\0"+
+    "\3\u0208\2\0\1\u0208\25\0\4\u0209\4\0\2\u0209\2\0"+
+    "\24\u0209\5\0\3\u020a\2\0\1\u020a\25\0\4\u020b\4\0"+
+    "\2\u020b\2\0\24\u020b\5\0\3\u020c\2\0\1\u020c\25\0"+
+    "\4\u020d\4\0\2\u020d\2\0\24\u020d\5\0\3\u020e\2\0"+
+    "\1\u020e\25\0\4\u020f\4\0\2\u020f\2\0\24\u020f\5\0"+
+    "\3\u0210\2\0\1\u0210\25\0\4\u0211\4\0\2\u0211\2\0"+
+    "\24\u0211\5\0\3\u0212\2\0\1\u0212\25\0\4\u0213\4\0"+
+    "\2\u0213\2\0\24\u0213\5\0\3\u0214\2\0\1\u0214\25\0"+
+    "\4\u0215\4\0\2\u0215\2\0\24\u0215\5\0\3\u0216\2\0"+
+    "\1\u0216\25\0\4\u0217\4\0\2\u0217\2\0\24\u0217\5\0"+
+    "\3\u0218\2\0\1\u0218\25\0\4\u0219\4\0\2\u0219\2\0"+
+    "\24\u0219\5\0\3\u021a\2\0\1\u021a\25\0\4\u021b\4\0"+
+    "\2\u021b\2\0\24\u021b\5\0\3\u021c\2\0\1\u021c\25\0"+
+    "\4\u021d\4\0\2\u021d\2\0\24\u021d\5\0\3\u021e\2\0"+
+    "\1\u021e\25\0\4\u021f\4\0\2\u021f\2\0\24\u021f\5\0"+
+    "\3\u0220\2\0\1\u0220\25\0\4\u0221\4\0\2\u0221\2\0"+
+    "\24\u0221\5\0\3\u0222\2\0\1\u0222\25\0\4\u0223\4\0"+
+    "\2\u0223\2\0\24\u0223\5\0\3\u0224\2\0\1\u0224\25\0"+
+    "\4\u0225\4\0\2\u0225\2\0\24\u0225\5\0\3\u0226\2\0"+
+    "\1\u0226\25\0\4\u0227\4\0\2\u0227\2\0\24\u0227\5\0"+
+    "\3\u0228\2\0\1\u0228\25\0\4\u0229\4\0\2\u0229\2\0"+
+    "\24\u0229\5\0\3\u022a\2\0\1\u022a\25\0\4\u022b\4\0"+
+    "\2\u022b\2\0\24\u022b\5\0\3\u022c\2\0\1\u022c\25\0"+
+    "\4\u022d\4\0\2\u022d\2\0\24\u022d\5\0\3\u022e\2\0"+
+    "\1\u022e\25\0\4\u022f\4\0\2\u022f\2\0\24\u022f\5\0"+
+    "\3\u0230\2\0\1\u0230\25\0\4\u0231\4\0\2\u0231\2\0"+
+    "\24\u0231\5\0\3\u0232\2\0\1\u0232\25\0\4\u0233\4\0"+
+    "\2\u0233\2\0\24\u0233\5\0\3\u0234\2\0\1\u0234\25\0"+
+    "\4\u0235\4\0\2\u0235\2\0\24\u0235\5\0\3\u0236\2\0"+
+    "\1\u0236\25\0\4\u0237\4\0\2\u0237\2\0\24\u0237\5\0"+
+    "\3\u0238\2\0\1\u0238\25\0\4\u0239\4\0\2\u0239\2\0"+
+    "\24\u0239\5\0\3\u023a\2\0\1\u023a\25\0\4\u023b\4\0"+
+    "\2\u023b\2\0\24\u023b\5\0\3\u023c\2\0\1\u023c\25\0"+
+    "\4\u023d\4\0\2\u023d\2\0\24\u023d\5\0\3\u023e\2\0"+
+    "\1\u023e\25\0\4\u023f\4\0\2\u023f\2\0\24\u023f\5\0"+
+    "\3\u0240\2\0\1\u0240\25\0\4\u0241\4\0\2\u0241\2\0"+
+    "\24\u0241\5\0\3\u0242\2\0\1\u0242\25\0\4\u0243\4\0"+
+    "\2\u0243\2\0\24\u0243\5\0\3\u0244\2\0\1\u0244\25\0"+
+    "\4\u0245\4\0\2\u0245\2\0\24\u0245\5\0\3\u0246\2\0"+
+    "\1\u0246\25\0\4\u0247\4\0\2\u0247\2\0\24\u0247\5\0"+
+    "\3\u0248\2\0\1\u0248\25\0\4\u0249\4\0\2\u0249\2\0"+
+    "\24\u0249\5\0\3\u024a\2\0\1\u024a\25\0\4\u024b\4\0"+
+    "\2\u024b\2\0\24\u024b\5\0\3\u024c\2\0\1\u024c\25\0"+
+    "\4\u024d\4\0\2\u024d\2\0\24\u024d\5\0\3\u024e\2\0"+
+    "\1\u024e\25\0\4\u024f\4\0\2\u024f\2\0\24\u024f\5\0"+
+    "\3\u0250\2\0\1\u0250\25\0\4\u0251\4\0\2\u0251\2\0"+
+    "\24\u0251\5\0\3\u0252\2\0\1\u0252\25\0\4\u0253\4\0"+
+    "\2\u0253\2\0\24\u0253\5\0\3\u0254\2\0\1\u0254\25\0"+
+    "\4\u0255\4\0\2\u0255\2\0\24\u0255\5\0\3\u0256\2\0"+
+    "\1\u0256\25\0\4\u0257\4\0\2\u0257\2\0\24\u0257\5\0"+
+    "\3\u0258\2\0\1\u0258\25\0\4\u0259\4\0\2\u0259\2\0"+
+    "\24\u0259\5\0\3\u025a\2\0\1\u025a\25\0\4\u025b\4\0"+
+    "\2\u025b\2\0\24\u025b\5\0\3\u025c\2\0\1\u025c\25\0"+
+    "\4\u025d\4\0\2\u025d\2\0\24\u025d\5\0\3\u025e\2\0"+
+    "\1\u025e\25\0\4\u025f\4\0\2\u025f\2\0\24\u025f\5\0"+
+    "\3\u0260\2\0\1\u0260\25\0\4\u0261\4\0\2\u0261\2\0"+
+    "\24\u0261\5\0\3\u0262\2\0\1\u0262\25\0\4\u0263\4\0"+
+    "\2\u0263\2\0\24\u0263\5\0\3\u0264\2\0\1\u0264\25\0"+
+    "\4\u0265\4\0\2\u0265\2\0\24\u0265\5\0\3\u0266\2\0"+
+    "\1\u0266\25\0\4\u0267\4\0\2\u0267\2\0\24\u0267\5\0"+
+    "\3\u0268\2\0\1\u0268\25\0\4\u0269\4\0\2\u0269\2\0"+
+    "\24\u0269\5\0\3\u026a\2\0\1\u026a\25\0\4\u026b\4\0"+
+    "\2\u026b\2\0\24\u026b\5\0\3\u026c\2\0\1\u026c\25\0"+
+    "\4\u026d\4\0\2\u026d\2\0\24\u026d\5\0\3\u026e\2\0"+
+    "\1\u026e\25\0\4\u026f\4\0\2\u026f\2\0\24\u026f\5\0"+
+    "\3\u0270\2\0\1\u0270\25\0\4\u0271\4\0\2\u0271\2\0"+
+    "\24\u0271\5\0\3\u0272\2\0\1\u0272\25\0\4\u0273\4\0"+
+    "\2\u0273\2\0\24\u0273\5\0\3\u0274\2\0\1\u0274\25\0"+
+    "\4\u0275\4\0\2\u0275\2\0\24\u0275\5\0\3\u0276\2\0"+
+    "\1\u0276\25\0\4\u0277\4\0\2\u0277\2\0\24\u0277\5\0"+
+    "\3\u0278\2\0\1\u0278\25\0\4\u0279\4\0\2\u0279\2\0"+
+    "\24\u0279\5\0\3\u027a\2\0\1\u027a\25\0\4\u027b\4\0"+
+    "\2\u027b\2\0\24\u027b\5\0\3\u027c\2\0\1\u027c\25\0"+
+    "\4\u027d\4\0\2\u027d\2\0\24\u027d\5\0\3\u027e\2\0"+
+    "\1\u027e\25\0\4\u027f\4\0\2\u027f\2\0\24\u027f\5\0"+
+    "\3\u0280\2\0\1\u0280\25\0\4\u0281\4\0\2\u0281\2\0"+
+    "\24\u0281\5\0\3\u0282\2\0\1\u0282\25\0\4\u0283\4\0"+
+    "\2\u0283\2\0\24\u0283\5\0\3\u0284\2\0\1\u0284\25\0"+
+    "\4\u0285\4\0\2\u0285\2\0\24\u0285\5\0\3\u0286\2\0"+
+    "\1\u0286\25\0\4\u0287\4\0\2\u0287\2\0\24\u0287\5\0"+
+    "\3\u0288\2\0\1\u0288\25\0\4\u0289\4\0\2\u0289\2\0"+
+    "\24\u0289\5\0\3\u028a\2\0\1\u028a\25\0\4\u028b\4\0"+
+    "\2\u028b\2\0\24\u028b\5\0\3\u028c\2\0\1\u028c\25\0"+
+    "\4\u028d\4\0\2\u028d\2\0\24\u028d\5\0\3\u028e\2\0"+
+    "\1\u028e\25\0\4\u028f\4\0\2\u028f\2\0\24\u028f\5\0"+
+    "\3\u0290\2\0\1\u0290\25\0\4\u0291\4\0\2\u0291\2\0"+
+    "\24\u0291\5\0\3\u0292\2\0\1\u0292\25\0\4\u0293\4\0"+
+    "\2\u0293\2\0\24\u0293\5\0\3\u0294\2\0\1\u0294\25\0"+
+    "\4\u0295\4\0\2\u0295\2\0\24\u0295\5\0\3\u0296\2\0"+
+    "\1\u0296\25\0\4\u0297\4\0\2\u0297\2\0\24\u0297\5\0"+
+    "\3\u0298\2\0\1\u0298\25\0\4\u0299\4\0\2\u0299\2\0"+
+    "\24\u0299\5\0\3\u029a\2\0\1\u029a\25\0\4\u029b\4\0"+
+    "\2\u029b\2\0\24\u029b\5\0\3\u029c\2\0\1\u029c\25\0"+
+    "\4\u029d\4\0\2\u029d\2\0\24\u029d\5\0\3\u029e\2\0"+
+    "\1\u029e\25\0\4\u029f\4\0\2\u029f\2\0\24\u029f\5\0"+
+    "\3\u02a0\2\0\1\u02a0\25\0\4\u02a1\4\0\2\u02a1\2\0"+
+    "\24\u02a1\5\0\3\u02a2\2\0\1\u02a2\25\0\4\u02a3\4\0"+
+    "\2\u02a3\2\0\24\u02a3\5\0\3\u02a4\2\0\1\u02a4\25\0"+
+    "\4\u02a5\4\0\2\u02a5\2\0\24\u02a5\5\0\3\u02a6\2\0"+
+    "\1\u02a6\25\0\4\u02a7\4\0\2\u02a7\2\0\24\u02a7\5\0"+
+    "\3\u02a8\2\0\1\u02a8\25\0\4\u02a9\4\0\2\u02a9\2\0"+
+    "\24\u02a9\5\0\3\u02aa\2\0\1\u02aa\25\0\4\u02ab\4\0"+
+    "\2\u02ab\2\0\24\u02ab\5\0\3\u02ac\2\0\1\u02ac\25\0"+
+    "\4\u02ad\4\0\2\u02ad\2\0\24\u02ad\5\0\3\u02ae\2\0"+
+    "\1\u02ae\25\0\4\u02af\4\0\2\u02af\2\0\24\u02af\5\0"+
+    "\3\u02b0\2\0\1\u02b0\25\0\4\u02b1\4\0\2\u02b1\2\0"+
+    "\24\u02b1\5\0\3\u02b2\2\0\1\u02b2\25\0\4\u02b3\4\0"+
+    "\2\u02b3\2\0\24\u02b3\5\0\3\u02b4\2\0\1\u02b4\25\0"+
+    "\4\u02b5\4\0\2\u02b5\2\0\24\u02b5\5\0\3\u02b6\2\0"+
+    "\1\u02b6\25\0\4\u02b7\4\0\2\u02b7\2\0\24\u02b7\5\0"+
+    "\3\u02b8\2\0\1\u02b8\25\0\4\u02b9\4\0\2\u02b9\2\0"+
+    "\24\u02b9\5\0\3\u02ba\2\0\1\u02ba\25\0\4\u02bb\4\0"+
+    "\2\u02bb\2\0\24\u02bb\5\0\3\u02bc\2\0\1\u02bc\25\0"+
+    "\4\u02bd\4\0\2\u02bd\2\0\24\u02bd\5\0\3\u02be\2\0"+
+    "\1\u02be\25\0\4\u02bf\4\0\2\u02bf\2\0\24\u02bf\5\0"+
+    "\3\u02c0\2\0\1\u02c0\25\0\4\u02c1\4\0\2\u02c1\2\0"+
+    "\24\u02c1\5\0\3\u02c2\2\0\1\u02c2\25\0\4\u02c3\4\0"+
+    "\2\u02c3\2\0\24\u02c3\5\0\3\u02c4\2\0\1\u02c4\25\0"+
+    "\4\u02c5\4\0\2\u02c5\2\0\24\u02c5\5\0\3\u02c6\2\0"+
+    "\1\u02c6\25\0\4\u02c7\4\0\2\u02c7\2\0\24\u02c7\5\0"+
+    "\3\u02c8\2\0\1\u02c8\25\0\4\u02c9\4\0\2\u02c9\2\0"+
+    "\24\u02c9\5\0\3\u02ca\2\0\1\u02ca\25\0\4\u02cb\4\0"+
+    "\2\u02cb\2\0\24\u02cb\5\0\3\u02cc\2\0\1\u02cc\25\0"+
+    "\4\u02cd\4\0\2\u02cd\2\0\24\u02cd\5\0\3\u02ce\2\0"+
+    "\1\u02ce\25\0\4\u02cf\4\0\2\u02cf\2\0\24\u02cf\5\0"+
+    "\3\u02d0\2\0\1\u02d0\25\0\4\u02d1\4\0\2\u02d1\2\0"+
+    "\24\u02d1\5\0\3\u02d2\2\0\1\u02d2\25\0\4\u02d3\4\0"+
+    "\2\u02d3\2\0\24\u02d3\5\0\3\u02d4\2\0\1\u02d4\25\0"+
+    "\4\u02d5\4\0\2\u02d5\2\0\24\u02d5\5\0\3\u02d6\2\0"+
+    "\1\u02d6\25\0\4\u02d7\4\0\2\u02d7\2\0\24\u02d7\5\0"+
+    "\3\u02d8\2\0\1\u02d8\25\0\4\u02d9\4\0\2\u02d9\2\0"+
+    "\24\u02d9\5\0\3\u02da\2\0\1\u02da\25\0\4\u02db\4\0"+
+    "\2\u02db\2\0\24\u02db\5\0\3\u02dc\2\0\1\u02dc\25\0"+
+    "\4\u02dd\4\0\2\u02dd\2\0\24\u02dd\5\0\3\u02de\2\0"+
+    "\1\u02de\25\0\4\u02df\4\0\2\u02df\2\0\24\u02df\5\0"+
+    "\3\u02e0\2\0\1\u02e0\25\0\4\u02e1\4\0\2\u02e1\2\0"+
+    "\24\u02e1\5\0\3\u02e2\2\0\1\u02e2\25\0\4\u02e3\4\0"+
+    "\2\u02e3\2\0\24\u02e3\5\0\3\u02e4\2\0\1\u02e4\25\0"+
+    "\4\u02e5\4\0\2\u02e5\2\0\24\u02e5\5\0\3\u02e6\2\0"+
+    "\1\u02e6\25\0\4\u02e7\4\0\2\u02e7\2\0\24\u02e7\5\0"+
+    "\3\u02e8\2\0\1\u02e8\25\0\4\u02e9\4\0\2\u02e9\2\0"+
+    "\24\u02e9\5\0\3\u02ea\2\0\1\u02ea\25\0\4\u02eb\4\0"+
+    "\2\u02eb\2\0\24\u02eb\5\0\3\u02ec\2\0\1\u02ec\25\0"+
+    "\4\u02ed\4\0\2\u02ed\2\0\24\u02ed\5\0\3\u02ee\2\0"+
+    "\1\u02ee\25\0\4\u02ef\4\0\2\u02ef\2\0\24\u02ef\5\0"+
+    "\3\u02f0\2\0\1\u02f0\25\0\4\u02f1\4\0\2\u02f1\2\0"+
+    "\24\u02f1\5\0\3\u02f2\2\0\1\u02f2\25\0\4\u02f3\4\0"+
+    "\2\u02f3\2\0\24\u02f3\5\0\3\u02f4\2\0\1\u02f4\25\0"+
+    "\4\u02f5\4\0\2\u02f5\2\0\24\u02f5\5\0\3\u02f6\2\0"+
+    "\1\u02f6\25\0\4\u02f7\4\0\2\u02f7\2\0\24\u02f7\5\0"+
+    "\3\u02f8\2\0\1\u02f8\25\0\4\u02f9\4\0\2\u02f9\2\0"+
+    "\24\u02f9\5\0\3\u02fa\2\0\1\u02fa\25\0\4\u02fb\4\0"+
+    "\2\u02fb\2\0\24\u02fb\5\0\3\u02fc\2\0\1\u02fc\25\0"+
+    "\4\u02fd\4\0\2\u02fd\2\0\24\u02fd\5\0\3\u02fe\2\0"+
+    "\1\u02fe\25\0\4\u02ff\4\0\2\u02ff\2\0\24\u02ff\5\0"+
+    "\3\u0300\2\0\1\u0300\25\0\4\u0301\4\0\2\u0301\2\0"+
+    "\24\u0301\5\0\3\u0302\2\0\1\u0302\25\0\4\u0303\4\0"+
+    "\2\u0303\2\0\24\u0303\5\0\3\u0304\2\0\1\u0304\25\0"+
+    "\4\u0305\4\0\2\u0305\2\0\24\u0305\5\0\3\u0306\2\0"+
+    "\1\u0306\25\0\4\u0307\4\0\2\u0307\2\0\24\u0307\5\0"+
+    "\3\u0308\2\0\1\u0308\25\0\4\u0309\4\0\2\u0309\2\0"+
+    "\24\u0309\5\0\3\u030a\2\0\1\u030a\25\0\4\u030b\4\0"+
+    "\2\u030b\2\0\24\u030b\5\0\3\u030c\2\0\1\u030c\25\0"+
+    "\4\u030d\4\0\2\u030d\2\0\24\u030d\5\0\3\u030e\2\0"+
+    "\1\u030e\25\0\4\u030f\4\0\2\u030f\2\0\24\u030f\5\0"+
+    "\3\u0310\2\0\1\u0310\25\0\4\u0311\4\0\2\u0311\2\0"+
+    "\24\u0311\5\0\3\u0312\2\0\1\u0312\25\0\4\u0313\4\0"+
+    "\2\u0313\2\0\24\u0313\5\0\3\u0314\2\0\1\u0314\25\0"+
+    "\4\u0315\4\0\2\u0315\2\0\24\u0315\5\0\3\u0316\2\0"+
+    "\1\u0316\25\0\4\u0317\4\0\2\u0317\2\0\24\u0317\5\0"+
+    "\3\u0318\2\0\1\u0318\25\0\4\u0319\4\0\2\u0319\2\0"+
+    "\24\u0319\5\0\3\u031a\2\0\1\u031a\25\0\4\u031b\4\0"+
+    "\2\u031b\2\0\24\u031b\5\0\3\u031c\2\0\1\u031c\25\0"+
+    "\4\u031d\4\0\2\u031d\2\0\24\u031d\5\0\3\u031e\2\0"+
+    "\1\u031e\25\0\4\u031f\4\0\2\u031f\2\0\24\u031f\5\0"+
+    "\3\u0320\2\0\1\u0320\25\0\4\u0321\4\0\2\u0321\2\0"+
+    "\24\u0321\5\0\3\u0322\2\0\1\u0322\25\0\4\u0323\4\0"+
+    "\2\u0323\2\0\24\u0323\5\0\3\u0324\2\0\1\u0324\25\0"+
+    "\4\u0325\4\0\2\u0325\2\0\24\u0325\5\0\3\u0326\2\0"+
+    "\1\u0326\25\0\4\u0327\4\0\2\u0327\2\0\24\u0327\5\0"+
+    "\3\u0328\2\0\1\u0328\25\0\4\u0329\4\0\2\u0329\2\0"+
+    "\24\u0329\5\0\3\u032a\2\0\1\u032a\25\0\4\u032b\4\0"+
+    "\2\u032b\2\0\24\u032b\5\0\3\u032c\2\0\1\u032c\25\0"+
+    "\4\u032d\4\0\2\u032d\2\0\24\u032d\5\0\3\u032e\2\0"+
+    "\1\u032e\25\0\4\u032f\4\0\2\u032f\2\0\24\u032f\5\0"+
+    "\3\u0330\2\0\1\u0330\25\0\4\u0331\4\0\2\u0331\2\0"+
+    "\24\u0331\5\0\3\u0332\2\0\1\u0332\25\0\4\u0333\4\0"+
+    "\2\u0333\2\0\24\u0333\5\0\3\u0334\2\0\1\u0334\25\0"+
+    "\4\u0335\4\0\2\u0335\2\0\24\u0335\5\0\3\u0336\2\0"+
+    "\1\u0336\25\0\4\u0337\4\0\2\u0337\2\0\24\u0337\5\0"+
+    "\3\u0338\2\0\1\u0338\25\0\4\u0339\4\0\2\u0339\2\0"+
+    "\24\u0339\5\0\3\u033a\2\0\1\u033a\25\0\4\u033b\4\0"+
+    "\2\u033b\2\0\24\u033b\5\0\3\u033c\2\0\1\u033c\25\0"+
+    "\4\u033d\4\0\2\u033d\2\0\24\u033d\5\0\3\u033e\2\0"+
+    "\1\u033e\25\0\4\u033f\4\0\2\u033f\2\0\24\u033f\5\0"+
+    "\3\u0340\2\0\1\u0340\25\0\4\u0341\4\0\2\u0341\2\0"+
+    "\24\u0341\5\0\3\u0342\2\0\1\u0342\25\0\4\u0343\4\0"+
+    "\2\u0343\2\0\24\u0343\5\0\3\u0344\2\0\1\u0344\25\0"+
+    "\4\u0345\4\0\2\u0345\2\0\24\u0345\5\0\3\u0346\2\0"+
+    "\1\u0346\25\0\4\u0347\4\0\2\u0347\2\0\24\u0347\5\0"+
+    "\3\u0348\2\0\1\u0348\25\0\4\u0349\4\0\2\u0349\2\0"+
+    "\24\u0349\5\0\3\u034a\2\0\1\u034a\25\0\4\u034b\4\0"+
+    "\2\u034b\2\0\24\u034b\5\0\3\u034c\2\0\1\u034c\25\0"+
+    "\4\u034d\4\0\2\u034d\2\0\24\u034d\5\0\3\u034e\2\0"+
+    "\1\u034e\25\0\4\u034f\4\0\2\u034f\2\0\24\u034f\5\0"+
+    "\3\u0350\2\0\1\u0350\25\0\4\u0351\4\0\2\u0351\2\0"+
+    "\24\u0351\5\0\3\u0352\2\0\1\u0352\25\0\4\u0353\4\0"+
+    "\2\u0353\2\0\24\u0353\5\0\3\u0354\2\0\1\u0354\25\0"+
+    "\4\u0355\4\0\2\u0355\2\0\24\u0355\5\0\3\u0356\2\0"+
+    "\1\u0356\25\0\4\u0357\4\0\2\u0357\2\0\24\u0357\5\0"+
+    "\3\u0358\2\0\1\u0358\25\0\4\u0359\4\0\2\u0359\2\0"+
+    "\24\u0359\5\0\3\u035a\2\0\1\u035a\25\0\4\u035b\4\0"+
+    "\2\u035b\2\0\24\u035b\5\0\3\u035c\2\0\1\u035c\25\0"+
+    "\4\u035d\4\0\2\u035d\2\0\24\u035d\5\0\3\u035e\2\0"+
+    "\1\u035e\25\0\4\u035f\4\0\2\u035f\2\0\24\u035f\5\0"+
+    "\3\u0360\2\0\1\u0360\25\0\4\u0361\4\0\2\u0361\2\0"+
+    "\24\u0361\5\0\3\u0362\2\0\1\u0362\25\0\4\u0363\4\0"+
+    "\2\u0363\2\0\24\u0363\5\0\3\u0364\2\0\1\u0364\25\0"+
+    "\4\u0365\4\0\2\u0365\2\0\24\u0365\5\0\3\u0366\2\0"+
+    "\1\u0366\25\0\4\u0367\4\0\2\u0367\2\0\24\u0367\5\0"+
+    "\3\u0368\2\0\1\u0368\25\0\4\u0369\4\0\2\u0369\2\0"+
+    "\24\u0369\5\0\3\u036a\2\0\1\u036a\25\0\4\u036b\4\0"+
+    "\2\u036b\2\0\24\u036b\5\0\3\u036c\2\0\1\u036c\25\0"+
+    "\4\u036d\4\0\2\u036d\2\0\24\u036d\5\0\3\u036e\2\0"+
+    "\1\u036e\25\0\4\u036f\4\0\2\u036f\2\0\24\u036f\5\0"+
+    "\3\u0370\2\0\1\u0370\25\0\4\u0371\4\0\2\u0371\2\0"+
+    "\24\u0371\5\0\3\u0372\2\0\1\u0372\25\0\4\u0373\4\0"+
+    "\2\u0373\2\0\24\u0373\5\0\3\u0374\2\0\1\u0374\25\0";
+
+  private static int [] zzUnpackTrans() {
+    int [] result = new int[27392];
+    int offset = 0;
+    offset = zzUnpackTrans(ZZ_TRANS_PACKED_0, offset, result);
+    return result;
+  }
+
+  private static int zzUnpackTrans(String packed, int offset, int [] result) {
+    int i = 0;       /* index in packed string  */
+    int j = offset;  /* index in unpacked array */
+    int l = packed.length();
+    while (i < l) {
+      int count = packed.charAt(i++);
+      int value = packed.charAt(i++);
+      value--;
+      do result[j++] = value; while (--count > 0);
+    }
+    return j;
+  }
+
 
   /* error codes */
   private static final int ZZ_UNKNOWN_ERROR = 0;
@@ -230,12 +830,14 @@ class Yylex {
   private static final int [] ZZ_ATTRIBUTE = zzUnpackAttribute();
 
   private static final String ZZ_ATTRIBUTE_PACKED_0 =
-    "\2\0\1\11\4\1\1\11\3\1\6\11\2\1\1\11"+
-    "\2\0\1\1\4\0\10\11\1\0\1\1\1\0\1\1"+
-    "\1\11\1\1\7\0\2\11\2\0\1\11";
+    "\5\0\1\11\3\1\1\11\4\1\6\11\3\1\2\11"+
+    "\10\1\4\0\1\1\10\11\1\0\2\1\1\0\4\1"+
+    "\1\11\1\1\5\0\1\1\1\0\6\1\1\0\2\11"+
+    "\1\1\1\0\7\1\1\0\7\1\1\11\u0193\1\2\11"+
+    "\2\1\3\11\u017e\1\2\11";
 
   private static int [] zzUnpackAttribute() {
-    int [] result = new int[53];
+    int [] result = new int[884];
     int offset = 0;
     offset = zzUnpackAttribute(ZZ_ATTRIBUTE_PACKED_0, offset, result);
     return result;
@@ -304,11 +906,172 @@ class Yylex {
 
   /* user code: */
 private StringBuilder sb=new StringBuilder();
+/* When validating the lexer only checks the text is lexable, so no values are built for the tokens it returns. */
+private boolean validating;
 
 int getPosition(){
 	return yychar;
 }
 
+/* How many comments and tokens were lexed that strict JSON doesn't allow, so callers can tell whether text was strict. */
+private int lenience;
+
+int getLenience(){
+	return lenience;
+}
+
+void setValidating(final boolean validating){
+	this.validating = validating;
+}
+
+/* When quiet the lexer records problems instead of throwing them, so callers can fail without creating an exception. */
+private boolean quiet;
+private int problemPosition = -1;
+private JsonException.Problems problemType;
+private Object problemObject;
+
+void setQuiet(final boolean quiet){
+	this.quiet = quiet;
+}
+
+Yytoken reportProblem(final int position, final JsonException.Problems type, final Object unexpectedObject){
+	this.problemPosition = position;
+	this.problemType = type;
+	this.problemObject = unexpectedObject;
+	return Yytoken.PROBLEM;
+}
+
+int getProblemPosition(){
+	return problemPosition;
+}
+
+JsonException.Problems getProblemType(){
+	return problemType;
+}
+
+Object getProblemObject(){
+	return problemObject;
+}
+
+/* The longest strings and numbers deserialization allows, the JsonLimits are checked as each of them is lexed. Strings,
+ * numbers, and whitespace are lexed in runs of at most a few hundred chars, so a string or number is never read much
+ * past its limit and the buffer never grows to hold one, whether or not the lexer is validating. */
+private int maxNumberChars = Integer.MAX_VALUE;
+private int maxStringChars = Integer.MAX_VALUE;
+/* How many chars the string or number being lexed has so far, unescaped. */
+private int tokenChars;
+
+void setLimits(final JsonLimits limits){
+	this.maxNumberChars = limits.getMaxNumberChars();
+	this.maxStringChars = limits.getMaxStringChars();
+}
+
+Yytoken exceedLimit(final String limit, final int max) throws JsonException{
+	if(quiet){
+		return reportProblem(yychar, JsonException.Problems.LIMIT_EXCEEDED, limit + " (" + max + ")");
+	}
+	throw new JsonException(yychar, JsonException.Problems.LIMIT_EXCEEDED, limit + " (" + max + ")");
+}
+
+/* When primitive the next number is lexed into a long or double the caller takes from the lexer, instead of a BigDecimal. */
+private boolean primitive;
+private long lexedLong;
+private double lexedDouble;
+
+void setPrimitive(final boolean primitive){
+	this.primitive = primitive;
+}
+
+long getLexedLong(){
+	return lexedLong;
+}
+
+double getLexedDouble(){
+	return lexedDouble;
+}
+
+Yytoken lexPrimitive(){
+	final int length = sb.length();
+	final int first = sb.charAt(0) == '-' ? 1 : 0;
+	/* Up to 18 digits always fit in a long, so a whole number that short is accumulated without overflow checks. */
+	if((length - first) <= 18){
+		long whole = 0;
+		int i = first;
+		for(; i < length; i++){
+			final char c = sb.charAt(i);
+			if((c < '0') || (c > '9')){
+				break;
+			}
+			whole = (whole * 10) + (c - '0');
+		}
+		if(i == length){
+			lexedLong = first == 1 ? -whole : whole;
+			return Yytoken.LONG_DATUM;
+		}
+	}
+	lexedDouble = Double.parseDouble(sb.toString());
+	return Yytoken.DOUBLE_DATUM;
+}
+
+/* Counts a run of a string's chars against its limit, keeping them unless validating. */
+Yytoken lexString() throws JsonException{
+	tokenChars += yylength();
+	if(tokenChars > maxStringChars){
+		return exceedLimit("chars in a string", maxStringChars);
+	}
+	if(!validating){
+		sb.append(zzBuffer, zzStartRead, yylength());
+	}
+	return null;
+}
+
+/* Counts an unescaped char of a string against its limit, keeping it unless validating. */
+Yytoken lexEscape(final char unescaped) throws JsonException{
+	if(++tokenChars > maxStringChars){
+		return exceedLimit("chars in a string", maxStringChars);
+	}
+	if(!validating){
+		sb.append(unescaped);
+	}
+	return null;
+}
+
+/* Counts a run of a number's chars against its limit, keeping them unless validating, and goes on to lex the part of
+ * the number the run ended in. */
+Yytoken lexNumber(final int part) throws JsonException{
+	tokenChars += yylength();
+	if(tokenChars > maxNumberChars){
+		yybegin(YYINITIAL);
+		return exceedLimit("chars in a number", maxNumberChars);
+	}
+	if(!validating){
+		sb.append(zzBuffer, zzStartRead, yylength());
+	}
+	yybegin(part);
+	return null;
+}
+
+/* Ends the number once a char that can't continue it is found, or the text ends. */
+Yytoken endNumber(){
+	yybegin(YYINITIAL);
+	if(validating){
+		return Yytoken.UNVALUED_DATUM;
+	}
+	if(primitive){
+		return lexPrimitive();
+	}
+	return new Yytoken(Yytoken.Types.DATUM, new java.math.BigDecimal(sb.toString()));
+}
+
+/* Lets go of the text that was lexed, and tells whether the lexer is worth keeping to lex more text: it isn't once its
+ * buffers grew past a new lexer's, so lexing one long text doesn't hold on to their memory forever. */
+boolean release(){
+	yyreset(null);
+	sb.setLength(0);
+	primitive = false;
+	return (zzBuffer.length == ZZ_BUFFERSIZE) && (sb.capacity() <= ZZ_BUFFERSIZE);
+}
+
 
 
   /**
@@ -610,108 +1373,145 @@ int getPosition(){
       zzMarkedPos = zzMarkedPosL;
 
       switch (zzAction < 0 ? zzAction : ZZ_ACTION[zzAction]) {
-        case 1: 
-          { throw new JsonException(yychar, JsonException.Problems.UNEXPECTED_CHARACTER, new Character(yycharat(0)));
+        case 21: 
+          { Yytoken limited = lexEscape('/'); if(limited != null){return limited;}
           }
-        case 24: break;
-        case 4: 
-          { sb = null; sb = new StringBuilder(); yybegin(STRING_BEGIN);
+        case 31: break;
+        case 20: 
+          { Yytoken limited = lexEscape('\\'); if(limited != null){return limited;}
           }
-        case 25: break;
-        case 11: 
-          { sb.append(yytext());
+        case 32: break;
+        case 29: 
+          { if(validating){return Yytoken.UNVALUED_DATUM;} Boolean val=Boolean.valueOf(yytext()); return new Yytoken(Yytoken.Types.DATUM, val);
           }
-        case 26: break;
+        case 33: break;
         case 5: 
           { return new Yytoken(Yytoken.Types.LEFT_BRACE, null);
           }
-        case 27: break;
-        case 16: 
-          { sb.append('\b');
-          }
-        case 28: break;
-        case 22: 
-          { Boolean val=Boolean.valueOf(yytext()); return new Yytoken(Yytoken.Types.DATUM, val);
+        case 34: break;
+        case 14: 
+          { yybegin(YYINITIAL);if(validating){return Yytoken.UNVALUED_STRING;}return new Yytoken(Yytoken.Types.DATUM, sb.toString());
           }
-        case 29: break;
-        case 12: 
-          { sb.append('\\');
+        case 35: break;
+        case 18: 
+          { Yytoken limited = lexNumber(NUMBER_EXPONENT); if(limited != null){return limited;}
           }
-        case 30: break;
+        case 36: break;
         case 10: 
           { return new Yytoken(Yytoken.Types.COLON, null);
           }
-        case 31: break;
+        case 37: break;
+        case 24: 
+          { Yytoken limited = lexEscape('\f'); if(limited != null){return limited;}
+          }
+        case 38: break;
+        case 11: 
+          { Yytoken limited = lexString(); if(limited != null){return limited;}
+          }
+        case 39: break;
+        case 17: 
+          { Yytoken limited = lexNumber(NUMBER_FRACTION); if(limited != null){return limited;}
+          }
+        case 40: break;
         case 9: 
           { return new Yytoken(Yytoken.Types.COMMA, null);
           }
-        case 32: break;
-        case 21: 
-          { return new Yytoken(Yytoken.Types.DATUM, null);
+        case 41: break;
+        case 27: 
+          { Yytoken limited = lexEscape('\t'); if(limited != null){return limited;}
           }
-        case 33: break;
-        case 19: 
-          { sb.append('\r');
+        case 42: break;
+        case 16: 
+          { Yytoken limited = lexNumber(NUMBER_INTEGER); if(limited != null){return limited;}
           }
-        case 34: break;
-        case 14: 
-          { sb.append('/');
+        case 43: break;
+        case 26: 
+          { Yytoken limited = lexEscape('\r'); if(limited != null){return limited;}
           }
-        case 35: break;
-        case 2: 
-          { java.math.BigDecimal val= new java.math.BigDecimal(yytext()); return new Yytoken(Yytoken.Types.DATUM, val);
+        case 44: break;
+        case 28: 
+          { return new Yytoken(Yytoken.Types.DATUM, null);
           }
-        case 36: break;
-        case 15: 
-          { sb.append('"');
+        case 45: break;
+        case 25: 
+          { Yytoken limited = lexEscape('\n'); if(limited != null){return limited;}
           }
-        case 37: break;
+        case 46: break;
+        case 1: 
+          { if(quiet){return reportProblem(yychar, JsonException.Problems.UNEXPECTED_CHARACTER, Character.valueOf(yycharat(0)));} throw new JsonException(yychar, JsonException.Problems.UNEXPECTED_CHARACTER, new Character(yycharat(0)));
+          }
+        case 47: break;
         case 8: 
           { return new Yytoken(Yytoken.Types.RIGHT_SQUARE, null);
           }
-        case 38: break;
-        case 23: 
-          { try{
-			int ch=Integer.parseInt(yytext().substring(2),16);
-			sb.append((char)ch);
-		}catch(Exception e){
-			/* The lexer is broken if it can build a 4 byte character code and fail to append the character. */
-			throw new JsonException(yychar, JsonException.Problems.UNEXPECTED_EXCEPTION, e);
-		}
+        case 48: break;
+        case 19: 
+          { lenience++;
           }
-        case 39: break;
-        case 17: 
-          { sb.append('\f');
+        case 49: break;
+        case 12: 
+          { lenience++; Yytoken limited = lexEscape('\\'); if(limited != null){return limited;}
           }
-        case 40: break;
+        case 50: break;
         case 6: 
           { return new Yytoken(Yytoken.Types.RIGHT_BRACE, null);
           }
-        case 41: break;
-        case 20: 
-          { sb.append('\t');
+        case 51: break;
+        case 30: 
+          { Yytoken limited = lexEscape((char)Integer.parseInt(yytext().substring(2), 16)); if(limited != null){return limited;}
           }
-        case 42: break;
+        case 52: break;
+        case 22: 
+          { Yytoken limited = lexEscape('"'); if(limited != null){return limited;}
+          }
+        case 53: break;
         case 7: 
           { return new Yytoken(Yytoken.Types.LEFT_SQUARE, null);
           }
-        case 43: break;
-        case 18: 
-          { sb.append('\n');
+        case 54: break;
+        case 2: 
+          { int first = yycharat(0) == '-' ? 1 : 0; if((yylength() > (first + 1)) && (yycharat(first) == '0') && Character.isDigit(yycharat(first + 1))){lenience++;} sb.setLength(0); tokenChars = 0; Yytoken limited = lexNumber(NUMBER_INTEGER); if(limited != null){return limited;}
           }
-        case 44: break;
+        case 55: break;
         case 13: 
-          { yybegin(YYINITIAL);return new Yytoken(Yytoken.Types.DATUM, sb.toString());
+          { lenience++; Yytoken limited = lexString(); if(limited != null){return limited;}
           }
-        case 45: break;
+        case 56: break;
+        case 23: 
+          { Yytoken limited = lexEscape('\b'); if(limited != null){return limited;}
+          }
+        case 57: break;
+        case 4: 
+          { sb.setLength(0); tokenChars = 0; yybegin(STRING_BEGIN);
+          }
+        case 58: break;
+        case 15: 
+          { yypushback(1); return endNumber();
+          }
+        case 59: break;
         case 3: 
           { 
           }
-        case 46: break;
+        case 60: break;
         default: 
           if (zzInput == YYEOF && zzStartRead == zzCurrentPos) {
             zzAtEOF = true;
+            switch (zzLexicalState) {
+            case NUMBER_EXPONENT: {
+              return endNumber();
+            }
+            case 885: break;
+            case NUMBER_INTEGER: {
+              return endNumber();
+            }
+            case 886: break;
+            case NUMBER_FRACTION: {
+              return endNumber();
+            }
+            case 887: break;
+            default:
             return null;
+            }
           } 
           else {
             zzScanError(ZZ_NO_MATCH);
@@ -23,6 +23,9 @@ class Yytoken{
 		DATUM,
 		/** Tokens of this type will always have a value of "" */
 		END,
+		/** Tokens of this type will always have a value of null, they stand in for a problem a quiet lexer recorded
+		 * instead of throwing it. */
+		PROBLEM,
 		/** Tokens of this type will always have a value of "{" */
 		LEFT_BRACE,
 		/** Tokens of this type will always have a value of "[" */
@@ -33,6 +36,17 @@ class Yytoken{
 		RIGHT_SQUARE;
 	}
 
+	/** Stands in for whichever problem a quiet lexer recorded. */
+	static final Yytoken	PROBLEM			= new Yytoken(Types.PROBLEM, null);
+	/** Stands in for a number lexed as a double, whose value the lexer holds instead of the token. */
+	static final Yytoken	DOUBLE_DATUM	= new Yytoken(Types.DATUM, Double.valueOf(0));
+	/** Stands in for a number lexed as a long, whose value the lexer holds instead of the token. */
+	static final Yytoken	LONG_DATUM		= new Yytoken(Types.DATUM, Long.valueOf(0));
+	/** Stands in for any string datum while validating, since the lexer doesn't build its value. */
+	static final Yytoken	UNVALUED_STRING	= new Yytoken(Types.DATUM, "");
+	/** Stands in for any boolean or number datum while validating, since the lexer doesn't build its value. */
+	static final Yytoken	UNVALUED_DATUM	= new Yytoken(Types.DATUM, Boolean.FALSE);
+
 	@SuppressWarnings("javadoc")
 	private final Types		type;
 	@SuppressWarnings("javadoc")
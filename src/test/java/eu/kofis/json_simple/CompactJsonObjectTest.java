@@ -0,0 +1,181 @@
+/* See: README for this file's copyright, terms, and conditions. */
+package eu.kofis.json_simple;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Ensures that CompactJsonObject behaves like any other map and like a JsonObject. */
+public class CompactJsonObjectTest{
+	@SuppressWarnings("javadoc")
+	private static enum TestKeys implements JsonKey{
+		DNE(null),
+		DNE_BIG_DECIMAL(new BigDecimal("101")),
+		key0(null),
+		key1(null);
+		private final Object value;
+
+		private TestKeys(final Object value){
+			this.value = value;
+		}
+
+		@Override
+		public String getKey(){
+			return this.name();
+		}
+
+		@Override
+		public Object getValue(){
+			return this.value;
+		}
+	}
+
+	/** Called before each Test Method. */
+	@Before
+	public void setUp(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** Called after each Test method. */
+	@After
+	public void tearDown(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** Ensures the entries keep their order and stay reachable after moving from the arrays into hashing. */
+	@Test
+	public void testCrossingHashingThreshold(){
+		final CompactJsonObject json = new CompactJsonObject();
+		final JsonObject expected = new JsonObject();
+		final ArrayList<String> order = new ArrayList<String>();
+		for(int i = 0; i < (CompactJsonObject.HASHING_THRESHOLD * 2); i++){
+			json.put("key" + i, i);
+			expected.put("key" + i, i);
+			order.add("key" + i);
+			Assert.assertEquals(expected, json);
+			Assert.assertEquals(expected.hashCode(), json.hashCode());
+		}
+		Assert.assertEquals(order, new ArrayList<String>(json.keySet()));
+		Assert.assertEquals(3, json.remove("key3"));
+		Assert.assertFalse(json.containsKey("key3"));
+		json.clear();
+		Assert.assertTrue(json.isEmpty());
+		json.put("again", true);
+		Assert.assertEquals(true, json.get("again"));
+	}
+
+	/** Ensures the parser produces CompactJsonObjects when asked to.
+	 * @throws JsonException if the test fails. */
+	@Test
+	public void testDeserialization() throws JsonException{
+		final String text = "{\"b\":1,\"a\":{\"c\":[true,{}]},\"d\":\"e\"}";
+		final Object deserialized = Jsoner.deserialize(new StringReader(text), CompactJsonObject.FACTORY);
+		Assert.assertTrue(deserialized instanceof CompactJsonObject);
+		Assert.assertEquals(Jsoner.deserialize(text), deserialized);
+		final CompactJsonObject json = (CompactJsonObject)deserialized;
+		Assert.assertEquals(Arrays.asList("b", "a", "d"), new ArrayList<String>(json.keySet()));
+		Assert.assertTrue(json.get("a") instanceof CompactJsonObject);
+		Assert.assertEquals("{\"b\":1,\"a\":{\"c\":[true,{}]},\"d\":\"e\"}", json.toJson());
+		Assert.assertEquals(json.toJson(), Jsoner.serialize(json));
+	}
+
+	/** Ensures entries can be changed and removed through the map's views. */
+	@Test
+	public void testEntryViews(){
+		final CompactJsonObject json = new CompactJsonObject();
+		json.putChain("a", 1).putChain("b", 2).putChain("c", 3);
+		for(final Map.Entry<String, Object> entry : json.entrySet()){
+			entry.setValue(((Integer)entry.getValue()) * 10);
+		}
+		Assert.assertEquals(20, json.get("b"));
+		final Iterator<Map.Entry<String, Object>> entries = json.entrySet().iterator();
+		entries.next();
+		entries.remove();
+		Assert.assertEquals("b", entries.next().getKey());
+		Assert.assertEquals(Arrays.asList("b", "c"), new ArrayList<String>(json.keySet()));
+		json.values().remove(30);
+		Assert.assertEquals(1, json.size());
+		final Iterator<String> keys = json.keySet().iterator();
+		json.put("d", 4);
+		try{
+			keys.next();
+			Assert.fail();
+		}catch(final ConcurrentModificationException caught){
+			/* Iterators fail fast like HashMap's. */
+		}
+	}
+
+	/** Ensures views taken while the entries are in the arrays still see them once they move into the LinkedHashMap. */
+	@Test
+	public void testEntryViewsAcrossHashingThreshold(){
+		final CompactJsonObject json = new CompactJsonObject();
+		final Set<Map.Entry<String, Object>> entries = json.entrySet();
+		final Set<String> keys = json.keySet();
+		for(int i = 0; i <= CompactJsonObject.HASHING_THRESHOLD; i++){
+			json.put("k" + i, i);
+		}
+		Assert.assertEquals(CompactJsonObject.HASHING_THRESHOLD + 1, entries.size());
+		Assert.assertEquals(CompactJsonObject.HASHING_THRESHOLD + 1, keys.size());
+		Assert.assertEquals("k0", entries.iterator().next().getKey());
+		Assert.assertTrue(keys.contains("k" + CompactJsonObject.HASHING_THRESHOLD));
+		keys.remove("k0");
+		Assert.assertFalse(json.containsKey("k0"));
+		entries.clear();
+		Assert.assertTrue(json.isEmpty());
+	}
+
+	/** Ensures the convenience methods work like JsonObject's. */
+	@Test
+	public void testJsonKeyGets(){
+		final CompactJsonObject json = new CompactJsonObject();
+		json.put(TestKeys.key0, "12");
+		json.put(TestKeys.key1, new BigDecimal("1.5"));
+		Assert.assertEquals(Integer.valueOf(12), json.getInteger(TestKeys.key0));
+		Assert.assertEquals(Long.valueOf(1), json.getLong(TestKeys.key1));
+		Assert.assertEquals("1.5", json.getString(TestKeys.key1));
+		Assert.assertEquals(new BigDecimal("101"), json.getBigDecimalOrDefault(TestKeys.DNE_BIG_DECIMAL));
+		Assert.assertNull(json.getStringOrDefault(TestKeys.DNE));
+		json.requireKeys(TestKeys.key0, TestKeys.key1);
+		try{
+			json.requireKeys(TestKeys.DNE);
+			Assert.fail();
+		}catch(final NoSuchElementException caught){
+			/* The key is missing. */
+		}
+		Assert.assertEquals("12", json.remove(TestKeys.key0));
+		Assert.assertEquals(1, json.size());
+	}
+
+	/** Ensures a CompactJsonObject survives java serialization.
+	 * @throws IOException if the test fails.
+	 * @throws ClassNotFoundException if the test fails. */
+	@Test
+	public void testSerializable() throws IOException, ClassNotFoundException{
+		final CompactJsonObject json = new CompactJsonObject();
+		json.putChain("a", 1).putChain("b", new JsonArray().addChain("c"));
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final ObjectOutputStream output = new ObjectOutputStream(bytes);
+		output.writeObject(json);
+		output.close();
+		final Object read = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+		Assert.assertEquals(json, read);
+		((CompactJsonObject)read).put("d", 2);
+		Assert.assertEquals(3, ((CompactJsonObject)read).size());
+	}
+}
@@ -1,8 +1,13 @@
 /* See: README for this file's copyright, terms, and conditions. */
 package eu.kofis.json_simple;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -237,4 +242,77 @@ public class JsonArrayTest{
 		Assert.assertEquals(null, json.getDouble(4));
 		Assert.assertEquals(null, json.get(4));
 	}
+
+	/** Ensures a JsonArray that keeps its serialized form writes it again until it or a container within it changes,
+	 * and doesn't keep text that went through a value whose changes can't be noticed.
+	 * @throws IOException if the test fails. */
+	@Test
+	public void testSerializationCaching() throws IOException{
+		final JsonObject nested = new JsonObject();
+		final JsonArray deeper = new JsonArray();
+		final JsonArray json = new JsonArray().addChain(1).addChain(nested).addChain(new JsonArray().addChain(deeper));
+		json.setSerializationCached(true);
+		Assert.assertTrue(json.isSerializationCached());
+		Assert.assertEquals("[1,{},[[]]]", Jsoner.serialize(json));
+		final SerializedForm kept = json.getSerializedForm();
+		Assert.assertTrue(kept.isCurrent());
+		Assert.assertEquals("[1,{},[[]]]", json.toJson());
+		Assert.assertEquals("[[1,{},[[]]]]", Jsoner.serialize(new JsonArray().addChain(json)));
+		Assert.assertSame(kept, json.getSerializedForm());
+		/* Changes to the array or a container within it at any depth are noticed. */
+		nested.put("a", 1);
+		Assert.assertFalse(kept.isCurrent());
+		Assert.assertEquals("[1,{\"a\":1},[[]]]", Jsoner.serialize(json));
+		deeper.add(2);
+		Assert.assertEquals("[1,{\"a\":1},[[2]]]", Jsoner.serialize(json));
+		json.set(0, 3);
+		Assert.assertEquals("[3,{\"a\":1},[[2]]]", Jsoner.serialize(json));
+		json.subList(0, 1).set(0, 4);
+		Assert.assertEquals("[4,{\"a\":1},[[2]]]", Jsoner.serialize(json));
+		Collections.swap(json, 0, 1);
+		Assert.assertEquals("[{\"a\":1},4,[[2]]]", Jsoner.serialize(json));
+		final Iterator<Object> elements = json.iterator();
+		elements.next();
+		elements.next();
+		elements.remove();
+		Assert.assertEquals("[{\"a\":1},[[2]]]", Jsoner.serialize(json));
+		/* A container whose text copied the array's kept text notices changes within the array too. */
+		final JsonArray outer = new JsonArray().addChain(json);
+		outer.setSerializationCached(true);
+		Assert.assertEquals("[[{\"a\":1},[[2]]]]", Jsoner.serialize(outer));
+		Assert.assertTrue(outer.getSerializedForm().isCurrent());
+		deeper.add(3);
+		Assert.assertFalse(outer.getSerializedForm().isCurrent());
+		Assert.assertEquals("[[{\"a\":1},[[2,3]]]]", Jsoner.serialize(outer));
+		/* The copy doesn't share the kept form. */
+		final JsonArray copy = (JsonArray)json.clone();
+		copy.add(5);
+		Assert.assertEquals("[{\"a\":1},[[2,3]],5]", Jsoner.serialize(copy));
+		Assert.assertEquals("[{\"a\":1},[[2,3]]]", Jsoner.serialize(json));
+		/* Text that went through a plain list or a Jsonable isn't kept, and neither is the text of the containers it is
+		 * in, since their changes can't be noticed. */
+		final List<Object> plain = new ArrayList<Object>();
+		final int[] count = new int[1];
+		final Jsonable counted = new Jsonable(){
+			@Override
+			public String toJson(){
+				return String.valueOf(count[0]);
+			}
+
+			@Override
+			public void toJson(final Writer writable) throws IOException{
+				writable.write(this.toJson());
+			}
+		};
+		json.add(plain);
+		Assert.assertEquals("[[{\"a\":1},[[2,3]],[]]]", Jsoner.serialize(outer));
+		plain.add(counted);
+		Assert.assertEquals("[[{\"a\":1},[[2,3]],[0]]]", Jsoner.serialize(outer));
+		count[0]++;
+		Assert.assertEquals("[[{\"a\":1},[[2,3]],[1]]]", Jsoner.serialize(outer));
+		Assert.assertFalse(json.getSerializedForm().isCurrent());
+		Assert.assertFalse(outer.getSerializedForm().isCurrent());
+		json.setSerializationCached(false);
+		Assert.assertNull(json.getSerializedForm());
+	}
 }
@@ -0,0 +1,223 @@
+/* See: README for this file's copyright, terms, and conditions. */
+package eu.kofis.json_simple;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Ensures that JsonCodec serializes and deserializes plain old java objects without losing their values. */
+public class JsonCodecTest{
+	@SuppressWarnings("javadoc")
+	static class Base{
+		protected long		id;
+		protected String	name;
+	}
+
+	@SuppressWarnings("javadoc")
+	static enum Colors{
+		BLUE,
+		RED;
+	}
+
+	@SuppressWarnings("javadoc")
+	static final class Record extends Base{
+		static int					instances;
+		private boolean				active;
+		private BigInteger			big;
+		private Colors				color;
+		private Double				missing;
+		private Record				next;
+		private char				initial;
+		private double				score;
+		private float				ratio;
+		private int[]				counts;
+		private List<Object>		tags;
+		private Map<String, Object>	extra;
+		private transient String	ignored	= "ignored";
+
+		private Record(){
+			Record.instances++;
+		}
+	}
+
+	@SuppressWarnings("javadoc")
+	static final class Unbuildable{
+		@SuppressWarnings("unused")
+		private final int value;
+
+		Unbuildable(final int value){
+			this.value = value;
+		}
+	}
+
+	/** Called before each Test Method. */
+	@Before
+	public void setUp(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** Called after each Test method. */
+	@After
+	public void tearDown(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** Ensures objects and values nested deeper than the thread's stack could recurse are read and written from stacks,
+	 * that limits fail the deserialization even in values it skips, and that an object that contains itself fails to
+	 * serialize.
+	 * @throws JsonException if the test fails. */
+	@Test
+	public void testDeepNesting() throws JsonException{
+		final JsonCodec<Record> codec = JsonCodec.forClass(Record.class);
+		final int depth = 200000;
+		final StringBuilder nested = new StringBuilder();
+		for(int i = 0; i < depth; i++){
+			nested.append("{\"next\":");
+		}
+		nested.append("{\"name\":\"last\"}");
+		for(int i = 0; i < depth; i++){
+			nested.append('}');
+		}
+		Record record = codec.deserialize(codec.serialize(codec.deserialize(nested.toString())));
+		for(int i = 0; i < depth; i++){
+			record = record.next;
+		}
+		Assert.assertEquals("last", record.name);
+		final StringBuilder unknown = new StringBuilder("{\"unknown\":");
+		for(int i = 0; i < depth; i++){
+			unknown.append('[');
+		}
+		try{
+			codec.deserialize(unknown.toString());
+			Assert.fail();
+		}catch(final JsonException caught){
+			Assert.assertEquals(JsonException.Problems.UNEXPECTED_TOKEN, caught.getProblemType());
+		}
+		final JsonLimits limits = JsonLimits.NONE.withMaxDepth(3).withMaxEntries(2).withMaxStringChars(4).withMaxNumberChars(5);
+		Assert.assertNotNull(codec.deserialize(new StringReader("{\"tags\":[[1]],\"next\":{\"name\":\"abcd\"}}"), limits));
+		final String[] exceeding = {"{\"unknown\":[[[]]]}", "{\"next\":{\"next\":{\"next\":{}}}}", "{\"tags\":[1,2,3]}", "{\"id\":1,\"name\":\"a\",\"score\":1}", "{\"name\":\"abcde\"}", "{\"name\":\"ab\\ncd\"}", "{\"unknown\":\"abcde\"}", "{\"unknown\":[123456]}"};
+		for(final String text : exceeding){
+			try{
+				codec.deserialize(new StringReader(text), limits);
+				Assert.fail(text);
+			}catch(final JsonException caught){
+				Assert.assertEquals(text, JsonException.Problems.LIMIT_EXCEEDED, caught.getProblemType());
+			}
+		}
+		try{
+			codec.deserialize(new StringReader("{\"id\":12345}"), JsonLimits.NONE.withMaxInputChars(8));
+			Assert.fail();
+		}catch(final JsonException caught){
+			Assert.assertEquals(JsonException.Problems.LIMIT_EXCEEDED, caught.getProblemType());
+		}
+		final Record cycling = new Record();
+		cycling.next = new Record();
+		cycling.next.next = cycling;
+		try{
+			codec.serialize(cycling);
+			Assert.fail();
+		}catch(final IllegalArgumentException caught){
+			/* It contains itself. */
+		}
+	}
+
+	/** Ensures values that don't fit their fields fail the deserialization.
+	 * @throws JsonException if the test fails. */
+	@Test
+	public void testInvalidDeserialization() throws JsonException{
+		final JsonCodec<Record> codec = JsonCodec.forClass(Record.class);
+		final String[] invalids = {"[]", "{\"id\":null}", "{\"id\":\"1\"}", "{\"color\":\"GREEN\"}", "{\"initial\":\"ab\"}", "{\"big\":1.5}", "{\"tags\":{}}", "{\"id\":1}{}", "{\"id\" 1}", "{\"id\":1,}", "{\"unknown\":[1 2]}", "{\"unknown\":{\"a\" 1}}", "{\"counts\":[1e20]}", "{\"counts\":[3.9]}", "{\"id\":9223372036854775808}", "{\"score\":1e400}", "{\"ratio\":1e39}"};
+		for(final String invalid : invalids){
+			try{
+				codec.deserialize(invalid);
+				Assert.fail(invalid);
+			}catch(final JsonException caught){
+				Assert.assertEquals(invalid, JsonException.Problems.UNEXPECTED_TOKEN, caught.getProblemType());
+			}
+		}
+		/* Whole numbers with a fraction of zero still fit. */
+		Assert.assertArrayEquals(new int[]{3}, codec.deserialize("{\"counts\":[3.0]}").counts);
+		try{
+			JsonCodec.forClass(Unbuildable.class);
+			Assert.fail();
+		}catch(final IllegalArgumentException caught){
+			/* There is no constructor without arguments. */
+		}
+	}
+
+	/** Ensures a codec can be registered so Jsoner serializes its class wherever it appears.
+	 * @throws JsonException if the test fails. */
+	@Test
+	public void testRegistration() throws JsonException{
+		final Record record = new Record();
+		record.id = 3;
+		Jsoner.registerSerializer(Record.class, JsonCodec.forClass(Record.class));
+		try{
+			final String serialized = Jsoner.serialize(new JsonArray().addChain(record));
+			Assert.assertEquals("[" + JsonCodec.forClass(Record.class).serialize(record) + "]", serialized);
+			final JsonObject deserialized = (JsonObject)((JsonArray)Jsoner.deserialize(serialized)).get(0);
+			Assert.assertEquals(Integer.valueOf(3), deserialized.getInteger(Jsoner.mintJsonKey("id", null)));
+		}finally{
+			Jsoner.unregisterSerializer(Record.class);
+		}
+	}
+
+	/** Ensures every kind of field survives a round trip and keys without fields are skipped.
+	 * @throws JsonException if the test fails. */
+	@Test
+	public void testRoundTrip() throws JsonException{
+		final JsonCodec<Record> codec = JsonCodec.forClass(Record.class);
+		Assert.assertSame(codec, JsonCodec.forClass(Record.class));
+		Assert.assertEquals(Record.class, codec.getType());
+		final Record record = new Record();
+		record.id = Long.MIN_VALUE;
+		record.name = "a \"name\"";
+		record.active = true;
+		record.big = new BigInteger("123456789012345678901234567890");
+		record.color = Colors.RED;
+		record.initial = '\n';
+		record.score = 0.1;
+		record.ratio = 1.5f;
+		record.counts = new int[]{1, 2, 3};
+		record.tags = new JsonArray().addChain("x").addChain(new BigDecimal("2"));
+		record.next = new Record();
+		record.next.name = "child";
+		final String serialized = codec.serialize(record);
+		Assert.assertEquals("{\"id\":-9223372036854775808,\"name\":\"a \\\"name\\\"\",\"active\":true,\"big\":123456789012345678901234567890,\"color\":\"RED\",\"missing\":null,\"next\":{\"id\":0,\"name\":\"child\",\"active\":false,\"big\":null,\"color\":null,\"missing\":null,\"next\":null,\"initial\":\"\\u0000\",\"score\":0.0,\"ratio\":0.0,\"counts\":null,\"tags\":null,\"extra\":null},\"initial\":\"\\n\",\"score\":0.1,\"ratio\":1.5,\"counts\":[1,2,3],\"tags\":[\"x\",2],\"extra\":null}", serialized);
+		Assert.assertTrue(Jsoner.isValid(serialized));
+		final Record deserialized = codec.deserialize("{\"unknown\":[{\"a\":[1,{}]}]," + serialized.substring(1));
+		Assert.assertEquals(record.id, deserialized.id);
+		Assert.assertEquals(record.name, deserialized.name);
+		Assert.assertEquals(record.active, deserialized.active);
+		Assert.assertEquals(record.big, deserialized.big);
+		Assert.assertEquals(record.color, deserialized.color);
+		Assert.assertNull(deserialized.missing);
+		Assert.assertEquals(record.initial, deserialized.initial);
+		Assert.assertEquals(record.score, deserialized.score, 0);
+		Assert.assertEquals(record.ratio, deserialized.ratio, 0);
+		Assert.assertArrayEquals(record.counts, deserialized.counts);
+		Assert.assertEquals(record.tags, deserialized.tags);
+		Assert.assertNull(deserialized.extra);
+		Assert.assertEquals("child", deserialized.next.name);
+		Assert.assertNull(deserialized.next.next);
+		Assert.assertEquals("ignored", deserialized.ignored);
+		Assert.assertEquals(serialized, codec.serialize(deserialized));
+		final Record partial = codec.deserialize("{\"extra\":{\"k\":[true]},\"missing\":2}");
+		Assert.assertEquals(Double.valueOf(2), partial.missing);
+		Assert.assertEquals(new JsonObject().putChain("k", new JsonArray().addChain(true)), partial.extra);
+		Assert.assertNull(codec.deserialize("null"));
+		Assert.assertEquals("null", codec.serialize(null));
+		final int instances = Record.instances;
+		codec.deserialize("{}");
+		Assert.assertEquals(instances + 1, Record.instances);
+		Assert.assertEquals(Arrays.asList("x", new BigDecimal("2")), deserialized.tags);
+	}
+}
@@ -0,0 +1,119 @@
+/* See: README for this file's copyright, terms, and conditions. */
+package eu.kofis.json_simple;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Ensures that JsonDoubleArray keeps numbers as doubles and behaves like any other list. */
+public class JsonDoubleArrayTest{
+	/** Called before each Test Method. */
+	@Before
+	public void setUp(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** Called after each Test method. */
+	@After
+	public void tearDown(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** Ensures the parser produces JsonDoubleArrays when asked to and falls back for arrays that aren't all numbers.
+	 * @throws JsonException if the test fails. */
+	@Test
+	public void testDeserialization() throws JsonException{
+		final Object deserialized = Jsoner.deserialize(new StringReader("{\"samples\":[1.5,-2,3e2],\"mixed\":[1,\"two\"]}"), JsonDoubleArray.FACTORY);
+		final JsonObject json = (JsonObject)deserialized;
+		final JsonDoubleArray samples = (JsonDoubleArray)json.get("samples");
+		Assert.assertTrue(samples.isPrimitive());
+		Assert.assertArrayEquals(new double[]{1.5, -2, 300}, samples.toDoubleArray(), 0);
+		final JsonDoubleArray mixed = (JsonDoubleArray)json.get("mixed");
+		Assert.assertFalse(mixed.isPrimitive());
+		Assert.assertEquals(Arrays.asList(1.0, "two"), mixed);
+		Assert.assertEquals("{\"mixed\":[1.0,\"two\"],\"samples\":[1.5,-2.0,300.0]}".length(), Jsoner.serialize(json).length());
+	}
+
+	/** Ensures numbers a double would change are kept as they were added instead of being kept as doubles.
+	 * @throws JsonException if the test fails. */
+	@Test
+	public void testExactness() throws JsonException{
+		final Object[] changing = {Long.valueOf(Long.MAX_VALUE), Long.valueOf(9007199254740993L), Integer.valueOf(1), new BigDecimal("12345678901234567890"), new BigDecimal("0.1000000000000000000001"), new BigDecimal("1e400")};
+		for(final Object number : changing){
+			final JsonDoubleArray json = new JsonDoubleArray(new double[]{0.5});
+			json.add(number);
+			Assert.assertFalse(String.valueOf(number), json.isPrimitive());
+			Assert.assertSame(number, json.get(1));
+			Assert.assertTrue(json.contains(number));
+			Assert.assertEquals("[0.5," + Jsoner.serialize(number) + "]", json.toJson());
+		}
+		final JsonDoubleArray exact = new JsonDoubleArray().addChain(new BigDecimal("0.1")).addChain(new BigDecimal("-2")).addChain(1.5f);
+		Assert.assertTrue(exact.isPrimitive());
+		Assert.assertArrayEquals(new double[]{0.1, -2, 1.5}, exact.toDoubleArray(), 0);
+		final JsonDoubleArray deserialized = (JsonDoubleArray)Jsoner.deserialize(new StringReader("[1.5,12345678901234567890]"), JsonDoubleArray.FACTORY);
+		Assert.assertFalse(deserialized.isPrimitive());
+		Assert.assertEquals("[1.5,12345678901234567890]", deserialized.toJson());
+	}
+
+	/** Ensures the elements fall back to objects without losing any of them. */
+	@Test
+	public void testFallback(){
+		final JsonDoubleArray json = new JsonDoubleArray(new double[]{1, 2});
+		json.add(new BigInteger("1").shiftLeft(2000));
+		Assert.assertFalse(json.isPrimitive());
+		json.set(1, null);
+		json.add(0, "zero");
+		Assert.assertEquals(Arrays.asList("zero", 1.0, null, new BigInteger("1").shiftLeft(2000)), json);
+		Assert.assertEquals(1.0, json.getDoubleValue(1), 0);
+		json.clear();
+		json.add(new BigDecimal("0.25"));
+		Assert.assertTrue(json.isPrimitive());
+		Assert.assertEquals(0.25, json.getDoubleValue(0), 0);
+	}
+
+	/** Ensures the list operations work on the doubles. */
+	@Test
+	public void testListOperations(){
+		final JsonDoubleArray json = new JsonDoubleArray();
+		for(int i = 0; i < 10; i++){
+			json.add((double)i);
+		}
+		Assert.assertTrue(json.isPrimitive());
+		Assert.assertEquals(Double.valueOf(4), json.remove(4));
+		json.add(0, 1.5f);
+		Assert.assertEquals(Double.valueOf(1), json.set(2, -1.0));
+		json.trimToSize();
+		Assert.assertEquals(Arrays.asList(1.5, 0.0, -1.0, 2.0, 3.0, 5.0, 6.0, 7.0, 8.0, 9.0), json);
+		Assert.assertEquals(new JsonArray(json), json);
+		final Iterator<Object> elements = json.iterator();
+		elements.next();
+		elements.remove();
+		Assert.assertEquals(9, json.size());
+		Assert.assertTrue(json.contains(9.0));
+		Assert.assertEquals(1, json.indexOf(-1.0));
+		try{
+			json.get(9);
+			Assert.fail();
+		}catch(final IndexOutOfBoundsException caught){
+			/* There are only 9 elements. */
+		}
+	}
+
+	/** Ensures the doubles serialize the same way boxed doubles do. */
+	@Test
+	public void testSerialization(){
+		final JsonDoubleArray json = new JsonDoubleArray(new double[]{0.1, -0.0, 1e300, Double.NaN, Double.NEGATIVE_INFINITY});
+		final String expected = "[0.1,-0.0,1.0E300,null,null]";
+		Assert.assertEquals(expected, json.toJson());
+		Assert.assertEquals(expected, Jsoner.serialize(json));
+		Assert.assertEquals(expected, Jsoner.serialize(new JsonArray(json)));
+		Assert.assertEquals("[\"a\",0.1]", Jsoner.serialize(new JsonDoubleArray().addChain("a").addChain(0.1)));
+	}
+}
@@ -0,0 +1,43 @@
+/* See: README for this file's copyright, terms, and conditions. */
+package eu.kofis.json_simple;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Ensures that JsonLimits are immutable, each with method only changing the limit it is named for. */
+public class JsonLimitsTest{
+	/** Called before each Test Method. */
+	@Before
+	public void setUp(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** Called after each Test method. */
+	@After
+	public void tearDown(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** Ensures the with methods copy the limits, and that negative limits aren't allowed. */
+	@Test
+	public void testWith(){
+		final JsonLimits limits = JsonLimits.NONE.withMaxDepth(1).withMaxEntries(2).withMaxInputChars(3).withMaxNumberChars(4).withMaxStringChars(5);
+		Assert.assertEquals(1, limits.getMaxDepth());
+		Assert.assertEquals(2, limits.getMaxEntries());
+		Assert.assertEquals(3, limits.getMaxInputChars());
+		Assert.assertEquals(4, limits.getMaxNumberChars());
+		Assert.assertEquals(5, limits.getMaxStringChars());
+		Assert.assertEquals(6, limits.withMaxDepth(6).getMaxDepth());
+		Assert.assertEquals(1, limits.getMaxDepth());
+		Assert.assertEquals(Integer.MAX_VALUE, JsonLimits.NONE.getMaxDepth());
+		Assert.assertEquals(Long.MAX_VALUE, JsonLimits.NONE.getMaxInputChars());
+		try{
+			JsonLimits.NONE.withMaxEntries(-1);
+			Assert.fail();
+		}catch(final IllegalArgumentException caught){
+			/* A container can't hold fewer than no entries. */
+		}
+	}
+}
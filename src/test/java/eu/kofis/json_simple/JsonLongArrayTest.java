@@ -0,0 +1,75 @@
+/* See: README for this file's copyright, terms, and conditions. */
+package eu.kofis.json_simple;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Ensures that JsonLongArray keeps whole numbers as longs without losing precision. */
+public class JsonLongArrayTest{
+	/** Called before each Test Method. */
+	@Before
+	public void setUp(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** Called after each Test method. */
+	@After
+	public void tearDown(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** Ensures the parser produces JsonLongArrays when asked to and keeps the precision of arrays that aren't all
+	 * whole numbers.
+	 * @throws JsonException if the test fails. */
+	@Test
+	public void testDeserialization() throws JsonException{
+		final String text = "[[1,-9223372036854775808,9223372036854775807,1e3,2.0],[1,1.5],[9223372036854775808]]";
+		final JsonLongArray json = (JsonLongArray)Jsoner.deserialize(new StringReader(text), JsonLongArray.FACTORY);
+		final JsonLongArray whole = (JsonLongArray)json.get(0);
+		Assert.assertTrue(whole.isPrimitive());
+		Assert.assertArrayEquals(new long[]{1, Long.MIN_VALUE, Long.MAX_VALUE, 1000, 2}, whole.toLongArray());
+		Assert.assertFalse(((JsonLongArray)json.get(1)).isPrimitive());
+		Assert.assertEquals(Arrays.asList(1L, new BigDecimal("1.5")), json.get(1));
+		Assert.assertFalse(((JsonLongArray)json.get(2)).isPrimitive());
+		Assert.assertEquals(Arrays.asList(new BigDecimal("9223372036854775808")), json.get(2));
+		Assert.assertEquals("[[1,-9223372036854775808,9223372036854775807,1000,2],[1,1.5],[9223372036854775808]]", Jsoner.serialize(json));
+	}
+
+	/** Ensures only whole numbers a long holds exactly are kept as longs. */
+	@Test
+	public void testFallback(){
+		JsonLongArray json = new JsonLongArray().addChain(1).addChain((short)2).addChain((byte)3).addChain(BigInteger.TEN).addChain(new BigDecimal("0.00"));
+		Assert.assertTrue(json.isPrimitive());
+		Assert.assertEquals(Arrays.asList(1L, 2L, 3L, 10L, 0L), json);
+		json = new JsonLongArray(new long[]{1});
+		json.add(BigInteger.ONE.shiftLeft(63));
+		Assert.assertFalse(json.isPrimitive());
+		Assert.assertEquals(Arrays.asList(1L, BigInteger.ONE.shiftLeft(63)), json);
+		json = new JsonLongArray(new long[]{1});
+		json.set(0, 1.0);
+		Assert.assertFalse(json.isPrimitive());
+		Assert.assertEquals(1, json.getLongValue(0));
+	}
+
+	/** Ensures the list operations work on the longs. */
+	@Test
+	public void testListOperations(){
+		final JsonLongArray json = new JsonLongArray(new long[]{5, 6, 7});
+		json.add(0, 4);
+		Assert.assertEquals(Long.valueOf(6), json.remove(2));
+		Assert.assertEquals(Long.valueOf(7), json.set(2, 8));
+		Assert.assertEquals(Arrays.asList(4L, 5L, 8L), json);
+		Assert.assertEquals(new JsonArray(json).hashCode(), json.hashCode());
+		Assert.assertEquals("[4,5,8]", json.toJson());
+		json.trimToSize();
+		json.add(9);
+		Assert.assertEquals(9, json.getLongValue(3));
+	}
+}
@@ -1,8 +1,10 @@
 /* See: README for this file's copyright, terms, and conditions. */
 package eu.kofis.json_simple;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -303,4 +305,78 @@ public class JsonObjectTest{
 		final JsonObject json = new JsonObject();
 		json.requireKeys(TestKeys.DNE, TestKeys.DNE2);
 	}
+
+	/** Ensures a JsonObject that keeps its serialized form writes it again until it or a container within it changes,
+	 * including changes made through its views, and doesn't keep text that went through a value whose changes can't be
+	 * noticed.
+	 * @throws IOException if the test fails. */
+	@Test
+	public void testSerializationCaching() throws IOException{
+		final JsonArray nested = new JsonArray();
+		final JsonObject json = new JsonObject();
+		json.put("counted", 0);
+		json.put("nested", nested);
+		json.setSerializationCached(true);
+		final String serialized = Jsoner.serialize(json);
+		final SerializedForm kept = json.getSerializedForm();
+		Assert.assertEquals(serialized, Jsoner.serialize(json));
+		Assert.assertEquals(serialized, json.toJson());
+		Assert.assertSame(kept, json.getSerializedForm());
+		Assert.assertTrue(kept.isCurrent());
+		/* Each change, whether to a container within it or through one of its views, is noticed. */
+		nested.add(1);
+		Assert.assertFalse(kept.isCurrent());
+		Assert.assertTrue(Jsoner.serialize(json).contains("[1]"));
+		json.put("a", 1);
+		Assert.assertTrue(Jsoner.serialize(json).contains("\"a\":1"));
+		for(final Map.Entry<String, Object> entry : json.entrySet()){
+			if(entry.getKey().equals("a")){
+				entry.setValue(2);
+			}
+		}
+		Assert.assertTrue(Jsoner.serialize(json).contains("\"a\":2"));
+		json.keySet().remove("a");
+		Assert.assertFalse(Jsoner.serialize(json).contains("\"a\""));
+		final Iterator<Object> values = json.values().iterator();
+		while(values.next() != nested){
+			/* Skips to the nested array. */
+		}
+		values.remove();
+		Assert.assertEquals("{\"counted\":0}", Jsoner.serialize(json));
+		json.putIfAbsent("b", 2);
+		Assert.assertTrue(Jsoner.serialize(json).contains("\"b\":2"));
+		json.remove("b", 2);
+		Assert.assertEquals("{\"counted\":0}", Jsoner.serialize(json));
+		Assert.assertTrue(json.getSerializedForm().isCurrent());
+		/* The copy doesn't share the kept form. */
+		final JsonObject copy = (JsonObject)json.clone();
+		copy.put("c", 4);
+		Assert.assertTrue(Jsoner.serialize(copy).contains("\"c\":4"));
+		Assert.assertEquals("{\"counted\":0}", Jsoner.serialize(json));
+		Assert.assertNotSame(json.getSerializedForm(), copy.getSerializedForm());
+		/* Entries are only wrapped while something keeps text, which includes the text of a container it is in. */
+		final JsonObject plain = new JsonObject();
+		plain.put("d", 5);
+		Assert.assertSame(plain.entrySet().iterator().next(), plain.entrySet().iterator().next());
+		final JsonObject parent = new JsonObject();
+		parent.put("plain", plain);
+		parent.setSerializationCached(true);
+		Assert.assertEquals("{\"plain\":{\"d\":5}}", Jsoner.serialize(parent));
+		Assert.assertNotSame(plain.entrySet().iterator().next(), plain.entrySet().iterator().next());
+		plain.entrySet().iterator().next().setValue(6);
+		Assert.assertEquals("{\"plain\":{\"d\":6}}", Jsoner.serialize(parent));
+		/* Once the change let go of the text, the entries aren't wrapped again until something keeps text again. */
+		plain.put("d", 7);
+		Assert.assertSame(plain.entrySet().iterator().next(), plain.entrySet().iterator().next());
+		/* Text that went through a map that isn't a JsonObject isn't kept, since its changes can't be noticed. */
+		final Map<String, Object> untracked = new HashMap<String, Object>();
+		untracked.put("x", 1);
+		final JsonObject holder = new JsonObject();
+		holder.put("p", untracked);
+		holder.setSerializationCached(true);
+		Assert.assertEquals("{\"p\":{\"x\":1}}", Jsoner.serialize(holder));
+		untracked.put("x", 2);
+		Assert.assertEquals("{\"p\":{\"x\":2}}", Jsoner.serialize(holder));
+		Assert.assertFalse(holder.getSerializedForm().isCurrent());
+	}
 }
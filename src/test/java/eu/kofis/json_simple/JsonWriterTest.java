@@ -0,0 +1,147 @@
+/* See: README for this file's copyright, terms, and conditions. */
+package eu.kofis.json_simple;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Ensures that JsonWriter writes the JSON it is told to and refuses to write invalid JSON. */
+public class JsonWriterTest{
+	@SuppressWarnings("javadoc")
+	private static enum TestKeys implements JsonKey{
+		QUOTED("a \"quoted\" key"),
+		/* A constant with a body is an instance of a subclass of the enum. */
+		SUBCLASSED("subclassed"){
+			@Override
+			public Object getValue(){
+				return Boolean.TRUE;
+			}
+		};
+
+		private final String key;
+
+		private TestKeys(final String key){
+			this.key = key;
+		}
+
+		@Override
+		public String getKey(){
+			return this.key;
+		}
+
+		@Override
+		public Object getValue(){
+			return null;
+		}
+	}
+
+	/** Called before each Test Method. */
+	@Before
+	public void setUp(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** Called after each Test method. */
+	@After
+	public void tearDown(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** Ensures calls that would write invalid JSON are refused.
+	 * @throws IOException if the test fails. */
+	@Test
+	public void testInvalidStates() throws IOException{
+		try{
+			new JsonWriter(new StringWriter()).beginObject().value(1);
+			Assert.fail();
+		}catch(final IllegalStateException caught){
+			/* Values in an object need a name. */
+		}
+		try{
+			new JsonWriter(new StringWriter()).beginObject().name("a").name("b");
+			Assert.fail();
+		}catch(final IllegalStateException caught){
+			/* The first name needs a value. */
+		}
+		try{
+			new JsonWriter(new StringWriter()).beginObject().name("a").endObject();
+			Assert.fail();
+		}catch(final IllegalStateException caught){
+			/* The name needs a value. */
+		}
+		try{
+			new JsonWriter(new StringWriter()).beginArray().name("a");
+			Assert.fail();
+		}catch(final IllegalStateException caught){
+			/* Arrays don't have names. */
+		}
+		try{
+			new JsonWriter(new StringWriter()).beginArray().endObject();
+			Assert.fail();
+		}catch(final IllegalStateException caught){
+			/* The array has to be ended instead. */
+		}
+		try{
+			new JsonWriter(new StringWriter()).value(1).value(2);
+			Assert.fail();
+		}catch(final IllegalStateException caught){
+			/* The JSON text holds one value. */
+		}
+		try{
+			new JsonWriter(new StringWriter()).endArray();
+			Assert.fail();
+		}catch(final IllegalStateException caught){
+			/* There isn't an array. */
+		}
+		try{
+			new JsonWriter(new StringWriter()).beginArray().close();
+			Assert.fail();
+		}catch(final IllegalStateException caught){
+			/* The array was never ended. */
+		}
+	}
+
+	/** Ensures every kind of value is written the way Jsoner would serialize it.
+	 * @throws IOException if the test fails.
+	 * @throws JsonException if the test fails. */
+	@Test
+	public void testWriting() throws IOException, JsonException{
+		final StringWriter output = new StringWriter();
+		final JsonWriter writer = new JsonWriter(output);
+		writer.beginObject();
+		writer.name("long").value(Long.MIN_VALUE);
+		writer.name("double").value(0.1).name("infinite").value(Double.POSITIVE_INFINITY);
+		writer.name("string").value("line\nbreak").name("null string").value((String)null);
+		writer.name("boolean").value(true).name("null").nullValue();
+		writer.name(TestKeys.QUOTED).beginArray().endArray();
+		writer.name(TestKeys.SUBCLASSED).value(1);
+		writer.name(Jsoner.mintJsonKey("minted", null)).beginObject().endObject();
+		writer.name("nested").beginArray().value(1).beginArray().value(false).endArray().beginObject().name("k").value("v").endObject().endArray();
+		writer.name("object").value(new JsonObject().putChain("a", new JsonArray().addChain(2)));
+		writer.endObject();
+		writer.close();
+		final String expected = "{\"long\":-9223372036854775808,\"double\":0.1,\"infinite\":null,\"string\":\"line\\nbreak\",\"null string\":null,\"boolean\":true,\"null\":null,\"a \\\"quoted\\\" key\":[],\"subclassed\":1,\"minted\":{},\"nested\":[1,[false],{\"k\":\"v\"}],\"object\":{\"a\":[2]}}";
+		Assert.assertEquals(expected, output.toString());
+		Assert.assertTrue(Jsoner.isValid(output.toString()));
+		final StringWriter deep = new StringWriter();
+		final JsonWriter nesting = new JsonWriter(deep);
+		for(int i = 0; i < 100; i++){
+			nesting.beginArray();
+		}
+		for(int i = 0; i < 100; i++){
+			nesting.endArray();
+		}
+		nesting.close();
+		Assert.assertTrue(Jsoner.isValid(deep.toString()));
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final JsonWriter encoding = new JsonWriter(bytes);
+		encoding.value("é中");
+		encoding.flush();
+		Assert.assertEquals("\"é中\"", new String(bytes.toByteArray(), "UTF-8"));
+	}
+}
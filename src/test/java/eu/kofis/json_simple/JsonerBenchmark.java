@@ -0,0 +1,655 @@
+/* See: README for this file's copyright, terms, and conditions. */
+package eu.kofis.json_simple;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+/** Compares the throughput of Jsoner's code paths against each other. It isn't part of the test suite, run its main
+ * method from the test classpath instead:
+ * java -cp target/classes:target/test-classes eu.kofis.json_simple.JsonerBenchmark
+ * @see NumberWriterBenchmark */
+public class JsonerBenchmark{
+	/** The keys JsonBinder binds from. */
+	private static enum BenchmarkKeys implements JsonKey{
+		@SuppressWarnings("javadoc")
+		ID,
+		@SuppressWarnings("javadoc")
+		NAME;
+
+		@Override
+		public String getKey(){
+			return this.name().toLowerCase(Locale.ROOT);
+		}
+
+		@Override
+		public Object getValue(){
+			return null;
+		}
+	}
+
+	/** A unit of work that is timed by the benchmark. */
+	private static interface Operation{
+		/** @return something derived from the work so the JIT can't discard it.
+		 * @throws Exception if the work fails, which fails the benchmark. */
+		Object run() throws Exception;
+	}
+
+	/** A plain old java object for JsonCodec to bind. */
+	private static final class Record{
+		@SuppressWarnings("javadoc")
+		boolean	active;
+		@SuppressWarnings("javadoc")
+		long	id;
+		@SuppressWarnings("javadoc")
+		String	name;
+		@SuppressWarnings("javadoc")
+		double	score;
+
+		@SuppressWarnings("javadoc")
+		Record(){
+			/* JsonCodec instantiates it before setting its fields. */
+		}
+	}
+
+	@SuppressWarnings("javadoc")
+	private static final int		MEASURED_ROUNDS	= 5;
+	@SuppressWarnings("javadoc")
+	private static final int		WARMUP_ROUNDS	= 5;
+	/** Keeps the results of each operation reachable so the work isn't optimized away. */
+	private static volatile Object	sink;
+
+	@SuppressWarnings("javadoc")
+	private JsonerBenchmark(){
+		/* JsonerBenchmark is purely static so instantiation is unnecessary. */
+	}
+
+	/** Builds a document that resembles a typical API payload.
+	 * @param records represents how many objects the document's array contains.
+	 * @return JSON text with a mix of strings, numbers, booleans, nulls, and nesting. */
+	private static String document(final int records){
+		final JsonArray array = new JsonArray();
+		for(int i = 0; i < records; i++){
+			final JsonObject record = new JsonObject();
+			record.put("id", i);
+			record.put("name", "record \"" + i + "\"");
+			record.put("score", i * 1.25);
+			record.put("active", (i % 2) == 0);
+			record.put("parent", null);
+			record.put("tags", new JsonArray().addChain("a").addChain("b").addChain(i));
+			array.add(record);
+		}
+		return Jsoner.serialize(array);
+	}
+
+	/** @return how many bytes of the heap are in use after collecting as much garbage as possible. */
+	private static long usedMemory(){
+		final Runtime runtime = Runtime.getRuntime();
+		for(int i = 0; i < 4; i++){
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/** Runs the operation repeatedly and reports how many times per second it completed.
+	 * @param name represents how the operation is reported.
+	 * @param iterations represents how many times the operation runs per round.
+	 * @param operation represents the work being measured.
+	 * @throws Exception if the operation fails. */
+	private static void measure(final String name, final int iterations, final Operation operation) throws Exception{
+		for(int round = 0; round < WARMUP_ROUNDS; round++){
+			for(int i = 0; i < iterations; i++){
+				JsonerBenchmark.sink = operation.run();
+			}
+		}
+		long best = Long.MAX_VALUE;
+		for(int round = 0; round < MEASURED_ROUNDS; round++){
+			final long start = System.nanoTime();
+			for(int i = 0; i < iterations; i++){
+				JsonerBenchmark.sink = operation.run();
+			}
+			best = Math.min(best, System.nanoTime() - start);
+		}
+		System.out.println(String.format(Locale.ROOT, "%-40s %12.1f ops/s", name, (iterations * 1e9) / best));
+	}
+
+	/** Compares binding a few keys of a large object with a JsonBinder against copying them out of a JsonObject.
+	 * @throws Exception if the benchmark fails. */
+	private static void benchmarkBinding() throws Exception{
+		final JsonObject object = new JsonObject();
+		object.put("id", 12345);
+		object.put("name", "record");
+		object.put("ignored", Jsoner.deserialize(JsonerBenchmark.document(20)));
+		final String text = Jsoner.serialize(object);
+		JsonerBenchmark.measure("JsonObject getters (2 of 3 keys)", 20000, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				final JsonObject read = (JsonObject)Jsoner.deserialize(new StringReader(text));
+				final Record copy = new Record();
+				copy.id = read.getLong(BenchmarkKeys.ID);
+				copy.name = read.getString(BenchmarkKeys.NAME);
+				return copy;
+			}
+		});
+		final JsonBinder<Record, BenchmarkKeys> binder = new JsonBinder<Record, BenchmarkKeys>(){
+			@Override
+			public void bind(final Record bindable, final BenchmarkKeys key, final Object value){
+				switch(key){
+					case NAME:
+						bindable.name = (String)value;
+						break;
+					default:
+						break;
+				}
+			}
+
+			@Override
+			public void bindLong(final Record bindable, final BenchmarkKeys key, final long value){
+				bindable.id = value;
+			}
+
+			@Override
+			public boolean bindsPrimitives(final BenchmarkKeys key){
+				return key == BenchmarkKeys.ID;
+			}
+
+			@Override
+			public Record create(){
+				return new Record();
+			}
+		};
+		JsonerBenchmark.measure("JsonBinder (2 of 3 keys)", 20000, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				return Jsoner.deserialize(new StringReader(text), BenchmarkKeys.class, binder);
+			}
+		});
+	}
+
+	/** Compares serializing a response that embeds the same large subtree each time with and without the subtree
+	 * keeping its serialized form.
+	 * @throws Exception if the benchmark fails. */
+	private static void benchmarkCaching() throws Exception{
+		final JsonArray reference = (JsonArray)Jsoner.deserialize(new StringReader(JsonerBenchmark.document(1000)));
+		final Operation response = new Operation(){
+			private int id;
+
+			@Override
+			public Object run() throws Exception{
+				return Jsoner.serialize(new JsonObject().putChain("id", this.id++).putChain("reference", reference));
+			}
+		};
+		JsonerBenchmark.measure("serialize response", 200, response);
+		reference.setSerializationCached(true);
+		JsonerBenchmark.measure("serialize response (cached subtree)", 200, response);
+		reference.setSerializationCached(false);
+	}
+
+	/** Compares binding objects with a JsonCodec against going through a JsonObject for each of them.
+	 * @throws Exception if the benchmark fails. */
+	private static void benchmarkCodec() throws Exception{
+		final JsonKey id = Jsoner.mintJsonKey("id", null);
+		final JsonKey name = Jsoner.mintJsonKey("name", null);
+		final JsonKey score = Jsoner.mintJsonKey("score", null);
+		final JsonKey active = Jsoner.mintJsonKey("active", null);
+		final JsonCodec<Record> codec = JsonCodec.forClass(Record.class);
+		final Record record = new Record();
+		record.id = 12345;
+		record.name = "record \"12345\"";
+		record.score = 15431.25;
+		record.active = true;
+		final String text = codec.serialize(record);
+		JsonerBenchmark.measure("JsonObject round trip", 200000, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				final JsonObject json = new JsonObject();
+				json.put(id.getKey(), record.id);
+				json.put(name.getKey(), record.name);
+				json.put(score.getKey(), record.score);
+				json.put(active.getKey(), record.active);
+				final JsonObject read = (JsonObject)Jsoner.deserialize(Jsoner.serialize(json));
+				final Record copy = new Record();
+				copy.id = read.getLong(id);
+				copy.name = read.getString(name);
+				copy.score = read.getDouble(score);
+				copy.active = read.getBoolean(active);
+				return copy;
+			}
+		});
+		JsonerBenchmark.measure("JsonCodec round trip", 200000, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				return codec.deserialize(codec.serialize(record));
+			}
+		});
+		JsonerBenchmark.sink = text;
+	}
+
+	/** Compares hashing a typical document's canonical text as a String against feeding it straight to the digest.
+	 * @throws Exception if the benchmark fails. */
+	private static void benchmarkDigest() throws Exception{
+		final Object deserialized = Jsoner.deserialize(new StringReader(JsonerBenchmark.document(1000)));
+		final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		JsonerBenchmark.measure("digest(serializeCanonically)", 200, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				return digest.digest(Jsoner.serializeCanonically(deserialized).getBytes("UTF-8"));
+			}
+		});
+		JsonerBenchmark.measure("digest", 200, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				Jsoner.digest(deserialized, digest);
+				return digest.digest();
+			}
+		});
+	}
+
+	/** Compares deserializing invalid text with a default value against deserializing it without throwing.
+	 * @throws Exception if the benchmark fails. */
+	private static void benchmarkFailures() throws Exception{
+		final String invalid = "{\"id\":1,\"name\":\"record\",\"tags\":[\"a\",x]}";
+		final JsonObject defaultValue = new JsonObject();
+		JsonerBenchmark.measure("deserialize with default (invalid)", 200000, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				return Jsoner.deserialize(invalid, defaultValue);
+			}
+		});
+		JsonerBenchmark.measure("tryDeserializeObject (invalid)", 200000, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				return Jsoner.tryDeserializeObject(invalid);
+			}
+		});
+	}
+
+	/** Compares producing an exactly sized UTF-8 array, like a response with a Content-Length needs, by measuring first
+	 * against encoding a String and copying a grown stream.
+	 * @throws Exception if the benchmark fails. */
+	private static void benchmarkLength() throws Exception{
+		final Object deserialized = Jsoner.deserialize(new StringReader(JsonerBenchmark.document(1000)));
+		JsonerBenchmark.measure("serialize then encode", 200, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				return Jsoner.serialize(deserialized).getBytes("UTF-8");
+			}
+		});
+		JsonerBenchmark.measure("serialize to grown stream", 200, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				Jsoner.serialize(deserialized, bytes);
+				return bytes.toByteArray();
+			}
+		});
+		JsonerBenchmark.measure("serialize to exactly sized array", 200, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				return Jsoner.serializeToUtf8(deserialized);
+			}
+		});
+	}
+
+	/** Compares deserializing a typical document without limits against deserializing it within generous JsonLimits.
+	 * @throws Exception if the benchmark fails. */
+	private static void benchmarkLimits() throws Exception{
+		final String payload = JsonerBenchmark.document(1000);
+		final JsonLimits limits = JsonLimits.NONE.withMaxDepth(64).withMaxEntries(10000).withMaxInputChars(1 << 20).withMaxNumberChars(64).withMaxStringChars(1 << 16);
+		JsonerBenchmark.measure("deserialize", 200, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				return Jsoner.deserialize(new StringReader(payload));
+			}
+		});
+		JsonerBenchmark.measure("deserialize (limited)", 200, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				return Jsoner.deserialize(new StringReader(payload), limits);
+			}
+		});
+	}
+
+	/** Compares the memory and serialization throughput of a numeric series in a JsonArray and a JsonDoubleArray.
+	 * @throws Exception if the benchmark fails. */
+	private static void benchmarkNumericArrays() throws Exception{
+		final StringBuilder series = new StringBuilder("[");
+		for(int i = 0; i < 1000000; i++){
+			series.append(i == 0 ? "" : ",").append(i * 0.001);
+		}
+		final String text = series.append(']').toString();
+		final long baseline = JsonerBenchmark.usedMemory();
+		final Object boxed = Jsoner.deserialize(new StringReader(text));
+		final long boxedBytes = JsonerBenchmark.usedMemory() - baseline;
+		final Object primitive = Jsoner.deserialize(new StringReader(text), JsonDoubleArray.FACTORY);
+		final long primitiveBytes = JsonerBenchmark.usedMemory() - baseline - boxedBytes;
+		System.out.println(String.format(Locale.ROOT, "%-40s %12d bytes", "JsonArray (1M numbers)", boxedBytes));
+		System.out.println(String.format(Locale.ROOT, "%-40s %12d bytes", "JsonDoubleArray (1M numbers)", primitiveBytes));
+		JsonerBenchmark.measure("serialize JsonArray (1M numbers)", 5, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				return Jsoner.serialize(boxed);
+			}
+		});
+		JsonerBenchmark.measure("serialize JsonDoubleArray (1M numbers)", 5, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				return Jsoner.serialize(primitive);
+			}
+		});
+	}
+
+	/** Measures how much heap each kind of map takes to hold the same small JSON objects.
+	 * @throws Exception if the benchmark fails. */
+	private static void benchmarkObjectMemory() throws Exception{
+		final int count = 200000;
+		final String text = "{\"id\":1,\"name\":\"n\",\"active\":true,\"score\":2.5}";
+		final Object[] retained = new Object[count];
+		final long baseline = JsonerBenchmark.usedMemory();
+		for(int i = 0; i < count; i++){
+			retained[i] = Jsoner.deserialize(new StringReader(text));
+		}
+		final long hashed = JsonerBenchmark.usedMemory() - baseline;
+		Arrays.fill(retained, null);
+		final long compactBaseline = JsonerBenchmark.usedMemory();
+		for(int i = 0; i < count; i++){
+			retained[i] = Jsoner.deserialize(new StringReader(text), CompactJsonObject.FACTORY);
+		}
+		final long compact = JsonerBenchmark.usedMemory() - compactBaseline;
+		JsonerBenchmark.sink = retained;
+		System.out.println(String.format(Locale.ROOT, "%-40s %12d bytes/object", "JsonObject (4 keys)", hashed / count));
+		System.out.println(String.format(Locale.ROOT, "%-40s %12d bytes/object", "CompactJsonObject (4 keys)", compact / count));
+		System.out.println(String.format(Locale.ROOT, "%-40s %12d bytes/object", "saved", (hashed - compact) / count));
+	}
+
+	/** Compares serializing a large array of typical records to a stream sequentially against splitting it into ranges
+	 * serialized on a pool's workers.
+	 * @throws Exception if the benchmark fails. */
+	private static void benchmarkParallelSerialization() throws Exception{
+		final JsonArray records = new JsonArray();
+		final JsonArray document = (JsonArray)Jsoner.deserialize(new StringReader(JsonerBenchmark.document(1000)));
+		for(int i = 0; i < 500; i++){
+			records.addAll(document);
+		}
+		final ForkJoinPool pool = new ForkJoinPool();
+		JsonerBenchmark.measure("serialize 500k records", 5, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+				Jsoner.serialize(records, stream);
+				return stream;
+			}
+		});
+		JsonerBenchmark.measure("serializeParallel 500k (" + pool.getParallelism() + " workers)", 5, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+				Jsoner.serializeParallel(records, stream, pool);
+				return stream;
+			}
+		});
+		pool.shutdown();
+	}
+
+	/** Compares pretty printing a typical document's serialized text against laying it out while it is serialized.
+	 * @throws Exception if the benchmark fails. */
+	private static void benchmarkPrettySerialization() throws Exception{
+		final Object deserialized = Jsoner.deserialize(new StringReader(JsonerBenchmark.document(1000)));
+		JsonerBenchmark.measure("prettyPrint(serialize)", 200, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				return Jsoner.prettyPrint(Jsoner.serialize(deserialized));
+			}
+		});
+		JsonerBenchmark.measure("serialize pretty", 200, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				final StringWriter writer = new StringWriter();
+				Jsoner.serialize(deserialized, writer, PrettyPrintOptions.DEFAULT);
+				return writer;
+			}
+		});
+	}
+
+	/** Compares serializing primitive arrays against serializing the same values boxed in a JsonArray.
+	 * @throws Exception if the benchmark fails. */
+	private static void benchmarkPrimitiveArrays() throws Exception{
+		final double[] doubles = new double[100000];
+		final long[] longs = new long[100000];
+		for(int i = 0; i < doubles.length; i++){
+			doubles[i] = Math.sin(i) * i;
+			longs[i] = (long)i * i * i;
+		}
+		final JsonArray boxedDoubles = new JsonArray();
+		final JsonArray boxedLongs = new JsonArray();
+		for(int i = 0; i < doubles.length; i++){
+			boxedDoubles.add(doubles[i]);
+			boxedLongs.add(longs[i]);
+		}
+		JsonerBenchmark.measure("serialize double[] (100k)", 20, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				return Jsoner.serialize(doubles);
+			}
+		});
+		JsonerBenchmark.measure("serialize boxed doubles (100k)", 20, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				return Jsoner.serialize(boxedDoubles);
+			}
+		});
+		JsonerBenchmark.measure("serialize long[] (100k)", 20, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				return Jsoner.serialize(longs);
+			}
+		});
+		JsonerBenchmark.measure("serialize boxed longs (100k)", 20, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				return Jsoner.serialize(boxedLongs);
+			}
+		});
+	}
+
+	/** Compares embedding a payload received as JSON text in an envelope by deserializing it against splicing it in as
+	 * a RawJson.
+	 * @throws Exception if the benchmark fails. */
+	private static void benchmarkRawJson() throws Exception{
+		final String payload = JsonerBenchmark.document(1000);
+		JsonerBenchmark.measure("embed deserialized payload", 200, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				return Jsoner.serialize(new JsonObject().putChain("id", 1).putChain("payload", Jsoner.deserialize(payload)));
+			}
+		});
+		JsonerBenchmark.measure("embed validated RawJson", 200, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				return Jsoner.serialize(new JsonObject().putChain("id", 1).putChain("payload", RawJson.validated(payload)));
+			}
+		});
+		JsonerBenchmark.measure("embed RawJson", 200, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				return Jsoner.serialize(new JsonObject().putChain("id", 1).putChain("payload", new RawJson(payload)));
+			}
+		});
+	}
+
+	/** Compares pretty printing a typical document by lexing its values against copying them verbatim, and minifying it.
+	 * @throws Exception if the benchmark fails. */
+	private static void benchmarkReformatting() throws Exception{
+		final String payload = Jsoner.prettyPrint(JsonerBenchmark.document(1000));
+		JsonerBenchmark.measure("prettyPrint", 200, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				final StringWriter writer = new StringWriter(payload.length());
+				Jsoner.prettyPrint(new StringReader(payload), writer, "\t", "\n");
+				return writer;
+			}
+		});
+		JsonerBenchmark.measure("prettyPrintVerbatim", 200, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				final StringWriter writer = new StringWriter(payload.length());
+				Jsoner.prettyPrintVerbatim(new StringReader(payload), writer, "\t", "\n");
+				return writer;
+			}
+		});
+		JsonerBenchmark.measure("minify", 200, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				final StringWriter writer = new StringWriter(payload.length());
+				Jsoner.minify(new StringReader(payload), writer);
+				return writer;
+			}
+		});
+	}
+
+	/** Measures serializing a typical document, which dispatches on the class of every value it holds.
+	 * @throws Exception if the benchmark fails. */
+	private static void benchmarkSerialization() throws Exception{
+		final Object deserialized = Jsoner.deserialize(new StringReader(JsonerBenchmark.document(1000)));
+		JsonerBenchmark.measure("serialize", 200, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				return Jsoner.serialize(deserialized);
+			}
+		});
+	}
+
+	/** Compares reserializing a document after changing one of its records, with and without its source retained.
+	 * @throws Exception if the benchmark fails. */
+	private static void benchmarkSourceRetention() throws Exception{
+		final String payload = JsonerBenchmark.document(1000);
+		final JsonArray normalized = (JsonArray)Jsoner.deserialize(payload);
+		final JsonArray retained = (JsonArray)Jsoner.deserializeRetainingSource(payload);
+		JsonerBenchmark.measure("serialize edited", 200, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				((JsonObject)normalized.get(500)).put("active", Boolean.TRUE);
+				return Jsoner.serialize(normalized);
+			}
+		});
+		JsonerBenchmark.measure("serialize edited (source retained)", 200, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				((JsonObject)retained.get(500)).put("active", Boolean.TRUE);
+				return Jsoner.serialize(retained);
+			}
+		});
+	}
+
+	/** Compares serializing as UTF-8 through an OutputStreamWriter against serializing straight to the stream.
+	 * @throws Exception if the benchmark fails. */
+	private static void benchmarkStreams() throws Exception{
+		final Object deserialized = Jsoner.deserialize(new StringReader(JsonerBenchmark.document(1000)));
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 20);
+		JsonerBenchmark.measure("serialize to OutputStreamWriter", 200, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				bytes.reset();
+				final Writer writer = new OutputStreamWriter(bytes, "UTF-8");
+				Jsoner.serialize(deserialized, writer);
+				writer.flush();
+				return bytes.size();
+			}
+		});
+		JsonerBenchmark.measure("serialize to OutputStream", 200, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				bytes.reset();
+				Jsoner.serialize(deserialized, bytes);
+				return bytes.size();
+			}
+		});
+	}
+
+	/** Compares validation against full deserialization of the same text.
+	 * @throws Exception if the benchmark fails. */
+	private static void benchmarkValidation() throws Exception{
+		final String valid = JsonerBenchmark.document(1000);
+		final String invalid = valid.substring(0, valid.length() / 2) + "x";
+		JsonerBenchmark.measure("deserialize", 200, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				return Jsoner.deserialize(new StringReader(valid));
+			}
+		});
+		JsonerBenchmark.measure("validate", 200, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				return Jsoner.validate(new StringReader(valid));
+			}
+		});
+		JsonerBenchmark.measure("validate (invalid)", 200, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				return Jsoner.validate(new StringReader(invalid));
+			}
+		});
+	}
+
+	/** Compares writing a document with a JsonWriter against building it as a tree and serializing the tree.
+	 * @throws Exception if the benchmark fails. */
+	private static void benchmarkWriter() throws Exception{
+		JsonerBenchmark.measure("build tree and serialize (1k records)", 200, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				return JsonerBenchmark.document(1000);
+			}
+		});
+		JsonerBenchmark.measure("JsonWriter (1k records)", 200, new Operation(){
+			@Override
+			public Object run() throws Exception{
+				final StringWriter output = new StringWriter();
+				final JsonWriter writer = new JsonWriter(output);
+				writer.beginArray();
+				for(int i = 0; i < 1000; i++){
+					writer.beginObject();
+					writer.name(BenchmarkKeys.ID).value(i);
+					writer.name(BenchmarkKeys.NAME).value("record \"" + i + "\"");
+					writer.name("score").value(i * 1.25);
+					writer.name("active").value((i % 2) == 0);
+					writer.name("parent").nullValue();
+					writer.name("tags").beginArray().value("a").value("b").value(i).endArray();
+					writer.endObject();
+				}
+				writer.endArray();
+				return output.toString();
+			}
+		});
+	}
+
+	/** Runs every benchmark.
+	 * @param args ignored.
+	 * @throws Exception if a benchmark fails. */
+	public static void main(final String[] args) throws Exception{
+		JsonerBenchmark.benchmarkBinding();
+		JsonerBenchmark.benchmarkCaching();
+		JsonerBenchmark.benchmarkCodec();
+		JsonerBenchmark.benchmarkDigest();
+		JsonerBenchmark.benchmarkFailures();
+		JsonerBenchmark.benchmarkLength();
+		JsonerBenchmark.benchmarkLimits();
+		JsonerBenchmark.benchmarkNumericArrays();
+		JsonerBenchmark.benchmarkObjectMemory();
+		JsonerBenchmark.benchmarkParallelSerialization();
+		JsonerBenchmark.benchmarkPrettySerialization();
+		JsonerBenchmark.benchmarkPrimitiveArrays();
+		JsonerBenchmark.benchmarkRawJson();
+		JsonerBenchmark.benchmarkReformatting();
+		JsonerBenchmark.benchmarkSerialization();
+		JsonerBenchmark.benchmarkSourceRetention();
+		JsonerBenchmark.benchmarkStreams();
+		JsonerBenchmark.benchmarkValidation();
+		JsonerBenchmark.benchmarkWriter();
+	}
+}
@@ -1,10 +1,25 @@
 /* See: README for this file's copyright, terms, and conditions. */
 package eu.kofis.json_simple;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.After;
 import org.junit.Assert;
@@ -13,6 +28,27 @@ import org.junit.Test;
 
 /** Ensures that deserialization and serialization hasn't regressed in functionality or breaks its API contract. */
 public class JsonerTest{
+	@SuppressWarnings("javadoc")
+	private static enum TestKeys implements JsonKey{
+		NAME("name"),
+		SIZE("size");
+		private final String key;
+
+		private TestKeys(final String key){
+			this.key = key;
+		}
+
+		@Override
+		public String getKey(){
+			return this.key;
+		}
+
+		@Override
+		public Object getValue(){
+			return null;
+		}
+	}
+
 	/** Called before each Test Method. */
 	@Before
 	public void setUp(){
@@ -89,6 +125,105 @@ public class JsonerTest{
 		Assert.assertEquals("[\"a\",\"b\",\"d\"]", serialized.toString());
 	}
 
+	/** Ensures binders are handed the value of each of their keys and other keys are skipped.
+	 * @throws JsonException if the test fails. */
+	@Test
+	public void testBinderDeserialization() throws JsonException{
+		final JsonBinder<Map<String, Object>, TestKeys> binder = new JsonBinder<Map<String, Object>, TestKeys>(){
+			@Override
+			public void bind(final Map<String, Object> bindable, final TestKeys key, final Object value){
+				switch(key){
+					case NAME:
+						bindable.put("name", value);
+						break;
+					case SIZE:
+						bindable.put("size", ((Number)value).intValue());
+						break;
+					default:
+						Assert.fail();
+				}
+			}
+
+			@Override
+			public Map<String, Object> create(){
+				return new LinkedHashMap<String, Object>();
+			}
+		};
+		final Map<String, Object> bound = Jsoner.deserialize(new StringReader("{\"other\":[{\"name\":\"x\"},\"\\u0041\",1e9],\"size\":3.5,\"name\":\"n\",\"extra\":null}"), TestKeys.class, binder);
+		Assert.assertEquals("{size=3, name=n}", bound.toString());
+		Assert.assertTrue(Jsoner.deserialize(new StringReader("{}"), TestKeys.class, binder).isEmpty());
+		Assert.assertNull(Jsoner.deserialize(new StringReader("null"), TestKeys.class, binder));
+		final String[] invalids = {"[]", "{\"name\":\"n\"", "{\"other\":[1,]}", "{\"name\":1}1", "{1:1}"};
+		for(final String invalid : invalids){
+			try{
+				Jsoner.deserialize(new StringReader(invalid), TestKeys.class, binder);
+				Assert.fail(invalid);
+			}catch(final JsonException caught){
+				/* Skipped values are still checked to be valid JSON. */
+			}
+		}
+	}
+
+	/** Ensures binders that ask for primitives are handed numbers as longs and doubles, and binders that don't override
+	 * the primitive callbacks still get BigDecimals.
+	 * @throws JsonException if the test fails. */
+	@Test
+	public void testBinderPrimitiveDeserialization() throws JsonException{
+		final JsonBinder<Map<String, Object>, TestKeys> binder = new JsonBinder<Map<String, Object>, TestKeys>(){
+			@Override
+			public void bind(final Map<String, Object> bindable, final TestKeys key, final Object value){
+				bindable.put(key.getKey(), value);
+			}
+
+			@Override
+			public void bindDouble(final Map<String, Object> bindable, final TestKeys key, final double value){
+				bindable.put(key.getKey(), Double.valueOf(value));
+			}
+
+			@Override
+			public void bindLong(final Map<String, Object> bindable, final TestKeys key, final long value){
+				bindable.put(key.getKey(), Long.valueOf(value));
+			}
+
+			@Override
+			public boolean bindsPrimitives(final TestKeys key){
+				return key == TestKeys.SIZE;
+			}
+
+			@Override
+			public Map<String, Object> create(){
+				return new LinkedHashMap<String, Object>();
+			}
+		};
+		Assert.assertEquals(Long.valueOf(-123456789012345678L), Jsoner.deserialize(new StringReader("{\"size\":-123456789012345678}"), TestKeys.class, binder).get("size"));
+		Assert.assertEquals(Double.valueOf(3.5), Jsoner.deserialize(new StringReader("{\"size\":3.5}"), TestKeys.class, binder).get("size"));
+		Assert.assertEquals(Double.valueOf(1e9), Jsoner.deserialize(new StringReader("{\"size\":1e9}"), TestKeys.class, binder).get("size"));
+		Assert.assertEquals(Double.valueOf(12345678901234567890.0), Jsoner.deserialize(new StringReader("{\"size\":12345678901234567890}"), TestKeys.class, binder).get("size"));
+		/* Only numbers directly at the key are primitives, other keys and nested numbers are still BigDecimals. */
+		final Map<String, Object> bound = Jsoner.deserialize(new StringReader("{\"name\":7,\"size\":[7]}"), TestKeys.class, binder);
+		Assert.assertEquals(new BigDecimal("7"), bound.get("name"));
+		Assert.assertEquals(new JsonArray(Arrays.asList(new BigDecimal("7"))), bound.get("size"));
+		Assert.assertEquals("text", Jsoner.deserialize(new StringReader("{\"size\":\"text\"}"), TestKeys.class, binder).get("size"));
+		final JsonBinder<Map<String, Object>, TestKeys> defaulted = new JsonBinder<Map<String, Object>, TestKeys>(){
+			@Override
+			public void bind(final Map<String, Object> bindable, final TestKeys key, final Object value){
+				bindable.put(key.getKey(), value);
+			}
+
+			@Override
+			public boolean bindsPrimitives(final TestKeys key){
+				return true;
+			}
+
+			@Override
+			public Map<String, Object> create(){
+				return new LinkedHashMap<String, Object>();
+			}
+		};
+		Assert.assertEquals(new BigDecimal("42"), Jsoner.deserialize(new StringReader("{\"size\":42}"), TestKeys.class, defaulted).get("size"));
+		Assert.assertEquals(new BigDecimal("0.5"), Jsoner.deserialize(new StringReader("{\"size\":0.5}"), TestKeys.class, defaulted).get("size"));
+	}
+
 	/** Ensures booleans are directly deserializable.
 	 * @throws JsonException if the test fails. */
 	@Test
@@ -125,6 +260,208 @@ public class JsonerTest{
 		Assert.assertEquals("false", serialized.toString());
 	}
 
+	/** Ensures canonical serialization sorts keys, normalizes numbers, and escapes strings like the examples of RFC 8785,
+	 * no matter how the values were held or kept their text.
+	 * @throws IOException if the test fails.
+	 * @throws JsonException if the test fails. */
+	@Test
+	public void testCanonicalSerialization() throws IOException, JsonException{
+		final String source = "{\n  \"numbers\": [333333333.33333329, 1E30, 4.50, 2e-3, 0.000000000000000000000000001],\n  \"string\": \"\\u20ac$\\u000F\\u000aA'\\u0042\\u0022\\u005c\\\\\\\"\\/\",\n  \"literals\": [null, true, false]\n}";
+		final String canonical = "{\"literals\":[null,true,false],\"numbers\":[333333333.3333333,1e+30,4.5,0.002,1e-27],\"string\":\"\u20ac$\\u000f\\nA'B\\\"\\\\\\\\\\\"/\"}";
+		Assert.assertEquals(canonical, Jsoner.serializeCanonically(Jsoner.deserialize(source)));
+		Assert.assertEquals(canonical, Jsoner.serializeCanonically(Jsoner.deserializeRetainingSource(source)));
+		Assert.assertEquals(canonical, Jsoner.serializeCanonically(new RawJson(source)));
+		final JsonObject sorted = new JsonObject();
+		sorted.put("\u20ac", "Euro Sign");
+		sorted.put("\r", "Carriage Return");
+		sorted.put("\ufb33", "Hebrew Letter Dalet With Dagesh");
+		sorted.put("1", "One");
+		sorted.put("\ud83d\ude00", "Emoji: Grinning Face");
+		sorted.put("\u0080", "Control");
+		sorted.put("\u00f6", "Latin Small Letter O With Diaeresis");
+		final StringWriter writer = new StringWriter();
+		Jsoner.serializeCanonically(sorted, writer);
+		Assert.assertEquals("{\"\\r\":\"Carriage Return\",\"1\":\"One\",\"\u0080\":\"Control\",\"\u00f6\":\"Latin Small Letter O With Diaeresis\",\"\u20ac\":\"Euro Sign\",\"\ud83d\ude00\":\"Emoji: Grinning Face\",\"\ufb33\":\"Hebrew Letter Dalet With Dagesh\"}", writer.toString());
+		final JsonObject held = new JsonObject();
+		held.put("b", new Object[]{new float[]{0.1f}, new long[]{(1L << 53) + 1}, new char[]{'/'}, new int[]{-1, 2}, 'c', new BigDecimal("1.50")});
+		held.put("a", new JsonDoubleArray(new double[]{-0.0, 1e21}));
+		Assert.assertEquals("{\"a\":[0,1e+21],\"b\":[[0.10000000149011612],[9007199254740992],[\"/\"],[-1,2],\"c\",1.5]}", Jsoner.serializeCanonically(held));
+		try{
+			Jsoner.serializeCanonically(new JsonArray().addChain(Double.NaN));
+			Assert.fail();
+		}catch(final IllegalArgumentException caught){
+			/* Numbers that aren't finite have no canonical JSON. */
+		}
+	}
+
+	/** Ensures deserialization uses the maps and lists of a container factory and finishes each of them.
+	 * @throws JsonException if the test fails. */
+	@Test
+	public void testContainerFactoryDeserialization() throws JsonException{
+		final List<Object> finished = new ArrayList<Object>();
+		final JsonContainerFactory containers = new JsonContainerFactory(){
+			@Override
+			public List<Object> createArray(){
+				return new LinkedList<Object>();
+			}
+
+			@Override
+			public Map<String, Object> createObject(){
+				return new LinkedHashMap<String, Object>();
+			}
+
+			@Override
+			public void finishArray(final List<Object> array, final int elements){
+				Assert.assertEquals(array.size(), elements);
+				finished.add(elements);
+			}
+
+			@Override
+			public void finishObject(final Map<String, Object> object, final int entries){
+				Assert.assertEquals(object.size(), entries);
+				finished.add(entries);
+			}
+		};
+		final Object deserialized = Jsoner.deserialize(new StringReader("{\"z\":[1,2,3],\"y\":{},\"x\":[{\"a\":1}]}"), containers);
+		Assert.assertTrue(deserialized instanceof LinkedHashMap);
+		final Map<?, ?> map = (Map<?, ?>)deserialized;
+		/* The insertion order survives since the factory's map keeps it. */
+		Assert.assertEquals(Arrays.asList("z", "y", "x"), new ArrayList<Object>(map.keySet()));
+		Assert.assertTrue(map.get("z") instanceof LinkedList);
+		Assert.assertTrue(((List<?>)map.get("x")).get(0) instanceof LinkedHashMap);
+		/* Containers are finished in the order they end. */
+		Assert.assertEquals(Arrays.<Object>asList(3, 0, 1, 1, 3), finished);
+		Assert.assertEquals(JsonException.Problems.UNEXPECTED_CHARACTER, Jsoner.tryDeserialize(new StringReader("[x]"), containers).getProblemType());
+		Assert.assertEquals(Jsoner.deserialize("{\"a\":[1]}"), Jsoner.deserialize(new StringReader("{\"a\":[1]}"), containers));
+	}
+
+	/** Ensures registered serializers are used for their classes, subclasses, and interfaces until unregistered.
+	 * @throws IOException if the test fails. */
+	@Test
+	public void testCustomSerialization() throws IOException{
+		final JsonSerializer<java.util.Date> dates = new JsonSerializer<java.util.Date>(){
+			@Override
+			public void serialize(final java.util.Date serializable, final Writer writable) throws IOException{
+				writable.write(Long.toString(serializable.getTime()));
+			}
+		};
+		final JsonSerializer<CharSequence> sequences = new JsonSerializer<CharSequence>(){
+			@Override
+			public void serialize(final CharSequence serializable, final Writer writable) throws IOException{
+				writable.write("\"" + Jsoner.escape(serializable.toString()) + "\"");
+			}
+		};
+		final StringBuilder builder = new StringBuilder("a\"b");
+		final java.util.Date date = new java.util.Date(42);
+		final JsonArray array = new JsonArray().addChain(date).addChain(new java.sql.Date(7)).addChain(builder).addChain("c");
+		try{
+			Jsoner.serialize(array);
+			Assert.fail();
+		}catch(final IllegalArgumentException caught){
+			/* Dates aren't JSON serializable until a serializer is registered for them. */
+		}
+		Jsoner.registerSerializer(java.util.Date.class, dates);
+		Jsoner.registerSerializer(CharSequence.class, sequences);
+		try{
+			Assert.assertEquals("[42,7,\"a\\\"b\",\"c\"]", Jsoner.serialize(array));
+			Assert.assertEquals("{\"d\":42}", Jsoner.serialize(new JsonObject().putChain("d", date)));
+			final StringWriter careless = new StringWriter();
+			Jsoner.serializeCarelessly(date, careless);
+			Assert.assertEquals("42", careless.toString());
+			try{
+				Jsoner.serializeStrictly(date, new StringWriter());
+				Assert.fail();
+			}catch(final IllegalArgumentException caught){
+				/* Like Jsonables, registered serializers aren't trusted by strict serialization. */
+			}
+			/* Strict serialization keeps writing Strings itself even though a serializer is registered for CharSequence. */
+			final StringWriter strict = new StringWriter();
+			Jsoner.serializeStrictly(new JsonArray().addChain("e"), strict);
+			Assert.assertEquals("[\"e\"]", strict.toString());
+			Jsoner.unregisterSerializer(CharSequence.class);
+			try{
+				Jsoner.serialize(builder);
+				Assert.fail();
+			}catch(final IllegalArgumentException caught){
+				/* StringBuilders go back to not being JSON serializable. */
+			}
+		}finally{
+			Jsoner.unregisterSerializer(java.util.Date.class);
+			Jsoner.unregisterSerializer(CharSequence.class);
+		}
+		try{
+			Jsoner.serialize(date);
+			Assert.fail();
+		}catch(final IllegalArgumentException caught){
+			/* The serializer is no longer registered. */
+		}
+	}
+
+	/** Ensures values nested far deeper than the call stack could recurse serialize, that a maximum depth is enforced,
+	 * and that containers that contain themselves fail instead of serializing forever.
+	 * @throws IOException if the test fails. */
+	@Test
+	public void testDeepSerialization() throws IOException{
+		final int depth = 100000;
+		final JsonArray arrays = new JsonArray();
+		JsonArray array = arrays;
+		final JsonObject objects = new JsonObject();
+		JsonObject object = objects;
+		Object[] elements = new Object[]{"x"};
+		for(int i = 1; i < depth; i++){
+			final JsonArray nestedArray = new JsonArray();
+			array.add(nestedArray);
+			array = nestedArray;
+			final JsonObject nestedObject = new JsonObject();
+			object.put("k", nestedObject);
+			object = nestedObject;
+			elements = new Object[]{elements};
+		}
+		final StringBuilder expected = new StringBuilder();
+		for(int i = 0; i < depth; i++){
+			expected.append('[');
+		}
+		for(int i = 0; i < depth; i++){
+			expected.append(']');
+		}
+		Assert.assertEquals(expected.toString(), Jsoner.serialize(arrays));
+		final String serializedObjects = Jsoner.serialize(objects);
+		Assert.assertEquals((depth * 6) - 4, serializedObjects.length());
+		Assert.assertTrue(serializedObjects.startsWith("{\"k\":{\"k\":{"));
+		Assert.assertEquals(serializedObjects.length() - depth - 1, serializedObjects.indexOf("{}"));
+		Assert.assertEquals(expected.toString().replace("[]", "[\"x\"]"), Jsoner.serialize(elements));
+		/* Cached containers gather their text separately while they are serialized, at any depth. */
+		arrays.setSerializationCached(true);
+		array.setSerializationCached(true);
+		Assert.assertEquals(expected.toString(), Jsoner.serialize(arrays));
+		array.add(1);
+		Assert.assertEquals(expected.toString().replace("[]", "[1]"), Jsoner.serialize(arrays));
+		final StringWriter limited = new StringWriter();
+		Jsoner.serialize(new JsonObject().putChain("a", new JsonArray().addChain(new JsonArray())), limited, 3);
+		Assert.assertEquals("{\"a\":[[]]}", limited.toString());
+		try{
+			Jsoner.serialize(new JsonObject().putChain("a", new JsonArray().addChain(new JsonArray())), new StringWriter(), 2);
+			Assert.fail();
+		}catch(final IllegalArgumentException caught){
+			/* The innermost array is nested 3 deep. */
+		}
+		final JsonArray cycle = new JsonArray();
+		cycle.add(new JsonObject().putChain("cycle", cycle));
+		try{
+			Jsoner.serialize(cycle);
+			Assert.fail();
+		}catch(final IllegalArgumentException caught){
+			/* The array contains itself. */
+		}
+		/* The same container can appear more than once as long as it doesn't contain itself. */
+		final JsonArray shared = new JsonArray().addChain("x");
+		JsonArray chain = new JsonArray().addChain(shared).addChain(shared);
+		for(int i = 0; i < 100; i++){
+			chain = new JsonArray().addChain(chain).addChain(shared);
+		}
+		Assert.assertEquals(chain, Jsoner.deserialize(Jsoner.serialize(chain), (JsonArray)null));
+	}
+
 	/** Ensures multiple concatenated JSON values are directly deserializable.
 	 * @throws JsonException if the test fails. */
 	@Test
@@ -180,6 +517,101 @@ public class JsonerTest{
 		Assert.assertEquals(expected, deserialized);
 	}
 
+	/** Ensures digesting a value hashes exactly the UTF-8 bytes of its canonical JSON text.
+	 * @throws IOException if the test fails.
+	 * @throws JsonException if the test fails.
+	 * @throws NoSuchAlgorithmException if the test fails. */
+	@Test
+	public void testDigest() throws IOException, JsonException, NoSuchAlgorithmException{
+		final JsonArray records = new JsonArray();
+		for(int i = 0; i < 5000; i++){
+			records.add(new JsonObject().putChain("name", "caf\u00e9 \ud83d\ude00 " + i).putChain("id", i).putChain("ratio", i / 7.0));
+		}
+		final MessageDigest expected = MessageDigest.getInstance("SHA-256");
+		expected.update(Jsoner.serializeCanonically(records).getBytes("UTF-8"));
+		final MessageDigest digested = MessageDigest.getInstance("SHA-256");
+		Jsoner.digest(records, digested);
+		Assert.assertArrayEquals(expected.digest(), digested.digest());
+		/* Values that are equal as JSON hash the same no matter how they are held or ordered. */
+		Jsoner.digest(Jsoner.deserialize("{\"b\":[1.0,2e0],\"a\":\"\\u0041\"}"), digested);
+		final byte[] hashed = digested.digest();
+		Jsoner.digest(new JsonObject().putChain("a", "A").putChain("b", new int[]{1, 2}), digested);
+		Assert.assertArrayEquals(hashed, digested.digest());
+	}
+
+	/** Ensures each of the JsonLimits fails deserialization with a LIMIT_EXCEEDED problem once it is exceeded, and
+	 * that text within the limits deserializes like it does without them.
+	 * @throws JsonException if the test fails. */
+	@Test
+	public void testLimits() throws JsonException{
+		final String text = "{\"a\":[1,[2.5e3,\"b\\\"c\"]],\"d\":{\"e\":null}}";
+		final JsonLimits fitting = JsonLimits.NONE.withMaxDepth(3).withMaxEntries(2).withMaxInputChars(text.length()).withMaxNumberChars(5).withMaxStringChars(3);
+		Assert.assertEquals(Jsoner.deserialize(text), Jsoner.deserialize(new StringReader(text), fitting));
+		Assert.assertEquals(JsonException.Problems.LIMIT_EXCEEDED, Jsoner.tryDeserialize(new StringReader(text), fitting.withMaxDepth(2)).getProblemType());
+		Assert.assertEquals(JsonException.Problems.LIMIT_EXCEEDED, Jsoner.tryDeserialize(new StringReader(text), fitting.withMaxEntries(1)).getProblemType());
+		Assert.assertEquals(JsonException.Problems.LIMIT_EXCEEDED, Jsoner.tryDeserialize(new StringReader(text), fitting.withMaxNumberChars(4)).getProblemType());
+		Assert.assertEquals(JsonException.Problems.LIMIT_EXCEEDED, Jsoner.tryDeserialize(new StringReader(text), fitting.withMaxStringChars(2)).getProblemType());
+		final JsonResult<Object> input = Jsoner.tryDeserialize(new StringReader(text), fitting.withMaxInputChars(text.length() - 1));
+		Assert.assertEquals(JsonException.Problems.LIMIT_EXCEEDED, input.getProblemType());
+		Assert.assertEquals(text.length() - 1, input.getPosition());
+		/* Text cut off at the limit can still be valid JSON, it fails anyway. */
+		Assert.assertEquals(JsonException.Problems.LIMIT_EXCEEDED, Jsoner.tryDeserialize(new StringReader("12345"), JsonLimits.NONE.withMaxInputChars(3)).getProblemType());
+		/* Strings are limited by their unescaped length, and fail before a long one is copied into a String. */
+		Assert.assertEquals("\"\"", Jsoner.deserialize(new StringReader("\"\\\"\\\"\""), JsonLimits.NONE.withMaxStringChars(2)));
+		final StringBuilder longString = new StringBuilder("[\"");
+		for(int i = 0; i < 100000; i++){
+			longString.append('x');
+		}
+		final JsonResult<Object> string = Jsoner.tryDeserialize(new StringReader(longString.append("\"]").toString()), JsonLimits.NONE.withMaxStringChars(10));
+		Assert.assertEquals(JsonException.Problems.LIMIT_EXCEEDED, string.getProblemType());
+		Assert.assertEquals(2, string.getPosition());
+		/* Escapes count toward the limit as they are lexed too, so a string of them fails long before it ends. */
+		final String[] escapes = {"\\n", "\\\"", "\\\\", "\\/", "\\u0041"};
+		for(final String escape : escapes){
+			final StringBuilder escaped = new StringBuilder("[\"");
+			for(int i = 0; i < 100000; i++){
+				escaped.append(escape);
+			}
+			final JsonResult<Object> result = Jsoner.tryDeserialize(new StringReader(escaped.toString()), JsonLimits.NONE.withMaxStringChars(10));
+			Assert.assertEquals(escape, JsonException.Problems.LIMIT_EXCEEDED, result.getProblemType());
+			Assert.assertEquals(escape, 2 + (10 * escape.length()), result.getPosition());
+		}
+		/* A long string or number fails after the lexer read at most its buffer past the limit, instead of reading all of
+		 * it first. */
+		final StringBuilder longNumber = new StringBuilder("[1");
+		for(int i = 0; i < 1000000; i++){
+			longNumber.append('0');
+		}
+		longString.setLength(0);
+		longString.append("[\"");
+		for(int i = 0; i < 1000000; i++){
+			longString.append('x');
+		}
+		final String[] longs = {longNumber.append(']').toString(), longString.append("\"]").toString()};
+		for(final String lexable : longs){
+			final int[] read = new int[1];
+			final Reader counted = new StringReader(lexable){
+				@Override
+				public int read(final char[] buffer, final int offset, final int length) throws IOException{
+					final int returnable = super.read(buffer, offset, length);
+					read[0] += Math.max(returnable, 0);
+					return returnable;
+				}
+			};
+			final JsonResult<Object> result = Jsoner.tryDeserialize(counted, JsonLimits.NONE.withMaxStringChars(10).withMaxNumberChars(10));
+			Assert.assertEquals(JsonException.Problems.LIMIT_EXCEEDED, result.getProblemType());
+			Assert.assertTrue(String.valueOf(read[0]), read[0] <= (1 << 15));
+		}
+		try{
+			Jsoner.deserialize(new StringReader("[[[[]]]]"), JsonLimits.NONE.withMaxDepth(3));
+			Assert.fail();
+		}catch(final JsonException caught){
+			Assert.assertEquals(JsonException.Problems.LIMIT_EXCEEDED, caught.getProblemType());
+			Assert.assertEquals(3, caught.getPosition());
+			Assert.assertTrue(caught.getMessage().contains("nesting depth (3)"));
+		}
+	}
+
 	/** Ensures booleans, JsonArray, JsonObject, null, numbers, and Strings are deserializable while inside a JsonObject
 	 * or JsonArray.
 	 * @throws JsonException if the test fails. */
@@ -386,6 +818,11 @@ public class JsonerTest{
 		serialized = new StringWriter();
 		Jsoner.serializeCarelessly(new BigDecimal("123456789098765432101234567890987654321"), serialized);
 		Assert.assertEquals(new BigDecimal("123456789098765432101234567890987654321").toString(), serialized.toString());
+		/* Whole numbers are formatted without their toString, which must not change how they look. */
+		final Object[] wholes = {new BigDecimal("0"), new BigDecimal("-999999999999999999"), new BigDecimal("1000000000000000000"), new BigDecimal("-9223372036854775808"), new BigDecimal("1E+3"), new BigDecimal("10.0"), Long.MIN_VALUE, Integer.MIN_VALUE, (short)-12345, (byte)-128, 42};
+		for(final Object whole : wholes){
+			Assert.assertEquals(whole.toString(), Jsoner.serialize(whole));
+		}
 	}
 
 	/** Ensures objects are directly deserializable.
@@ -450,12 +887,316 @@ public class JsonerTest{
 		Assert.assertEquals("{}", serialized.toString());
 	}
 
+	/** Ensures serializing in parallel writes exactly the bytes serializing sequentially does, whether or not arrays
+	 * and objects are split, and fails like it does.
+	 * @throws IOException if the test fails.
+	 * @throws JsonException if the test fails. */
+	@Test
+	public void testParallelSerialization() throws IOException, JsonException{
+		final JsonArray records = new JsonArray();
+		final Map<String, Object> index = new LinkedHashMap<String, Object>();
+		for(int i = 0; i < 10000; i++){
+			final JsonObject record = new JsonObject().putChain("id", i).putChain("name", "caf\u00e9 \ud83d\ude00 \ud83d" + i).putChain("ratio", i / 7.0);
+			records.add(record);
+			index.put("k" + i, i % 3 == 0 ? null : record);
+		}
+		final JsonObject document = new JsonObject().putChain("records", records).putChain("index", index).putChain("values", Arrays.asList(new Object[]{1, new long[]{2, 3}, records.subList(0, 9).toArray(), "\u2028"}));
+		document.put("retained", Jsoner.deserializeRetainingSource("[ 1.50, {\"a\" : 2e3} ]"));
+		final ForkJoinPool pool = new ForkJoinPool(4);
+		try{
+			for(final int threshold : new int[]{1, 7, 4096, Integer.MAX_VALUE}){
+				for(final Object value : new Object[]{document, records, records.toArray(), index, "scalar", null}){
+					final ByteArrayOutputStream sequential = new ByteArrayOutputStream();
+					Jsoner.serialize(value, sequential);
+					final ByteArrayOutputStream parallel = new ByteArrayOutputStream();
+					Jsoner.serializeParallel(value, parallel, pool, threshold);
+					Assert.assertArrayEquals(sequential.toByteArray(), parallel.toByteArray());
+				}
+			}
+			final ByteArrayOutputStream parallel = new ByteArrayOutputStream();
+			Jsoner.serializeParallel(document, parallel, pool);
+			Assert.assertArrayEquals(Jsoner.serializeToUtf8(document), parallel.toByteArray());
+			records.add(new Object());
+			try{
+				Jsoner.serializeParallel(records, new ByteArrayOutputStream(), pool, 16);
+				Assert.fail();
+			}catch(final IllegalArgumentException caught){
+				/* The value that isn't serializable was serialized on a worker. */
+			}
+			try{
+				Jsoner.serializeParallel(records, new ByteArrayOutputStream(), pool, 0);
+				Assert.fail();
+			}catch(final IllegalArgumentException caught){
+				/* The threshold has to be positive. */
+			}
+		}finally{
+			pool.shutdown();
+		}
+	}
+
 	/** Ensures arrays and objects can be printed in an easier to read format. */
 	@Test
 	public void testPrettyPrint(){
 		Assert.assertEquals("[\n\t0,\n\t1,\n\t2,\n\t{\n\t\t\"k0\":\"v0\",\n\t\t\"k1\":\"v1\"\n\t},\n\t[\n\t\t[\n\t\t\t\"\",\n\t\t\t\"\"\n\t\t]\n\t],\n\tnull,\n\ttrue,\n\tfalse\n]", Jsoner.prettyPrint("[0,1,2,{\"k0\":\"v0\",\"k1\":\"v1\"},[[\"\",\"\"]],null,true,false]"));
 	}
 
+	/** Ensures serializing with PrettyPrintOptions lays out the text like pretty printing the serialized text does,
+	 * sorting keys and writing short arrays on one line when asked to.
+	 * @throws IOException if the test fails.
+	 * @throws JsonException if the test fails. */
+	@Test
+	public void testPrettySerialization() throws IOException, JsonException{
+		final JsonObject json = new JsonObject();
+		json.put("b", new JsonArray().addChain(1).addChain("two").addChain(null).addChain(true));
+		json.put("a", new int[]{3, 4});
+		json.put("c", new JsonObject().putChain("d", new double[]{0.5}).putChain("e", new Object[]{"f", new JsonArray().addChain(5)}));
+		json.put("g", new JsonDoubleArray(new double[]{1.5, 2}));
+		StringWriter pretty = new StringWriter();
+		Jsoner.serialize(json, pretty, PrettyPrintOptions.DEFAULT);
+		Assert.assertEquals(Jsoner.prettyPrint(Jsoner.serialize(json)), pretty.toString());
+		/* The text a container was deserialized from isn't laid out, so it is serialized again instead. */
+		final String source = "{ \"a\" : [1.50, {\"b\":\"\\u00e9\"}] }";
+		pretty = new StringWriter();
+		Jsoner.serialize(Jsoner.deserializeRetainingSource(source), pretty, PrettyPrintOptions.DEFAULT);
+		Assert.assertEquals(Jsoner.prettyPrint(Jsoner.serialize(Jsoner.deserialize(source))), pretty.toString());
+		final PrettyPrintOptions options = PrettyPrintOptions.DEFAULT.withIndentation("  ").withNewline("\r\n").withSortedKeys(true).withMaxInlineElements(2);
+		pretty = new StringWriter();
+		Jsoner.serialize(json, pretty, options);
+		Assert.assertEquals("{\r\n  \"a\":[3,4],\r\n  \"b\":[\r\n    1,\r\n    \"two\",\r\n    null,\r\n    true\r\n  ],\r\n  \"c\":{\r\n    \"d\":[0.5],\r\n    \"e\":[\r\n      \"f\",\r\n      [5]\r\n    ]\r\n  },\r\n  \"g\":[1.5,2.0]\r\n}", pretty.toString());
+		Assert.assertEquals(Jsoner.deserialize(Jsoner.serialize(json)), Jsoner.deserialize(pretty.toString()));
+		pretty = new StringWriter();
+		Jsoner.serialize(new JsonObject().putChain("empty", new JsonArray()).putChain("none", new JsonObject()), pretty, PrettyPrintOptions.DEFAULT.withSortedKeys(true));
+		Assert.assertEquals("{\n\t\"empty\":[],\n\t\"none\":{}\n}", pretty.toString());
+		try{
+			Jsoner.serialize(json, new StringWriter(), (PrettyPrintOptions)null);
+			Assert.fail();
+		}catch(final IllegalArgumentException caught){
+			/* The options are required. */
+		}
+	}
+
+	/** Ensures primitive arrays serialize exactly like the same values boxed in a JsonArray, including arrays long
+	 * enough to be written in several parts. */
+	@Test
+	public void testPrimitiveArraySerialization(){
+		final JsonArray expected = new JsonArray();
+		final long[] longs = {0, -1, 9, 10, -99, 100, Long.MAX_VALUE, Long.MIN_VALUE, Integer.MIN_VALUE, 1000000000000000000L};
+		for(final long value : longs){
+			expected.add(value);
+		}
+		Assert.assertEquals(Jsoner.serialize(expected), Jsoner.serialize(longs));
+		final int[] ints = new int[5000];
+		final double[] doubles = new double[5000];
+		final float[] floats = new float[5000];
+		final short[] shorts = new short[5000];
+		final byte[] bytes = new byte[5000];
+		final boolean[] booleans = new boolean[5000];
+		final char[] chars = new char[5000];
+		final JsonArray[] boxed = new JsonArray[7];
+		for(int i = 0; i < boxed.length; i++){
+			boxed[i] = new JsonArray();
+		}
+		for(int i = 0; i < 5000; i++){
+			ints[i] = (i * 104729) - Integer.MAX_VALUE;
+			doubles[i] = (i % 7) == 0 ? Double.NaN : -Double.MAX_VALUE / (i + 1);
+			floats[i] = (i % 11) == 0 ? Float.POSITIVE_INFINITY : Float.MIN_VALUE * i;
+			shorts[i] = (short)(i * 31);
+			bytes[i] = (byte)i;
+			booleans[i] = (i % 3) == 0;
+			chars[i] = (char)(i * 13);
+			boxed[0].add(ints[i]);
+			boxed[1].add(doubles[i]);
+			boxed[2].add(floats[i]);
+			boxed[3].add(shorts[i]);
+			boxed[4].add(bytes[i]);
+			boxed[5].add(booleans[i]);
+			boxed[6].add(String.valueOf(chars[i]));
+		}
+		Assert.assertEquals(Jsoner.serialize(boxed[0]), Jsoner.serialize(ints));
+		Assert.assertEquals(Jsoner.serialize(boxed[1]), Jsoner.serialize(doubles));
+		Assert.assertEquals(Jsoner.serialize(boxed[2]), Jsoner.serialize(floats));
+		Assert.assertEquals(Jsoner.serialize(boxed[3]), Jsoner.serialize(shorts));
+		Assert.assertEquals(Jsoner.serialize(boxed[4]), Jsoner.serialize(bytes));
+		Assert.assertEquals(Jsoner.serialize(boxed[5]), Jsoner.serialize(booleans));
+		Assert.assertEquals(Jsoner.serialize(boxed[6]), Jsoner.serialize(chars));
+		Assert.assertEquals("[]", Jsoner.serialize(new double[0]));
+		Assert.assertEquals("[\"\"]", Jsoner.serialize(new char[0]));
+	}
+
+	/** Ensures a primitive array too long for its buffer's size to be computed in an int is still written in parts. */
+	@Test
+	public void testPrimitiveArraySerializationOfHugeArrays(){
+		/* A buffer sized to hold every element and the brackets would need 2^31 chars, more than an int counts. */
+		final byte[] bytes = new byte[Integer.MAX_VALUE / 32];
+		Assert.assertEquals((2L * bytes.length) + 1, Jsoner.serializedLength(bytes));
+	}
+
+	/** Ensures verbatim pretty printing matches pretty printing except that values are copied as they were written, and
+	 * that minifying drops every bit of whitespace and comments outside of strings.
+	 * @throws IOException if the test fails.
+	 * @throws JsonException if the test fails. */
+	@Test
+	public void testReformatting() throws IOException, JsonException{
+		final String normalized = "[0,1,2,{\"k0\":\"v0\",\"k1\":\"v1\"},[[\"\",\"\"]],{},[],null,true,false]";
+		final StringWriter verbatim = new StringWriter();
+		Jsoner.prettyPrintVerbatim(new StringReader(normalized), verbatim, "\t", "\n");
+		Assert.assertEquals(Jsoner.prettyPrint(normalized), verbatim.toString());
+		final StringWriter minified = new StringWriter();
+		Jsoner.minify(new StringReader(verbatim.toString()), minified);
+		Assert.assertEquals(normalized, minified.toString());
+		final String written = " { \"a b\" : [ 1.50 , 2e3 , -0.0 ] ,\r\n /* comment */ \"\\u00e9\\\" ]\" : \"/*\" // comment\n }\n";
+		minified.getBuffer().setLength(0);
+		Jsoner.minify(new StringReader(written), minified);
+		Assert.assertEquals("{\"a b\":[1.50,2e3,-0.0],\"\\u00e9\\\" ]\":\"/*\"}", minified.toString());
+		final StringWriter pretty = new StringWriter();
+		Jsoner.prettyPrintVerbatim(new StringReader(written), pretty, "  ", "\n");
+		Assert.assertEquals("{\n  \"a b\":[\n    1.50,\n    2e3,\n    -0.0\n  ],\n  \"\\u00e9\\\" ]\":\"/*\"\n}", pretty.toString());
+		try{
+			Jsoner.minify(new StringReader("[1, #]"), new StringWriter());
+			Assert.fail();
+		}catch(final JsonException caught){
+			Assert.assertEquals(JsonException.Problems.UNEXPECTED_CHARACTER, caught.getProblemType());
+			Assert.assertEquals(4, caught.getPosition());
+		}
+	}
+
+	/** Ensures measuring a value counts exactly the chars and UTF-8 bytes serializing it produces, and the exactly sized
+	 * arrays hold exactly that.
+	 * @throws IOException if the test fails. */
+	@Test
+	public void testSerializedLength() throws IOException{
+		final JsonObject json = new JsonObject();
+		json.put("ascii", "plain text");
+		json.put("unicode", "caf\u00e9 \u4e2d\u6587 \ud83d\ude00");
+		json.put("surrogates", "\ud83d\ud83d\ude00\ude00 \ud83d");
+		json.put("numbers", new JsonArray().addChain(1).addChain(2.5).addChain(new double[]{0.1, -3}).addChain(Long.MIN_VALUE));
+		json.put("escapes", "\"\\\n\u0001/");
+		json.put("nothing", null);
+		final String expected = Jsoner.serialize(json);
+		Assert.assertEquals(expected.length(), Jsoner.serializedLength(json));
+		Assert.assertEquals(expected.getBytes("UTF-8").length, Jsoner.serializedUtf8Length(json));
+		Assert.assertArrayEquals(expected.toCharArray(), Jsoner.serializeToChars(json));
+		Assert.assertArrayEquals(expected.getBytes("UTF-8"), Jsoner.serializeToUtf8(json));
+		Assert.assertEquals(2, Jsoner.serializedLength(""));
+		Assert.assertEquals(0, Jsoner.serializeToUtf8(new JsonArray()).length - 2);
+		final Jsonable growing = new Jsonable(){
+			private final StringBuilder serialized = new StringBuilder();
+
+			@Override
+			public String toJson(){
+				return this.serialized.append('1').toString();
+			}
+
+			@Override
+			public void toJson(final Writer writable) throws IOException{
+				writable.write(this.toJson());
+			}
+		};
+		try{
+			Jsoner.serializeToUtf8(growing);
+			Assert.fail();
+		}catch(final IllegalStateException caught){
+			/* It was measured as 1 but serialized as 11. */
+		}
+		try{
+			Jsoner.serializeToChars(growing);
+			Assert.fail();
+		}catch(final IllegalStateException caught){
+			/* It was measured as 111 but serialized as 1111. */
+		}
+	}
+
+	/** Ensures containers deserialized while retaining the source serialize as the text they came from until they or a
+	 * container within them change.
+	 * @throws IOException if the test fails.
+	 * @throws JsonException if the test fails. */
+	@Test
+	public void testSourceRetention() throws IOException, JsonException{
+		final String source = "{ \"a\" : [1.50, {\"b\":\"\\u00e9\"}],\n \"c\": {\"d\": 2e3} }";
+		final JsonObject root = (JsonObject)Jsoner.deserializeRetainingSource(source);
+		final JsonArray a = (JsonArray)root.get("a");
+		final JsonObject b = (JsonObject)a.get(1);
+		final JsonObject c = (JsonObject)root.get("c");
+		Assert.assertTrue(root.isSourceRetained() && a.isSourceRetained() && b.isSourceRetained() && c.isSourceRetained());
+		Assert.assertEquals(source, Jsoner.serialize(root));
+		/* Serializing strictly never copies the text. */
+		final StringWriter strictly = new StringWriter();
+		Jsoner.serializeStrictly(root, strictly);
+		Assert.assertEquals("{\"a\":[1.50,{\"b\":\"\u00e9\"}],\"c\":{\"d\":2E+3}}", strictly.toString());
+		Assert.assertEquals(Jsoner.deserialize(source), root);
+		/* Only the changed container and the ones it is in are serialized again. */
+		c.put("d", 3);
+		Assert.assertFalse(root.isSourceRetained() || c.isSourceRetained());
+		Assert.assertTrue(a.isSourceRetained() && b.isSourceRetained());
+		final String serialized = Jsoner.serialize(root);
+		Assert.assertTrue(serialized.contains("\"a\":[1.50, {\"b\":\"\\u00e9\"}]"));
+		Assert.assertTrue(serialized.contains("\"c\":{\"d\":3}"));
+		b.entrySet().iterator().next().setValue("e");
+		Assert.assertFalse(a.isSourceRetained() || b.isSourceRetained());
+		Assert.assertTrue(Jsoner.serialize(root).contains("\"a\":[1.50,{\"b\":\"e\"}]"));
+		/* Containers that weren't deserialized while retaining the source don't have any. */
+		Assert.assertFalse(((JsonObject)Jsoner.deserialize(source)).isSourceRetained());
+		Assert.assertFalse(((JsonArray)a.clone()).isSourceRetained());
+		Assert.assertEquals(new BigDecimal("5"), Jsoner.deserializeRetainingSource(" 5 "));
+		Assert.assertNull(Jsoner.deserializeRetainingSource(null));
+		try{
+			Jsoner.deserializeRetainingSource("[1,\n x]");
+			Assert.fail();
+		}catch(final JsonException caught){
+			Assert.assertEquals(JsonException.Problems.UNEXPECTED_CHARACTER, caught.getProblemType());
+			Assert.assertEquals(2, caught.getLine());
+		}
+	}
+
+	/** Ensures containers whose text isn't strict JSON don't retain it, and neither do the containers they are in,
+	 * while the strict containers around them still do.
+	 * @throws JsonException if the test fails. */
+	@Test
+	public void testSourceRetentionOfLenientText() throws JsonException{
+		final String source = "{\"a\":[1, /* c */ 2], \"b\" \"x\", \"c\":[,], \"d\":[1,,2], \"e\":{\"f\" : [ 3 ]}}";
+		final JsonObject root = (JsonObject)Jsoner.deserializeRetainingSource(source);
+		Assert.assertFalse(root.isSourceRetained());
+		Assert.assertFalse(((JsonArray)root.get("a")).isSourceRetained());
+		Assert.assertFalse(((JsonArray)root.get("c")).isSourceRetained());
+		Assert.assertFalse(((JsonArray)root.get("d")).isSourceRetained());
+		Assert.assertTrue(((JsonObject)root.get("e")).isSourceRetained());
+		Assert.assertEquals(Jsoner.serialize(Jsoner.deserialize(source)).replace("{\"f\":[3]}", "{\"f\" : [ 3 ]}"), Jsoner.serialize(root));
+		final String[] lenient = {"[1, // c\n 2]", "[01]", "[\"\\q\"]", "[\"\t\"]", "{\"a\"::1}", "[1 2]", "{\"a\":1,}", "[,1]"};
+		for(final String text : lenient){
+			final JsonArray wrapped = (JsonArray)Jsoner.deserializeRetainingSource("[" + text + "]");
+			Assert.assertFalse(text, wrapped.isSourceRetained());
+			Assert.assertEquals(text, Jsoner.serialize(Jsoner.deserialize("[" + text + "]")), Jsoner.serialize(wrapped));
+		}
+		/* Comments and whitespace outside of a container aren't part of its text. */
+		Assert.assertTrue(((JsonArray)Jsoner.deserializeRetainingSource("/* c */ [1, 2] // c")).isSourceRetained());
+	}
+
+	/** Ensures serializing as UTF-8 to a stream or buffer writes the bytes of what serializing to a writer writes.
+	 * @throws IOException if the test fails. */
+	@Test
+	public void testStreamSerialization() throws IOException{
+		final JsonObject json = new JsonObject();
+		json.put("ascii", "plain text");
+		json.put("unicode", "caf\u00e9 \u4e2d\u6587 \ud83d\ude00");
+		json.put("numbers", new JsonArray().addChain(1).addChain(2.5).addChain(new double[]{0.1, -3}));
+		json.put("escapes", "\"\\\n\u0001");
+		final byte[] expected = Jsoner.serialize(json).getBytes("UTF-8");
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		Jsoner.serialize(json, stream);
+		Assert.assertArrayEquals(expected, stream.toByteArray());
+		final ByteBuffer buffer = ByteBuffer.allocate(expected.length + 3);
+		buffer.put((byte)'x');
+		Jsoner.serialize(json, buffer);
+		Assert.assertEquals(expected.length + 1, buffer.position());
+		Assert.assertArrayEquals(expected, Arrays.copyOfRange(buffer.array(), 1, expected.length + 1));
+		try{
+			Jsoner.serialize(json, ByteBuffer.allocate(expected.length - 1));
+			Assert.fail();
+		}catch(final BufferOverflowException caught){
+			/* The buffer doesn't have room for the last byte. */
+		}
+	}
+
 	/** Ensures Strings are directly deserializable.
 	 * @throws JsonException if the test fails. */
 	@Test
@@ -484,4 +1225,99 @@ public class JsonerTest{
 		Jsoner.serializeCarelessly("ABCDEFGHIJKLMNOPQRSTUVWXYZ<>:{}abcdefghijklmnopqrstuvwxyz,.;'[]/`123456789-=~!@#$%^&*_+()\r\b\n\t\f\\К௪ၐᎺអὲ⍚❂⼒ぐ㋺ꁐꁚꑂ\u4e2d", serialized);
 		Assert.assertEquals("\"ABCDEFGHIJKLMNOPQRSTUVWXYZ<>:{}abcdefghijklmnopqrstuvwxyz,.;'[]\\/`123456789-=~!@#$%^&*_+()\\r\\b\\n\\t\\f\\\\К௪ၐᎺអὲ⍚❂⼒ぐ㋺ꁐꁚꑂ中\"", serialized.toString());
 	}
+
+	/** Ensures deserialization can report problems without throwing them.
+	 * @throws JsonException if the test fails. */
+	@Test
+	public void testTryDeserialization() throws JsonException{
+		JsonResult<Object> deserialized;
+		deserialized = Jsoner.tryDeserialize("{\"a\":[1,true]}");
+		Assert.assertTrue(deserialized.isSuccess());
+		Assert.assertEquals(Jsoner.deserialize("{\"a\":[1,true]}"), deserialized.getValue());
+		Assert.assertEquals(-1, deserialized.getPosition());
+		Assert.assertNull(deserialized.getProblemType());
+		deserialized = Jsoner.tryDeserialize("[1,x]");
+		Assert.assertFalse(deserialized.isSuccess());
+		Assert.assertNull(deserialized.getValue());
+		Assert.assertEquals("fallback", deserialized.getValueOrDefault("fallback"));
+		Assert.assertEquals(JsonException.Problems.UNEXPECTED_CHARACTER, deserialized.getProblemType());
+		Assert.assertEquals(3, deserialized.getPosition());
+		Assert.assertEquals(Character.valueOf('x'), deserialized.getUnexpectedObject());
+		try{
+			Jsoner.deserialize("[1,x]");
+			Assert.fail();
+		}catch(final JsonException caught){
+			/* The thrown exception explains the same problem as the result. */
+			Assert.assertEquals(deserialized.getProblemType(), caught.getProblemType());
+			Assert.assertEquals(deserialized.getPosition(), caught.getPosition());
+			Assert.assertEquals(caught.getMessage(), deserialized.toException().getMessage());
+		}
+		/* The line and column are found by scanning the text again once there is a problem. */
+		deserialized = Jsoner.tryDeserialize("{\n\t\"a\":1,\r\n\t\"b\":?\n}");
+		Assert.assertEquals(JsonException.Problems.UNEXPECTED_CHARACTER, deserialized.getProblemType());
+		Assert.assertEquals(16, deserialized.getPosition());
+		Assert.assertEquals(3, deserialized.getLine());
+		Assert.assertEquals(6, deserialized.getColumn());
+		try{
+			Jsoner.deserialize("[\n1,\n2,x\n]");
+			Assert.fail();
+		}catch(final JsonException caught){
+			Assert.assertEquals(3, caught.getLine());
+			Assert.assertEquals(3, caught.getColumn());
+			Assert.assertTrue(caught.getMessage().contains("(line 3, column 3)"));
+		}
+		try{
+			Jsoner.deserialize(new StringReader("[\n1,\n2,x\n]"));
+			Assert.fail();
+		}catch(final JsonException caught){
+			/* A Reader's text isn't kept around to scan again. */
+			Assert.assertEquals(7, caught.getPosition());
+			Assert.assertEquals(-1, caught.getLine());
+		}
+		deserialized = Jsoner.tryDeserialize("[1]]");
+		Assert.assertEquals(JsonException.Problems.UNEXPECTED_TOKEN, deserialized.getProblemType());
+		Assert.assertTrue(Jsoner.tryDeserializeObject("{}").isSuccess());
+		Assert.assertEquals(JsonException.Problems.DISALLOWED_TOKEN, Jsoner.tryDeserializeObject("[]").getProblemType());
+		Assert.assertEquals(new JsonArray(), Jsoner.tryDeserializeArray("[]").getValue());
+		Assert.assertEquals(JsonException.Problems.DISALLOWED_TOKEN, Jsoner.tryDeserializeArray("{}").getProblemType());
+		Assert.assertEquals(3, Jsoner.tryDeserializeMany(new StringReader("{}[]null")).getValue().size());
+		/* Stack traces are optional since the position and problem type already explain the problem. */
+		Assert.assertEquals(0, new JsonException(0, JsonException.Problems.UNEXPECTED_TOKEN, null, false).getStackTrace().length);
+		Assert.assertTrue(new JsonException(0, JsonException.Problems.UNEXPECTED_TOKEN, null).getStackTrace().length > 0);
+	}
+
+	/** Ensures validation agrees with deserialization about what is valid and where the problem is. */
+	@Test
+	public void testValidation(){
+		final String[] validatables = {"{}", "[,]", "null", "123.4e5", "\"\\u4e2d\"", "{\"key\"\"value\"}", "{\"a\":[1,{\"b\":[]},\"c\"],\"d\":{}}", "[[[[]]]]", "", "[", "]", "{1:2}", "{\"a\"}", "[1,2]]", "[1] [2]", "{\"a\":x}", "[1,\"2\"", "{\"a\":1 //trailing\n}"};
+		for(final String validatable : validatables){
+			JsonException expected = null;
+			try{
+				Jsoner.deserialize(new StringReader(validatable));
+			}catch(final JsonException caught){
+				expected = caught;
+			}
+			final JsonValidation validated = Jsoner.validate(new StringReader(validatable));
+			Assert.assertEquals(validatable, expected == null, validated.isValid());
+			Assert.assertEquals(validatable, expected == null, Jsoner.isValid(validatable));
+			if(expected != null){
+				Assert.assertEquals(validatable, expected.getProblemType(), validated.getProblemType());
+				Assert.assertEquals(validatable, expected.getPosition(), validated.getPosition());
+			}
+		}
+		Assert.assertTrue(Jsoner.validate("{\"\u4e2d\":[true]}".getBytes(Charset.forName("UTF-8"))).isValid());
+		Assert.assertEquals(JsonException.Problems.UNEXPECTED_CHARACTER, Jsoner.validate("[\u0001]".getBytes(Charset.forName("UTF-8"))).getProblemType());
+		/* Bytes that aren't well formed UTF-8 aren't replaced, and positions in bytes count bytes instead of chars. */
+		final byte[][] malformed = {{'"', (byte)0xC3, 0x28, (byte)0xFF, '"'}, {'"', (byte)0xE4, (byte)0xB8}, {'"', (byte)0xED, (byte)0xA0, (byte)0x80, '"'}};
+		for(final byte[] bytes : malformed){
+			final JsonValidation validated = Jsoner.validate(bytes);
+			Assert.assertEquals(JsonException.Problems.UNEXPECTED_CHARACTER, validated.getProblemType());
+			Assert.assertEquals(1, validated.getPosition());
+		}
+		Assert.assertEquals(6, Jsoner.validate(new StringReader("[\"\u00e9\", x]")).getPosition());
+		Assert.assertEquals(7, Jsoner.validate("[\"\u00e9\", x]".getBytes(Charset.forName("UTF-8"))).getPosition());
+		Assert.assertEquals(12, Jsoner.validate("[\"\ud83d\ude00\u4e2d\", x]".getBytes(Charset.forName("UTF-8"))).getPosition());
+		Assert.assertEquals(5, Jsoner.validate("[\"\u00e9\"".getBytes(Charset.forName("UTF-8"))).getPosition());
+		Assert.assertFalse(Jsoner.isValid(null));
+	}
 }
@@ -0,0 +1,77 @@
+/* See: README for this file's copyright, terms, and conditions. */
+package eu.kofis.json_simple;
+
+import java.io.UnsupportedEncodingException;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Ensures that LengthWriter counts exactly the chars written and the bytes the UTF-8 charset would encode them as. */
+public class LengthWriterTest{
+	/** Called before each Test Method. */
+	@Before
+	public void setUp(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** Called after each Test method. */
+	@After
+	public void tearDown(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** Ensures random text, written in random pieces that split surrogate pairs, counts like String#getBytes.
+	 * @throws UnsupportedEncodingException if the test fails. */
+	@Test
+	public void testCounting() throws UnsupportedEncodingException{
+		final Random random = new Random(8317);
+		for(int round = 0; round < 200; round++){
+			final char[] text = new char[random.nextInt(20000)];
+			for(int i = 0; i < text.length; i++){
+				switch(random.nextInt(6)){
+					case 0:
+						text[i] = (char)random.nextInt(0x10000);
+						break;
+					case 1:
+						text[i] = (char)(0xD800 + random.nextInt(0x800));
+						break;
+					case 2:
+						final String pair = new String(Character.toChars(0x10000 + random.nextInt(0x100000)));
+						text[i] = pair.charAt(0);
+						if((i + 1) < text.length){
+							text[++i] = pair.charAt(1);
+						}
+						break;
+					default:
+						text[i] = (char)random.nextInt(0x80);
+						break;
+				}
+			}
+			final LengthWriter writer = new LengthWriter();
+			final String string = new String(text);
+			int written = 0;
+			while(written < text.length){
+				final int length = Math.min(text.length - written, random.nextInt(50));
+				switch(random.nextInt(3)){
+					case 0:
+						writer.write(text, written, length);
+						break;
+					case 1:
+						writer.write(string, written, length);
+						break;
+					default:
+						for(int i = written; i < (written + length); i++){
+							writer.write(text[i]);
+						}
+						break;
+				}
+				written += length;
+			}
+			Assert.assertEquals(text.length, writer.getChars());
+			Assert.assertEquals(string.getBytes("UTF-8").length, writer.getBytes());
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/* See: README for this file's copyright, terms, and conditions. */
+package eu.kofis.json_simple;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Compares formatting numbers with NumberWriter against their toString methods, and serializing boxed numbers that
+ * share one buffer for their formatting. It isn't part of the test suite, run it with JMH from the test classpath once
+ * the tests are compiled:
+ * java -cp target/classes:target/test-classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)
+ * org.openjdk.jmh.Main NumberWriterBenchmark */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class NumberWriterBenchmark{
+	/** How many numbers each benchmark formats per operation. */
+	private static final int	COUNT	= 10000;
+
+	/** The doubles boxed in a JsonArray, which Jsoner formats one after another. */
+	private JsonArray			boxed;
+	/** Room for any number to be formatted in. */
+	private char[]				buffer;
+	/** Short decimals, the typical values in JSON, mixed with doubles of every magnitude. */
+	private double[]			doubles;
+	/** The doubles rounded to floats. */
+	private float[]				floats;
+	/** Longs of every number of digits. */
+	private long[]				longs;
+
+	/** @return how many chars Double#toString(double) produced for the doubles. */
+	@Benchmark
+	public int doubleToString(){
+		int length = 0;
+		for(final double value : this.doubles){
+			length += Double.toString(value).length();
+		}
+		return length;
+	}
+
+	/** @return how many chars Float#toString(float) produced for the floats. */
+	@Benchmark
+	public int floatToString(){
+		int length = 0;
+		for(final float value : this.floats){
+			length += Float.toString(value).length();
+		}
+		return length;
+	}
+
+	/** @return how many chars Long#toString(long) produced for the longs. */
+	@Benchmark
+	public int longToString(){
+		int length = 0;
+		for(final long value : this.longs){
+			length += Long.toString(value).length();
+		}
+		return length;
+	}
+
+	/** @return the JSON text of the boxed doubles. */
+	@Benchmark
+	public String serializeBoxed(){
+		return Jsoner.serialize(this.boxed);
+	}
+
+	/** @return the canonical JSON text of the boxed doubles. */
+	@Benchmark
+	public String serializeBoxedCanonically(){
+		return Jsoner.serializeCanonically(this.boxed);
+	}
+
+	/** Creates the numbers, the same ones for every run. */
+	@Setup
+	public void setUp(){
+		final Random random = new Random(7159);
+		this.boxed = new JsonArray();
+		this.buffer = new char[NumberWriter.CANONICAL_BUFFER_CHARS];
+		this.doubles = new double[NumberWriterBenchmark.COUNT];
+		this.floats = new float[NumberWriterBenchmark.COUNT];
+		this.longs = new long[NumberWriterBenchmark.COUNT];
+		for(int i = 0; i < NumberWriterBenchmark.COUNT; i++){
+			this.doubles[i] = (i % 2) == 0 ? random.nextInt(1000000) / 1000.0 : Double.longBitsToDouble(random.nextLong() & ~(1L << 62));
+			this.floats[i] = (float)this.doubles[i];
+			this.longs[i] = random.nextLong() >> random.nextInt(64);
+			this.boxed.add(this.doubles[i]);
+		}
+	}
+
+	/** @return how many chars NumberWriter#writeCanonical(char[], int, double) produced for the doubles. */
+	@Benchmark
+	public int writeCanonical(){
+		int length = 0;
+		for(final double value : this.doubles){
+			length += NumberWriter.writeCanonical(this.buffer, 0, value);
+		}
+		return length;
+	}
+
+	/** @return how many chars NumberWriter#writeDouble(char[], int, double) produced for the doubles. */
+	@Benchmark
+	public int writeDouble(){
+		int length = 0;
+		for(final double value : this.doubles){
+			length += NumberWriter.writeDouble(this.buffer, 0, value);
+		}
+		return length;
+	}
+
+	/** @return how many chars NumberWriter#writeFloat(char[], int, float) produced for the floats. */
+	@Benchmark
+	public int writeFloat(){
+		int length = 0;
+		for(final float value : this.floats){
+			length += NumberWriter.writeFloat(this.buffer, 0, value);
+		}
+		return length;
+	}
+
+	/** @return how many chars NumberWriter#writeLong(char[], int, long) produced for the longs. */
+	@Benchmark
+	public int writeLong(){
+		int length = 0;
+		for(final long value : this.longs){
+			length += NumberWriter.writeLong(this.buffer, 0, value);
+		}
+		return length;
+	}
+}
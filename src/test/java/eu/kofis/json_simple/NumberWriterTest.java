@@ -0,0 +1,241 @@
+/* See: README for this file's copyright, terms, and conditions. */
+package eu.kofis.json_simple;
+
+import java.util.Random;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Ensures that NumberWriter formats every double and float as the shortest decimal that reads back as the same
+ * value. */
+public class NumberWriterTest{
+	/** Whether Double#toString(double) is known to produce shortest decimals on the running Java, since Java 19. */
+	private static final boolean SHORTEST_TO_STRING = NumberWriterTest.javaVersion() >= 19;
+
+	/** @return the feature version of the running Java, like 8 for 1.8 or 17 for 17.0.9. */
+	private static int javaVersion(){
+		final String version = System.getProperty("java.specification.version");
+		final String feature = version.startsWith("1.") ? version.substring(2) : version;
+		final int end = feature.indexOf('.');
+		return Integer.parseInt(end < 0 ? feature : feature.substring(0, end));
+	}
+
+	/** Called before each Test Method. */
+	@Before
+	public void setUp(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** Called after each Test method. */
+	@After
+	public void tearDown(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** @param bits represents the bits of a finite double.
+	 * @return the double as NumberWriter formats it canonically. */
+	private static String canonical(final long bits){
+		final char[] buffer = new char[NumberWriter.CANONICAL_BUFFER_CHARS];
+		return new String(buffer, 0, NumberWriter.writeCanonical(buffer, 0, Double.longBitsToDouble(bits)));
+	}
+
+	/** @param value represents a finite double.
+	 * @return the double as NumberWriter formats it. */
+	private static String format(final double value){
+		final char[] buffer = new char[NumberWriter.MAX_DOUBLE_CHARS];
+		return new String(buffer, 0, NumberWriter.writeDouble(buffer, 0, value));
+	}
+
+	/** @param value represents a finite float.
+	 * @return the float as NumberWriter formats it. */
+	private static String format(final float value){
+		final char[] buffer = new char[NumberWriter.MAX_DOUBLE_CHARS];
+		return new String(buffer, 0, NumberWriter.writeFloat(buffer, 0, value));
+	}
+
+	/** Checks a double reads back exactly and has no more digits than Double#toString(double) gives it.
+	 * @param value represents a finite double. */
+	private static void assertRoundTrip(final double value){
+		final String formatted = NumberWriterTest.format(value);
+		final String expected = Double.toString(value);
+		Assert.assertEquals(formatted, Double.doubleToRawLongBits(value), Double.doubleToRawLongBits(Double.parseDouble(formatted)));
+		if(NumberWriterTest.SHORTEST_TO_STRING){
+			Assert.assertEquals(expected, formatted);
+		}else{
+			Assert.assertTrue(expected + " " + formatted, formatted.length() <= expected.length());
+		}
+	}
+
+	/** Checks a float reads back exactly and has no more digits than Float#toString(float) gives it.
+	 * @param value represents a finite float. */
+	private static void assertRoundTrip(final float value){
+		final String formatted = NumberWriterTest.format(value);
+		final String expected = Float.toString(value);
+		Assert.assertEquals(formatted, Float.floatToRawIntBits(value), Float.floatToRawIntBits(Float.parseFloat(formatted)));
+		if(NumberWriterTest.SHORTEST_TO_STRING){
+			Assert.assertEquals(expected, formatted);
+		}else{
+			Assert.assertTrue(expected + " " + formatted, formatted.length() <= expected.length());
+		}
+	}
+
+	/** Ensures doubles are laid out canonically like the examples of RFC 8785 and read back exactly. */
+	@Test
+	public void testCanonicalLayout(){
+		Assert.assertEquals("0", NumberWriterTest.canonical(0x0000000000000000L));
+		Assert.assertEquals("0", NumberWriterTest.canonical(0x8000000000000000L));
+		Assert.assertEquals("5e-324", NumberWriterTest.canonical(0x0000000000000001L));
+		Assert.assertEquals("-5e-324", NumberWriterTest.canonical(0x8000000000000001L));
+		Assert.assertEquals("1e-323", NumberWriterTest.canonical(0x0000000000000002L));
+		Assert.assertEquals("1.7976931348623157e+308", NumberWriterTest.canonical(0x7fefffffffffffffL));
+		Assert.assertEquals("-1.7976931348623157e+308", NumberWriterTest.canonical(0xffefffffffffffffL));
+		Assert.assertEquals("9007199254740992", NumberWriterTest.canonical(0x4340000000000000L));
+		Assert.assertEquals("-9007199254740992", NumberWriterTest.canonical(0xc340000000000000L));
+		Assert.assertEquals("295147905179352830000", NumberWriterTest.canonical(0x4430000000000000L));
+		Assert.assertEquals("9.999999999999997e+22", NumberWriterTest.canonical(0x44b52d02c7e14af5L));
+		Assert.assertEquals("1e+23", NumberWriterTest.canonical(0x44b52d02c7e14af6L));
+		Assert.assertEquals("1.0000000000000001e+23", NumberWriterTest.canonical(0x44b52d02c7e14af7L));
+		Assert.assertEquals("999999999999999700000", NumberWriterTest.canonical(0x444b1ae4d6e2ef4eL));
+		Assert.assertEquals("999999999999999900000", NumberWriterTest.canonical(0x444b1ae4d6e2ef4fL));
+		Assert.assertEquals("1e+21", NumberWriterTest.canonical(0x444b1ae4d6e2ef50L));
+		Assert.assertEquals("9.999999999999997e-7", NumberWriterTest.canonical(0x3eb0c6f7a0b5ed8cL));
+		Assert.assertEquals("0.000001", NumberWriterTest.canonical(0x3eb0c6f7a0b5ed8dL));
+		Assert.assertEquals("333333333.3333332", NumberWriterTest.canonical(0x41b3de4355555553L));
+		Assert.assertEquals("333333333.33333325", NumberWriterTest.canonical(0x41b3de4355555554L));
+		Assert.assertEquals("333333333.3333333", NumberWriterTest.canonical(0x41b3de4355555555L));
+		Assert.assertEquals("333333333.3333334", NumberWriterTest.canonical(0x41b3de4355555556L));
+		Assert.assertEquals("333333333.33333343", NumberWriterTest.canonical(0x41b3de4355555557L));
+		Assert.assertEquals("-0.0000033333333333333333", NumberWriterTest.canonical(0xbecbf647612f3696L));
+		Assert.assertEquals("1424953923781206.2", NumberWriterTest.canonical(0x43143ff3c1cb0959L));
+		final Random random = new Random(8785);
+		for(int i = 0; i < 100000; i++){
+			final long bits = random.nextLong();
+			final double value = Double.longBitsToDouble(bits);
+			if(!Double.isNaN(value) && !Double.isInfinite(value) && (value != 0)){
+				Assert.assertEquals(bits, Double.doubleToRawLongBits(Double.parseDouble(NumberWriterTest.canonical(bits))));
+			}
+		}
+	}
+
+	/** Ensures doubles are laid out like Double#toString(double) lays them out. */
+	@Test
+	public void testDoubleLayout(){
+		Assert.assertEquals("0.0", NumberWriterTest.format(0.0));
+		Assert.assertEquals("-0.0", NumberWriterTest.format(-0.0));
+		Assert.assertEquals("1.0", NumberWriterTest.format(1.0));
+		Assert.assertEquals("100.0", NumberWriterTest.format(100.0));
+		Assert.assertEquals("9999999.0", NumberWriterTest.format(9999999.0));
+		Assert.assertEquals("1.0E7", NumberWriterTest.format(1e7));
+		Assert.assertEquals("0.001", NumberWriterTest.format(0.001));
+		Assert.assertEquals("9.99E-4", NumberWriterTest.format(0.000999));
+		Assert.assertEquals("0.1", NumberWriterTest.format(0.1));
+		Assert.assertEquals("-123.456", NumberWriterTest.format(-123.456));
+		Assert.assertEquals("4.9E-324", NumberWriterTest.format(Double.MIN_VALUE));
+		Assert.assertEquals("1.7976931348623157E308", NumberWriterTest.format(Double.MAX_VALUE));
+		Assert.assertEquals("2.2250738585072014E-308", NumberWriterTest.format(Double.MIN_NORMAL));
+		Assert.assertEquals("1.0E23", NumberWriterTest.format(1e23));
+		/* Older Java gives 2.0000000000000002E23 and 2.82879384806159008E17 for these. */
+		Assert.assertEquals("2.0E23", NumberWriterTest.format(2e23));
+		Assert.assertEquals("2.82879384806159E17", NumberWriterTest.format(2.82879384806159E17));
+	}
+
+	/** Ensures random doubles across every exponent read back exactly. */
+	@Test
+	public void testDoubleRoundTrips(){
+		final Random random = new Random(7159);
+		for(int i = 0; i < 100000; i++){
+			final double value = Double.longBitsToDouble(random.nextLong());
+			if(!Double.isNaN(value) && !Double.isInfinite(value)){
+				NumberWriterTest.assertRoundTrip(value);
+			}
+		}
+		for(long bits = 0; bits < 5000; bits++){
+			/* The smallest subnormals and the neighborhood of powers of two have the trickiest rounding intervals. */
+			NumberWriterTest.assertRoundTrip(Double.longBitsToDouble(bits));
+			NumberWriterTest.assertRoundTrip(Double.longBitsToDouble((bits % 2046 + 1) << 52));
+			NumberWriterTest.assertRoundTrip(Double.longBitsToDouble(((bits % 2046 + 1) << 52) - 1));
+		}
+		for(int i = 0; i < 100000; i++){
+			/* Short decimals are the typical values in JSON. */
+			NumberWriterTest.assertRoundTrip(random.nextInt(1000000) / 1000.0);
+		}
+	}
+
+	/** Ensures every finite float reads back exactly. It takes minutes, so it only runs when asked for with
+	 * -Deu.kofis.json_simple.exhaustive=true. */
+	@Test
+	public void testEveryFloatRoundTrips(){
+		Assume.assumeTrue(Boolean.getBoolean("eu.kofis.json_simple.exhaustive"));
+		IntStream.range(0, 1 << 16).parallel().forEach(new IntConsumer(){
+			@Override
+			public void accept(final int high){
+				for(int low = 0; low < (1 << 16); low++){
+					final float value = Float.intBitsToFloat((high << 16) | low);
+					if(!Float.isNaN(value) && !Float.isInfinite(value)){
+						NumberWriterTest.assertRoundTrip(value);
+					}
+				}
+			}
+		});
+	}
+
+	/** Ensures floats are laid out like Float#toString(float) lays them out. */
+	@Test
+	public void testFloatLayout(){
+		Assert.assertEquals("0.0", NumberWriterTest.format(0.0f));
+		Assert.assertEquals("-0.0", NumberWriterTest.format(-0.0f));
+		Assert.assertEquals("1.5", NumberWriterTest.format(1.5f));
+		Assert.assertEquals("1.0E7", NumberWriterTest.format(1e7f));
+		Assert.assertEquals("0.1", NumberWriterTest.format(0.1f));
+		Assert.assertEquals("1.4E-45", NumberWriterTest.format(Float.MIN_VALUE));
+		Assert.assertEquals("3.4028235E38", NumberWriterTest.format(Float.MAX_VALUE));
+		/* Older Java gives 1.00000005E10 for this. */
+		Assert.assertEquals("1.0E10", NumberWriterTest.format(1.0E10f));
+	}
+
+	/** Ensures every float in a band, the smallest floats, and random floats read back exactly. */
+	@Test
+	public void testFloatRoundTrips(){
+		for(int bits = 0x3F000000; bits < 0x3F040000; bits++){
+			/* Every float from 0.5 to 0.515625. */
+			NumberWriterTest.assertRoundTrip(Float.intBitsToFloat(bits));
+		}
+		for(int bits = 0; bits < 5000; bits++){
+			NumberWriterTest.assertRoundTrip(Float.intBitsToFloat(bits));
+		}
+		final Random random = new Random(7159);
+		for(int i = 0; i < 200000; i++){
+			final float value = Float.intBitsToFloat(random.nextInt());
+			if(!Float.isNaN(value) && !Float.isInfinite(value)){
+				NumberWriterTest.assertRoundTrip(value);
+			}
+		}
+	}
+
+	/** Ensures longs are formatted like Long#toString(long) formats them, around every change in their number of
+	 * digits and at random. */
+	@Test
+	public void testLongs(){
+		final char[] buffer = new char[NumberWriter.MAX_LONG_CHARS];
+		final long[] edges = {0, Long.MAX_VALUE, Long.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE + 1L, Integer.MIN_VALUE - 1L};
+		for(final long value : edges){
+			Assert.assertEquals(Long.toString(value), new String(buffer, 0, NumberWriter.writeLong(buffer, 0, value)));
+		}
+		for(long power = 1; power <= 1000000000000000000L; power *= 10){
+			for(long value = power - 2; value <= (power + 1); value++){
+				Assert.assertEquals(Long.toString(value), new String(buffer, 0, NumberWriter.writeLong(buffer, 0, value)));
+				Assert.assertEquals(Long.toString(-value), new String(buffer, 0, NumberWriter.writeLong(buffer, 0, -value)));
+			}
+		}
+		final Random random = new Random(7159);
+		for(int i = 0; i < 100000; i++){
+			final long value = random.nextLong() >> random.nextInt(64);
+			Assert.assertEquals(Long.toString(value), new String(buffer, 0, NumberWriter.writeLong(buffer, 0, value)));
+		}
+	}
+}
@@ -0,0 +1,50 @@
+/* See: README for this file's copyright, terms, and conditions. */
+package eu.kofis.json_simple;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Ensures that PrettyPrintOptions are immutable, each with method only changing the option it is named for. */
+public class PrettyPrintOptionsTest{
+	/** Called before each Test Method. */
+	@Before
+	public void setUp(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** Called after each Test method. */
+	@After
+	public void tearDown(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** Ensures the with methods copy the options, and that null and negative options aren't allowed. */
+	@Test
+	public void testWith(){
+		final PrettyPrintOptions options = PrettyPrintOptions.DEFAULT.withIndentation("  ").withNewline("\r\n").withSortedKeys(true).withMaxInlineElements(8);
+		Assert.assertEquals("  ", options.getIndentation());
+		Assert.assertEquals("\r\n", options.getNewline());
+		Assert.assertTrue(options.isSortingKeys());
+		Assert.assertEquals(8, options.getMaxInlineElements());
+		Assert.assertFalse(options.withSortedKeys(false).isSortingKeys());
+		Assert.assertTrue(options.isSortingKeys());
+		Assert.assertEquals("\t", PrettyPrintOptions.DEFAULT.getIndentation());
+		Assert.assertEquals("\n", PrettyPrintOptions.DEFAULT.getNewline());
+		Assert.assertFalse(PrettyPrintOptions.DEFAULT.isSortingKeys());
+		Assert.assertEquals(0, PrettyPrintOptions.DEFAULT.getMaxInlineElements());
+		try{
+			PrettyPrintOptions.DEFAULT.withIndentation(null);
+			Assert.fail();
+		}catch(final IllegalArgumentException caught){
+			/* The indentation can be empty instead. */
+		}
+		try{
+			PrettyPrintOptions.DEFAULT.withMaxInlineElements(-1);
+			Assert.fail();
+		}catch(final IllegalArgumentException caught){
+			/* An array can't hold fewer than no elements. */
+		}
+	}
+}
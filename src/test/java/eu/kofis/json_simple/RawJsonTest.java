@@ -0,0 +1,73 @@
+/* See: README for this file's copyright, terms, and conditions. */
+package eu.kofis.json_simple;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Ensures that RawJson is written as is and only valid JSON text passes its validation. */
+public class RawJsonTest{
+	/** Called before each Test Method. */
+	@Before
+	public void setUp(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** Called after each Test method. */
+	@After
+	public void tearDown(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** Ensures the text is spliced into the document as is by every serialization method.
+	 * @throws IOException if the test fails.
+	 * @throws JsonException if the test fails. */
+	@Test
+	public void testSerialization() throws IOException, JsonException{
+		final RawJson payload = new RawJson("{\"b\":[1.50,2e3],\"a\":\"\\u00e9\"}");
+		final JsonObject envelope = new JsonObject();
+		envelope.put("payload", payload);
+		Assert.assertEquals("{\"payload\":{\"b\":[1.50,2e3],\"a\":\"\\u00e9\"}}", Jsoner.serialize(envelope));
+		StringWriter serialized = new StringWriter();
+		Jsoner.serializeStrictly(new JsonArray().addChain(payload).addChain(new RawJson("null")), serialized);
+		Assert.assertEquals("[{\"b\":[1.50,2e3],\"a\":\"\\u00e9\"},null]", serialized.toString());
+		serialized = new StringWriter();
+		Jsoner.serializeCarelessly(payload, serialized);
+		Assert.assertEquals(payload.toJson(), serialized.toString());
+		final JsonObject deserialized = Jsoner.deserialize(Jsoner.serialize(envelope), (JsonObject)null);
+		Assert.assertEquals(Jsoner.deserialize(payload.toJson()), deserialized.get("payload"));
+		Assert.assertEquals(new RawJson("[]"), new RawJson("[]"));
+		try{
+			new RawJson(null);
+			Assert.fail();
+		}catch(final IllegalArgumentException caught){
+			/* A null is serialized from a null value or RawJson("null"). */
+		}
+	}
+
+	/** Ensures validation accepts a single JSON value and reports where the problem is in anything else.
+	 * @throws JsonException if the test fails. */
+	@Test
+	public void testValidation() throws JsonException{
+		Assert.assertEquals(" [1, {\"a\": true}] ", RawJson.validated(" [1, {\"a\": true}] ").toJson());
+		Assert.assertEquals("\"text\"", RawJson.validated("\"text\"").toJson());
+		try{
+			RawJson.validated("[1,x]");
+			Assert.fail();
+		}catch(final JsonException caught){
+			Assert.assertEquals(JsonException.Problems.UNEXPECTED_CHARACTER, caught.getProblemType());
+			Assert.assertEquals(3, caught.getPosition());
+			Assert.assertEquals(Character.valueOf('x'), caught.getUnexpectedObject());
+		}
+		try{
+			RawJson.validated("[1][2]");
+			Assert.fail();
+		}catch(final JsonException caught){
+			/* Concatenated values would make the document they are spliced into invalid. */
+		}
+	}
+}
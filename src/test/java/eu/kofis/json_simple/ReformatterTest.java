@@ -0,0 +1,48 @@
+/* See: README for this file's copyright, terms, and conditions. */
+package eu.kofis.json_simple;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Ensures that Reformatter copies strings, escapes, and comments correctly when they are split between the chunks
+ * the text is read in. */
+public class ReformatterTest{
+	/** Called before each Test Method. */
+	@Before
+	public void setUp(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** Called after each Test method. */
+	@After
+	public void tearDown(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** Ensures text read a few chars at a time minifies the same as deserializing and serializing it, no matter where
+	 * the chunks split it.
+	 * @throws IOException if the test fails.
+	 * @throws JsonException if the test fails. */
+	@Test
+	public void testChunks() throws IOException, JsonException{
+		final String text = "{\"a\\\"b\" : [\"\\\\\", \"c\\\\\\\"d\" /* x * / y **/, true ] , // z\n \"e\":null}";
+		final String expected = Jsoner.serialize(Jsoner.deserialize(text));
+		for(int chunk = 1; chunk < text.length(); chunk++){
+			final int size = chunk;
+			final StringWriter minified = new StringWriter();
+			Reformatter.reformat(new StringReader(text){
+				@Override
+				public int read(final char[] buffer, final int offset, final int length) throws IOException{
+					return super.read(buffer, offset, Math.min(length, size));
+				}
+			}, minified, null, null);
+			Assert.assertEquals(expected, minified.toString());
+		}
+	}
+}
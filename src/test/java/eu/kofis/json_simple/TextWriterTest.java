@@ -0,0 +1,63 @@
+/* See: README for this file's copyright, terms, and conditions. */
+package eu.kofis.json_simple;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Ensures that TextWriter gathers exactly the text written to it, whether or not its array is reused. */
+public class TextWriterTest{
+	/** Called before each Test Method. */
+	@Before
+	public void setUp(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** Called after each Test method. */
+	@After
+	public void tearDown(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** Ensures serializing values that serialize other values to Strings doesn't mix up their text. */
+	@Test
+	public void testNestedSerialization(){
+		final Jsonable nested = new Jsonable(){
+			@Override
+			public String toJson(){
+				return Jsoner.serialize(new JsonArray().addChain("inner"));
+			}
+
+			@Override
+			public void toJson(final java.io.Writer writable){
+				throw new UnsupportedOperationException();
+			}
+		};
+		Assert.assertEquals("{\"a\":[\"inner\"],\"b\":[1]}", Jsoner.serialize(new JsonObject().putChain("a", nested).putChain("b", new JsonArray().addChain(1))));
+	}
+
+	/** Ensures text that outgrows the array is kept whole and a reused array doesn't leak earlier text. */
+	@Test
+	public void testReuse(){
+		final StringBuilder expected = new StringBuilder();
+		final TextWriter writer = new TextWriter(0);
+		for(int i = 0; i < 5000; i++){
+			writer.write('a' + (i % 26));
+			writer.write("-" + i, 1, String.valueOf(i).length());
+			writer.write(new char[]{'[', ',', ']'}, 1, 1);
+			expected.append((char)('a' + (i % 26))).append(i).append(',');
+		}
+		Assert.assertEquals(expected.toString(), writer.toString());
+		Assert.assertEquals(expected.toString(), writer.release());
+		final TextWriter reusing = TextWriter.reusing();
+		final TextWriter nested = TextWriter.reusing();
+		reusing.write("outer");
+		nested.write("inner");
+		Assert.assertEquals("inner", nested.release());
+		Assert.assertEquals("outer", reusing.release());
+		final TextWriter reused = TextWriter.reusing();
+		reused.write("x");
+		Assert.assertEquals("x", reused.release());
+	}
+}
@@ -0,0 +1,102 @@
+/* See: README for this file's copyright, terms, and conditions. */
+package eu.kofis.json_simple;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Ensures that Utf8Writer encodes exactly the bytes the UTF-8 charset would. */
+public class Utf8WriterTest{
+	/** Called before each Test Method. */
+	@Before
+	public void setUp(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** Called after each Test method. */
+	@After
+	public void tearDown(){
+		/* All of the implemented tests use local variables in their own respective method. */
+	}
+
+	/** Ensures the bytes are put into a buffer and a buffer without room overflows.
+	 * @throws IOException if the test fails. */
+	@Test
+	public void testBuffer() throws IOException{
+		final ByteBuffer buffer = ByteBuffer.allocate(16);
+		final Utf8Writer writer = new Utf8Writer(buffer);
+		writer.write("aé中");
+		writer.finish();
+		Assert.assertEquals(6, buffer.position());
+		Assert.assertArrayEquals("aé中".getBytes("UTF-8"), Arrays.copyOf(buffer.array(), 6));
+		final Utf8Writer overflowing = new Utf8Writer(ByteBuffer.allocate(4));
+		overflowing.write("12345");
+		try{
+			overflowing.finish();
+			Assert.fail();
+		}catch(final BufferOverflowException caught){
+			/* The buffer doesn't have room for the fifth byte. */
+		}
+	}
+
+	/** Ensures random text, written in random pieces that split surrogate pairs, encodes like String#getBytes.
+	 * @throws IOException if the test fails. */
+	@Test
+	public void testEncoding() throws IOException{
+		final Random random = new Random(5791);
+		for(int round = 0; round < 200; round++){
+			final char[] text = new char[random.nextInt(20000)];
+			for(int i = 0; i < text.length; i++){
+				switch(random.nextInt(6)){
+					case 0:
+						text[i] = (char)random.nextInt(0x10000);
+						break;
+					case 1:
+						text[i] = (char)(0xD800 + random.nextInt(0x800));
+						break;
+					case 2:
+						final String pair = new String(Character.toChars(0x10000 + random.nextInt(0x100000)));
+						text[i] = pair.charAt(0);
+						if((i + 1) < text.length){
+							text[++i] = pair.charAt(1);
+						}
+						break;
+					default:
+						text[i] = (char)random.nextInt(0x80);
+						break;
+				}
+			}
+			final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			final Utf8Writer writer = new Utf8Writer(bytes);
+			final String string = new String(text);
+			int written = 0;
+			while(written < text.length){
+				final int length = Math.min(text.length - written, random.nextInt(50));
+				switch(random.nextInt(3)){
+					case 0:
+						writer.write(text, written, length);
+						break;
+					case 1:
+						writer.write(string, written, length);
+						break;
+					default:
+						for(int i = written; i < (written + length); i++){
+							writer.write(text[i]);
+						}
+						break;
+				}
+				written += length;
+			}
+			writer.close();
+			Assert.assertArrayEquals(string.getBytes("UTF-8"), bytes.toByteArray());
+		}
+	}
+}
@@ -203,4 +203,23 @@ public class YylexTest{
 		lexed = lexer.yylex();
 		Assert.assertEquals(Yytoken.Types.RIGHT_BRACE, lexed.getType());
 	}
+
+	/** Ensures a lexer is only worth keeping after lexing text while its buffers are as small as a new lexer's.
+	 * @throws IOException if the test failed.
+	 * @throws JsonException if the test failed. */
+	@Test
+	public void testRelease() throws IOException, JsonException{
+		final Yylex lexer = new Yylex(new StringReader("[\"short\"]"));
+		while(lexer.yylex() != null){
+			/* Lexes every token. */
+		}
+		Assert.assertTrue(lexer.release());
+		final StringBuilder text = new StringBuilder("\"");
+		for(int i = 0; i < 100000; i++){
+			text.append('a');
+		}
+		lexer.yyreset(new StringReader(text.append('"').toString()));
+		Assert.assertEquals(100000, ((String)lexer.yylex().getValue()).length());
+		Assert.assertFalse(lexer.release());
+	}
 }